@@ -0,0 +1,150 @@
+package com.github.noconnor.junitperf.benchmarks;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkState;
+
+// Compares two JMH csv result files (i.e. BenchmarkRunner results of two versions). A benchmark has regressed if its
+// score got worse by more than the threshold & the difference is larger than the combined score errors of both runs.
+// Exits with status 1 if any benchmark regressed.
+// Usage: java -cp benchmarks.jar com.github.noconnor.junitperf.benchmarks.BenchmarkComparison baseline.csv candidate.csv [threshold % (default 5)]
+public final class BenchmarkComparison {
+
+  static final float DEFAULT_THRESHOLD_PERCENTAGE = 5;
+
+  private BenchmarkComparison() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    checkState(args.length >= 2, "Usage: BenchmarkComparison baseline.csv candidate.csv [threshold %]");
+    float threshold = args.length > 2 ? Float.parseFloat(args[2]) : DEFAULT_THRESHOLD_PERCENTAGE;
+    Map<String, Score> baseline = parse(Files.readAllLines(Paths.get(args[0]), StandardCharsets.UTF_8));
+    Map<String, Score> candidate = parse(Files.readAllLines(Paths.get(args[1]), StandardCharsets.UTF_8));
+    List<Comparison> comparisons = compare(baseline, candidate, threshold);
+    comparisons.forEach(comparison -> System.out.println(comparison.format()));
+    if (comparisons.stream().anyMatch(Comparison::isRegression)) {
+      System.exit(1);
+    }
+  }
+
+  static List<Comparison> compare(Map<String, Score> baseline, Map<String, Score> candidate, float threshold) {
+    List<Comparison> comparisons = new ArrayList<>();
+    candidate.forEach((key, score) -> {
+      Score base = baseline.get(key);
+      if (base != null) {
+        comparisons.add(new Comparison(key, base, score, threshold));
+      }
+    });
+    return comparisons;
+  }
+
+  // Scores keyed by benchmark, threads & params
+  static Map<String, Score> parse(List<String> csvLines) {
+    checkState(!csvLines.isEmpty(), "Result file is empty");
+    List<String> header = splitCsv(csvLines.get(0));
+    int benchmark = header.indexOf("Benchmark");
+    int threads = header.indexOf("Threads");
+    int score = header.indexOf("Score");
+    int error = header.indexOf("Score Error (99.9%)");
+    int unit = header.indexOf("Unit");
+    checkState(benchmark >= 0 && threads >= 0 && score >= 0 && error >= 0 && unit >= 0, "Not a JMH csv result file");
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (String line : csvLines.subList(1, csvLines.size())) {
+      if (line.trim().isEmpty()) {
+        continue;
+      }
+      List<String> values = splitCsv(line);
+      StringBuilder key = new StringBuilder(values.get(benchmark)).append(" threads=").append(values.get(threads));
+      for (int i = 0; i < header.size(); i++) {
+        if (header.get(i).startsWith("Param: ") && !values.get(i).isEmpty()) {
+          key.append(' ').append(header.get(i).substring("Param: ".length())).append('=').append(values.get(i));
+        }
+      }
+      scores.put(key.toString(), new Score(parseNumber(values.get(score)), parseNumber(values.get(error)), values.get(unit)));
+    }
+    return scores;
+  }
+
+  private static double parseNumber(String value) {
+    return value.isEmpty() || "NaN".equals(value) ? 0 : Double.parseDouble(value);
+  }
+
+  private static List<String> splitCsv(String line) {
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+    for (char c : line.toCharArray()) {
+      if (c == '"') {
+        quoted = !quoted;
+      } else if (c == ',' && !quoted) {
+        values.add(value.toString());
+        value.setLength(0);
+      } else {
+        value.append(c);
+      }
+    }
+    values.add(value.toString());
+    return values;
+  }
+
+  @Value
+  static class Score {
+    double value;
+    double error;
+    String unit;
+
+    // Time per operation units (avgt, sample & ss modes) improve as they decrease, throughput units as they increase
+    boolean isLowerBetter() {
+      return unit.endsWith("/op");
+    }
+  }
+
+  @Value
+  static class Comparison {
+    String benchmark;
+    Score baseline;
+    Score candidate;
+    float threshold;
+
+    double getChangePercentage() {
+      return baseline.getValue() == 0 ? 0 : (candidate.getValue() - baseline.getValue()) * 100 / baseline.getValue();
+    }
+
+    boolean isSignificant() {
+      return Math.abs(candidate.getValue() - baseline.getValue()) > baseline.getError() + candidate.getError();
+    }
+
+    boolean isRegression() {
+      double worsePercentage = candidate.isLowerBetter() ? getChangePercentage() : -getChangePercentage();
+      return isSignificant() && worsePercentage > threshold;
+    }
+
+    boolean isImprovement() {
+      double betterPercentage = candidate.isLowerBetter() ? -getChangePercentage() : getChangePercentage();
+      return isSignificant() && betterPercentage > threshold;
+    }
+
+    String format() {
+      String verdict = isRegression() ? "REGRESSION" : isImprovement() ? "IMPROVEMENT" : "";
+      return String.format(Locale.ROOT, "%-100s %14.3f %14.3f %-10s %+8.2f%% %s",
+        benchmark,
+        baseline.getValue(),
+        candidate.getValue(),
+        candidate.getUnit(),
+        getChangePercentage(),
+        verdict
+      ).trim();
+    }
+  }
+
+}
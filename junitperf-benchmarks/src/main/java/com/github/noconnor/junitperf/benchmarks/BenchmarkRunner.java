@@ -0,0 +1,75 @@
+package com.github.noconnor.junitperf.benchmarks;
+
+import com.github.noconnor.junitperf.statements.EvaluationTaskBenchmark;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Runs all benchmarks & writes the combined results to a single JMH csv file (see BenchmarkComparison).
+// Benchmarks of code shared by all evaluation threads are run at each thread count, the remaining benchmarks only
+// ever run on a single thread.
+// Usage: java -jar benchmarks.jar [resultFile (default jmh-result.csv)] [benchmark class name regex]
+public final class BenchmarkRunner {
+
+  static final String THREADS_PROPERTY = "junitperf.benchmark.threads";
+  static final String DEFAULT_THREADS = "1,4,16,64";
+  static final String DEFAULT_RESULT_FILE = "jmh-result.csv";
+
+  private static final List<Class<?>> CONTENDED_BENCHMARKS = Arrays.asList(
+    EvaluationTaskBenchmark.class,
+    StatisticsCalculatorBenchmark.class
+  );
+  private static final List<Class<?>> SINGLE_THREADED_BENCHMARKS = Arrays.asList(
+    EvaluationContextBenchmark.class,
+    HtmlReportGeneratorBenchmark.class
+  );
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    String resultFile = args.length > 0 ? args[0] : DEFAULT_RESULT_FILE;
+    Pattern filter = Pattern.compile(args.length > 1 ? args[1] : ".*");
+    List<RunResult> results = new ArrayList<>();
+    for (int threads : threadCounts(System.getProperty(THREADS_PROPERTY, DEFAULT_THREADS))) {
+      results.addAll(run(select(CONTENDED_BENCHMARKS, filter), threads));
+    }
+    results.addAll(run(select(SINGLE_THREADED_BENCHMARKS, filter), 1));
+    ResultFormatFactory.getInstance(ResultFormatType.CSV, resultFile).writeOut(results);
+    System.out.println("Results written to " + resultFile);
+  }
+
+  static List<Integer> threadCounts(String threads) {
+    return Arrays.stream(threads.split(","))
+      .map(String::trim)
+      .filter(count -> !count.isEmpty())
+      .map(Integer::valueOf)
+      .collect(Collectors.toList());
+  }
+
+  private static List<Class<?>> select(List<Class<?>> benchmarks, Pattern filter) {
+    return benchmarks.stream()
+      .filter(benchmark -> filter.matcher(benchmark.getName()).find())
+      .collect(Collectors.toList());
+  }
+
+  private static List<RunResult> run(List<Class<?>> benchmarks, int threads) throws RunnerException {
+    if (benchmarks.isEmpty()) {
+      return new ArrayList<>();
+    }
+    OptionsBuilder options = new OptionsBuilder();
+    benchmarks.forEach(benchmark -> options.include(Pattern.quote(benchmark.getName()) + "\\."));
+    options.threads(threads).shouldFailOnError(true);
+    return new ArrayList<>(new Runner(options.build()).run());
+  }
+
+}
@@ -0,0 +1,75 @@
+package com.github.noconnor.junitperf.benchmarks;
+
+import com.github.noconnor.junitperf.JUnitPerfTest;
+import com.github.noconnor.junitperf.JUnitPerfTestRequirement;
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// Cost of calculating (& caching) the statistics of a finished test, i.e. EvaluationContext.runValidation, for
+// increasing numbers of recorded samples
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvaluationContextBenchmark {
+
+  @Param({"descriptive", "hdrHistogram", "quantileSketch"})
+  public String statistics;
+
+  @Param({"1000", "100000", "1000000"})
+  public int sampleCount;
+
+  private EvaluationContext context;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+    StatisticsCalculator calculator = StatisticsProvider.valueOf(statistics).create();
+    for (long sample : StatisticsProvider.latencySamplesNs(sampleCount)) {
+      calculator.addLatencyMeasurement(sample);
+      calculator.incrementEvaluationCount();
+    }
+    context = newContext("benchmark", calculator);
+  }
+
+  @Benchmark
+  public EvaluationContext runValidation() {
+    context.runValidation();
+    return context;
+  }
+
+  static EvaluationContext newContext(String testName, StatisticsCalculator calculator) throws NoSuchMethodException {
+    Method annotated = EvaluationContextBenchmark.class.getDeclaredMethod("annotatedTest");
+    long startTimeNs = System.nanoTime();
+    EvaluationContext context = new EvaluationContext(testName, startTimeNs);
+    context.loadConfiguration(annotated.getAnnotation(JUnitPerfTest.class));
+    context.loadRequirements(annotated.getAnnotation(JUnitPerfTestRequirement.class));
+    context.setStatistics(calculator);
+    context.setFinishTimeNs(startTimeNs + SECONDS.toNanos(10));
+    return context;
+  }
+
+  // Typical test configuration, only used to load the annotations
+  @JUnitPerfTest(threads = 10, durationMs = 10_000)
+  @JUnitPerfTestRequirement(percentiles = "50:1,90:5,99:10,99.9:50", executionsPerSec = 100, allowedErrorPercentage = 0.1F, maxLatency = 100)
+  private static void annotatedTest() {
+  }
+
+}
@@ -0,0 +1,71 @@
+package com.github.noconnor.junitperf.benchmarks;
+
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.reporting.providers.HtmlReportGenerator;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// Cost of rendering the HTML report template (including writing the report file) for increasing numbers of tests
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlReportGeneratorBenchmark {
+
+  private static final int SAMPLES_PER_TEST = 10_000;
+
+  @Param({"1", "10", "100"})
+  public int testCount;
+
+  private File report;
+  private HtmlReportGenerator generator;
+  private LinkedHashSet<EvaluationContext> contexts;
+
+  @Setup
+  public void setup() throws IOException, NoSuchMethodException {
+    report = File.createTempFile("junitperf-benchmark", ".html");
+    generator = new HtmlReportGenerator(report.getAbsolutePath());
+    contexts = new LinkedHashSet<>();
+    long[] samples = StatisticsProvider.latencySamplesNs(SAMPLES_PER_TEST);
+    for (int i = 0; i < testCount; i++) {
+      StatisticsCalculator calculator = StatisticsProvider.hdrHistogram.create();
+      for (long sample : samples) {
+        calculator.addLatencyMeasurement(sample);
+        calculator.incrementEvaluationCount();
+      }
+      EvaluationContext context = EvaluationContextBenchmark.newContext("benchmark" + i, calculator);
+      context.runValidation();
+      contexts.add(context);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    report.delete();
+  }
+
+  @Benchmark
+  public void generateReport() {
+    generator.generateReport(contexts);
+  }
+
+}
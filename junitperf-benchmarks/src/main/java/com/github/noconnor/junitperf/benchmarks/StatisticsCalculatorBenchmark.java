@@ -0,0 +1,59 @@
+package com.github.noconnor.junitperf.benchmarks;
+
+import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Cost of recording a latency sample into the (synchronized) descriptive statistics shared by all evaluation threads.
+// The window is filled before measuring, so every recorded sample replaces the oldest one (steady state of a test with
+// a bounded window)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsCalculatorBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  public int windowSize;
+
+  private DescriptiveStatisticsCalculator calculator;
+  private long[] samples;
+
+  @State(Scope.Thread)
+  public static class SampleIndex {
+    private int next;
+
+    long nextSample(long[] samples) {
+      next = next + 1 < samples.length ? next + 1 : 0;
+      return samples[next];
+    }
+  }
+
+  @Setup
+  public void setup() {
+    calculator = new DescriptiveStatisticsCalculator(windowSize);
+    samples = StatisticsProvider.latencySamplesNs(windowSize);
+    for (long sample : samples) {
+      calculator.addLatencyMeasurement(sample);
+    }
+  }
+
+  @Benchmark
+  public void addLatencyMeasurement(SampleIndex index) {
+    calculator.addLatencyMeasurement(index.nextSample(samples));
+  }
+
+}
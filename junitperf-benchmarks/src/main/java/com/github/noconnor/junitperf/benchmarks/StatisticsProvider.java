@@ -0,0 +1,38 @@
+package com.github.noconnor.junitperf.benchmarks;
+
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.HdrHistogramStatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.QuantileSketchStatisticsCalculator;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+// Statistics calculators benchmarks can be parameterised with (@Param values match the constant names)
+public enum StatisticsProvider {
+
+  descriptive(DescriptiveStatisticsCalculator::new),
+  hdrHistogram(HdrHistogramStatisticsCalculator::new),
+  quantileSketch(QuantileSketchStatisticsCalculator::new);
+
+  private final Supplier<StatisticsCalculator> factory;
+
+  StatisticsProvider(Supplier<StatisticsCalculator> factory) {
+    this.factory = factory;
+  }
+
+  public StatisticsCalculator create() {
+    return factory.get();
+  }
+
+  // Log normal like latency distribution, ~100us median with a long tail. Seeded so every run records the same samples
+  public static long[] latencySamplesNs(int count) {
+    Random random = new Random(42);
+    long[] samples = new long[count];
+    for (int i = 0; i < count; i++) {
+      samples[i] = Math.max((long) Math.exp(11.5 + random.nextGaussian() * 1.5), 1);
+    }
+    return samples;
+  }
+
+}
@@ -0,0 +1,88 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.benchmarks.StatisticsProvider;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.google.common.util.concurrent.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Cost of the EvaluationTask.run loop per iteration (permit, timing, statistics recording) for an empty test, all
+// benchmark threads record into the same statistics as JUnitPerfTest threads do.
+// Lives in the statements package as EvaluationTask is package private
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluationTaskBenchmark {
+
+  static final int ITERATIONS_PER_RUN = 1_000;
+
+  private static final SimpleTestStatement EMPTY_STATEMENT = () -> {};
+
+  @State(Scope.Benchmark)
+  public static class SharedStatistics {
+
+    @Param({"descriptive", "hdrHistogram", "quantileSketch"})
+    public String statistics;
+
+    @Param({"false", "true"})
+    public boolean rateLimited;
+
+    StatisticsCalculator calculator;
+    RateLimiter rateLimiter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      calculator = StatisticsProvider.valueOf(statistics).create();
+      // Permits are acquired on every iteration but never waited for
+      rateLimiter = rateLimited ? RateLimiter.create(Double.POSITIVE_INFINITY) : null;
+    }
+
+    // Unbounded statistics would otherwise grow for the whole trial
+    @Setup(Level.Iteration)
+    public void reset() {
+      calculator.reset();
+    }
+
+  }
+
+  @State(Scope.Thread)
+  public static class Task {
+
+    int remaining;
+    EvaluationTask task;
+
+    @Setup(Level.Trial)
+    public void setup(SharedStatistics shared) {
+      task = EvaluationTask.builder()
+        .statement(EMPTY_STATEMENT)
+        .rateLimiter(shared.rateLimiter)
+        .stats(shared.calculator)
+        .terminator(() -> remaining-- <= 0)
+        .build();
+    }
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITERATIONS_PER_RUN)
+  public void run(Task task) {
+    task.remaining = ITERATIONS_PER_RUN;
+    task.task.run();
+  }
+
+}
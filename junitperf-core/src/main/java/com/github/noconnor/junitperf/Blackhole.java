@@ -0,0 +1,123 @@
+package com.github.noconnor.junitperf;
+
+import java.lang.ref.WeakReference;
+
+// Consumes test results so the JIT cannot eliminate the code that produced them (dead code elimination), i.e. a test
+// that discards the result of a parser/codec call may otherwise be measured as doing no work at all.
+// Primitives are compared against volatile fields the JIT cannot reason about, values never match both fields so the
+// (unreachable) store is never executed. Objects occasionally escape into a weak reference, so they must be allocated.
+// Safe to share between evaluation threads: the primitive bait fields are only ever read, the object consumption state
+// is kept per thread (& padded), so threads never write to the same cache line
+public final class Blackhole {
+
+  // Left & right values always differ, no consumed value can be equal to both
+  private volatile boolean booleanLeft = false;
+  private volatile boolean booleanRight = true;
+  private volatile byte byteLeft = 1;
+  private volatile byte byteRight = 2;
+  private volatile short shortLeft = 1;
+  private volatile short shortRight = 2;
+  private volatile char charLeft = 'A';
+  private volatile char charRight = 'B';
+  private volatile int intLeft = 1;
+  private volatile int intRight = 2;
+  private volatile long longLeft = 1;
+  private volatile long longRight = 2;
+  private volatile float floatLeft = 1;
+  private volatile float floatRight = 2;
+  private volatile double doubleLeft = 1;
+  private volatile double doubleRight = 2;
+
+  // Stores are only reachable if left & right are ever equal, reading fields of a null bait would throw
+  private Blackhole nullBait = null;
+  private boolean booleanSink;
+  private byte byteSink;
+  private short shortSink;
+  private char charSink;
+  private int intSink;
+  private long longSink;
+  private float floatSink;
+  private double doubleSink;
+
+  private final ThreadLocal<ObjectSink> objectSink = ThreadLocal.withInitial(ObjectSink::new);
+
+  public void consume(Object value) {
+    objectSink.get().consume(value);
+  }
+
+  public void consume(boolean value) {
+    if (value == booleanLeft & value == booleanRight) {
+      nullBait.booleanSink = value;
+    }
+  }
+
+  public void consume(byte value) {
+    if (value == byteLeft & value == byteRight) {
+      nullBait.byteSink = value;
+    }
+  }
+
+  public void consume(short value) {
+    if (value == shortLeft & value == shortRight) {
+      nullBait.shortSink = value;
+    }
+  }
+
+  public void consume(char value) {
+    if (value == charLeft & value == charRight) {
+      nullBait.charSink = value;
+    }
+  }
+
+  public void consume(int value) {
+    if (value == intLeft & value == intRight) {
+      nullBait.intSink = value;
+    }
+  }
+
+  public void consume(long value) {
+    if (value == longLeft & value == longRight) {
+      nullBait.longSink = value;
+    }
+  }
+
+  public void consume(float value) {
+    if (value == floatLeft & value == floatRight) {
+      nullBait.floatSink = value;
+    }
+  }
+
+  public void consume(double value) {
+    if (value == doubleLeft & value == doubleRight) {
+      nullBait.doubleSink = value;
+    }
+  }
+
+  // Padded (fields of super classes are laid out first) so the sinks of different threads never share a cache line
+  @SuppressWarnings("unused")
+  private static class ObjectSinkPadding {
+    private long p01, p02, p03, p04, p05, p06, p07, p08;
+  }
+
+  // Pseudo random (LCG) sequence, objects escape whenever the masked value is 0, the mask widens each time so escapes
+  // become exponentially rarer
+  private static class ObjectSinkState extends ObjectSinkPadding {
+    int sequence = (int) System.nanoTime();
+    int mask = 1;
+    WeakReference<Object> sink;
+  }
+
+  @SuppressWarnings("unused")
+  private static final class ObjectSink extends ObjectSinkState {
+    private long p11, p12, p13, p14, p15, p16, p17, p18;
+
+    private void consume(Object value) {
+      int next = sequence = sequence * 1664525 + 1013904223;
+      if ((next & mask) == 0) {
+        sink = new WeakReference<>(value);
+        mask = (mask << 1) + 1;
+      }
+    }
+  }
+
+}
@@ -32,4 +32,130 @@ public @interface JUnitPerfTest {
   // If durationMs & totalExecutions are set, totalExecutions will take precedence over test duration 
   // Default value is no limit
   int totalExecutions() default -1;
+
+  // Latency will also be measured from the intended start time of each execution on the maxExecutionsPerSecond schedule,
+  // i.e. time spent queued behind a stalled system under test is included (corrected for coordinated omission).
+  // Corrected latencies are reported alongside the measured latencies & latency requirements are evaluated against them.
+  // If maxExecutionsPerSecond is not set, this attribute will have no effect
+  boolean correctCoordinatedOmission() default false;
+
+  // Test evaluations will run on virtual threads (one per configured thread) rather than platform threads,
+  // allowing a much higher number of concurrent (blocking) evaluations to be driven from a single JVM.
+  // Requires java 21+, on older JVMs evaluations will fall back to running on platform threads
+  boolean virtualThreads() default false;
+
+  // Test invocations will be dispatched at this fixed arrival rate (per second) regardless of how long previous
+  // invocations take to complete (open model). Invocations are executed on an elastic pool of at most "threads" workers,
+  // queueing delay (time from scheduled arrival until execution starts) is recorded separately from latency (service time).
+  // Cannot be combined with maxExecutionsPerSecond
+  // Default value is disabled (closed model, each thread executes invocations back to back)
+  int arrivalRatePerSecond() default -1;
+
+  // Multi-stage load profile (i.e. ramp, step, spike, soak), stages are executed in order after the warm up period.
+  // When set, each stage defines its own threads/maxExecutionsPerSecond/duration & threads, durationMs, maxExecutionsPerSecond
+  // and rampUpPeriodMs are ignored (stage threads default to threads). Statistics are also captured & reported per stage
+  // Default value is no stages
+  JUnitPerfTestStage[] stages() default {};
+
+  // Searches for the maximum sustainable throughput, i.e. the highest executions per second at which the
+  // JUnitPerfTestRequirement thresholds are still met. The test runs a series of short probes (searchProbeDurationMs each)
+  // at different rates until the knee point is found (or durationMs is exhausted). Probes start at maxExecutionsPerSecond
+  // (unlimited if not set), requirements are evaluated against the measurements of the highest passing probe
+  // Cannot be combined with arrivalRatePerSecond or stages
+  boolean searchMaxThroughput() default false;
+
+  // Duration of each max throughput search probe (milliseconds)
+  // If searchMaxThroughput is not set, this attribute will have no effect
+  int searchProbeDurationMs() default 5_000;
+
+  // Latency, throughput & error measurements are also recorded per interval (milliseconds) after the warm up period,
+  // i.e. to expose GC pauses or JIT deoptimisations that are hidden by whole test aggregates.
+  // Interval recording adds a recorder shared by all evaluation threads to the measurement path, so is opt-in.
+  // Interval recording is not supported for async tests
+  // Set to 0 or -1 to disable
+  int intervalMs() default -1;
+
+  // Heap bytes allocated by each test invocation are also measured (from the per-thread allocation counters of HotSpot
+  // based JVMs), allocations are reported & evaluated against the JUnitPerfTestRequirement allocation requirements.
+  // Allocation measurement is not supported for async tests
+  boolean measureAllocations() default false;
+
+  // Thread CPU time (user + system) consumed by each test invocation is also measured, separating time spent on CPU
+  // from time spent waiting (i.e. on I/O or locks). CPU time is reported & evaluated against the
+  // JUnitPerfTestRequirement CPU time requirements. CPU time measurement is not supported for async tests
+  boolean measureCpuTime() default false;
+
+  // Garbage collector pauses (count, total & max pause time, bytes promoted) after the warm up period are also recorded
+  // & attributed to the recording intervals they occurred in. GC pauses are JVM wide, so include pauses triggered by
+  // anything else running in the same JVM
+  boolean monitorGc() default false;
+
+  // A JFR recording (JDK "profile" settings) of the measurement period (i.e. excluding warm up) is captured.
+  // The top hot methods, allocation sites & contended locks are included in the HTML report & the recording (.jfr)
+  // is saved alongside the HTML report. Requires a JVM with JFR support (JDK 11+)
+  boolean profile() default false;
+
+  // Number of back to back test invocations timed as a single latency sample, for tests that complete in nanoseconds,
+  // where reading the timer & recording measurements would otherwise cost more than the test itself.
+  // Latency (and allocation/CPU time) of each sample is divided evenly between its invocations, i.e. percentiles
+  // describe the mean latency of each batch. Before & after methods are run once per batch.
+  // Set to 0 to calibrate the batch size before the test starts (see maxTimerOverhead).
+  // Cannot be combined with arrivalRatePerSecond or correctCoordinatedOmission, not supported for async tests
+  int operationsPerInvocation() default 1;
+
+  // Max % of each latency sample that can be spent reading the timer, used to calibrate the batch size
+  // If operationsPerInvocation is not 0, this attribute will have no effect
+  float maxTimerOverhead() default 1;
+
+  // Before the test starts, an empty test is run through the same evaluation loop (threads, rate limiting, statistics &
+  // measurements) to measure the latency & per iteration cost added by JUnitPerf itself. Test method dispatch
+  // (i.e. reflection) is not included. The overhead is included in all reports. Not supported for async tests
+  boolean measureHarnessOverhead() default false;
+
+  // The measured harness overhead (median latency of the empty test) is subtracted from the reported latencies
+  // (min, max, mean & percentiles), latency requirements are evaluated against the adjusted latencies.
+  // Implies measureHarnessOverhead
+  boolean subtractHarnessOverhead() default false;
+
+  // The test is run (one after the other) in this many fresh child JVMs, isolating measurements from the JIT profiles,
+  // heap & class loading state left behind by earlier tests. Latency histograms, evaluation & error counts of each fork
+  // are merged & requirements are evaluated against the merged result, throughput is the mean throughput of a fork.
+  // Interval, allocation, CPU time, GC & profile measurements are not collected from forks.
+  // 0 runs the test in the current JVM. Not supported for async tests or load profiles/throughput searches
+  int forks() default 0;
+
+  // JVM arguments of the forked JVMs (i.e. {"-Xmx1g", "-XX:+UseG1GC"}), only used if forks > 0 or workers > 0
+  String[] jvmArgs() default {};
+
+  // Load is generated by this many local worker JVMs (plus any workerHosts) running the test at the same time, the test
+  // JVM only coordinates them: workers start, warm up & stop together, rate limits & execution targets are divided
+  // between workers. Latency histograms, evaluation & error counts of all workers are merged.
+  // Interval, allocation, CPU time, GC & profile measurements are not collected from workers.
+  // Not supported for async tests, forks or load profiles/throughput searches
+  int workers() default 0;
+
+  // Remote workers, host:port of a WorkerAgent started on each host (with the test classpath), one worker per entry
+  String[] workerHosts() default {};
+
+  // Stops the test once the live measurements (after warm up) show it is certain, or likely beyond failFastConfidence,
+  // to fail its requirements, the measurements taken up to that point are reported. Checked requirements are those a
+  // longer test cannot recover from: maxLatency (certain), allowedErrorPercentage & percentiles (likely).
+  // Not supported for forks, workers or throughput searches
+  boolean failFast() default false;
+
+  // Confidence (%) that a requirement is failed before the test is stopped, i.e. that the lower bound of the error rate
+  // or of a latency percentile's confidence interval is above its threshold. Only used if failFast is set
+  float failFastConfidence() default 99;
+
+  // Stops the test once the required percentiles, mean latency & throughput have converged, i.e. the half width of
+  // each metric's confidence interval (at convergenceConfidence) is within +/- this percentage of its measured value.
+  // durationMs becomes the max test duration, -1 disables convergence based stopping.
+  // Not supported for forks, workers, load profiles or throughput searches
+  float convergenceTolerance() default -1;
+
+  // Confidence (%) of the convergence confidence intervals. Only used if convergenceTolerance is set
+  float convergenceConfidence() default 95;
+
+  // Min measurement period (after warm up) before a converged test is stopped. Only used if convergenceTolerance is set
+  int convergenceMinDurationMs() default 0;
 }
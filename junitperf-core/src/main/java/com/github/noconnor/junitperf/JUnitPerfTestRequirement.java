@@ -27,4 +27,20 @@ public @interface JUnitPerfTestRequirement {
   // Expected mean latency in ms, if mean latency is above this value, test will fail
   float meanLatency() default -1;
 
+  // Expected mean heap allocation per invocation in bytes, if mean allocation is above this value, test will fail
+  // Only evaluated when allocations are measured (see JUnitPerfTest measureAllocations)
+  float meanBytesPerOp() default -1;
+
+  // If set, test will fail if any invocation allocates on the heap
+  // Only evaluated when allocations are measured (see JUnitPerfTest measureAllocations)
+  boolean zeroAllocation() default false;
+
+  // Expected mean CPU time per invocation in ms, if mean CPU time is above this value, test will fail
+  // Only evaluated when CPU time is measured (see JUnitPerfTest measureCpuTime)
+  float meanCpuTime() default -1;
+
+  // Expected max % of the test duration (after warm up) spent in GC pauses, if GC overhead is above this value, test will fail
+  // Only evaluated when GC pauses are monitored (see JUnitPerfTest monitorGc)
+  float maxGcOverhead() default -1;
+
 }
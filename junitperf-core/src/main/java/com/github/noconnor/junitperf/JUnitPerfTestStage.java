@@ -0,0 +1,34 @@
+package com.github.noconnor.junitperf;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// A single stage of a multi-stage load profile, see JUnitPerfTest.stages()
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+public @interface JUnitPerfTestStage {
+
+  // Optional stage name, used when reporting stage results. Defaults to "Stage <N>"
+  String name() default "";
+
+  // Duration of this stage (milliseconds)
+  int durationMs();
+
+  // Number of threads executing the test during this stage
+  // Default value is the JUnitPerfTest threads value
+  int threads() default -1;
+
+  // Stage will execute no more that specified "rateLimit" executions per second
+  // Default value is no limit
+  int maxExecutionsPerSecond() default -1;
+
+  // Threads & executions per second will change linearly from the previous stage values to the values of this stage,
+  // over the duration of this stage (i.e. a ramp). If false, stage values are applied as soon as the stage starts (i.e. a step)
+  boolean ramp() default false;
+
+  // Stage results will be evaluated against the JUnitPerfTestRequirement (throughput excluded), test will fail if
+  // any evaluated stage does not meet the requirements. Disable for stages that are expected to breach requirements (i.e. a spike)
+  boolean assertRequirements() default true;
+
+}
@@ -0,0 +1,26 @@
+package com.github.noconnor.junitperf.data;
+
+import lombok.Value;
+
+import java.util.Map;
+
+// Confidence intervals achieved by a convergence based test (see JUnitPerfTest convergenceTolerance). Each margin is
+// the half width of a metric's confidence interval relative to its measured value (%), NaN if the test was too short
+// to estimate it
+@Value
+public class ConvergenceResult {
+
+  // True if all margins were within the convergence tolerance before the max test duration
+  boolean converged;
+  // Measurement period (after warm up) before the test was stopped (milliseconds)
+  long measuredMs;
+  float throughputMargin;
+  float meanLatencyMargin;
+  // Required percentile -> margin
+  Map<Double, Float> percentileMargins;
+
+  public float getPercentileMargin(double percentile) {
+    return percentileMargins.getOrDefault(percentile, Float.NaN);
+  }
+
+}
@@ -2,28 +2,47 @@ package com.github.noconnor.junitperf.data;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newTreeMap;
+import static com.github.noconnor.junitperf.reporting.utils.FormatterUtils.formatPercentile;
+import static java.lang.String.format;
 import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyList;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import com.github.noconnor.junitperf.JUnitPerfTest;
 import com.github.noconnor.junitperf.JUnitPerfTestRequirement;
 import com.github.noconnor.junitperf.datetime.DatetimeUtils;
+import com.github.noconnor.junitperf.statistics.AllocationStatistics;
+import com.github.noconnor.junitperf.statistics.CpuTimeStatistics;
+import com.github.noconnor.junitperf.statistics.GcStatistics;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.google.common.primitives.Doubles;
 import com.google.common.primitives.Floats;
-import com.google.common.primitives.Ints;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.math3.distribution.NormalDistribution;
 
 @Slf4j
 public class EvaluationContext {
@@ -34,6 +53,34 @@ public class EvaluationContext {
   static final String JUNITPERF_RAMP_UP_PERIOD_MS = "junitperf.rampUpPeriodMs";
   static final String JUNITPERF_TOTAL_EXECUTIONS = "junitperf.totalExecutions";
   static final String JUNITPERF_MAX_EXECUTIONS_PER_SECOND = "junitperf.maxExecutionsPerSecond";
+  static final String JUNITPERF_CORRECT_COORDINATED_OMISSION = "junitperf.correctCoordinatedOmission";
+  static final String JUNITPERF_VIRTUAL_THREADS = "junitperf.virtualThreads";
+  static final String JUNITPERF_ARRIVAL_RATE_PER_SECOND = "junitperf.arrivalRatePerSecond";
+  static final String JUNITPERF_SEARCH_MAX_THROUGHPUT = "junitperf.searchMaxThroughput";
+  static final String JUNITPERF_SEARCH_PROBE_DURATION_MS = "junitperf.searchProbeDurationMs";
+  static final String JUNITPERF_INTERVAL_MS = "junitperf.intervalMs";
+  static final String JUNITPERF_MEASURE_ALLOCATIONS = "junitperf.measureAllocations";
+  static final String JUNITPERF_MEASURE_CPU_TIME = "junitperf.measureCpuTime";
+  static final String JUNITPERF_MONITOR_GC = "junitperf.monitorGc";
+  static final String JUNITPERF_PROFILE = "junitperf.profile";
+  static final String JUNITPERF_OPERATIONS_PER_INVOCATION = "junitperf.operationsPerInvocation";
+  static final String JUNITPERF_MEASURE_HARNESS_OVERHEAD = "junitperf.measureHarnessOverhead";
+  static final String JUNITPERF_SUBTRACT_HARNESS_OVERHEAD = "junitperf.subtractHarnessOverhead";
+  static final String JUNITPERF_FORKS = "junitperf.forks";
+  static final String JUNITPERF_JVM_ARGS = "junitperf.jvmArgs";
+  static final String JUNITPERF_WORKERS = "junitperf.workers";
+  static final String JUNITPERF_WORKER_HOSTS = "junitperf.workerHosts";
+  static final String JUNITPERF_FAIL_FAST = "junitperf.failFast";
+  static final String JUNITPERF_CONVERGENCE_TOLERANCE = "junitperf.convergenceTolerance";
+  static final String JUNITPERF_CONVERGENCE_MIN_DURATION_MS = "junitperf.convergenceMinDurationMs";
+
+  // Confidence intervals are not meaningful for a handful of evaluations (i.e. a burst of errors at the start)
+  static final long FAIL_FAST_MIN_SAMPLES = 100;
+
+  // A rate limited search probe must achieve (at least) this fraction of its target rate to be considered sustainable
+  static final float SUSTAINED_THROUGHPUT_RATIO = 0.95F;
+  // Sub-integer tail percentiles are always calculated (in addition to any required sub-integer percentiles)
+  public static final List<Double> TAIL_PERCENTILES = unmodifiableList(asList(99.9, 99.99, 99.999));
 
   @Getter
   private int configuredThreads;
@@ -48,6 +95,54 @@ public class EvaluationContext {
   @Getter
   private int configuredExecutionTarget;
   @Getter
+  private boolean isCoordinatedOmissionCorrectionEnabled;
+  @Getter
+  private boolean isVirtualThreadsEnabled;
+  @Getter
+  private int configuredArrivalRate;
+  @Getter
+  private List<LoadStage> loadStages = emptyList();
+  @Getter
+  private boolean isThroughputSearchEnabled;
+  @Getter
+  private int configuredSearchProbeDurationMs;
+  @Getter
+  private int configuredIntervalMs;
+  private boolean isAllocationMeasurementConfigured;
+  private boolean isCpuTimeMeasurementConfigured;
+  @Getter
+  private boolean isGcMonitoringEnabled;
+  @Getter
+  private boolean isProfilingEnabled;
+  @Getter
+  private int configuredOperationsPerInvocation;
+  @Getter
+  private float configuredMaxTimerOverhead;
+  // Invocations timed per latency sample, set once the batch size is calibrated (if configured)
+  @Getter
+  @Setter
+  private int operationsPerInvocation = 1;
+  private boolean isHarnessOverheadMeasurementConfigured;
+  private boolean isHarnessOverheadSubtractionConfigured;
+  @Getter
+  private int configuredForks;
+  @Getter
+  private List<String> configuredJvmArgs = emptyList();
+  @Getter
+  private int configuredWorkers;
+  @Getter
+  private List<String> configuredWorkerHosts = emptyList();
+  @Getter
+  private boolean isFailFastEnabled;
+  @Getter
+  private float configuredFailFastConfidence;
+  @Getter
+  private float configuredConvergenceTolerance;
+  @Getter
+  private float configuredConvergenceConfidence;
+  @Getter
+  private int configuredConvergenceMinDurationMs;
+  @Getter
   private final long startTimeNs;
   @Getter
   @Setter
@@ -59,7 +154,7 @@ public class EvaluationContext {
   private Throwable abortedException;
 
   @Getter
-  private Map<Integer, Float> requiredPercentiles = emptyMap();
+  private Map<Double, Float> requiredPercentiles = emptyMap();
   @Getter
   private int requiredThroughput = 0;
   @Getter
@@ -70,9 +165,56 @@ public class EvaluationContext {
   private float requiredMaxLatency = -1;
   @Getter
   private float requiredMeanLatency = -1;
+  @Getter
+  private float requiredMeanBytesPerOp = -1;
+  @Getter
+  private boolean isZeroAllocationRequired;
+  @Getter
+  private float requiredMeanCpuTime = -1;
+  @Getter
+  private float requiredMaxGcOverhead = -1;
 
   @Setter
   private StatisticsCalculator statistics;
+  @Setter
+  private StatisticsCalculator correctedStatistics;
+  @Setter
+  private StatisticsCalculator queueingStatistics;
+  @Setter
+  private List<StatisticsCalculator> stageStatistics;
+  @Setter
+  private AllocationStatistics allocationStatistics;
+  @Setter
+  private CpuTimeStatistics cpuTimeStatistics;
+  @Setter
+  private GcStatistics gcStatistics;
+  // Only available if the test was profiled
+  @Getter
+  @Setter
+  private ProfileSummary profileSummary;
+  // Only available if harness overhead was measured
+  @Getter
+  @Setter
+  private HarnessOverhead harnessOverhead;
+  // Only available if the test was run in forked JVMs, in fork order
+  @Getter
+  @Setter
+  private List<ForkResult> forkResults = emptyList();
+  // Only available if load was generated by worker JVMs, in worker order
+  @Getter
+  @Setter
+  private List<WorkerResult> workerResults = emptyList();
+  // Only available if the test was stopped early by fail fast
+  @Getter
+  private String failFastReason;
+  private long failFastMeasuredMs;
+  // Only available if convergence based stopping is enabled
+  @Getter
+  @Setter
+  private ConvergenceResult convergenceResult;
+  // Time from the start of the first to the end of the last measured invocation, 0 if not recorded
+  @Getter
+  private long measurementWindowNs;
 
   @Getter
   private boolean isThroughputAchieved;
@@ -85,12 +227,35 @@ public class EvaluationContext {
   @Getter
   private boolean isErrorThresholdAchieved;
   @Getter
-  private Map<Integer, Boolean> percentileResults;
+  private boolean isMeanAllocationAchieved;
+  @Getter
+  private boolean isZeroAllocationAchieved;
+  @Getter
+  private boolean isMeanCpuTimeAchieved;
+  @Getter
+  private boolean isGcOverheadAchieved;
+  @Getter
+  private Map<Double, Boolean> percentileResults;
   @Getter
   private boolean isSuccessful;
+  @Getter
+  private List<StageResult> stageResults = emptyList();
+  // Max throughput search only, results of each probe & the highest throughput probe that met all requirements
+  @Getter
+  @Setter
+  private List<StageResult> searchProbeResults = emptyList();
+  @Getter
+  @Setter
+  private StageResult throughputKnee;
+  // Measurements per recording interval (see JUnitPerfTest intervalMs), in order
+  @Getter
+  @Setter
+  private List<IntervalSample> intervalSamples = emptyList();
 
   @Getter
   private final float[] percentiles = new float[101];
+  // Sub-integer percentiles (i.e. 99.9), keyed by percentile
+  private final Map<Double, Float> fractionalPercentiles = newTreeMap();
   @Getter
   private float minLatencyMs;
   @Getter
@@ -104,6 +269,63 @@ public class EvaluationContext {
   @Getter
   private long errorCount;
 
+  // Latencies measured from the intended start time of each execution (corrected for coordinated omission)
+  @Getter
+  private final float[] correctedPercentiles = new float[101];
+  private final Map<Double, Float> correctedFractionalPercentiles = newTreeMap();
+  @Getter
+  private float correctedMinLatencyMs;
+  @Getter
+  private float correctedMaxLatencyMs;
+  @Getter
+  private float correctedMeanLatencyMs;
+
+  // Heap allocation per invocation (bytes), only available if allocations are measured
+  @Getter
+  private float meanBytesPerOp;
+  @Getter
+  private long maxBytesPerOp;
+  @Getter
+  private long totalAllocatedBytes;
+
+  // Thread CPU time (user + system) per invocation, only available if CPU time is measured
+  @Getter
+  private float meanCpuTimeMs;
+  @Getter
+  private float maxCpuTimeMs;
+  @Getter
+  private float totalCpuTimeMs;
+  @Getter
+  private float meanUserCpuTimeMs;
+  @Getter
+  private float meanSystemCpuTimeMs;
+
+  // Stop the world GC pauses after warm up, only available if GC pauses are monitored
+  @Getter
+  private long gcPauseCount;
+  @Getter
+  private long gcTotalPauseMs;
+  @Getter
+  private long gcMaxPauseMs;
+  @Getter
+  private long gcPromotedBytes;
+  @Getter
+  private float gcOverheadPercentage;
+
+  // Open model only, time from the scheduled arrival of each invocation until its execution started
+  @Getter
+  private final float[] queueingDelayPercentiles = new float[101];
+  @Getter
+  private float queueingMaxDelayMs;
+  @Getter
+  private float queueingMeanDelayMs;
+  @Getter
+  @Setter
+  private long droppedDispatchCount;
+  @Getter
+  @Setter
+  private long lateDispatchCount;
+
   @Getter
   private final String testName;
   @Getter
@@ -140,13 +362,261 @@ public class EvaluationContext {
   
   @SuppressWarnings("WeakerAccess")
   public long getThroughputQps() {
-    return (long)((evaluationCount/ ((float)configuredDuration - configuredWarmUp)) * 1000);
+    if (isThroughputSearchEnabled) {
+      return nonNull(throughputKnee) ? throughputKnee.getThroughputQps() : 0;
+    }
+    // Forks run one after the other, each over its own measurement window
+    if (hasForkResults()) {
+      return (long) forkResults.stream().mapToLong(ForkResult::getThroughputQps).average().orElse(0);
+    }
+    // Workers run side by side, each over its own measurement window
+    if (hasWorkerResults()) {
+      return workerResults.stream().mapToLong(WorkerResult::getThroughputQps).sum();
+    }
+    return (long)((evaluationCount / getMeasuredDurationMs()) * 1000);
+  }
+
+  // The measured window excludes scheduling delays before the first & idle time after the last invocation.
+  // Without one (i.e. a statistics calculator that does not track it), a test stopped early (by fail fast or on
+  // convergence) was only measured until it was stopped
+  private float getMeasuredDurationMs() {
+    if (measurementWindowNs > 0) {
+      return Math.max(measurementWindowNs / (float) MILLISECONDS.toNanos(1), 1);
+    }
+    if (isTerminatedEarly()) {
+      return Math.max(failFastMeasuredMs, 1);
+    }
+    if (isConverged()) {
+      return Math.max(convergenceResult.getMeasuredMs(), 1);
+    }
+    return (float) configuredDuration - configuredWarmUp;
   }
 
   public float getLatencyPercentileMs(int percentile) {
     return percentiles[percentile];
   }
 
+  public float getCorrectedLatencyPercentileMs(int percentile) {
+    return correctedPercentiles[percentile];
+  }
+
+  // Sub-integer percentiles are only available if they are required or one of the TAIL_PERCENTILES
+  public float getLatencyPercentileMs(double percentile) {
+    return isWholePercentile(percentile) ? getLatencyPercentileMs((int) percentile) : fractionalPercentiles.getOrDefault(percentile, 0F);
+  }
+
+  // Sub-integer percentiles calculated for this test (the TAIL_PERCENTILES & any required sub-integer percentiles)
+  public Set<Double> getAvailableFractionalPercentiles() {
+    return unmodifiableSet(fractionalPercentiles.keySet());
+  }
+
+  public float getCorrectedLatencyPercentileMs(double percentile) {
+    return isWholePercentile(percentile) ? getCorrectedLatencyPercentileMs((int) percentile) : correctedFractionalPercentiles.getOrDefault(percentile, 0F);
+  }
+
+  public boolean hasCorrectedLatencies() {
+    return nonNull(correctedStatistics);
+  }
+
+  public boolean hasLoadProfile() {
+    return !loadStages.isEmpty();
+  }
+
+  public boolean isIntervalRecordingEnabled() {
+    // Async tests record measurements directly into the test statistics (see TestContext)
+    return configuredIntervalMs > 0 && !isAsyncEvaluation;
+  }
+
+  public boolean hasIntervalSamples() {
+    return !intervalSamples.isEmpty();
+  }
+
+  // Lowest throughput of any full length interval, the final (partial) interval of a run is excluded
+  public long getMinIntervalThroughputQps() {
+    return intervalSamples.stream()
+      .filter(sample -> sample.getDurationMs() >= configuredIntervalMs)
+      .mapToLong(IntervalSample::getThroughputQps)
+      .min()
+      .orElse(0);
+  }
+
+  // Highest 99th percentile latency (ms) of any interval
+  public float getMaxIntervalP99LatencyMs() {
+    return (float) intervalSamples.stream()
+      .mapToDouble(IntervalSample::getP99LatencyMs)
+      .max()
+      .orElse(0);
+  }
+
+  public boolean isAllocationMeasurementEnabled() {
+    // Async tests complete invocations on threads outside of the framework's control
+    return isAllocationMeasurementConfigured && !isAsyncEvaluation;
+  }
+
+  public boolean hasAllocationMeasurements() {
+    return nonNull(allocationStatistics);
+  }
+
+  public boolean isCpuTimeMeasurementEnabled() {
+    return isCpuTimeMeasurementConfigured && !isAsyncEvaluation;
+  }
+
+  public boolean hasCpuTimeMeasurements() {
+    return nonNull(cpuTimeStatistics);
+  }
+
+  // Mean CPU time as a % of mean latency, the remainder of each invocation was spent waiting (i.e. on I/O or locks)
+  public float getCpuTimePercentage() {
+    return meanLatencyMs > 0 ? Math.min(meanCpuTimeMs / meanLatencyMs * 100, 100) : 0;
+  }
+
+  // CPU cores kept busy by every 1,000 invocations per second (1,000 * mean CPU ms/op spread over 1,000ms)
+  public float getCpuCoresPerThousandOps() {
+    return meanCpuTimeMs;
+  }
+
+  public boolean hasGcMeasurements() {
+    return nonNull(gcStatistics);
+  }
+
+  public boolean hasProfile() {
+    return nonNull(profileSummary);
+  }
+
+  // Async tests measure their own latencies, so do not include the harness overhead
+  public boolean isHarnessOverheadMeasurementEnabled() {
+    return (isHarnessOverheadMeasurementConfigured || isHarnessOverheadSubtracted()) && !isAsyncEvaluation;
+  }
+
+  public boolean isHarnessOverheadSubtracted() {
+    return isHarnessOverheadSubtractionConfigured && !isAsyncEvaluation;
+  }
+
+  public boolean hasHarnessOverhead() {
+    return nonNull(harnessOverhead);
+  }
+
+  public boolean isForkedExecutionEnabled() {
+    return configuredForks > 0;
+  }
+
+  public boolean hasForkResults() {
+    return !forkResults.isEmpty();
+  }
+
+  // Run to run variation of the forks, as the coefficient of variation (standard deviation as a % of the mean)
+  public float getForkThroughputVariation() {
+    return coefficientOfVariation(forkResults.stream().mapToDouble(ForkResult::getThroughputQps));
+  }
+
+  public float getForkMeanLatencyVariation() {
+    return coefficientOfVariation(forkResults.stream().mapToDouble(ForkResult::getMeanLatencyMs));
+  }
+
+  public float getForkLatencyPercentileVariation(double percentile) {
+    return coefficientOfVariation(forkResults.stream().mapToDouble(fork -> fork.getLatencyPercentileMs(percentile)));
+  }
+
+  public boolean isDistributedExecutionEnabled() {
+    return getWorkerCount() > 0;
+  }
+
+  // Local worker JVMs plus remote workers
+  public int getWorkerCount() {
+    return configuredWorkers + configuredWorkerHosts.size();
+  }
+
+  public boolean hasWorkerResults() {
+    return !workerResults.isEmpty();
+  }
+
+  public long getMinWorkerThroughputQps() {
+    return workerResults.stream().mapToLong(WorkerResult::getThroughputQps).min().orElse(0);
+  }
+
+  public long getMaxWorkerThroughputQps() {
+    return workerResults.stream().mapToLong(WorkerResult::getThroughputQps).max().orElse(0);
+  }
+
+  public boolean isTerminatedEarly() {
+    return nonNull(failFastReason);
+  }
+
+  // Measurement period (after warm up) before the test was stopped
+  public long getFailFastMeasuredMs() {
+    return failFastMeasuredMs;
+  }
+
+  public void setFailFastTermination(String reason, long measuredMs) {
+    this.failFastReason = reason;
+    this.failFastMeasuredMs = measuredMs;
+  }
+
+  public boolean isConvergenceEnabled() {
+    return configuredConvergenceTolerance > 0;
+  }
+
+  public boolean hasConvergenceResult() {
+    return nonNull(convergenceResult);
+  }
+
+  public boolean isConverged() {
+    return hasConvergenceResult() && convergenceResult.isConverged();
+  }
+
+  // Reason the measurements of the test so far have failed a requirement (with certainty or beyond the fail fast
+  // confidence), or null. Only requirements a longer test cannot recover from are checked. Measured latencies are
+  // a lower bound of coordinated omission corrected latencies, so a measured failure is also a corrected failure
+  public String evaluateFailFast(StatisticsCalculator measuredStatistics) {
+    long evaluations = measuredStatistics.getEvaluationCount();
+    // Latencies are sampled per batch of invocations
+    long samples = evaluations / Math.max(operationsPerInvocation, 1);
+    if (samples < FAIL_FAST_MIN_SAMPLES) {
+      return null;
+    }
+    float overheadMs = isHarnessOverheadSubtracted() && hasHarnessOverhead() ? harnessOverhead.getMedianLatencyNs() / MILLISECONDS.toNanos(1) : 0;
+    // The max latency can only grow
+    float maxLatencyMs = measuredStatistics.getMaxLatency(MILLISECONDS) - overheadMs;
+    if (!validateLatency(maxLatencyMs, requiredMaxLatency)) {
+      return format("Max latency %.3fms exceeds the required %.3fms", maxLatencyMs, requiredMaxLatency);
+    }
+    double z = new NormalDistribution().inverseCumulativeProbability(configuredFailFastConfidence / 100);
+    double minErrorRate = wilsonLowerBound(measuredStatistics.getErrorCount(), evaluations, z);
+    if (minErrorRate > requiredAllowedErrorsRate) {
+      return format("Error rate is above the allowed %.2f%% (%.2f%% confidence, at least %.2f%%)",
+        requiredAllowedErrorsRate * 100, configuredFailFastConfidence, minErrorRate * 100);
+    }
+    for (Map.Entry<Double, Float> requirement : requiredPercentiles.entrySet()) {
+      // Lower confidence bound of the percentile, the latency of the lower ranked sample (order statistic)
+      double quantile = requirement.getKey() / 100;
+      double lowerQuantile = quantile - z * Math.sqrt(quantile * (1 - quantile) / samples);
+      if (lowerQuantile > 0) {
+        float latencyMs = measuredStatistics.getLatencyPercentile(lowerQuantile * 100, MILLISECONDS) - overheadMs;
+        if (latencyMs > requirement.getValue()) {
+          return format("%sth percentile latency is above the required %.3fms (%.2f%% confidence, at least %.3fms)",
+            formatPercentile(requirement.getKey()), requirement.getValue(), configuredFailFastConfidence, latencyMs);
+        }
+      }
+    }
+    return null;
+  }
+
+  public boolean isBatchSizeCalibrationEnabled() {
+    return configuredOperationsPerInvocation == 0;
+  }
+
+  public boolean isOpenModel() {
+    return configuredArrivalRate > 0;
+  }
+
+  public float getQueueingDelayPercentileMs(int percentile) {
+    return queueingDelayPercentiles[percentile];
+  }
+
+  public boolean hasQueueingDelays() {
+    return nonNull(queueingStatistics);
+  }
+
   public String getTestDurationFormatted() {
     long timeTakenMs = MILLISECONDS.convert(finishTimeNs - startTimeNs, NANOSECONDS);
     return DatetimeUtils.format((int) timeTakenMs);
@@ -160,6 +630,65 @@ public class EvaluationContext {
     configuredRateLimit = checkForEnvOverride(JUNITPERF_MAX_EXECUTIONS_PER_SECOND, testSettings.maxExecutionsPerSecond());
     configuredRampUpPeriodMs = checkForEnvOverride(JUNITPERF_RAMP_UP_PERIOD_MS, testSettings.rampUpPeriodMs());
     configuredExecutionTarget = checkForEnvOverride(JUNITPERF_TOTAL_EXECUTIONS, testSettings.totalExecutions());
+    boolean correctCoordinatedOmission = checkForEnvOverride(JUNITPERF_CORRECT_COORDINATED_OMISSION, testSettings.correctCoordinatedOmission());
+    isCoordinatedOmissionCorrectionEnabled = correctCoordinatedOmission && configuredRateLimit > 0;
+    isVirtualThreadsEnabled = checkForEnvOverride(JUNITPERF_VIRTUAL_THREADS, testSettings.virtualThreads());
+    configuredArrivalRate = checkForEnvOverride(JUNITPERF_ARRIVAL_RATE_PER_SECOND, testSettings.arrivalRatePerSecond());
+    isThroughputSearchEnabled = checkForEnvOverride(JUNITPERF_SEARCH_MAX_THROUGHPUT, testSettings.searchMaxThroughput());
+    configuredSearchProbeDurationMs = checkForEnvOverride(JUNITPERF_SEARCH_PROBE_DURATION_MS, testSettings.searchProbeDurationMs());
+    configuredIntervalMs = checkForEnvOverride(JUNITPERF_INTERVAL_MS, testSettings.intervalMs());
+    isAllocationMeasurementConfigured = checkForEnvOverride(JUNITPERF_MEASURE_ALLOCATIONS, testSettings.measureAllocations());
+    isCpuTimeMeasurementConfigured = checkForEnvOverride(JUNITPERF_MEASURE_CPU_TIME, testSettings.measureCpuTime());
+    isGcMonitoringEnabled = checkForEnvOverride(JUNITPERF_MONITOR_GC, testSettings.monitorGc());
+    isProfilingEnabled = checkForEnvOverride(JUNITPERF_PROFILE, testSettings.profile());
+    configuredOperationsPerInvocation = checkForEnvOverride(JUNITPERF_OPERATIONS_PER_INVOCATION, testSettings.operationsPerInvocation());
+    configuredMaxTimerOverhead = testSettings.maxTimerOverhead();
+    operationsPerInvocation = Math.max(configuredOperationsPerInvocation, 1);
+    isHarnessOverheadMeasurementConfigured = checkForEnvOverride(JUNITPERF_MEASURE_HARNESS_OVERHEAD, testSettings.measureHarnessOverhead());
+    isHarnessOverheadSubtractionConfigured = checkForEnvOverride(JUNITPERF_SUBTRACT_HARNESS_OVERHEAD, testSettings.subtractHarnessOverhead());
+    configuredForks = checkForEnvOverride(JUNITPERF_FORKS, testSettings.forks());
+    configuredJvmArgs = checkForEnvOverride(JUNITPERF_JVM_ARGS, testSettings.jvmArgs());
+    configuredWorkers = checkForEnvOverride(JUNITPERF_WORKERS, testSettings.workers());
+    configuredWorkerHosts = checkForEnvOverride(JUNITPERF_WORKER_HOSTS, testSettings.workerHosts());
+    isFailFastEnabled = checkForEnvOverride(JUNITPERF_FAIL_FAST, testSettings.failFast());
+    configuredFailFastConfidence = testSettings.failFastConfidence();
+    configuredConvergenceTolerance = checkForEnvOverride(JUNITPERF_CONVERGENCE_TOLERANCE, testSettings.convergenceTolerance());
+    configuredConvergenceConfidence = testSettings.convergenceConfidence();
+    configuredConvergenceMinDurationMs = checkForEnvOverride(JUNITPERF_CONVERGENCE_MIN_DURATION_MS, testSettings.convergenceMinDurationMs());
+    // Search probes run at varying rates, there is no single fixed rate schedule to correct against
+    isCoordinatedOmissionCorrectionEnabled = isCoordinatedOmissionCorrectionEnabled && !isThroughputSearchEnabled;
+    if (nonNull(testSettings.stages()) && testSettings.stages().length > 0) {
+      loadProfile(LoadProfile.from(testSettings.stages()));
+    } else {
+      validateTestSettings();
+    }
+    validateBatchSettings();
+    validateForkSettings();
+    validateWorkerSettings();
+    validateFailFastSettings();
+    validateConvergenceSettings();
+    validateMeasurementSettings();
+  }
+
+  // Stages replace the threads, durationMs, maxExecutionsPerSecond & rampUpPeriodMs test settings,
+  // test duration becomes the warm up period plus the sum of all stage durations
+  public void loadProfile(LoadProfile profile) {
+    checkNotNull(profile, "Load profile must not be null");
+    checkState(!profile.getStages().isEmpty(), "Load profile must contain at least 1 stage");
+    int defaultThreads = configuredThreads;
+    loadStages = profile.getStages().stream()
+      .map(stage -> stage.getThreads() == LoadStage.INHERIT ? stage.toBuilder().threads(defaultThreads).build() : stage)
+      .collect(toList());
+    validateLoadStages();
+    checkState(!isForkedExecutionEnabled(), "Forks cannot be combined with a load profile");
+    checkState(!isDistributedExecutionEnabled(), "Workers cannot be combined with a load profile");
+    checkState(!isConvergenceEnabled(), "ConvergenceTolerance cannot be combined with a load profile");
+    configuredThreads = loadStages.stream().mapToInt(LoadStage::getThreads).max().orElse(defaultThreads);
+    configuredDuration = configuredWarmUp + profile.getTotalDurationMs();
+    configuredRateLimit = -1;
+    configuredRampUpPeriodMs = 0;
+    // Coordinated omission correction assumes a single fixed rate schedule
+    isCoordinatedOmissionCorrectionEnabled = false;
     validateTestSettings();
   }
 
@@ -171,6 +700,10 @@ public class EvaluationContext {
       requiredMinLatency = requirements.minLatency();
       requiredMaxLatency = requirements.maxLatency();
       requiredMeanLatency = requirements.meanLatency();
+      requiredMeanBytesPerOp = requirements.meanBytesPerOp();
+      isZeroAllocationRequired = requirements.zeroAllocation();
+      requiredMeanCpuTime = requirements.meanCpuTime();
+      requiredMaxGcOverhead = requirements.maxGcOverhead();
       validateRequirements();
     }
   }
@@ -180,17 +713,58 @@ public class EvaluationContext {
     calculateAndCacheStatistics();
     isThroughputAchieved = getThroughputQps() >= requiredThroughput;
     isErrorThresholdAchieved = errorPercentage <= (requiredAllowedErrorsRate * 100);
-    isMinLatencyAchieved = validateLatency(minLatencyMs, requiredMinLatency);
-    isMaxLatencyAchieved = validateLatency(maxLatencyMs, requiredMaxLatency);
-    isMeanLatencyAchieved = validateLatency(meanLatencyMs, requiredMeanLatency);
+    // When available, latency requirements are evaluated against the coordinated omission corrected latencies
+    isMinLatencyAchieved = validateLatency(hasCorrectedLatencies() ? correctedMinLatencyMs : minLatencyMs, requiredMinLatency);
+    isMaxLatencyAchieved = validateLatency(hasCorrectedLatencies() ? correctedMaxLatencyMs : maxLatencyMs, requiredMaxLatency);
+    isMeanLatencyAchieved = validateLatency(hasCorrectedLatencies() ? correctedMeanLatencyMs : meanLatencyMs, requiredMeanLatency);
+    // Allocation requirements can only be evaluated if allocations were measured
+    isMeanAllocationAchieved = !hasAllocationMeasurements() || requiredMeanBytesPerOp < 0 || meanBytesPerOp <= requiredMeanBytesPerOp;
+    isZeroAllocationAchieved = !hasAllocationMeasurements() || !isZeroAllocationRequired || maxBytesPerOp == 0;
+    // CPU time requirements can only be evaluated if CPU time was measured
+    isMeanCpuTimeAchieved = !hasCpuTimeMeasurements() || validateLatency(meanCpuTimeMs, requiredMeanCpuTime);
+    isGcOverheadAchieved = !hasGcMeasurements() || requiredMaxGcOverhead < 0 || gcOverheadPercentage <= requiredMaxGcOverhead;
     percentileResults = evaluateLatencyPercentiles();
+    stageResults = evaluateStages();
 
     isSuccessful = isThroughputAchieved &&
       isMaxLatencyAchieved &&
       isMinLatencyAchieved &&
       isMeanLatencyAchieved &&
       isErrorThresholdAchieved &&
-      noLatencyPercentileFailures();
+      isMeanAllocationAchieved &&
+      isZeroAllocationAchieved &&
+      isMeanCpuTimeAchieved &&
+      isGcOverheadAchieved &&
+      noLatencyPercentileFailures() &&
+      noStageFailures() &&
+      (!isThroughputSearchEnabled || nonNull(throughputKnee));
+  }
+
+  // Evaluates the measurements of a single stage (or search probe) against the test requirements
+  public StageResult evaluateStage(int index, LoadStage stage, StatisticsCalculator stageStatistics) {
+    StageResult result = new StageResult(index, stage, stageStatistics, requiredPercentiles.keySet());
+    if (stage.isAssertRequirements()) {
+      // Stage load is driven by the load profile, so the throughput requirement only applies to the whole test
+      result.setErrorThresholdAchieved(result.getErrorPercentage() <= (requiredAllowedErrorsRate * 100));
+      result.setMinLatencyAchieved(validateLatency(result.getMinLatencyMs(), requiredMinLatency));
+      result.setMaxLatencyAchieved(validateLatency(result.getMaxLatencyMs(), requiredMaxLatency));
+      result.setMeanLatencyAchieved(validateLatency(result.getMeanLatencyMs(), requiredMeanLatency));
+      Map<Double, Boolean> stagePercentileResults = newTreeMap();
+      requiredPercentiles.forEach((percentile, thresholdMs) -> {
+        stagePercentileResults.put(percentile, result.getLatencyPercentileMs(percentile) <= thresholdMs);
+      });
+      result.setPercentileResults(stagePercentileResults);
+    }
+    return result;
+  }
+
+  // Search probes must also keep up with their target rate, otherwise the rate is not sustainable
+  public StageResult evaluateSearchProbe(int index, LoadStage probe, StatisticsCalculator probeStatistics) {
+    StageResult result = evaluateStage(index, probe, probeStatistics);
+    if (probe.isRateLimited()) {
+      result.setThroughputAchieved(result.getThroughputQps() >= probe.getMaxExecutionsPerSecond() * SUSTAINED_THROUGHPUT_RATIO);
+    }
+    return result;
   }
 
   @Override
@@ -214,23 +788,39 @@ public class EvaluationContext {
     return percentileResults.values().stream().allMatch(e -> e);
   }
 
-  private Map<Integer, Boolean> evaluateLatencyPercentiles() {
-    Map<Integer, Boolean> results = newTreeMap();
+  private boolean noStageFailures() {
+    return stageResults.stream().allMatch(StageResult::isSuccessful);
+  }
+
+  private List<StageResult> evaluateStages() {
+    if (!hasLoadProfile() || isNull(stageStatistics)) {
+      return emptyList();
+    }
+    List<StageResult> results = newArrayList();
+    for (int i = 0; i < loadStages.size() && i < stageStatistics.size(); i++) {
+      results.add(evaluateStage(i, loadStages.get(i), stageStatistics.get(i)));
+    }
+    return results;
+  }
+
+  private Map<Double, Boolean> evaluateLatencyPercentiles() {
+    Map<Double, Boolean> results = newTreeMap();
     requiredPercentiles.forEach((percentile, thresholdMs) -> {
-      boolean result = getLatencyPercentileMs(percentile) <= thresholdMs;
+      float latencyMs = hasCorrectedLatencies() ? getCorrectedLatencyPercentileMs(percentile) : getLatencyPercentileMs(percentile);
+      boolean result = latencyMs <= thresholdMs;
       results.put(percentile, result);
     });
     return results;
   }
 
-  private static Map<Integer, Float> parsePercentileLimits(String percentileLimits) {
-    Map<Integer, Float> limits = newTreeMap();
+  private static Map<Double, Float> parsePercentileLimits(String percentileLimits) {
+    Map<Double, Float> limits = newTreeMap();
     if (isNotBlank(percentileLimits)) {
-      // go from 90:2,95:5 -> map of integer to float
+      // go from 90:2,99.9:5 -> map of double to float
       Stream.of(percentileLimits.split(","))
         .map(entry -> entry.split(":"))
         .filter(entry -> entry.length == 2)
-        .map(entry -> ImmutablePair.of(Ints.tryParse(entry[0]), Floats.tryParse(entry[1])))
+        .map(entry -> ImmutablePair.of(Doubles.tryParse(entry[0].trim()), Floats.tryParse(entry[1].trim())))
         .filter(entry -> nonNull(entry.getLeft()) && nonNull(entry.getRight()))
         .forEach(entry -> limits.put(entry.getLeft(), entry.getRight()));
     }
@@ -245,23 +835,241 @@ public class EvaluationContext {
     checkState(configuredWarmUp < configuredDuration, "WarmUpMs must be < DurationMs");
     checkState(configuredThreads > 0, "Threads must be > 0");
     checkState(configuredRateLimit > 0 || configuredRateLimit == -1,"MaxExecutionsPerSecond must be > 0 or -1 (to disable)");
+    checkState(!isOpenModel() || configuredRateLimit <= 0, "ArrivalRatePerSecond cannot be combined with MaxExecutionsPerSecond");
+    if (isThroughputSearchEnabled) {
+      checkState(configuredSearchProbeDurationMs > 0, "SearchProbeDurationMs must be greater than 0ms");
+      checkState(configuredSearchProbeDurationMs <= configuredDuration - configuredWarmUp, "SearchProbeDurationMs must be <= DurationMs - WarmUpMs");
+      checkState(!isOpenModel(), "SearchMaxThroughput cannot be combined with ArrivalRatePerSecond");
+      checkState(!hasLoadProfile(), "SearchMaxThroughput cannot be combined with load profile stages");
+      checkState(!isAsyncEvaluation, "SearchMaxThroughput is not supported for async tests");
+    }
+  }
+
+  private void validateBatchSettings() {
+    checkState(configuredOperationsPerInvocation >= 0, "OperationsPerInvocation must be >= 0 (0 to calibrate)");
+    if (configuredOperationsPerInvocation != 1) {
+      checkState(!isOpenModel(), "OperationsPerInvocation cannot be combined with ArrivalRatePerSecond");
+      checkState(!isCoordinatedOmissionCorrectionEnabled, "OperationsPerInvocation cannot be combined with CorrectCoordinatedOmission");
+      checkState(!isAsyncEvaluation, "OperationsPerInvocation is not supported for async tests");
+    }
+    if (isBatchSizeCalibrationEnabled()) {
+      checkState(configuredMaxTimerOverhead > 0 && configuredMaxTimerOverhead < 100, "MaxTimerOverhead must be between 0 and 100 (exclusive)");
+    }
+  }
+
+  private void validateForkSettings() {
+    checkState(configuredForks >= 0, "Forks must be >= 0");
+    if (isForkedExecutionEnabled()) {
+      checkState(!isAsyncEvaluation, "Forks are not supported for async tests");
+      checkState(!isThroughputSearchEnabled, "Forks cannot be combined with SearchMaxThroughput");
+    }
+  }
+
+  private void validateWorkerSettings() {
+    checkState(configuredWorkers >= 0, "Workers must be >= 0");
+    if (isDistributedExecutionEnabled()) {
+      checkState(!isAsyncEvaluation, "Workers are not supported for async tests");
+      checkState(!isForkedExecutionEnabled(), "Workers cannot be combined with forks");
+      checkState(!isThroughputSearchEnabled, "Workers cannot be combined with SearchMaxThroughput");
+      // Each worker needs a share of at least 1, a share of 0 would be unlimited
+      int workers = getWorkerCount();
+      checkState(configuredRateLimit <= 0 || configuredRateLimit >= workers, "MaxExecutionsPerSecond must be >= the number of workers");
+      checkState(configuredArrivalRate <= 0 || configuredArrivalRate >= workers, "ArrivalRatePerSecond must be >= the number of workers");
+      checkState(configuredExecutionTarget <= 0 || configuredExecutionTarget >= workers, "TotalExecutions must be >= the number of workers");
+    }
+  }
+
+  private void validateFailFastSettings() {
+    if (isFailFastEnabled) {
+      checkState(configuredFailFastConfidence > 50 && configuredFailFastConfidence < 100, "FailFastConfidence must be between 50 and 100 (exclusive)");
+      checkState(!isAsyncEvaluation, "FailFast is not supported for async tests");
+      checkState(!isForkedExecutionEnabled(), "FailFast cannot be combined with forks");
+      checkState(!isDistributedExecutionEnabled(), "FailFast cannot be combined with workers");
+      checkState(!isThroughputSearchEnabled, "FailFast cannot be combined with SearchMaxThroughput");
+    }
+  }
+
+  private void validateConvergenceSettings() {
+    if (isConvergenceEnabled()) {
+      checkState(configuredConvergenceConfidence > 50 && configuredConvergenceConfidence < 100, "ConvergenceConfidence must be between 50 and 100 (exclusive)");
+      checkState(configuredConvergenceMinDurationMs >= 0, "ConvergenceMinDurationMs must be >= 0");
+      checkState(configuredConvergenceMinDurationMs < configuredDuration - configuredWarmUp, "ConvergenceMinDurationMs must be less than the measurement period (DurationMs - WarmUpMs)");
+      checkState(!isAsyncEvaluation, "ConvergenceTolerance is not supported for async tests");
+      checkState(!isForkedExecutionEnabled(), "ConvergenceTolerance cannot be combined with forks");
+      checkState(!isDistributedExecutionEnabled(), "ConvergenceTolerance cannot be combined with workers");
+      checkState(!isThroughputSearchEnabled, "ConvergenceTolerance cannot be combined with SearchMaxThroughput");
+    }
+  }
+
+  private void validateMeasurementSettings() {
+    // Per-thread allocation & CPU time counters are not available for virtual threads (ThreadMXBean reports -1)
+    checkState(!isAllocationMeasurementEnabled() || !isVirtualThreadsEnabled, "MeasureAllocations cannot be combined with VirtualThreads");
+    checkState(!isCpuTimeMeasurementEnabled() || !isVirtualThreadsEnabled, "MeasureCpuTime cannot be combined with VirtualThreads");
+  }
+
+  private void validateLoadStages() {
+    loadStages.forEach(stage -> {
+      checkState(stage.getDurationMs() > 0, "Stage DurationMs must be greater than 0ms");
+      checkState(stage.getThreads() > 0, "Stage Threads must be > 0");
+      checkState(stage.isRateLimited() || stage.getMaxExecutionsPerSecond() == LoadStage.UNLIMITED, "Stage MaxExecutionsPerSecond must be > 0 or -1 (to disable)");
+    });
+    checkState(!isOpenModel(), "Load profile stages cannot be combined with ArrivalRatePerSecond");
   }
 
   private void validateRequirements() {
     checkState(requiredAllowedErrorsRate >= 0, "AllowedErrorPercentage must be >= 0");
     checkState(requiredThroughput >= 0, "ExecutionsPerSec must be >= 0");
+    checkState(requiredPercentiles.keySet().stream().allMatch(p -> p > 0 && p <= 100), "Percentiles must be > 0 and <= 100");
   }
 
   private void calculateAndCacheStatistics() {
     // Statistics calculations (specifically percentile calculation) can be an expensive operation.
     // Therefore results should be calculated once and cached
-    range(1, 101).forEach(i -> percentiles[i] = statistics.getLatencyPercentile(i, MILLISECONDS));
+    Set<Double> fractional = fractionalPercentiles(requiredPercentiles.keySet());
+    calculatePercentiles(statistics, fractional, percentiles, fractionalPercentiles);
     minLatencyMs = statistics.getMinLatency(MILLISECONDS);
     maxLatencyMs = statistics.getMaxLatency(MILLISECONDS);
     meanLatencyMs = statistics.getMeanLatency(MILLISECONDS);
     errorPercentage = statistics.getErrorPercentage();
     errorCount = statistics.getErrorCount();
     evaluationCount = statistics.getEvaluationCount();
+    measurementWindowNs = statistics.getMeasurementWindowNs();
+    if (hasCorrectedLatencies()) {
+      calculatePercentiles(correctedStatistics, fractional, correctedPercentiles, correctedFractionalPercentiles);
+      correctedMinLatencyMs = correctedStatistics.getMinLatency(MILLISECONDS);
+      correctedMaxLatencyMs = correctedStatistics.getMaxLatency(MILLISECONDS);
+      correctedMeanLatencyMs = correctedStatistics.getMeanLatency(MILLISECONDS);
+    }
+    if (isHarnessOverheadSubtracted() && hasHarnessOverhead()) {
+      subtractHarnessOverhead();
+    }
+    if (hasQueueingDelays()) {
+      calculatePercentiles(queueingStatistics, emptySet(), queueingDelayPercentiles, newTreeMap());
+      queueingMaxDelayMs = queueingStatistics.getMaxLatency(MILLISECONDS);
+      queueingMeanDelayMs = queueingStatistics.getMeanLatency(MILLISECONDS);
+    }
+    if (hasAllocationMeasurements()) {
+      meanBytesPerOp = allocationStatistics.getMeanBytes();
+      maxBytesPerOp = allocationStatistics.getMaxBytes();
+      totalAllocatedBytes = allocationStatistics.getTotalBytes();
+    }
+    if (hasCpuTimeMeasurements()) {
+      meanCpuTimeMs = cpuTimeStatistics.getMeanCpuTime(MILLISECONDS);
+      maxCpuTimeMs = cpuTimeStatistics.getMaxCpuTime(MILLISECONDS);
+      totalCpuTimeMs = cpuTimeStatistics.getTotalCpuTime(MILLISECONDS);
+      meanUserCpuTimeMs = cpuTimeStatistics.getMeanUserTime(MILLISECONDS);
+      meanSystemCpuTimeMs = cpuTimeStatistics.getMeanSystemTime(MILLISECONDS);
+    }
+    if (hasGcMeasurements()) {
+      gcPauseCount = gcStatistics.getPauseCount();
+      gcTotalPauseMs = gcStatistics.getTotalPauseMs();
+      gcMaxPauseMs = gcStatistics.getMaxPauseMs();
+      gcPromotedBytes = gcStatistics.getPromotedBytes();
+      gcOverheadPercentage = gcStatistics.getOverheadPercentage();
+    }
+  }
+
+  // The harness latency floor (median latency of an empty test) is removed from all measured latencies,
+  // queueing delays are measured outside the harness & are unaffected
+  private void subtractHarnessOverhead() {
+    float overheadMs = harnessOverhead.getMedianLatencyNs() / MILLISECONDS.toNanos(1);
+    subtractOverhead(percentiles, fractionalPercentiles, overheadMs);
+    minLatencyMs = subtractOverhead(minLatencyMs, overheadMs);
+    maxLatencyMs = subtractOverhead(maxLatencyMs, overheadMs);
+    meanLatencyMs = subtractOverhead(meanLatencyMs, overheadMs);
+    if (hasCorrectedLatencies()) {
+      subtractOverhead(correctedPercentiles, correctedFractionalPercentiles, overheadMs);
+      correctedMinLatencyMs = subtractOverhead(correctedMinLatencyMs, overheadMs);
+      correctedMaxLatencyMs = subtractOverhead(correctedMaxLatencyMs, overheadMs);
+      correctedMeanLatencyMs = subtractOverhead(correctedMeanLatencyMs, overheadMs);
+    }
+  }
+
+  private static void subtractOverhead(float[] percentiles, Map<Double, Float> fractionalPercentiles, float overheadMs) {
+    for (int i = 1; i < percentiles.length; i++) {
+      percentiles[i] = subtractOverhead(percentiles[i], overheadMs);
+    }
+    fractionalPercentiles.replaceAll((percentile, latencyMs) -> subtractOverhead(latencyMs, overheadMs));
+  }
+
+  private static float subtractOverhead(float latencyMs, float overheadMs) {
+    return Math.max(latencyMs - overheadMs, 0);
+  }
+
+  static Set<Double> fractionalPercentiles(Collection<Double> requiredPercentiles) {
+    Set<Double> fractional = new TreeSet<>(TAIL_PERCENTILES);
+    requiredPercentiles.stream().filter(p -> !isWholePercentile(p)).forEach(fractional::add);
+    return fractional;
+  }
+
+  // Whole percentiles (1-100) & the given sub-integer percentiles are calculated in a single bulk call
+  static void calculatePercentiles(StatisticsCalculator statistics,
+                                   Collection<Double> fractional,
+                                   float[] percentiles,
+                                   Map<Double, Float> fractionalPercentiles) {
+    double[] requested = DoubleStream.concat(
+      range(1, 101).asDoubleStream(),
+      fractional.stream().mapToDouble(Double::doubleValue)
+    ).toArray();
+    float[] values = statistics.getLatencyPercentiles(requested, MILLISECONDS);
+    for (int i = 0; i < requested.length; i++) {
+      if (i < 100) {
+        percentiles[i + 1] = values[i];
+      } else {
+        fractionalPercentiles.put(requested[i], values[i]);
+      }
+    }
+  }
+
+  static boolean isWholePercentile(double percentile) {
+    return percentile == Math.rint(percentile);
+  }
+
+  private boolean checkForEnvOverride(String name, boolean defaultValue) {
+    String override = System.getProperty(name);
+    if (nonNull(override)) {
+      log.info("Using -D{} override: {}", name, override);
+      return Boolean.parseBoolean(override);
+    }
+    return defaultValue;
+  }
+
+  // Whitespace separated list, i.e. -Djunitperf.jvmArgs="-Xmx1g -XX:+UseG1GC"
+  private List<String> checkForEnvOverride(String name, String[] defaultValue) {
+    String override = System.getProperty(name);
+    if (nonNull(override)) {
+      log.info("Using -D{} override: {}", name, override);
+      return Stream.of(override.trim().split("\\s+")).filter(value -> !value.isEmpty()).collect(toList());
+    }
+    return nonNull(defaultValue) ? asList(defaultValue) : emptyList();
+  }
+
+  // Lower bound of the Wilson score interval of a binomial proportion
+  private static double wilsonLowerBound(long successes, long trials, double z) {
+    double p = successes / (double) trials;
+    double zSquared = z * z;
+    double centre = p + zSquared / (2 * trials);
+    double margin = z * Math.sqrt(p * (1 - p) / trials + zSquared / (4.0 * trials * trials));
+    return (centre - margin) / (1 + zSquared / trials);
+  }
+
+  private static float coefficientOfVariation(DoubleStream values) {
+    double[] samples = values.toArray();
+    double mean = DoubleStream.of(samples).average().orElse(0);
+    if (samples.length < 2 || mean == 0) {
+      return 0;
+    }
+    double variance = DoubleStream.of(samples).map(value -> (value - mean) * (value - mean)).sum() / samples.length;
+    return (float) (Math.sqrt(variance) / mean * 100);
+  }
+
+  private float checkForEnvOverride(String name, float defaultValue) {
+    String override = System.getProperty(name);
+    if (nonNull(override)) {
+      log.info("Using -D{} override: {}", name, override);
+      return Float.parseFloat(override);
+    }
+    return defaultValue;
   }
 
   private int checkForEnvOverride(String name, int defaultValue){
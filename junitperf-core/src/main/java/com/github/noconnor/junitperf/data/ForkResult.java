@@ -0,0 +1,42 @@
+package com.github.noconnor.junitperf.data;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// Measurements streamed back from a single forked JVM (see JUnitPerfTest forks)
+@Value
+public class ForkResult {
+
+  // Position of this fork in the test run, 1 = first fork
+  int index;
+  // Time from the start of the first to the end of the last measured invocation of the fork (nanoseconds)
+  long measurementWindowNs;
+  long evaluationCount;
+  long errorCount;
+  // Latencies (nanoseconds) recorded by the fork
+  Histogram latencies;
+
+  public long getThroughputQps() {
+    return measurementWindowNs > 0 ? (long) (evaluationCount / (measurementWindowNs / (double) SECONDS.toNanos(1))) : 0;
+  }
+
+  public float getErrorPercentage() {
+    return evaluationCount > 0 ? (errorCount / (float) evaluationCount) * 100 : 0;
+  }
+
+  public float getLatencyPercentileMs(double percentile) {
+    return toMs(latencies.getValueAtPercentile(percentile));
+  }
+
+  public float getMeanLatencyMs() {
+    return toMs(latencies.getMean());
+  }
+
+  private static float toMs(double valueNs) {
+    return valueNs > 0 ? (float) (valueNs / MILLISECONDS.toNanos(1)) : 0;
+  }
+
+}
@@ -0,0 +1,18 @@
+package com.github.noconnor.junitperf.data;
+
+import lombok.Value;
+
+// JUnitPerf's own cost, measured by running an empty test through the evaluation loop before the test starts
+// (see JUnitPerfTest measureHarnessOverhead)
+@Value
+public class HarnessOverhead {
+
+  // Latency recorded for an empty test (nanoseconds), i.e. timer reads & test dispatch included in every latency sample
+  float medianLatencyNs;
+  float meanLatencyNs;
+  float p99LatencyNs;
+  // Wall clock time of each evaluation loop iteration, per thread (nanoseconds), i.e. the latency above plus rate
+  // limiting, befores/afters & statistics recording
+  float iterationCostNs;
+
+}
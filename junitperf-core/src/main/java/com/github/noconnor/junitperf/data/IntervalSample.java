@@ -0,0 +1,60 @@
+package com.github.noconnor.junitperf.data;
+
+import lombok.Builder;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// Measurements captured during a single recording interval (see JUnitPerfTest intervalMs)
+@Value
+@Builder(toBuilder = true)
+public class IntervalSample {
+
+  // Position of this interval in the test run, 0 = first interval after the warm up period
+  int index;
+  // Interval start time, relative to the end of the warm up period (milliseconds)
+  long startOffsetMs;
+  // Actual interval duration, the final interval of a run may be shorter than the configured interval (milliseconds)
+  long durationMs;
+  long evaluationCount;
+  long errorCount;
+  // Summary of the latencies recorded during this interval (milliseconds), the interval histogram itself is not
+  // retained so long runs only hold a few bytes per interval
+  long latencyCount;
+  float minLatencyMs;
+  float maxLatencyMs;
+  float meanLatencyMs;
+  float p50LatencyMs;
+  float p99LatencyMs;
+  // GC pauses that started during this interval (only available if GC pauses are monitored)
+  int gcPauseCount;
+  long gcPauseMs;
+
+  public long getThroughputQps() {
+    return durationMs > 0 ? (evaluationCount * 1000) / durationMs : 0;
+  }
+
+  public float getErrorPercentage() {
+    return evaluationCount > 0 ? (errorCount / (float) evaluationCount) * 100 : 0;
+  }
+
+  public static class IntervalSampleBuilder {
+
+    // Summarises the latencies (nanoseconds) recorded during the interval
+    public IntervalSampleBuilder latencies(Histogram latencies) {
+      boolean isEmpty = latencies.getTotalCount() == 0;
+      return latencyCount(latencies.getTotalCount())
+        .minLatencyMs(isEmpty ? 0 : toMs(latencies.getMinValue()))
+        .maxLatencyMs(toMs(latencies.getMaxValue()))
+        .meanLatencyMs(toMs(latencies.getMean()))
+        .p50LatencyMs(toMs(latencies.getValueAtPercentile(50)))
+        .p99LatencyMs(toMs(latencies.getValueAtPercentile(99)));
+    }
+
+    private static float toMs(double valueNs) {
+      return valueNs > 0 ? (float) (valueNs / MILLISECONDS.toNanos(1)) : 0;
+    }
+  }
+
+}
@@ -0,0 +1,30 @@
+package com.github.noconnor.junitperf.data;
+
+import com.github.noconnor.junitperf.JUnitPerfTestStage;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+// A sequence of load stages (i.e. ramp, step, spike, soak) executed one after the other within a single test
+@Value
+@Builder
+public class LoadProfile {
+
+  @Singular
+  List<LoadStage> stages;
+
+  public int getTotalDurationMs() {
+    return stages.stream().mapToInt(LoadStage::getDurationMs).sum();
+  }
+
+  static LoadProfile from(JUnitPerfTestStage[] stages) {
+    List<LoadStage> loadStages = Stream.of(stages).map(LoadStage::from).collect(toList());
+    return LoadProfile.builder().stages(loadStages).build();
+  }
+
+}
@@ -0,0 +1,46 @@
+package com.github.noconnor.junitperf.data;
+
+import com.github.noconnor.junitperf.JUnitPerfTestStage;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class LoadStage {
+
+  public static final int INHERIT = -1;
+  public static final int UNLIMITED = -1;
+
+  // Optional stage name, used when reporting stage results
+  @Builder.Default
+  String name = "";
+  // Duration of this stage (milliseconds)
+  int durationMs;
+  // Number of threads executing the test during this stage, INHERIT to use the JUnitPerfTest threads value
+  @Builder.Default
+  int threads = INHERIT;
+  // Maximum executions per second during this stage
+  @Builder.Default
+  int maxExecutionsPerSecond = UNLIMITED;
+  // Threads & executions per second change linearly from the previous stage values over the stage duration
+  boolean ramp;
+  // Stage results will be evaluated against the test requirements
+  @Builder.Default
+  boolean assertRequirements = true;
+
+  public boolean isRateLimited() {
+    return maxExecutionsPerSecond > 0;
+  }
+
+  static LoadStage from(JUnitPerfTestStage stage) {
+    return LoadStage.builder()
+      .name(stage.name())
+      .durationMs(stage.durationMs())
+      .threads(stage.threads())
+      .maxExecutionsPerSecond(stage.maxExecutionsPerSecond())
+      .ramp(stage.ramp())
+      .assertRequirements(stage.assertRequirements())
+      .build();
+  }
+
+}
@@ -0,0 +1,28 @@
+package com.github.noconnor.junitperf.data;
+
+import lombok.Value;
+
+import java.util.List;
+
+// Summary of the JFR recording captured during the measurement period of a test (see JUnitPerfTest profile)
+@Value
+public class ProfileSummary {
+
+  // Location of the recording (.jfr), can be opened with JDK Mission Control or the jfr tool
+  String recordingPath;
+  // Top frames by execution sample count
+  List<ProfileEntry> hotMethods;
+  // Top frames by (sampled) bytes allocated
+  List<ProfileEntry> allocationSites;
+  // Top frames by time spent blocked entering a contended monitor (nanoseconds)
+  List<ProfileEntry> lockContention;
+
+  @Value
+  public static class ProfileEntry {
+    String frame;
+    long value;
+    // Share of the category total
+    float percentage;
+  }
+
+}
@@ -0,0 +1,94 @@
+package com.github.noconnor.junitperf.data;
+
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static com.github.noconnor.junitperf.data.EvaluationContext.calculatePercentiles;
+import static com.github.noconnor.junitperf.data.EvaluationContext.fractionalPercentiles;
+import static com.github.noconnor.junitperf.data.EvaluationContext.isWholePercentile;
+import static com.google.common.collect.Maps.newTreeMap;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+// Results of a single load profile stage (or max throughput search probe)
+@Getter
+public class StageResult {
+
+  private final int index;
+  private final LoadStage stage;
+  private final float[] percentiles = new float[101];
+  private final Map<Double, Float> fractionalPercentiles = newTreeMap();
+  private final float minLatencyMs;
+  private final float maxLatencyMs;
+  private final float meanLatencyMs;
+  private final float errorPercentage;
+  private final long evaluationCount;
+  private final long errorCount;
+  // Time from the start of the first to the end of the last invocation measured in the stage, 0 if not tracked
+  private final long measurementWindowNs;
+
+  @Setter(AccessLevel.PACKAGE)
+  private boolean isMinLatencyAchieved = true;
+  @Setter(AccessLevel.PACKAGE)
+  private boolean isMaxLatencyAchieved = true;
+  @Setter(AccessLevel.PACKAGE)
+  private boolean isMeanLatencyAchieved = true;
+  @Setter(AccessLevel.PACKAGE)
+  private boolean isErrorThresholdAchieved = true;
+  @Setter(AccessLevel.PACKAGE)
+  private boolean isThroughputAchieved = true;
+  @Setter(AccessLevel.PACKAGE)
+  private Map<Double, Boolean> percentileResults = emptyMap();
+
+  StageResult(int index, LoadStage stage, StatisticsCalculator statistics, Collection<Double> requiredPercentiles) {
+    this.index = index;
+    this.stage = stage;
+    // Stage statistics are calculated once and cached (see EvaluationContext)
+    calculatePercentiles(statistics, fractionalPercentiles(requiredPercentiles), percentiles, fractionalPercentiles);
+    this.minLatencyMs = statistics.getMinLatency(MILLISECONDS);
+    this.maxLatencyMs = statistics.getMaxLatency(MILLISECONDS);
+    this.meanLatencyMs = statistics.getMeanLatency(MILLISECONDS);
+    this.errorPercentage = statistics.getErrorPercentage();
+    this.evaluationCount = statistics.getEvaluationCount();
+    this.errorCount = statistics.getErrorCount();
+    this.measurementWindowNs = statistics.getMeasurementWindowNs();
+  }
+
+  public String getName() {
+    return isNotBlank(stage.getName()) ? stage.getName() : "Stage " + (index + 1);
+  }
+
+  public float getLatencyPercentileMs(int percentile) {
+    return percentiles[percentile];
+  }
+
+  public float getLatencyPercentileMs(double percentile) {
+    return isWholePercentile(percentile) ? getLatencyPercentileMs((int) percentile) : fractionalPercentiles.getOrDefault(percentile, 0F);
+  }
+
+  // Calculated over the measured window (see StatisticsCalculator getMeasurementWindowNs), a stage that ended early or
+  // started late is not penalised for the time it was not running. Falls back to the configured stage duration
+  public long getThroughputQps() {
+    if (measurementWindowNs > 0) {
+      return (long) (evaluationCount / (measurementWindowNs / (double) SECONDS.toNanos(1)));
+    }
+    return (long) ((evaluationCount / (float) stage.getDurationMs()) * 1000);
+  }
+
+  public boolean isSuccessful() {
+    return isMinLatencyAchieved &&
+      isMaxLatencyAchieved &&
+      isMeanLatencyAchieved &&
+      isErrorThresholdAchieved &&
+      isThroughputAchieved &&
+      percentileResults.values().stream().allMatch(e -> e);
+  }
+
+}
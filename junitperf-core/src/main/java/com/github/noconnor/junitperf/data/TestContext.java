@@ -16,12 +16,18 @@ public class TestContext {
 
   public void success() {
     stats.incrementEvaluationCount();
-    stats.addLatencyMeasurement(nanoTime() - startTimeNs);
+    addMeasurement(nanoTime());
   }
 
   public void fail() {
     stats.incrementEvaluationCount();
     stats.incrementErrorCount();
-    stats.addLatencyMeasurement(nanoTime() - startTimeNs);
+    addMeasurement(nanoTime());
+  }
+
+  // Async tests are measured from the creation of the context until its completion
+  private void addMeasurement(long endTimeNs) {
+    stats.addLatencyMeasurement(endTimeNs - startTimeNs);
+    stats.addMeasurementTime(startTimeNs, endTimeNs);
   }
 }
@@ -0,0 +1,37 @@
+package com.github.noconnor.junitperf.data;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// Measurements streamed back from a single worker JVM (see JUnitPerfTest workers)
+@Value
+public class WorkerResult {
+
+  // Position of this worker, local workers first, 1 = first worker
+  int index;
+  // "local" or the host:port of the agent that started the worker
+  String location;
+  // Time from the start of the first to the end of the last measured invocation of the worker (nanoseconds)
+  long measurementWindowNs;
+  long evaluationCount;
+  long errorCount;
+  // Latencies (nanoseconds) recorded by the worker
+  Histogram latencies;
+
+  public long getThroughputQps() {
+    return measurementWindowNs > 0 ? (long) (evaluationCount / (measurementWindowNs / (double) SECONDS.toNanos(1))) : 0;
+  }
+
+  public float getErrorPercentage() {
+    return evaluationCount > 0 ? (errorCount / (float) evaluationCount) * 100 : 0;
+  }
+
+  public float getLatencyPercentileMs(double percentile) {
+    long valueNs = latencies.getValueAtPercentile(percentile);
+    return valueNs > 0 ? valueNs / (float) MILLISECONDS.toNanos(1) : 0;
+  }
+
+}
@@ -4,10 +4,15 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import com.github.noconnor.junitperf.data.ConvergenceResult;
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.HarnessOverhead;
 import com.github.noconnor.junitperf.reporting.ReportGenerator;
 
 import static com.github.noconnor.junitperf.reporting.utils.FormatterUtils.format;
+import static com.github.noconnor.junitperf.reporting.utils.FormatterUtils.formatMargin;
+import static com.github.noconnor.junitperf.reporting.utils.FormatterUtils.formatPercentile;
+import static java.util.Objects.nonNull;
 
 @Slf4j
 public class ConsoleReportGenerator implements ReportGenerator {
@@ -45,6 +50,58 @@ public class ConsoleReportGenerator implements ReportGenerator {
       log.info("Thread Count: {}", context.getConfiguredThreads());
       log.info("Warm up:      {} ms", context.getConfiguredWarmUp());
       log.info("Ramp up:      {} ms", context.getConfiguredRampUpPeriodMs());
+      if (context.getOperationsPerInvocation() > 1) {
+        log.info("Batch size:   {} invocations/sample", context.getOperationsPerInvocation());
+      }
+      if (context.hasHarnessOverhead()) {
+        HarnessOverhead overhead = context.getHarnessOverhead();
+        log.info("Harness overhead: {} ns latency (median, p99: {} ns){}, {} ns/iteration",
+                overhead.getMedianLatencyNs(),
+                overhead.getP99LatencyNs(),
+                context.isHarnessOverheadSubtracted() ? " - subtracted" : "",
+                overhead.getIterationCostNs());
+      }
+      if (context.hasForkResults()) {
+        log.info("Forks:        {} (run to run variation: throughput {}%, mean latency {}%, p99 latency {}%)",
+                context.getForkResults().size(),
+                context.getForkThroughputVariation(),
+                context.getForkMeanLatencyVariation(),
+                context.getForkLatencyPercentileVariation(99));
+        context.getForkResults().forEach(fork -> log.info("  - Fork {}:   {}/s, mean latency {} ms, p99 latency {} ms, errors {}%",
+                fork.getIndex(),
+                fork.getThroughputQps(),
+                fork.getMeanLatencyMs(),
+                fork.getLatencyPercentileMs(99),
+                fork.getErrorPercentage()));
+      }
+      if (context.hasWorkerResults()) {
+        log.info("Workers:      {} (throughput per worker: min {}/s, max {}/s)",
+                context.getWorkerResults().size(),
+                context.getMinWorkerThroughputQps(),
+                context.getMaxWorkerThroughputQps());
+        context.getWorkerResults().forEach(worker -> log.info("  - Worker {} ({}):   {}/s, p99 latency {} ms, errors {}%",
+                worker.getIndex(),
+                worker.getLocation(),
+                worker.getThroughputQps(),
+                worker.getLatencyPercentileMs(99),
+                worker.getErrorPercentage()));
+      }
+      if (context.isTerminatedEarly()) {
+        log.info("Fail fast:    stopped after {}ms - {}", context.getFailFastMeasuredMs(), context.getFailFastReason());
+      }
+      if (context.hasConvergenceResult()) {
+        ConvergenceResult convergence = context.getConvergenceResult();
+        log.info("Convergence:  {} after {}ms (Required: ±{}% at {}% confidence)",
+                convergence.isConverged() ? "converged" : "NOT converged",
+                convergence.getMeasuredMs(),
+                format(context.getConfiguredConvergenceTolerance()),
+                format(context.getConfiguredConvergenceConfidence()));
+        log.info("  Throughput:     {}", formatMargin(convergence.getThroughputMargin()));
+        log.info("  Ave. latency:   {}", formatMargin(convergence.getMeanLatencyMargin()));
+        convergence.getPercentileMargins().forEach((percentile, margin) -> {
+          log.info("  {}:    {}", formatPercentile(percentile), formatMargin(margin));
+        });
+      }
       log.info("");
       log.info("Execution time: {}", context.getTestDurationFormatted());
       log.info("Throughput:     {}/s (Required: {}/s) - {}",
@@ -60,14 +117,121 @@ public class ConsoleReportGenerator implements ReportGenerator {
       log.info("Ave. latency:    {} ms (Required: {}ms) - {}",
               context.getMeanLatencyMs(),
               format(context.getRequiredMeanLatency()));
+      if (context.hasAllocationMeasurements()) {
+        log.info("Allocation:      {} bytes/op (Required: {} bytes/op) - {}",
+                context.getMeanBytesPerOp(),
+                format(context.getRequiredMeanBytesPerOp()),
+                context.isMeanAllocationAchieved() ? PASSED : FAILED);
+        log.info("Max. allocation: {} bytes/op (Required: {}) - {}",
+                context.getMaxBytesPerOp(),
+                context.isZeroAllocationRequired() ? "0 bytes/op" : "N/A",
+                context.isZeroAllocationAchieved() ? PASSED : FAILED);
+        log.info("Total allocated: {} bytes", context.getTotalAllocatedBytes());
+      }
+      if (context.hasCpuTimeMeasurements()) {
+        log.info("CPU time:        {} ms/op (Required: {}ms) - {}",
+                context.getMeanCpuTimeMs(),
+                format(context.getRequiredMeanCpuTime()),
+                context.isMeanCpuTimeAchieved() ? PASSED : FAILED);
+        log.info("Max. CPU time:   {} ms/op", context.getMaxCpuTimeMs());
+        log.info("User/system:     {} ms/op user, {} ms/op system",
+                context.getMeanUserCpuTimeMs(),
+                context.getMeanSystemCpuTimeMs());
+        log.info("CPU time %:      {}% of ave. latency", context.getCpuTimePercentage());
+        log.info("CPU cores:       {} per 1,000 invocations/s", context.getCpuCoresPerThousandOps());
+      }
+      if (context.hasGcMeasurements()) {
+        log.info("GC pauses:       {} (Total: {} ms, Max: {} ms)",
+                context.getGcPauseCount(),
+                context.getGcTotalPauseMs(),
+                context.getGcMaxPauseMs());
+        log.info("GC overhead:     {}% (Required: {}%) - {}",
+                context.getGcOverheadPercentage(),
+                format(context.getRequiredMaxGcOverhead()),
+                context.isGcOverheadAchieved() ? PASSED : FAILED);
+        log.info("GC promoted:     {} bytes", context.getGcPromotedBytes());
+      }
+      if (context.hasProfile()) {
+        log.info("Profile:         {}", context.getProfileSummary().getRecordingPath());
+        context.getProfileSummary().getHotMethods().stream().limit(3).forEach(entry -> {
+          log.info("  {}% {}", format(entry.getPercentage()), entry.getFrame());
+        });
+      }
+      if (context.hasCorrectedLatencies()) {
+        log.info("Corrected for coordinated omission (latency measured from intended start time):");
+        log.info("  Min. latency:   {} ms", context.getCorrectedMinLatencyMs());
+        log.info("  Max. latency:   {} ms", context.getCorrectedMaxLatencyMs());
+        log.info("  Ave. latency:   {} ms", context.getCorrectedMeanLatencyMs());
+      }
+      if (context.hasQueueingDelays()) {
+        log.info("Open model (arrival rate: {}/s):", context.getConfiguredArrivalRate());
+        log.info("  Max. queueing delay:   {} ms", context.getQueueingMaxDelayMs());
+        log.info("  Ave. queueing delay:   {} ms", context.getQueueingMeanDelayMs());
+        log.info("  Dropped dispatches:    {}", context.getDroppedDispatchCount());
+        log.info("  Late dispatches:       {}", context.getLateDispatchCount());
+      }
+      if (context.hasIntervalSamples()) {
+        log.info("Intervals:      {} x {} ms", context.getIntervalSamples().size(), context.getConfiguredIntervalMs());
+        log.info("  Min. interval throughput:    {}/s", context.getMinIntervalThroughputQps());
+        log.info("  Max. interval 99th latency:  {} ms", context.getMaxIntervalP99LatencyMs());
+      }
+      EvaluationContext.TAIL_PERCENTILES.forEach(percentile -> {
+        log.info("{}th latency: {} ms", formatPercentile(percentile), context.getLatencyPercentileMs(percentile));
+      });
       context.getRequiredPercentiles().forEach((percentile, threshold) -> {
         String percentileStatus = context.getPercentileResults().get(percentile) ? PASSED : FAILED;
-        log.info("{}:    {}ms (Required: {} ms) - {}",
-                percentile,
-                context.getLatencyPercentileMs(percentile),
-                format(threshold),
-                percentileStatus);
+        if (context.hasCorrectedLatencies()) {
+          log.info("{}:    {}ms (Corrected: {}ms) (Required: {} ms) - {}",
+                  formatPercentile(percentile),
+                  context.getLatencyPercentileMs(percentile),
+                  context.getCorrectedLatencyPercentileMs(percentile),
+                  format(threshold),
+                  percentileStatus);
+        } else {
+          log.info("{}:    {}ms (Required: {} ms) - {}",
+                  formatPercentile(percentile),
+                  context.getLatencyPercentileMs(percentile),
+                  format(threshold),
+                  percentileStatus);
+        }
+      });
+      context.getStageResults().forEach(stage -> {
+        String stageStatus = stage.isSuccessful() ? PASSED : FAILED;
+        log.info("");
+        log.info("{} ({} ms, Threads: {}, Max. executions: {}/s{}) - {}",
+                stage.getName(),
+                stage.getStage().getDurationMs(),
+                stage.getStage().getThreads(),
+                stage.getStage().isRateLimited() ? stage.getStage().getMaxExecutionsPerSecond() : "unlimited",
+                stage.getStage().isRamp() ? ", ramp" : "",
+                stage.getStage().isAssertRequirements() ? stageStatus : "NOT ASSERTED");
+        log.info("  Invocations:    {} (Errors: {}%)", stage.getEvaluationCount(), stage.getErrorPercentage());
+        log.info("  Throughput:     {}/s", stage.getThroughputQps());
+        log.info("  Min. latency:   {} ms", stage.getMinLatencyMs());
+        log.info("  Max. latency:   {} ms", stage.getMaxLatencyMs());
+        log.info("  Ave. latency:   {} ms", stage.getMeanLatencyMs());
+        context.getRequiredPercentiles().forEach((percentile, threshold) -> {
+          log.info("  {}:    {}ms (Required: {} ms)", formatPercentile(percentile), stage.getLatencyPercentileMs(percentile), format(threshold));
+        });
       });
+      if (context.isThroughputSearchEnabled()) {
+        log.info("");
+        if (nonNull(context.getThroughputKnee())) {
+          log.info("Max. sustainable throughput: {}/s ({})", context.getThroughputKnee().getThroughputQps(), context.getThroughputKnee().getName());
+        } else {
+          log.info("Max. sustainable throughput: none of the probed rates achieved the required thresholds");
+        }
+        context.getSearchProbeResults().forEach(probe -> {
+          log.info("  {} (Target: {}/s): {}/s, 50th: {}ms, 99th: {}ms, Max: {}ms - {}",
+                  probe.getName(),
+                  probe.getStage().isRateLimited() ? probe.getStage().getMaxExecutionsPerSecond() : "unlimited",
+                  probe.getThroughputQps(),
+                  probe.getLatencyPercentileMs(50),
+                  probe.getLatencyPercentileMs(99),
+                  probe.getMaxLatencyMs(),
+                  probe.isSuccessful() ? PASSED : FAILED);
+        });
+      }
       log.info("");
       log.info("");
     }
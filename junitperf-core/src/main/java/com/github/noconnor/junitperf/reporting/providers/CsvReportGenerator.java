@@ -11,12 +11,17 @@ import java.io.UnsupportedEncodingException;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.HarnessOverhead;
 import com.github.noconnor.junitperf.reporting.ReportGenerator;
 import com.google.common.base.Joiner;
 
+import static com.github.noconnor.junitperf.reporting.utils.FormatterUtils.formatPercentile;
 import static java.lang.System.getProperty;
+import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 
 @Slf4j
@@ -42,13 +47,14 @@ public class CsvReportGenerator implements ReportGenerator {
     history.addAll(testContexts);
     try (BufferedWriter writer = newBufferedWriter()) {
 
-      writer.write(buildHeader());
+      Set<Double> requiredFractionalPercentiles = requiredFractionalPercentiles();
+      writer.write(buildHeader(requiredFractionalPercentiles));
       writer.newLine();
       history.forEach(context -> {
 
         String name = context.isAborted() ? context.getTestName() + " (skipped)" : context.getTestName();
         int duration = context.isAborted() ? 0 : context.getConfiguredDuration();
-        String record = String.format("%s,%s,%d,%d,%.4f,%.4f,%.4f,%s", 
+        String record = String.format("%s,%s,%d,%d,%.4f,%.4f,%.4f,%s,%s,%s,%s", 
           name,
           duration,
           context.getConfiguredThreads(),
@@ -56,7 +62,13 @@ public class CsvReportGenerator implements ReportGenerator {
           context.getMinLatencyMs(),
           context.getMaxLatencyMs(),
           context.getMeanLatencyMs(),
-          Joiner.on(",").skipNulls().join(generateFormattedPercentileData(context)));
+          Joiner.on(",").skipNulls().join(generateFormattedPercentileData(context)),
+          Joiner.on(",").join(generateFormattedAllocationData(context)),
+          Joiner.on(",").join(generateFormattedCpuTimeData(context)),
+          Joiner.on(",").join(generateFormattedHarnessOverheadData(context)));
+        if (!requiredFractionalPercentiles.isEmpty()) {
+          record = record + "," + Joiner.on(",").join(generateFormattedRequiredPercentileData(context, requiredFractionalPercentiles));
+        }
         try {
           writer.write(record);
           writer.newLine();
@@ -75,19 +87,70 @@ public class CsvReportGenerator implements ReportGenerator {
   }
 
   private List<String> generateFormattedPercentileData(final EvaluationContext context) {
-    return IntStream.range(1, 101).mapToObj(i -> {
-      return String.format("%.4f", context.getLatencyPercentileMs(i));
+    // Whole percentiles 1 - 100 followed by the sub-integer tail percentiles (appended to keep existing column positions)
+    return Stream.concat(
+      IntStream.range(1, 101).mapToObj(i -> (double) i),
+      EvaluationContext.TAIL_PERCENTILES.stream()
+    ).map(p -> {
+      return String.format("%.4f", context.getLatencyPercentileMs(p));
     }).collect(toList());
   }
 
+  // Required sub-integer percentiles (i.e. 99.95) of all tests that are not one of the TAIL_PERCENTILES, appended after
+  // all other columns to keep existing column positions
+  private Set<Double> requiredFractionalPercentiles() {
+    Set<Double> required = new TreeSet<>();
+    history.forEach(context -> required.addAll(context.getAvailableFractionalPercentiles()));
+    required.removeAll(EvaluationContext.TAIL_PERCENTILES);
+    return required;
+  }
+
+  // Empty for tests that did not require the percentile
+  private List<String> generateFormattedRequiredPercentileData(final EvaluationContext context, Set<Double> requiredPercentiles) {
+    Set<Double> available = context.getAvailableFractionalPercentiles();
+    return requiredPercentiles.stream()
+      .map(p -> available.contains(p) ? String.format("%.4f", context.getLatencyPercentileMs(p)) : "")
+      .collect(toList());
+  }
+
+  // Mean & max bytes allocated per invocation, empty if allocations were not measured
+  private List<String> generateFormattedAllocationData(final EvaluationContext context) {
+    if (!context.hasAllocationMeasurements()) {
+      return asList("", "");
+    }
+    return asList(String.format("%.4f", context.getMeanBytesPerOp()), String.valueOf(context.getMaxBytesPerOp()));
+  }
+
+  // Mean & max CPU time (ms) per invocation, empty if CPU time was not measured
+  private List<String> generateFormattedCpuTimeData(final EvaluationContext context) {
+    if (!context.hasCpuTimeMeasurements()) {
+      return asList("", "");
+    }
+    return asList(String.format("%.4f", context.getMeanCpuTimeMs()), String.format("%.4f", context.getMaxCpuTimeMs()));
+  }
+
+  // Median latency & per iteration cost (ns) of the harness itself, empty if harness overhead was not measured
+  private List<String> generateFormattedHarnessOverheadData(final EvaluationContext context) {
+    if (!context.hasHarnessOverhead()) {
+      return asList("", "");
+    }
+    HarnessOverhead overhead = context.getHarnessOverhead();
+    return asList(String.format("%.4f", overhead.getMedianLatencyNs()), String.format("%.4f", overhead.getIterationCostNs()));
+  }
+
   private BufferedWriter newBufferedWriter() throws UnsupportedEncodingException, FileNotFoundException {
     return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(reportPath), "utf-8"));
   }
 
-  private String buildHeader() {
+  private String buildHeader(Set<Double> requiredFractionalPercentiles) {
     String header = "testName,duration,threadCount,throughput,minLatencyNs,maxLatencyNs,meanLatencyNs,<PERCENTILES>";
     List<String> percentiles = IntStream.range(1, 101).mapToObj(CsvReportGenerator::ordinal).collect(toList());
+    EvaluationContext.TAIL_PERCENTILES.forEach(p -> percentiles.add(formatPercentile(p) + "th"));
     header = header.replace("<PERCENTILES>", Joiner.on(",").join(percentiles));
+    header = header + ",meanBytesPerOp,maxBytesPerOp,meanCpuTimeMs,maxCpuTimeMs,harnessOverheadNs,harnessIterationCostNs";
+    for (Double percentile : requiredFractionalPercentiles) {
+      header = header + "," + formatPercentile(percentile) + "th";
+    }
     return header;
   }
 
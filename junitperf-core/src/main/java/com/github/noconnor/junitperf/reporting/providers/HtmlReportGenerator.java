@@ -8,6 +8,7 @@ import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -21,6 +22,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 import static java.lang.System.getProperty;
@@ -43,6 +45,8 @@ public class HtmlReportGenerator implements ReportGenerator {
     private static final String OVERVIEW_MARKER = "{% OVERVIEW_BLOCK %}";
     private static final String DETAILS_MARKER = "{% DETAILED_BLOCK %}";
     private static final String PERCENTILE_TARGETS_MARKER = "{% PERCENTILES_BLOCK %}";
+    private static final String INTERVALS_MARKER = "{% INTERVALS_BLOCK %}";
+    private static final String PROFILE_MARKER = "{% PROFILE_BLOCK %}";
     
 
     private final String reportPath;
@@ -98,14 +102,31 @@ public class HtmlReportGenerator implements ReportGenerator {
                             blocks.get(PERCENTILE_TARGETS_MARKER)
                     );
 
-                    detail = detail.replaceAll(asRegex(PERCENTILE_TARGETS_MARKER), percentileData);
+                    String intervalData = ViewProcessor.populateTemplate(
+                            c.getIntervals(),
+                            "context.intervals",
+                            blocks.get(INTERVALS_MARKER)
+                    );
+
+                    String profileData = ViewProcessor.populateTemplate(
+                            c.getProfile(),
+                            "context.profile",
+                            blocks.get(PROFILE_MARKER)
+                    );
+
+                    detail = detail.replaceAll(asRegex(PERCENTILE_TARGETS_MARKER), Matcher.quoteReplacement(percentileData));
+                    detail = detail.replaceAll(asRegex(INTERVALS_MARKER), Matcher.quoteReplacement(intervalData));
+                    detail = detail.replaceAll(asRegex(PROFILE_MARKER), Matcher.quoteReplacement(profileData));
+                    if (context.hasProfile()) {
+                        copyProfile(context, outputPath.resolveSibling(c.getProfileFile()));
+                    }
                     details.append(detail).append("\n");
                 }
                 overviews.append(overview).append("\n");
             }
 
-            root = root.replaceAll(asRegex(OVERVIEW_MARKER), overviews.toString());
-            root = root.replaceAll(asRegex(DETAILS_MARKER), details.toString());
+            root = root.replaceAll(asRegex(OVERVIEW_MARKER), Matcher.quoteReplacement(overviews.toString()));
+            root = root.replaceAll(asRegex(DETAILS_MARKER), Matcher.quoteReplacement(details.toString()));
 
             Files.write(outputPath, root.getBytes(StandardCharsets.UTF_8));
 
@@ -114,6 +135,13 @@ public class HtmlReportGenerator implements ReportGenerator {
         }
     }
     
+    // Recordings are copied once, reports are re-rendered as each test completes
+    private static void copyProfile(EvaluationContext context, Path target) throws IOException {
+        if (!Files.exists(target)) {
+            Files.copy(Paths.get(context.getProfileSummary().getRecordingPath()), target);
+        }
+    }
+
     private String asRegex(String marker) {
         return marker.replaceAll("\\{", "\\\\{").replaceAll("\\}", "\\\\}");
     }
@@ -139,6 +167,8 @@ public class HtmlReportGenerator implements ReportGenerator {
             expectedBlocks.add(OVERVIEW_MARKER);
             expectedBlocks.add(DETAILS_MARKER);
             expectedBlocks.add(PERCENTILE_TARGETS_MARKER);
+            expectedBlocks.add(INTERVALS_MARKER);
+            expectedBlocks.add(PROFILE_MARKER);
 
             try (Scanner scanner = new Scanner(templateString)) {
                 while (scanner.hasNext()) {
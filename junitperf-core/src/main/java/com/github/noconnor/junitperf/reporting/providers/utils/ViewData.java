@@ -1,6 +1,10 @@
 package com.github.noconnor.junitperf.reporting.providers.utils;
 
+import com.github.noconnor.junitperf.data.ConvergenceResult;
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.HarnessOverhead;
+import com.github.noconnor.junitperf.data.ProfileSummary;
+import com.github.noconnor.junitperf.data.ProfileSummary.ProfileEntry;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,6 +14,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.github.noconnor.junitperf.reporting.utils.FormatterUtils.formatMargin;
+import static com.github.noconnor.junitperf.reporting.utils.FormatterUtils.formatPercentile;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -20,6 +28,8 @@ public class ViewData {
     static final String SUCCESS_COLOUR = "#2b67a4";
     static final String FAILED_COLOUR = "#d9534f";
     static final String SKIPPED_COLOUR = "#dcdcdc";
+    static final String VISIBLE = "table-cell";
+    static final String HIDDEN = "none";
 
     @Getter
     @Setter
@@ -30,6 +40,36 @@ public class ViewData {
         private String percentileResultColour;
         private String percentileLatency;
         private String percentileTarget;
+        private String percentileCorrectedLatency;
+        private String correctedLatencyDisplay;
+        private String percentileMargin;
+    }
+
+    @Getter
+    @Setter
+    @ToString
+    @EqualsAndHashCode
+    public static final class IntervalData {
+        private String intervalStart;
+        private String intervalDuration;
+        private String intervalInvocations;
+        private String intervalThroughput;
+        private String intervalP50;
+        private String intervalP99;
+        private String intervalMax;
+        private String intervalErrorPercentage;
+        private String intervalGcPauses;
+    }
+
+    @Getter
+    @Setter
+    @ToString
+    @EqualsAndHashCode
+    public static final class ProfileData {
+        private String profileCategory;
+        private String profileFrame;
+        private String profileValue;
+        private String profilePercentage;
     }
 
     private final String testName;
@@ -59,7 +99,60 @@ public class ViewData {
     private final String maxLatencyAchievedColour;
     private final String maxLatency;
     private final String requiredMaxLatency;
+    private final String correctedLatencyDisplay;
+    private final String correctedMinLatency;
+    private final String correctedMeanLatency;
+    private final String correctedMaxLatency;
+    private final String allocationDisplay;
+    private final String meanAllocationAchievedColour;
+    private final String meanBytesPerOp;
+    private final String requiredMeanBytesPerOp;
+    private final String zeroAllocationAchievedColour;
+    private final String maxBytesPerOp;
+    private final String requiredMaxBytesPerOp;
+    private final String cpuTimeDisplay;
+    private final String meanCpuTimeAchievedColour;
+    private final String meanCpuTime;
+    private final String requiredMeanCpuTime;
+    private final String cpuTimePercentage;
+    private final String gcDisplay;
+    private final String gcOverheadAchievedColour;
+    private final String gcPauseCount;
+    private final String gcTotalPauseMs;
+    private final String gcMaxPauseMs;
+    private final String gcOverheadPercentage;
+    private final String requiredMaxGcOverhead;
+    private final String gcPromotedBytes;
+    private final String harnessOverheadDisplay;
+    private final String harnessOverheadLatency;
+    private final String harnessOverheadP99Latency;
+    private final String harnessOverheadSubtracted;
+    private final String harnessIterationCost;
+    private final String forkDisplay;
+    private final String forkCount;
+    private final String forkThroughputVariation;
+    private final String forkMeanLatencyVariation;
+    private final String forkP99LatencyVariation;
+    private final String workerDisplay;
+    private final String workerCount;
+    private final String workerMinThroughput;
+    private final String workerMaxThroughput;
+    private final String failFastDisplay;
+    private final String failFastMeasuredMs;
+    private final String failFastReason;
+    private final String convergenceDisplay;
+    private final String convergenceStatus;
+    private final String convergenceTolerance;
+    private final String convergenceConfidence;
+    private final String throughputMargin;
+    private final String meanLatencyMargin;
     private final List<RequiredPercentilesData> requiredPercentiles;
+    private final String intervalDisplay;
+    private final String intervalChartData;
+    private final List<IntervalData> intervals;
+    private final String profileDisplay;
+    private final String profileFile;
+    private final List<ProfileData> profile;
 
     public ViewData(EvaluationContext context) {
         this.testName = buildTestName(context);
@@ -89,7 +182,63 @@ public class ViewData {
         this.maxLatencyAchievedColour = context.isMaxLatencyAchieved() ? SUCCESS_COLOUR : FAILED_COLOUR;
         this.maxLatency = formatNumber(context.getMaxLatencyMs(), 2, ",");
         this.requiredMaxLatency = (context.getRequiredMaxLatency() < 0) ? "N/A" : formatNumber(context.getRequiredMaxLatency(), 2, "");
+        this.correctedLatencyDisplay = context.hasCorrectedLatencies() ? VISIBLE : HIDDEN;
+        this.correctedMinLatency = formatNumber(context.getCorrectedMinLatencyMs(), 2, " ");
+        this.correctedMeanLatency = formatNumber(context.getCorrectedMeanLatencyMs(), 2, " ");
+        this.correctedMaxLatency = formatNumber(context.getCorrectedMaxLatencyMs(), 2, ",");
+        this.allocationDisplay = context.hasAllocationMeasurements() ? VISIBLE : HIDDEN;
+        this.meanAllocationAchievedColour = context.isMeanAllocationAchieved() ? SUCCESS_COLOUR : FAILED_COLOUR;
+        this.meanBytesPerOp = formatNumber(context.getMeanBytesPerOp(), 2, ",");
+        this.requiredMeanBytesPerOp = (context.getRequiredMeanBytesPerOp() < 0) ? "N/A" : formatNumber(context.getRequiredMeanBytesPerOp(), 2, ",");
+        this.zeroAllocationAchievedColour = context.isZeroAllocationAchieved() ? SUCCESS_COLOUR : FAILED_COLOUR;
+        this.maxBytesPerOp = formatNumber(context.getMaxBytesPerOp(), 0, ",");
+        this.requiredMaxBytesPerOp = context.isZeroAllocationRequired() ? "0" : "N/A";
+        this.cpuTimeDisplay = context.hasCpuTimeMeasurements() ? VISIBLE : HIDDEN;
+        this.meanCpuTimeAchievedColour = context.isMeanCpuTimeAchieved() ? SUCCESS_COLOUR : FAILED_COLOUR;
+        this.meanCpuTime = formatNumber(context.getMeanCpuTimeMs(), 2, " ");
+        this.requiredMeanCpuTime = (context.getRequiredMeanCpuTime() < 0) ? "N/A" : formatNumber(context.getRequiredMeanCpuTime(), 2, "");
+        this.cpuTimePercentage = formatNumber(context.getCpuTimePercentage(), 2, ",");
+        this.gcDisplay = context.hasGcMeasurements() ? VISIBLE : HIDDEN;
+        this.gcOverheadAchievedColour = context.isGcOverheadAchieved() ? SUCCESS_COLOUR : FAILED_COLOUR;
+        this.gcPauseCount = formatNumber(context.getGcPauseCount(), 0, ",");
+        this.gcTotalPauseMs = formatNumber(context.getGcTotalPauseMs(), 0, ",");
+        this.gcMaxPauseMs = formatNumber(context.getGcMaxPauseMs(), 0, ",");
+        this.gcOverheadPercentage = formatNumber(context.getGcOverheadPercentage(), 2, ",");
+        this.requiredMaxGcOverhead = (context.getRequiredMaxGcOverhead() < 0) ? "N/A" : formatNumber(context.getRequiredMaxGcOverhead(), 2, ",");
+        this.gcPromotedBytes = formatNumber(context.getGcPromotedBytes(), 0, ",");
+        HarnessOverhead harnessOverhead = context.hasHarnessOverhead() ? context.getHarnessOverhead() : new HarnessOverhead(0, 0, 0, 0);
+        this.harnessOverheadDisplay = context.hasHarnessOverhead() ? VISIBLE : HIDDEN;
+        this.harnessOverheadLatency = formatNumber(harnessOverhead.getMedianLatencyNs(), 1, ",");
+        this.harnessOverheadP99Latency = formatNumber(harnessOverhead.getP99LatencyNs(), 1, ",");
+        this.harnessOverheadSubtracted = context.isHarnessOverheadSubtracted() ? " (subtracted)" : "";
+        this.harnessIterationCost = formatNumber(harnessOverhead.getIterationCostNs(), 1, ",");
+        this.forkDisplay = context.hasForkResults() ? VISIBLE : HIDDEN;
+        this.forkCount = String.valueOf(context.getForkResults().size());
+        this.forkThroughputVariation = formatNumber(context.getForkThroughputVariation(), 2, ",");
+        this.forkMeanLatencyVariation = formatNumber(context.getForkMeanLatencyVariation(), 2, ",");
+        this.forkP99LatencyVariation = formatNumber(context.getForkLatencyPercentileVariation(99), 2, ",");
+        this.workerDisplay = context.hasWorkerResults() ? VISIBLE : HIDDEN;
+        this.workerCount = String.valueOf(context.getWorkerResults().size());
+        this.workerMinThroughput = formatNumber(context.getMinWorkerThroughputQps(), 0, ",");
+        this.workerMaxThroughput = formatNumber(context.getMaxWorkerThroughputQps(), 0, ",");
+        this.failFastDisplay = context.isTerminatedEarly() ? VISIBLE : HIDDEN;
+        this.failFastMeasuredMs = formatNumber(context.getFailFastMeasuredMs(), 0, ",");
+        this.failFastReason = context.isTerminatedEarly() ? context.getFailFastReason() : "";
+        ConvergenceResult convergence = context.getConvergenceResult();
+        this.convergenceDisplay = context.hasConvergenceResult() ? VISIBLE : HIDDEN;
+        this.convergenceStatus = context.hasConvergenceResult() ? buildConvergenceStatus(convergence) : "";
+        this.convergenceTolerance = formatNumber(context.getConfiguredConvergenceTolerance(), 2, ",");
+        this.convergenceConfidence = formatNumber(context.getConfiguredConvergenceConfidence(), 2, ",");
+        // Achieved confidence intervals are shown next to the measured values, if available
+        this.throughputMargin = context.hasConvergenceResult() ? " (" + formatMargin(convergence.getThroughputMargin()) + ")" : "";
+        this.meanLatencyMargin = context.hasConvergenceResult() ? " (" + formatMargin(convergence.getMeanLatencyMargin()) + ")" : "";
         this.requiredPercentiles = buildRequiredPercentileData(context);
+        this.intervalDisplay = context.hasIntervalSamples() ? VISIBLE : HIDDEN;
+        this.intervalChartData = buildIntervalChartData(context);
+        this.intervals = buildIntervalData(context);
+        this.profileDisplay = context.hasProfile() ? VISIBLE : HIDDEN;
+        this.profileFile = context.hasProfile() ? buildProfileFileName(context) : "";
+        this.profile = buildProfileData(context);
     }
 
     private static String buildTestName(EvaluationContext context) {
@@ -107,17 +256,87 @@ public class ViewData {
         return context.getRequiredPercentiles().entrySet()
                 .stream()
                 .map(entry -> {
-                    Integer percentile = entry.getKey();
+                    Double percentile = entry.getKey();
                     Float target = entry.getValue();
                     RequiredPercentilesData data = new RequiredPercentilesData();
-                    data.percentile = percentile.toString();
+                    data.percentile = formatPercentile(percentile);
                     data.percentileResultColour = context.getPercentileResults().get(percentile) ? SUCCESS_COLOUR : FAILED_COLOUR;
                     data.percentileLatency = formatNumber(context.getLatencyPercentileMs(percentile), 2, ",");
                     data.percentileTarget = formatNumber(target, 2, ",");
+                    data.percentileCorrectedLatency = formatNumber(context.getCorrectedLatencyPercentileMs(percentile), 2, ",");
+                    data.correctedLatencyDisplay = context.hasCorrectedLatencies() ? VISIBLE : HIDDEN;
+                    data.percentileMargin = context.hasConvergenceResult() ? " (" + formatMargin(context.getConvergenceResult().getPercentileMargin(percentile)) + ")" : "";
                     return data;
                 }).collect(Collectors.toList());
     }
 
+    private static String buildConvergenceStatus(ConvergenceResult convergence) {
+        String measuredMs = formatNumber(convergence.getMeasuredMs(), 0, ",");
+        return convergence.isConverged() ? "converged after " + measuredMs + " ms" : "not converged within " + measuredMs + " ms";
+    }
+
+    // Recording is saved alongside the HTML report (see HtmlReportGenerator)
+    private static String buildProfileFileName(EvaluationContext context) {
+        return context.getUniqueId().replaceAll("[^A-Za-z0-9._-]", "_") + ".jfr";
+    }
+
+    private static List<ProfileData> buildProfileData(EvaluationContext context) {
+        if (!context.hasProfile()) {
+            return Collections.emptyList();
+        }
+        ProfileSummary summary = context.getProfileSummary();
+        return Stream.of(
+                summary.getHotMethods().stream().map(entry -> buildProfileData("Hot method", entry, formatNumber(entry.getValue(), 0, ",") + " samples")),
+                summary.getAllocationSites().stream().map(entry -> buildProfileData("Allocation site", entry, formatNumber(entry.getValue(), 0, ",") + " B")),
+                summary.getLockContention().stream().map(entry -> buildProfileData("Lock contention", entry, formatNumber(entry.getValue() / 1_000_000F, 2, ",") + " ms"))
+        ).flatMap(s -> s).collect(Collectors.toList());
+    }
+
+    private static ProfileData buildProfileData(String category, ProfileEntry entry, String value) {
+        ProfileData data = new ProfileData();
+        data.profileCategory = category;
+        data.profileFrame = escapeHtml(entry.getFrame());
+        data.profileValue = value;
+        data.profilePercentage = formatNumber(entry.getPercentage(), 2, ",");
+        return data;
+    }
+
+    // Frames include generated method names (i.e. <init>, lambda$main$0)
+    private static String escapeHtml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static List<IntervalData> buildIntervalData(EvaluationContext context) {
+        return context.getIntervalSamples()
+                .stream()
+                .map(sample -> {
+                    IntervalData data = new IntervalData();
+                    data.intervalStart = formatNumber(sample.getStartOffsetMs() / 1000F, 1, ",");
+                    data.intervalDuration = formatNumber(sample.getDurationMs(), 0, ",");
+                    data.intervalInvocations = formatNumber(sample.getEvaluationCount(), 0, ",");
+                    data.intervalThroughput = formatNumber(sample.getThroughputQps(), 0, ",");
+                    data.intervalP50 = formatNumber(sample.getP50LatencyMs(), 2, ",");
+                    data.intervalP99 = formatNumber(sample.getP99LatencyMs(), 2, ",");
+                    data.intervalMax = formatNumber(sample.getMaxLatencyMs(), 2, ",");
+                    data.intervalErrorPercentage = formatNumber(sample.getErrorPercentage(), 2, ",");
+                    data.intervalGcPauses = context.hasGcMeasurements() ? sample.getGcPauseCount() + " (" + formatNumber(sample.getGcPauseMs(), 0, ",") + " ms)" : "N/A";
+                    return data;
+                }).collect(Collectors.toList());
+    }
+
+    // One row per interval: [ start offset (s), throughput, p50, p99, max, error % ]
+    private static String buildIntervalChartData(EvaluationContext context) {
+        return context.getIntervalSamples().stream().map(sample -> "[ " +
+                (sample.getStartOffsetMs() / 1000F) + ", " +
+                sample.getThroughputQps() + ", " +
+                sample.getP50LatencyMs() + ", " +
+                sample.getP99LatencyMs() + ", " +
+                sample.getMaxLatencyMs() + ", " +
+                sample.getErrorPercentage()
+                + " ],"
+        ).collect(Collectors.joining("\n"));
+    }
+
     private static String buildCsvData(EvaluationContext context) {
         return IntStream.range(1, 101).mapToObj(i -> "[ " +
                 i + ", " +
@@ -127,10 +346,14 @@ public class ViewData {
     }
 
     private static String buildChartData(EvaluationContext context) {
-        return IntStream.range(1, 100).mapToObj(i -> "[ " +
-                i + ", " +
-                context.getLatencyPercentileMs(i) + ", " +
-                "\"" + i + "% of executions ≤ " + formatNumber(context.getLatencyPercentileMs(i), 2, ",") + "ms\""
+        // Whole percentiles 1 - 99 followed by the sub-integer tail percentiles
+        return Stream.concat(
+                IntStream.range(1, 100).mapToObj(i -> (double) i),
+                EvaluationContext.TAIL_PERCENTILES.stream()
+        ).map(p -> "[ " +
+                formatPercentile(p) + ", " +
+                context.getLatencyPercentileMs(p) + ", " +
+                "\"" + formatPercentile(p) + "% of executions ≤ " + formatNumber(context.getLatencyPercentileMs(p), 2, ",") + "ms\""
                 + "],"
         ).collect(Collectors.joining("\n"));
     }
@@ -4,6 +4,7 @@ import lombok.experimental.UtilityClass;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.regex.Matcher;
 
 @UtilityClass
 public class ViewProcessor {
@@ -25,7 +26,8 @@ public class ViewProcessor {
                 f.setAccessible(true);
                 String target = "\\{\\{ " + prefix + "." + f.getName() + " \\}\\}";
                 Object value = f.get(obj);
-                temp = temp.replaceAll(target, String.valueOf(value));
+                // Values may contain regex replacement characters, i.e. '$' in nested class names
+                temp = temp.replaceAll(target, Matcher.quoteReplacement(String.valueOf(value)));
             }
         }
         return temp;
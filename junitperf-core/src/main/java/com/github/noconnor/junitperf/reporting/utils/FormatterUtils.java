@@ -1,9 +1,21 @@
 package com.github.noconnor.junitperf.reporting.utils;
 
+import java.math.BigDecimal;
+
 public class FormatterUtils {
 
   public static String format(float latency){
     return latency < 0 ? "N/A" : Float.toString(latency);
   }
 
+  // 99.0 -> "99", 99.90 -> "99.9"
+  public static String formatPercentile(double percentile) {
+    return BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+  }
+
+  // Relative confidence interval half width, 1.234 -> "±1.23%"
+  public static String formatMargin(float margin) {
+    return Float.isNaN(margin) ? "N/A" : String.format("±%.2f%%", margin);
+  }
+
 }
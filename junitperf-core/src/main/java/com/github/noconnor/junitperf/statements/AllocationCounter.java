@@ -0,0 +1,62 @@
+package com.github.noconnor.junitperf.statements;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static java.util.Objects.nonNull;
+
+// Heap bytes allocated by the current thread, read from the per-thread allocation counters of HotSpot based JVMs
+// (com.sun.management.ThreadMXBean). Counters include the in-use portion of the thread's TLAB, so they are exact
+@Slf4j
+final class AllocationCounter {
+
+  private static final int CALIBRATION_ROUNDS = 1_000;
+
+  private static final ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+  // Some JVMs allocate while reading the counter (i.e. java 8 allocates an id array per read), excluded from measurements
+  private static final long READ_OVERHEAD_BYTES = isSupported() ? calibrate() : 0;
+
+  private AllocationCounter() {
+  }
+
+  static boolean isSupported() {
+    return nonNull(THREAD_MX_BEAN);
+  }
+
+  static long currentThreadAllocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  // Bytes allocated by the current thread since startBytes (see currentThreadAllocatedBytes)
+  static long allocatedSince(long startBytes) {
+    return Math.max(currentThreadAllocatedBytes() - startBytes - READ_OVERHEAD_BYTES, 0);
+  }
+
+  private static long calibrate() {
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+      long start = currentThreadAllocatedBytes();
+      overhead = Math.min(overhead, currentThreadAllocatedBytes() - start);
+    }
+    return Math.max(overhead, 0);
+  }
+
+  private static ThreadMXBean threadMXBean() {
+    try {
+      ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        if (allocationBean.isThreadAllocatedMemorySupported()) {
+          allocationBean.setThreadAllocatedMemoryEnabled(true);
+          return bean;
+        }
+      }
+    } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+      log.trace("Thread allocation counters are not available", e);
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,174 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.statistics.AllocationStatistics;
+import com.github.noconnor.junitperf.statistics.CpuTimeStatistics;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static java.lang.System.nanoTime;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// Open model load generator.
+// Invocations are dispatched at a fixed arrival rate, regardless of how long previous invocations take to complete,
+// onto an elastic pool of (at most) maxWorkers threads. Dispatches that cannot start immediately are queued (at most
+// maxWorkers deep), dispatches arriving while the queue is full are dropped.
+@Slf4j
+final class ArrivalRateScheduler {
+
+  private static final long IDLE_WORKER_KEEP_ALIVE_SECS = 10;
+  // Dispatches are only considered late once they fall behind by more than the (typical) timer resolution
+  private static final long LATE_DISPATCH_TOLERANCE_NS = MILLISECONDS.toNanos(1);
+
+  private final EvaluationTask task;
+  private final StatisticsCalculator stats;
+  private final StatisticsCalculator queueingStats;
+  private final ThreadPoolExecutor workers;
+  private final Supplier<Boolean> terminator;
+  private final double intervalNs;
+  private final double lateDispatchThresholdNs;
+  private final long warmUpPeriodNs;
+  private final long executionTarget;
+  private final LongAdder droppedDispatches = new LongAdder();
+  private final LongAdder lateDispatches = new LongAdder();
+
+  private volatile Throwable failure;
+
+  @Builder
+  ArrivalRateScheduler(TestStatement statement,
+                       StatisticsCalculator stats,
+                       StatisticsCalculator queueingStats,
+                       AllocationStatistics allocationStats,
+                       CpuTimeStatistics cpuTimeStats,
+                       ThreadFactory threadFactory,
+                       Supplier<Boolean> terminator,
+                       int arrivalRatePerSecond,
+                       int maxWorkers,
+                       int warmUpPeriodMs,
+                       int executionTarget) {
+    this.task = EvaluationTask.builder()
+      .statement(statement)
+      .stats(stats)
+      .allocationStats(allocationStats)
+      .cpuTimeStats(cpuTimeStats)
+      .terminator(terminator)
+      .build();
+    this.stats = stats;
+    this.queueingStats = queueingStats;
+    this.terminator = terminator;
+    this.intervalNs = SECONDS.toNanos(1) / (double) arrivalRatePerSecond;
+    this.lateDispatchThresholdNs = Math.max(intervalNs, LATE_DISPATCH_TOLERANCE_NS);
+    this.warmUpPeriodNs = MILLISECONDS.toNanos(Math.max(warmUpPeriodMs, 0));
+    this.executionTarget = executionTarget;
+    this.workers = new ThreadPoolExecutor(
+      maxWorkers,
+      maxWorkers,
+      IDLE_WORKER_KEEP_ALIVE_SECS,
+      SECONDS,
+      new LinkedBlockingQueue<>(maxWorkers),
+      threadFactory
+    );
+    // Workers are only started on demand & are released when idle
+    this.workers.allowCoreThreadTimeOut(true);
+  }
+
+  public void run() throws Throwable {
+    long startTimeNs = nanoTime();
+    long startMeasurements = startTimeNs + warmUpPeriodNs;
+    long dispatchCount = 0;
+    try {
+      while (terminationFlagNotSet() && threadNotInterrupted() && executionTargetNotMet() && noFailures()) {
+        long intendedStartNs = startTimeNs + (long) (dispatchCount++ * intervalNs);
+        waitUntil(intendedStartNs);
+        dispatch(intendedStartNs, startMeasurements);
+      }
+      awaitInFlightDispatches();
+    } finally {
+      workers.shutdownNow();
+    }
+    if (nonNull(failure)) {
+      throw failure;
+    }
+  }
+
+  public long getDroppedDispatchCount() {
+    return droppedDispatches.sum();
+  }
+
+  public long getLateDispatchCount() {
+    return lateDispatches.sum();
+  }
+
+  private void dispatch(long intendedStartNs, long startMeasurements) {
+    boolean isMeasured = intendedStartNs >= startMeasurements;
+    if (isMeasured && nanoTime() - intendedStartNs > lateDispatchThresholdNs) {
+      // Dispatcher has fallen behind the arrival schedule by more than one full interval
+      lateDispatches.increment();
+    }
+    try {
+      workers.execute(() -> evaluate(intendedStartNs, startMeasurements));
+    } catch (RejectedExecutionException e) {
+      if (isMeasured) {
+        droppedDispatches.increment();
+      }
+    }
+  }
+
+  private void evaluate(long intendedStartNs, long startMeasurements) {
+    try {
+      long startTimeNs = nanoTime();
+      if (startTimeNs >= startMeasurements) {
+        queueingStats.addLatencyMeasurement(startTimeNs - intendedStartNs);
+      }
+      task.evaluateStatement(startMeasurements);
+    } catch (Throwable t) {
+      failure = t;
+    }
+  }
+
+  private void awaitInFlightDispatches() {
+    workers.shutdown();
+    try {
+      while (terminationFlagNotSet() && !workers.awaitTermination(10, MILLISECONDS)) {
+        log.trace("Waiting for in flight dispatches to complete");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean terminationFlagNotSet() {
+    return !terminator.get();
+  }
+
+  private static boolean threadNotInterrupted() {
+    return !Thread.currentThread().isInterrupted();
+  }
+
+  private boolean executionTargetNotMet() {
+    return executionTarget <= 0 || stats.getEvaluationCount() < executionTarget;
+  }
+
+  private boolean noFailures() {
+    return isNull(failure);
+  }
+
+  private static void waitUntil(long timeNs) {
+    long waitNs;
+    while ((waitNs = timeNs - nanoTime()) > 0 && threadNotInterrupted()) {
+      LockSupport.parkNanos(Math.min(waitNs, MILLISECONDS.toNanos(1)));
+    }
+  }
+
+}
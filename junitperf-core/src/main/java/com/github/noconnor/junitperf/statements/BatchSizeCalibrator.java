@@ -0,0 +1,91 @@
+package com.github.noconnor.junitperf.statements;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static com.github.noconnor.junitperf.statements.ExceptionsRegistry.reThrowIfAbort;
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// Finds the number of back to back invocations to time as a single latency sample (see JUnitPerfTest
+// operationsPerInvocation), such that reading the timer costs at most maxTimerOverhead % of each sample.
+// Batch sizes are doubled until the fastest of a few samples is long enough
+@Slf4j
+final class BatchSizeCalibrator {
+
+  static final int MAX_OPERATIONS_PER_INVOCATION = 1 << 20;
+
+  private static final int TIMER_CALIBRATION_ROUNDS = 10_000;
+  private static final int SAMPLES_PER_BATCH_SIZE = 5;
+  // Gives the JIT a chance to compile the test before batches are timed
+  private static final long WARM_UP_NS = MILLISECONDS.toNanos(100);
+
+  private final TestStatement statement;
+  private final float maxTimerOverhead;
+
+  BatchSizeCalibrator(TestStatement statement, float maxTimerOverhead) {
+    checkState(maxTimerOverhead > 0 && maxTimerOverhead < 100, "MaxTimerOverhead must be between 0 and 100 (exclusive)");
+    this.statement = statement;
+    this.maxTimerOverhead = maxTimerOverhead;
+  }
+
+  int calibrate() throws Throwable {
+    long targetSampleNs = (long) Math.ceil(timerCostNs() * 100 / maxTimerOverhead);
+    try {
+      statement.runBefores();
+      try {
+        warmUp();
+        int operations = 1;
+        while (operations < MAX_OPERATIONS_PER_INVOCATION && fastestSampleNs(operations) < targetSampleNs) {
+          operations *= 2;
+        }
+        log.debug("Calibrated batch size: {} ops/sample (target sample duration {}ns)", operations, targetSampleNs);
+        return operations;
+      } finally {
+        statement.runAfters();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Throwable throwable) {
+      reThrowIfAbort(throwable);
+      log.warn("Batch size calibration failed, invocations will not be batched", throwable);
+    }
+    return 1;
+  }
+
+  // Cost of timing a single sample, i.e. two timer reads, or the timer granularity if that is coarser
+  static long timerCostNs() {
+    long start = nanoTime();
+    long last = start;
+    long granularity = Long.MAX_VALUE;
+    for (int i = 0; i < TIMER_CALIBRATION_ROUNDS; i++) {
+      long now = nanoTime();
+      if (now > last) {
+        granularity = Math.min(granularity, now - last);
+      }
+      last = now;
+    }
+    long readCostNs = (last - start) / TIMER_CALIBRATION_ROUNDS;
+    return Math.max(2 * readCostNs, granularity == Long.MAX_VALUE ? 1 : granularity);
+  }
+
+  private void warmUp() throws Throwable {
+    long endNs = nanoTime() + WARM_UP_NS;
+    do {
+      statement.evaluate();
+    } while (nanoTime() < endNs);
+  }
+
+  private long fastestSampleNs(int operations) throws Throwable {
+    long fastestNs = Long.MAX_VALUE;
+    for (int sample = 0; sample < SAMPLES_PER_BATCH_SIZE; sample++) {
+      long startNs = nanoTime();
+      for (int i = 0; i < operations; i++) {
+        statement.evaluate();
+      }
+      fastestNs = Math.min(fastestNs, nanoTime() - startNs);
+    }
+    return fastestNs;
+  }
+
+}
@@ -0,0 +1,176 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.ConvergenceResult;
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.statements.IntervalStatisticsCalculator.IntervalMeasurements;
+import com.github.noconnor.junitperf.statements.IntervalStatisticsCalculator.Reader;
+import com.github.noconnor.junitperf.statistics.providers.HdrHistogramStatisticsCalculator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.TDistribution;
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newTreeMap;
+import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Stops a test once its required percentiles, mean latency & throughput have converged (see JUnitPerfTest
+// convergenceTolerance). Measurements (after warm up) are split into fixed length batches, the confidence intervals
+// of the mean latency & throughput are estimated from the batch means (batches absorb most of the correlation between
+// consecutive invocations), percentile confidence intervals from the ranks of the order statistics of all samples.
+// Each batch is read from the swap-on-read interval recorders, the test statistics are never queried while the test runs
+@Slf4j
+final class ConvergenceMonitor {
+
+  static final int BATCH_INTERVAL_MS = 500;
+  // The variance of fewer batch means is too unreliable to decide convergence on
+  static final int MIN_BATCHES = 10;
+
+  private static final ThreadFactory FACTORY = new ThreadFactoryBuilder()
+    .setNameFormat("perf-convergence-monitor-%d")
+    .setDaemon(true)
+    .build();
+
+  private final EvaluationContext context;
+  private final Reader reader;
+  // All samples since the first batch started, accumulated from the interval recorders
+  private final HdrHistogramStatisticsCalculator measured = new HdrHistogramStatisticsCalculator();
+  private final CountDownLatch latch;
+  private final int batchIntervalMs;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(FACTORY);
+  private final List<Double> batchThroughputs = newArrayList();
+  private final List<Double> batchMeanLatencies = newArrayList();
+
+  private volatile long measurementStartNs;
+  private volatile ConvergenceResult result;
+  private long previousBatchEndNs;
+  private long sampleCount;
+
+  ConvergenceMonitor(EvaluationContext context, IntervalStatisticsCalculator statistics, CountDownLatch latch) {
+    this(context, statistics, latch, BATCH_INTERVAL_MS);
+  }
+
+  ConvergenceMonitor(EvaluationContext context, IntervalStatisticsCalculator statistics, CountDownLatch latch, int batchIntervalMs) {
+    this.context = context;
+    this.reader = statistics.newReader();
+    this.latch = latch;
+    this.batchIntervalMs = batchIntervalMs;
+  }
+
+  // The first batch starts once the warm up period has elapsed
+  void start(int warmUpMs) {
+    measurementStartNs = nanoTime() + MILLISECONDS.toNanos(Math.max(warmUpMs, 0));
+    scheduler.scheduleAtFixedRate(this::check, Math.max(warmUpMs, 0), batchIntervalMs, MILLISECONDS);
+  }
+
+  // Stops monitoring, returns the confidence intervals of the last completed batch
+  ConvergenceResult stop() throws InterruptedException {
+    scheduler.shutdownNow();
+    scheduler.awaitTermination(batchIntervalMs, MILLISECONDS);
+    if (nonNull(result)) {
+      return result;
+    }
+    return new ConvergenceResult(false, measuredMs(), Float.NaN, Float.NaN, emptyMap());
+  }
+
+  private void check() {
+    try {
+      long nowNs = nanoTime();
+      // The first read (at the end of the warm up period) only marks the start of the first batch
+      IntervalMeasurements batch = reader.read();
+      if (previousBatchEndNs > 0) {
+        addBatch(nowNs - previousBatchEndNs, batch);
+      }
+      previousBatchEndNs = nowNs;
+      if (batchThroughputs.size() >= 2) {
+        result = estimate();
+        if (result.isConverged()) {
+          log.info("Stopping {} after {}ms: measurements converged", context.getTestName(), result.getMeasuredMs());
+          scheduler.shutdown();
+          while (latch.getCount() > 0) {
+            latch.countDown();
+          }
+        }
+      }
+    } catch (Exception e) {
+      // An exception would silently cancel all further checks
+      log.warn("Convergence check failed", e);
+    }
+  }
+
+  private void addBatch(long durationNs, IntervalMeasurements batch) {
+    Histogram latencies = batch.getLatencies();
+    measured.add(latencies);
+    batchThroughputs.add(batch.getEvaluationCount() / (durationNs / (double) MILLISECONDS.toNanos(1000)));
+    // The mean of the latency samples of this batch only. Batches without samples have no mean latency (i.e. a stalled
+    // test)
+    long samples = latencies.getTotalCount();
+    sampleCount += samples;
+    if (samples > 0) {
+      batchMeanLatencies.add(latencies.getMean() / MILLISECONDS.toNanos(1));
+    }
+  }
+
+  private ConvergenceResult estimate() {
+    double confidence = context.getConfiguredConvergenceConfidence() / 100;
+    float throughputMargin = batchMeanMargin(batchThroughputs, confidence);
+    float meanLatencyMargin = batchMeanMargin(batchMeanLatencies, confidence);
+    Map<Double, Float> percentileMargins = newTreeMap();
+    long samples = sampleCount;
+    double z = new NormalDistribution().inverseCumulativeProbability(1 - (1 - confidence) / 2);
+    context.getRequiredPercentiles().keySet().forEach(percentile -> {
+      percentileMargins.put(percentile, percentileMargin(percentile, samples, z));
+    });
+    long measuredMs = measuredMs();
+    float tolerance = context.getConfiguredConvergenceTolerance();
+    boolean converged = batchThroughputs.size() >= MIN_BATCHES
+      && measuredMs >= context.getConfiguredConvergenceMinDurationMs()
+      && throughputMargin <= tolerance
+      && meanLatencyMargin <= tolerance
+      && percentileMargins.values().stream().allMatch(margin -> margin <= tolerance);
+    return new ConvergenceResult(converged, measuredMs, throughputMargin, meanLatencyMargin, percentileMargins);
+  }
+
+  // Half width of the confidence interval of the mean of the batch means (Student's t), relative to the mean (%)
+  private static float batchMeanMargin(List<Double> batchMeans, double confidence) {
+    int batches = batchMeans.size();
+    double mean = batchMeans.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    if (batches < 2) {
+      return Float.NaN;
+    }
+    if (mean == 0) {
+      return 0;
+    }
+    double variance = batchMeans.stream().mapToDouble(value -> (value - mean) * (value - mean)).sum() / (batches - 1);
+    double t = new TDistribution(batches - 1).inverseCumulativeProbability(1 - (1 - confidence) / 2);
+    return (float) (t * Math.sqrt(variance / batches) / mean * 100);
+  }
+
+  // Half width of the distribution free confidence interval of a percentile, the latencies of the samples ranked
+  // z standard deviations of the binomial rank distribution either side of the percentile's rank, relative (%)
+  private float percentileMargin(double percentile, long samples, double z) {
+    double quantile = percentile / 100;
+    double rankMargin = z * Math.sqrt(quantile * (1 - quantile) / samples);
+    float latency = measured.getLatencyPercentile(percentile, MILLISECONDS);
+    float lower = measured.getLatencyPercentile(Math.max(quantile - rankMargin, 0) * 100, MILLISECONDS);
+    float upper = measured.getLatencyPercentile(Math.min(quantile + rankMargin, 1) * 100, MILLISECONDS);
+    return latency > 0 ? (upper - lower) / 2 / latency * 100 : 0;
+  }
+
+  private long measuredMs() {
+    return Math.max(NANOSECONDS.toMillis(nanoTime() - measurementStartNs), 0);
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.github.noconnor.junitperf.statements;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static java.util.Objects.nonNull;
+
+// CPU time (user + system) consumed by the current thread, time spent blocked, sleeping or waiting on I/O is excluded
+@Slf4j
+final class CpuTimeCounter {
+
+  private static final int CALIBRATION_ROUNDS = 1_000;
+
+  private static final ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+  // CPU time consumed reading the counter itself, excluded from measurements
+  private static final long READ_OVERHEAD_NS = isSupported() ? calibrate() : 0;
+
+  private CpuTimeCounter() {
+  }
+
+  static boolean isSupported() {
+    return nonNull(THREAD_MX_BEAN);
+  }
+
+  static long currentThreadCpuTimeNs() {
+    return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+  }
+
+  // User mode portion of the current thread's CPU time, typically only accurate to the OS scheduler tick (i.e. 10ms on
+  // linux) so only meaningful as a mean over many invocations
+  static long currentThreadUserTimeNs() {
+    return THREAD_MX_BEAN.getCurrentThreadUserTime();
+  }
+
+  // CPU time consumed by the current thread since startCpuTimeNs (see currentThreadCpuTimeNs)
+  static long cpuTimeSince(long startCpuTimeNs) {
+    return Math.max(currentThreadCpuTimeNs() - startCpuTimeNs - READ_OVERHEAD_NS, 0);
+  }
+
+  // User time consumed by the current thread since startUserTimeNs (see currentThreadUserTimeNs)
+  static long userTimeSince(long startUserTimeNs) {
+    return Math.max(currentThreadUserTimeNs() - startUserTimeNs, 0);
+  }
+
+  private static long calibrate() {
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+      long start = currentThreadCpuTimeNs();
+      overhead = Math.min(overhead, currentThreadCpuTimeNs() - start);
+    }
+    return Math.max(overhead, 0);
+  }
+
+  private static ThreadMXBean threadMXBean() {
+    try {
+      ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean.isCurrentThreadCpuTimeSupported()) {
+        bean.setThreadCpuTimeEnabled(true);
+        return bean;
+      }
+    } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+      log.trace("Thread CPU time is not available", e);
+    }
+    return null;
+  }
+
+}
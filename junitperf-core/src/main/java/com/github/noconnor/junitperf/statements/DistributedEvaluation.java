@@ -0,0 +1,268 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.WorkerResult;
+import com.google.common.net.HostAndPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.accept;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.JUNITPERF_FORKS;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.JUNITPERF_JVM_ARGS;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.javaCommand;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.junitperfProperties;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.readLatencies;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.relayOutput;
+import static com.google.common.collect.Lists.newArrayList;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// Coordinates worker JVMs that generate load at the same time (see JUnitPerfTest workers & workerHosts). Local workers
+// are started as child JVMs, remote workers by the WorkerAgent of each host. Workers connect back to the coordinator,
+// once all workers are connected they are started (warm up included) & stopped together, each worker then streams its
+// measurements back to the coordinator
+@Slf4j
+final class DistributedEvaluation {
+
+  // Set on worker JVMs only, the coordinator (host:port) to connect to & the index of the worker
+  static final String JUNITPERF_WORKER_COORDINATOR = "junitperf.worker.coordinator";
+  static final String JUNITPERF_WORKER_INDEX = "junitperf.worker.index";
+  // Address remote workers use to connect to the coordinator, defaults to the address of this host
+  static final String JUNITPERF_COORDINATOR_HOST = "junitperf.coordinatorHost";
+  static final String JUNITPERF_WORKERS = "junitperf.workers";
+  static final String JUNITPERF_WORKER_HOSTS = "junitperf.workerHosts";
+
+  static final byte START = 1;
+  static final byte STOP = 2;
+
+  private static final String JUNITPERF_MAX_EXECUTIONS_PER_SECOND = "junitperf.maxExecutionsPerSecond";
+  private static final String JUNITPERF_ARRIVAL_RATE_PER_SECOND = "junitperf.arrivalRatePerSecond";
+  private static final String JUNITPERF_TOTAL_EXECUTIONS = "junitperf.totalExecutions";
+  private static final String LOCAL = "local";
+  private static final int ACCEPT_POLL_INTERVAL_MS = 1_000;
+  // Workers connect once their JVM has started & the test has been set up (i.e. batch size calibration)
+  private static final long CONNECT_TIMEOUT_MS = SECONDS.toMillis(60);
+  private static final int RESPONSE_TIMEOUT_MS = (int) SECONDS.toMillis(60);
+  private static final long EXIT_TIMEOUT_MS = SECONDS.toMillis(5);
+  private static final long REPORT_POLL_INTERVAL_MS = 100;
+
+  private final ForkedTest test;
+  private final EvaluationContext context;
+
+  DistributedEvaluation(ForkedTest test, EvaluationContext context) {
+    this.test = test;
+    this.context = context;
+  }
+
+  List<WorkerResult> run() throws IOException, InterruptedException {
+    List<String> workerHosts = context.getConfiguredWorkerHosts();
+    List<Process> processes = newArrayList();
+    Worker[] workers = new Worker[context.getWorkerCount()];
+    // Remote workers must be able to reach the coordinator, local workers only need the loopback interface
+    InetAddress bindAddress = workerHosts.isEmpty() ? InetAddress.getLoopbackAddress() : null;
+    try (ServerSocket server = new ServerSocket(0, workers.length, bindAddress)) {
+      server.setSoTimeout(ACCEPT_POLL_INTERVAL_MS);
+      String coordinator = coordinatorHost(workerHosts.isEmpty()) + ":" + server.getLocalPort();
+      for (int index = 1; index <= context.getConfiguredWorkers(); index++) {
+        processes.add(startLocalWorker(index, coordinator));
+      }
+      for (int i = 0; i < workerHosts.size(); i++) {
+        startRemoteWorker(workerHosts.get(i), context.getConfiguredWorkers() + i + 1, coordinator);
+      }
+      awaitWorkers(server, workers, processes);
+      log.info("Starting {} workers", workers.length);
+      for (Worker worker : workers) {
+        worker.signal(START);
+      }
+      // Duration includes the warm up period
+      awaitMeasurements(workers, context.getConfiguredDuration());
+      for (Worker worker : workers) {
+        worker.signal(STOP);
+      }
+      List<WorkerResult> results = newArrayList();
+      for (Worker worker : workers) {
+        results.add(worker.readResult());
+      }
+      return results;
+    } finally {
+      for (Worker worker : workers) {
+        closeQuietly(worker);
+      }
+      for (Process process : processes) {
+        if (!process.waitFor(EXIT_TIMEOUT_MS, MILLISECONDS)) {
+          process.destroyForcibly();
+        }
+      }
+    }
+  }
+
+  // Test settings of a worker, rates & execution targets are divided between all workers. Workers never fork, JVM
+  // arguments of workers are set by the coordinator (local workers) or the WorkerAgent (remote workers)
+  Map<String, String> workerProperties(int index, String coordinator) {
+    Map<String, String> properties = junitperfProperties();
+    properties.remove(JUNITPERF_JVM_ARGS);
+    properties.put(JUNITPERF_FORKS, "0");
+    properties.put(JUNITPERF_WORKERS, "0");
+    properties.put(JUNITPERF_WORKER_HOSTS, "");
+    properties.put(JUNITPERF_WORKER_COORDINATOR, coordinator);
+    properties.put(JUNITPERF_WORKER_INDEX, String.valueOf(index));
+    putShare(properties, JUNITPERF_MAX_EXECUTIONS_PER_SECOND, context.getConfiguredRateLimit(), index);
+    putShare(properties, JUNITPERF_ARRIVAL_RATE_PER_SECOND, context.getConfiguredArrivalRate(), index);
+    putShare(properties, JUNITPERF_TOTAL_EXECUTIONS, context.getConfiguredExecutionTarget(), index);
+    return properties;
+  }
+
+  // Share of a worker (1 based index), the remainder is spread over the first workers
+  static int share(int total, int workers, int index) {
+    return total / workers + (index <= total % workers ? 1 : 0);
+  }
+
+  private void putShare(Map<String, String> properties, String name, int total, int index) {
+    if (total > 0) {
+      properties.put(name, String.valueOf(share(total, context.getWorkerCount(), index)));
+    }
+  }
+
+  private static String coordinatorHost(boolean isLocalOnly) throws IOException {
+    String override = System.getProperty(JUNITPERF_COORDINATOR_HOST);
+    if (nonNull(override)) {
+      return override;
+    }
+    return isLocalOnly ? InetAddress.getLoopbackAddress().getHostAddress() : InetAddress.getLocalHost().getHostAddress();
+  }
+
+  private Process startLocalWorker(int index, String coordinator) throws IOException {
+    List<String> command = javaCommand(test, context.getConfiguredJvmArgs(), workerProperties(index, coordinator), System.getProperty("java.class.path"));
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    relayOutput(process, "junitperf-worker-" + index + "-output");
+    return process;
+  }
+
+  private void startRemoteWorker(String agent, int index, String coordinator) throws IOException {
+    HostAndPort address = HostAndPort.fromString(agent);
+    try (Socket socket = new Socket(address.getHost(), address.getPort());
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+         DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+      socket.setSoTimeout(RESPONSE_TIMEOUT_MS);
+      WorkerAgent.writeLaunchRequest(out, test, workerProperties(index, coordinator));
+      String error = in.readUTF();
+      if (!error.isEmpty()) {
+        throw new IllegalStateException(format("Worker agent %s could not start worker %d: %s", agent, index, error));
+      }
+    }
+  }
+
+  private void awaitWorkers(ServerSocket server, Worker[] workers, List<Process> processes) throws IOException {
+    long deadlineMs = currentTimeMillis() + CONNECT_TIMEOUT_MS;
+    int connected = 0;
+    while (connected < workers.length) {
+      for (int i = 0; i < processes.size(); i++) {
+        Process process = processes.get(i);
+        if (isNull(workers[i]) && !process.isAlive()) {
+          throw new IllegalStateException(format("Worker %d exited (exit code %d) before the test started", i + 1, process.exitValue()));
+        }
+      }
+      if (currentTimeMillis() > deadlineMs) {
+        throw new IllegalStateException(format("Only %d of %d workers connected within %dms", connected, workers.length, CONNECT_TIMEOUT_MS));
+      }
+      Socket socket = accept(server);
+      if (nonNull(socket)) {
+        Worker worker = new Worker(socket);
+        int index = worker.in.readInt();
+        if (index < 1 || index > workers.length || nonNull(workers[index - 1])) {
+          closeQuietly(worker);
+          throw new IllegalStateException(format("Unexpected worker %d connected", index));
+        }
+        worker.index = index;
+        worker.location = index <= processes.size() ? LOCAL : context.getConfiguredWorkerHosts().get(index - processes.size() - 1);
+        workers[index - 1] = worker;
+        connected++;
+      }
+    }
+  }
+
+  // Workers that reach their totalExecutions share report their measurements before they are stopped
+  private static void awaitMeasurements(Worker[] workers, long durationMs) throws IOException, InterruptedException {
+    long deadlineMs = currentTimeMillis() + durationMs;
+    while (!hasReported(workers)) {
+      long remainingMs = deadlineMs - currentTimeMillis();
+      if (remainingMs <= 0) {
+        return;
+      }
+      MILLISECONDS.sleep(Math.min(remainingMs, REPORT_POLL_INTERVAL_MS));
+    }
+  }
+
+  private static boolean hasReported(Worker[] workers) throws IOException {
+    for (Worker worker : workers) {
+      if (worker.in.available() == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    try {
+      if (nonNull(closeable)) {
+        closeable.close();
+      }
+    } catch (IOException e) {
+      log.trace("Failed to close worker connection", e);
+    }
+  }
+
+  private static final class Worker implements Closeable {
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private int index;
+    private String location;
+
+    private Worker(Socket socket) throws IOException {
+      this.socket = socket;
+      this.socket.setSoTimeout(RESPONSE_TIMEOUT_MS);
+      this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    private void signal(byte signal) throws IOException {
+      out.writeByte(signal);
+      out.flush();
+    }
+
+    private WorkerResult readResult() throws IOException {
+      try {
+        long evaluationCount = in.readLong();
+        long errorCount = in.readLong();
+        long measurementWindowNs = in.readLong();
+        return new WorkerResult(index, location, measurementWindowNs, evaluationCount, errorCount, readLatencies(in));
+      } catch (EOFException e) {
+        throw new IllegalStateException(format("Worker %d (%s) did not report any measurements", index, location), e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      socket.close();
+    }
+  }
+
+}
@@ -1,11 +1,14 @@
 package com.github.noconnor.junitperf.statements;
 
+import com.github.noconnor.junitperf.statistics.AllocationStatistics;
+import com.github.noconnor.junitperf.statistics.CpuTimeStatistics;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
 import com.google.common.util.concurrent.RateLimiter;
 import lombok.Builder;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 
 import static com.github.noconnor.junitperf.statements.ExceptionsRegistry.reThrowIfAbort;
@@ -18,21 +21,47 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 @Slf4j
 final class EvaluationTask implements Runnable {
 
+    private static final long SUSPENDED_POLL_INTERVAL_NS = MILLISECONDS.toNanos(1);
+
     private final TestStatement statement;
     private final RateLimiter rateLimiter;
     private final Supplier<Boolean> terminator;
+    private final Supplier<Boolean> suspender;
     private final StatisticsCalculator stats;
+    private final StatisticsCalculator correctedStats;
+    private final AllocationStatistics allocationStats;
+    private final CpuTimeStatistics cpuTimeStats;
+    private final RateSchedule rateSchedule;
     private final long warmUpPeriodNs;
     private final long executionTarget;
+    // Back to back invocations timed as a single latency sample
+    private final int operationsPerInvocation;
 
     @Builder
     EvaluationTask(TestStatement statement,
                    RateLimiter rateLimiter,
                    StatisticsCalculator stats,
+                   StatisticsCalculator correctedStats,
+                   AllocationStatistics allocationStats,
+                   CpuTimeStatistics cpuTimeStats,
+                   RateSchedule rateSchedule,
                    Supplier<Boolean> terminator,
+                   Supplier<Boolean> suspender,
                    int warmUpPeriodMs,
-                   int executionTarget) {
-        this(statement, rateLimiter, terminator, stats, warmUpPeriodMs, executionTarget);
+                   int executionTarget,
+                   int operationsPerInvocation) {
+        this.statement = statement;
+        this.rateLimiter = rateLimiter;
+        this.terminator = terminator;
+        this.suspender = suspender;
+        this.stats = stats;
+        this.correctedStats = correctedStats;
+        this.allocationStats = allocationStats;
+        this.cpuTimeStats = cpuTimeStats;
+        this.rateSchedule = rateSchedule;
+        this.warmUpPeriodNs = NANOSECONDS.convert(Math.max(warmUpPeriodMs, 0), MILLISECONDS);
+        this.executionTarget = executionTarget;
+        this.operationsPerInvocation = Math.max(operationsPerInvocation, 1);
     }
 
     // Test only
@@ -42,12 +71,7 @@ final class EvaluationTask implements Runnable {
                    StatisticsCalculator stats,
                    int warmUpPeriodMs,
                    int executionTarget) {
-        this.statement = statement;
-        this.rateLimiter = rateLimiter;
-        this.terminator = terminator;
-        this.stats = stats;
-        this.warmUpPeriodNs = NANOSECONDS.convert(Math.max(warmUpPeriodMs, 0), MILLISECONDS);
-        this.executionTarget = executionTarget;
+        this(statement, rateLimiter, stats, null, null, null, null, terminator, null, warmUpPeriodMs, executionTarget, 1);
     }
 
     @SneakyThrows
@@ -56,11 +80,20 @@ final class EvaluationTask implements Runnable {
         long startTimeNs = nanoTime();
         long startMeasurements = startTimeNs + warmUpPeriodNs;
         while (terminationFlagNotSet() && threadNotInterrupted() && executionTargetNotMet()) {
+            if (isSuspended()) {
+                // Thread is not active in the current load profile stage
+                LockSupport.parkNanos(SUSPENDED_POLL_INTERVAL_NS);
+                continue;
+            }
             waitForPermit();
             evaluateStatement(startMeasurements);
         }
     }
 
+    private boolean isSuspended() {
+        return nonNull(suspender) && suspender.get();
+    }
+
     private boolean terminationFlagNotSet() {
         return !terminator.get();
     }
@@ -73,11 +106,14 @@ final class EvaluationTask implements Runnable {
         return executionTarget <= 0 || stats.getEvaluationCount() < executionTarget;
     }
 
-    private void evaluateStatement(long startMeasurements) throws Throwable {
+    // Evaluates the statement once, also used to evaluate open model (ArrivalRateScheduler) dispatches
+    void evaluateStatement(long startMeasurements) throws Throwable {
         if (nanoTime() < startMeasurements) {
             try {
                 statement.runBefores();
-                statement.evaluate();
+                for (int i = 0; i < operationsPerInvocation; i++) {
+                    statement.evaluate();
+                }
                 statement.runAfters();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -86,6 +122,8 @@ final class EvaluationTask implements Runnable {
             }
         } else {
 
+            long scheduleDelayNs = measureScheduleDelay();
+
             try {
                 statement.runBefores();
             } catch (InterruptedException e) {
@@ -98,18 +136,34 @@ final class EvaluationTask implements Runnable {
                 }
             }
 
+            long startBytes = startAllocationMeasurement();
+            long startUserTimeNs = startUserTimeMeasurement();
+            long startCpuTimeNs = startCpuTimeMeasurement();
+            int completed = 0;
             long startTimeNs = nanoTime();
             try {
-                statement.evaluate();
-                stats.addLatencyMeasurement(nanoTime() - startTimeNs);
-                stats.incrementEvaluationCount();
+                for (; completed < operationsPerInvocation; completed++) {
+                    statement.evaluate();
+                }
+                long latencyNs = nanoTime() - startTimeNs;
+                addCpuTimeMeasurement(startCpuTimeNs, startUserTimeNs);
+                // Allocations are read before any statistics are recorded, recording may allocate
+                addAllocationMeasurement(startBytes);
+                // Batches record the mean latency of their invocations
+                addLatencyMeasurement(latencyNs / operationsPerInvocation, scheduleDelayNs);
+                stats.addMeasurementTime(startTimeNs, startTimeNs + latencyNs);
+                incrementEvaluationCount(operationsPerInvocation);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             } catch (Throwable throwable) {
                 log.trace("Execution error", throwable);
                 reThrowIfAbort(throwable);
+                // Invocations completed before the failure (in the same batch) are still counted
+                incrementEvaluationCount(completed);
                 checkForIgnorable(throwable);
-                stats.addLatencyMeasurement(nanoTime() - startTimeNs);
+                long endTimeNs = nanoTime();
+                addLatencyMeasurement((endTimeNs - startTimeNs) / (completed + 1), scheduleDelayNs);
+                stats.addMeasurementTime(startTimeNs, endTimeNs);
             }
 
             try {
@@ -127,6 +181,58 @@ final class EvaluationTask implements Runnable {
         }
     }
 
+    private long measureScheduleDelay() {
+        if (isNull(rateSchedule)) {
+            return 0;
+        }
+        long nowNs = nanoTime();
+        // Executions issued before the schedule starts (i.e. during ramp up) are not corrected
+        return rateSchedule.hasStarted(nowNs) ? Math.max(nowNs - rateSchedule.nextIntendedStartTimeNs(), 0) : 0;
+    }
+
+    private void addLatencyMeasurement(long latencyNs, long scheduleDelayNs) {
+        stats.addLatencyMeasurement(latencyNs);
+        if (nonNull(correctedStats)) {
+            correctedStats.addLatencyMeasurement(latencyNs + scheduleDelayNs);
+        }
+    }
+
+    private void incrementEvaluationCount(int count) {
+        if (count == 1) {
+            stats.incrementEvaluationCount();
+        } else if (count > 1) {
+            stats.incrementEvaluationCount(count);
+        }
+    }
+
+    private long startAllocationMeasurement() {
+        return nonNull(allocationStats) ? AllocationCounter.currentThreadAllocatedBytes() : 0;
+    }
+
+    // Only successful invocations are measured, i.e. exception construction is not attributed to the test
+    private void addAllocationMeasurement(long startBytes) {
+        if (nonNull(allocationStats)) {
+            allocationStats.addAllocationMeasurement(AllocationCounter.allocatedSince(startBytes), operationsPerInvocation);
+        }
+    }
+
+    private long startCpuTimeMeasurement() {
+        return nonNull(cpuTimeStats) ? CpuTimeCounter.currentThreadCpuTimeNs() : 0;
+    }
+
+    // User time is read outside of the CPU time reads, so the cost of reading it is not included in the CPU time
+    private long startUserTimeMeasurement() {
+        return nonNull(cpuTimeStats) ? CpuTimeCounter.currentThreadUserTimeNs() : 0;
+    }
+
+    // As with allocations, only successful invocations are measured
+    private void addCpuTimeMeasurement(long startCpuTimeNs, long startUserTimeNs) {
+        if (nonNull(cpuTimeStats)) {
+            long cpuTimeNs = CpuTimeCounter.cpuTimeSince(startCpuTimeNs);
+            cpuTimeStats.addCpuTimeMeasurement(cpuTimeNs, CpuTimeCounter.userTimeSince(startUserTimeNs), operationsPerInvocation);
+        }
+    }
+
     private void checkForIgnorable(Throwable throwable) {
         if (isIgnorableException(throwable)) {
             stats.incrementEvaluationCount();
@@ -153,7 +259,8 @@ final class EvaluationTask implements Runnable {
 
     private void waitForPermit() {
         if (nonNull(rateLimiter)) {
-            rateLimiter.acquire();
+            // Rate limits apply to invocations, not batches
+            rateLimiter.acquire(operationsPerInvocation);
         }
     }
 
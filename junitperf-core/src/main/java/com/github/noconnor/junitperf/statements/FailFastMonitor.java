@@ -0,0 +1,93 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.statements.IntervalStatisticsCalculator.IntervalMeasurements;
+import com.github.noconnor.junitperf.statements.IntervalStatisticsCalculator.Reader;
+import com.github.noconnor.junitperf.statistics.providers.HdrHistogramStatisticsCalculator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static java.lang.System.nanoTime;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Periodically evaluates the test requirements against the measurements of the test so far on a background thread
+// (see JUnitPerfTest failFast). Once a requirement has failed, the test is stopped by releasing the latch it waits on.
+// Measurements are read from the swap-on-read interval recorders, the test statistics themselves are never queried
+// while the test is running (calculating their percentiles may block or slow down the evaluation threads)
+@Slf4j
+final class FailFastMonitor {
+
+  static final int CHECK_INTERVAL_MS = 500;
+
+  private static final ThreadFactory FACTORY = new ThreadFactoryBuilder()
+    .setNameFormat("perf-fail-fast-monitor-%d")
+    .setDaemon(true)
+    .build();
+
+  private final EvaluationContext context;
+  private final Reader reader;
+  // Accumulated from the interval recorders, only accessed by the monitor thread
+  private final HdrHistogramStatisticsCalculator measured = new HdrHistogramStatisticsCalculator();
+  private final CountDownLatch latch;
+  private final int checkIntervalMs;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(FACTORY);
+
+  private volatile long measurementStartNs;
+  private volatile String failure;
+  private volatile long failureMeasuredMs;
+
+  FailFastMonitor(EvaluationContext context, IntervalStatisticsCalculator statistics, CountDownLatch latch) {
+    this(context, statistics, latch, CHECK_INTERVAL_MS);
+  }
+
+  FailFastMonitor(EvaluationContext context, IntervalStatisticsCalculator statistics, CountDownLatch latch, int checkIntervalMs) {
+    this.context = context;
+    this.reader = statistics.newReader();
+    this.latch = latch;
+    this.checkIntervalMs = checkIntervalMs;
+  }
+
+  // Measurements are only checked once the warm up period has elapsed
+  void start(int warmUpMs) {
+    measurementStartNs = nanoTime() + MILLISECONDS.toNanos(Math.max(warmUpMs, 0));
+    scheduler.scheduleAtFixedRate(this::check, Math.max(warmUpMs, 0) + checkIntervalMs, checkIntervalMs, MILLISECONDS);
+  }
+
+  // Stops monitoring, the reason the test was stopped early (if it was) is recorded on the context
+  void stop() {
+    scheduler.shutdownNow();
+    if (nonNull(failure)) {
+      context.setFailFastTermination(failure, failureMeasuredMs);
+    }
+  }
+
+  private void check() {
+    try {
+      IntervalMeasurements interval = reader.read();
+      measured.add(interval.getLatencies());
+      measured.incrementEvaluationCount(interval.getEvaluationCount());
+      measured.incrementErrorCount(interval.getErrorCount());
+      String reason = context.evaluateFailFast(measured);
+      if (nonNull(reason)) {
+        failureMeasuredMs = NANOSECONDS.toMillis(nanoTime() - measurementStartNs);
+        failure = reason;
+        log.warn("Stopping {} after {}ms: {}", context.getTestName(), failureMeasuredMs, reason);
+        scheduler.shutdown();
+        while (latch.getCount() > 0) {
+          latch.countDown();
+        }
+      }
+    } catch (Exception e) {
+      // An exception would silently cancel all further checks
+      log.warn("Fail fast check failed", e);
+    }
+  }
+
+}
@@ -0,0 +1,208 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.ForkResult;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Runs a test in fresh child JVMs, one fork after the other (see JUnitPerfTest forks). Each fork runs the test as usual
+// & streams its measurements back over a loopback socket instead of reporting them
+@Slf4j
+final class ForkedEvaluation {
+
+  // Set on forked JVMs only, the parent's port to stream measurements to
+  static final String JUNITPERF_FORK_PORT = "junitperf.fork.port";
+  static final String JUNITPERF_FORKS = "junitperf.forks";
+  static final String JUNITPERF_JVM_ARGS = "junitperf.jvmArgs";
+
+  private static final String JUNITPERF_PROPERTY_PREFIX = "junitperf.";
+  private static final int ACCEPT_POLL_INTERVAL_MS = 1_000;
+  private static final int RESPONSE_TIMEOUT_MS = 60_000;
+
+  private final ForkedTest test;
+  private final int forks;
+  private final List<String> jvmArgs;
+  // Time a fork is given to start, run the test & report its measurements
+  private final long timeoutMs;
+
+  ForkedEvaluation(ForkedTest test, int forks, List<String> jvmArgs, long timeoutMs) {
+    this.test = test;
+    this.forks = forks;
+    this.jvmArgs = jvmArgs;
+    this.timeoutMs = timeoutMs;
+  }
+
+  static boolean isForkedJvm() {
+    return nonNull(System.getProperty(JUNITPERF_FORK_PORT));
+  }
+
+  // Forked JVM only, streams the measurements of the test to the parent JVM
+  static void sendMeasurements(long evaluationCount, long errorCount, long measurementWindowNs, Histogram latencies) throws IOException {
+    int port = Integer.getInteger(JUNITPERF_FORK_PORT);
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+      writeMeasurements(out, evaluationCount, errorCount, measurementWindowNs, latencies);
+    }
+  }
+
+  static void writeMeasurements(DataOutputStream out, long evaluationCount, long errorCount, long measurementWindowNs, Histogram latencies) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(latencies.getNeededByteBufferCapacity());
+    int length = latencies.encodeIntoCompressedByteBuffer(buffer);
+    out.writeLong(evaluationCount);
+    out.writeLong(errorCount);
+    out.writeLong(measurementWindowNs);
+    out.writeInt(length);
+    out.write(buffer.array(), 0, length);
+    out.flush();
+  }
+
+  // Reads the latencies written by writeMeasurements, after the evaluation & error counts & the measurement window
+  static Histogram readLatencies(DataInputStream in) throws IOException {
+    byte[] encoded = new byte[in.readInt()];
+    in.readFully(encoded);
+    try {
+      return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded), 0);
+    } catch (DataFormatException e) {
+      throw new IOException("Invalid latency histogram", e);
+    }
+  }
+
+  // Command to run the test in a new JVM, i.e. using the test classpath of this JVM
+  static List<String> javaCommand(ForkedTest test, List<String> jvmArgs, Map<String, String> properties, String classPath) {
+    List<String> command = newArrayList(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(jvmArgs);
+    new TreeMap<>(properties).forEach((name, value) -> command.add(format("-D%s=%s", name, value)));
+    command.add("-cp");
+    command.add(classPath);
+    command.add(test.getMainClass());
+    command.addAll(test.getArguments());
+    return command;
+  }
+
+  // Test setting overrides of this JVM (-Djunitperf.<param>), they apply to child JVMs too
+  static Map<String, String> junitperfProperties() {
+    Map<String, String> properties = new TreeMap<>();
+    System.getProperties().stringPropertyNames().stream()
+      .filter(name -> name.startsWith(JUNITPERF_PROPERTY_PREFIX))
+      .forEach(name -> properties.put(name, System.getProperty(name)));
+    return properties;
+  }
+
+  List<ForkResult> run() throws IOException, InterruptedException {
+    List<ForkResult> results = newArrayList();
+    try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      server.setSoTimeout(ACCEPT_POLL_INTERVAL_MS);
+      for (int fork = 1; fork <= forks; fork++) {
+        results.add(runFork(server, fork));
+      }
+    }
+    return results;
+  }
+
+  List<String> command(int port) {
+    Map<String, String> properties = junitperfProperties();
+    properties.put(JUNITPERF_FORKS, "0");
+    properties.put(JUNITPERF_FORK_PORT, String.valueOf(port));
+    return javaCommand(test, jvmArgs, properties, System.getProperty("java.class.path"));
+  }
+
+  private ForkResult runFork(ServerSocket server, int fork) throws IOException, InterruptedException {
+    log.info("Starting fork {} of {}", fork, forks);
+    Process process = new ProcessBuilder(command(server.getLocalPort())).redirectErrorStream(true).start();
+    relayOutput(process, "junitperf-fork-" + fork + "-output");
+    try {
+      ForkResult result = receive(server, process, fork);
+      if (isNull(result)) {
+        throw new IllegalStateException(format("Fork %d exited (exit code %d) without reporting any measurements", fork, process.exitValue()));
+      }
+      process.waitFor();
+      return result;
+    } finally {
+      if (process.isAlive()) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  // Child JVM output is written to this JVM's System.out, the native stdout/stderr streams may be in use
+  // (i.e. surefire uses them to communicate with its own forked JVMs)
+  static void relayOutput(Process process, String threadName) {
+    Thread relay = new Thread(() -> {
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8))) {
+        reader.lines().forEach(System.out::println);
+      } catch (IOException | UncheckedIOException e) {
+        log.trace("Child JVM output closed", e);
+      }
+    }, threadName);
+    relay.setDaemon(true);
+    relay.start();
+  }
+
+  // Waits for the fork to connect, a fork that has exited gets one last chance, its connection may still be pending.
+  // A fork that is still running after the timeout is hung (i.e. a deadlocked test or a non daemon thread), it is killed
+  private ForkResult receive(ServerSocket server, Process process, int fork) throws IOException {
+    long deadlineMs = currentTimeMillis() + timeoutMs;
+    boolean hasExited = false;
+    while (!hasExited) {
+      if (currentTimeMillis() > deadlineMs) {
+        process.destroyForcibly();
+        throw new IllegalStateException(format("Fork %d did not report any measurements within %dms", fork, timeoutMs));
+      }
+      hasExited = !process.isAlive();
+      Socket socket = accept(server);
+      if (nonNull(socket)) {
+        try (Socket connection = socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()))) {
+          connection.setSoTimeout(RESPONSE_TIMEOUT_MS);
+          return readResult(in, fork);
+        }
+      }
+    }
+    return null;
+  }
+
+  private ForkResult readResult(DataInputStream in, int fork) throws IOException {
+    long evaluationCount = in.readLong();
+    long errorCount = in.readLong();
+    long measurementWindowNs = in.readLong();
+    try {
+      return new ForkResult(fork, measurementWindowNs, evaluationCount, errorCount, readLatencies(in));
+    } catch (IOException e) {
+      throw new IOException(format("Fork %d sent invalid measurements", fork), e);
+    }
+  }
+
+  static Socket accept(ServerSocket server) throws IOException {
+    try {
+      return server.accept();
+    } catch (SocketTimeoutException e) {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,15 @@
+package com.github.noconnor.junitperf.statements;
+
+import lombok.Value;
+
+import java.util.List;
+
+// How a forked JVM runs a single test (see JUnitPerfTest forks), i.e. a test framework specific main class & the
+// arguments that select the test method. Supplied by the JUnit4/JUnit5 integrations
+@Value
+public class ForkedTest {
+
+  String mainClass;
+  List<String> arguments;
+
+}
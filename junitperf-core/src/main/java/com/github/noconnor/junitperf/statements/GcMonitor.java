@@ -0,0 +1,121 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.statistics.GcStatistics;
+import com.github.noconnor.junitperf.statistics.GcStatistics.GcPause;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.sun.management.GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.containsIgnoreCase;
+
+// Subscribes to the garbage collector notifications of HotSpot based JVMs & records the pauses that start after the
+// warm up period. Notifications are delivered asynchronously, shortly after each collection completes
+// (GcInfo timestamps use a JVM internal clock that is not aligned with System.nanoTime(), so pause start times are
+// estimated from the notification arrival time & pause duration)
+@Slf4j
+final class GcMonitor implements NotificationListener {
+
+  private static final String MINOR_GC_ACTION = "end of minor GC";
+
+  private final GcStatistics statistics = new GcStatistics();
+  private final List<NotificationEmitter> emitters = newArrayList();
+
+  private volatile long measurementStartNs;
+
+  GcStatistics getStatistics() {
+    return statistics;
+  }
+
+  static boolean isSupported() {
+    try {
+      Class.forName("com.sun.management.GarbageCollectionNotificationInfo");
+      return ManagementFactory.getGarbageCollectorMXBeans().stream().anyMatch(bean -> bean instanceof NotificationEmitter);
+    } catch (ClassNotFoundException | LinkageError | SecurityException e) {
+      log.trace("GC notifications are not available", e);
+      return false;
+    }
+  }
+
+  synchronized void start(int warmUpMs) {
+    measurementStartNs = nanoTime() + MILLISECONDS.toNanos(Math.max(warmUpMs, 0));
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (bean instanceof NotificationEmitter) {
+        NotificationEmitter emitter = (NotificationEmitter) bean;
+        emitter.addNotificationListener(this, null, null);
+        emitters.add(emitter);
+      }
+    }
+  }
+
+  // Stops monitoring, returns all pauses observed during the measurement period
+  synchronized GcStatistics stop() {
+    for (NotificationEmitter emitter : emitters) {
+      try {
+        emitter.removeNotificationListener(this);
+      } catch (ListenerNotFoundException e) {
+        log.trace("GC listener already removed", e);
+      }
+    }
+    emitters.clear();
+    statistics.setMeasuredDurationNs(Math.max(nanoTime() - measurementStartNs, 0));
+    return statistics;
+  }
+
+  @Override
+  public void handleNotification(Notification notification, Object handback) {
+    long receivedNs = nanoTime();
+    if (!GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+      return;
+    }
+    GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+    if (isConcurrent(info.getGcName(), info.getGcAction())) {
+      return;
+    }
+    GcInfo gcInfo = info.getGcInfo();
+    long startTimeNs = receivedNs - MILLISECONDS.toNanos(gcInfo.getDuration());
+    if (startTimeNs < measurementStartNs) {
+      return;
+    }
+    long promotedBytes = MINOR_GC_ACTION.equals(info.getGcAction())
+      ? promotedBytes(gcInfo.getMemoryUsageBeforeGc(), gcInfo.getMemoryUsageAfterGc())
+      : 0;
+    statistics.addPause(new GcPause(info.getGcName(), startTimeNs, gcInfo.getDuration(), promotedBytes));
+  }
+
+  // Concurrent collector cycles (i.e. G1 concurrent marking, ZGC & Shenandoah cycles) run alongside application threads
+  static boolean isConcurrent(String gcName, String gcAction) {
+    return containsIgnoreCase(gcAction, "concurrent") || containsIgnoreCase(gcName, "concurrent") || containsIgnoreCase(gcName, "cycles");
+  }
+
+  // Growth of the old generation pools during a young collection
+  static long promotedBytes(Map<String, MemoryUsage> before, Map<String, MemoryUsage> after) {
+    long promoted = 0;
+    for (Map.Entry<String, MemoryUsage> pool : after.entrySet()) {
+      MemoryUsage previous = before.get(pool.getKey());
+      if (isOldGeneration(pool.getKey()) && previous != null) {
+        promoted += Math.max(pool.getValue().getUsed() - previous.getUsed(), 0);
+      }
+    }
+    return promoted;
+  }
+
+  private static boolean isOldGeneration(String poolName) {
+    return containsIgnoreCase(poolName, "old") || containsIgnoreCase(poolName, "tenured");
+  }
+
+}
@@ -0,0 +1,105 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.HarnessOverhead;
+import com.github.noconnor.junitperf.statistics.AllocationStatistics;
+import com.github.noconnor.junitperf.statistics.CpuTimeStatistics;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Runs an empty test through the evaluation loop, using the same threads, rate limiting, statistics & measurements as
+// the test, to measure the latency & per iteration cost of the harness itself
+@Slf4j
+final class HarnessOverheadCalibrator {
+
+  static final int WARM_UP_MS = 200;
+  static final int MEASUREMENT_MS = 500;
+
+  private static final SimpleTestStatement EMPTY_STATEMENT = () -> {};
+
+  private final ThreadFactory threadFactory;
+  private final StatisticsCalculator stats;
+  private final int threads;
+  private final boolean isRateLimited;
+  private final boolean isAllocationMeasured;
+  private final boolean isCpuTimeMeasured;
+  private final int operationsPerInvocation;
+
+  @Builder
+  HarnessOverheadCalibrator(ThreadFactory threadFactory,
+                            StatisticsCalculator stats,
+                            int threads,
+                            boolean isRateLimited,
+                            boolean isAllocationMeasured,
+                            boolean isCpuTimeMeasured,
+                            int operationsPerInvocation) {
+    this.threadFactory = threadFactory;
+    this.stats = stats;
+    this.threads = Math.max(threads, 1);
+    this.isRateLimited = isRateLimited;
+    this.isAllocationMeasured = isAllocationMeasured;
+    this.isCpuTimeMeasured = isCpuTimeMeasured;
+    this.operationsPerInvocation = operationsPerInvocation;
+  }
+
+  // Statistics are reset before returning, null if no iterations could be measured
+  HarnessOverhead calibrate() throws InterruptedException {
+    stats.reset();
+    AtomicBoolean stopSignal = new AtomicBoolean();
+    // Permits are acquired (as the test does) but never waited for
+    RateLimiter rateLimiter = isRateLimited ? RateLimiter.create(Double.POSITIVE_INFINITY) : null;
+    List<Thread> workers = newArrayList();
+    long measurementStartNs = nanoTime() + MILLISECONDS.toNanos(WARM_UP_MS);
+    long measurementEndNs;
+    try {
+      for (int i = 0; i < threads; i++) {
+        EvaluationTask task = EvaluationTask.builder()
+          .statement(EMPTY_STATEMENT)
+          .rateLimiter(rateLimiter)
+          .stats(stats)
+          .allocationStats(isAllocationMeasured ? new AllocationStatistics() : null)
+          .cpuTimeStats(isCpuTimeMeasured ? new CpuTimeStatistics() : null)
+          .terminator(stopSignal::get)
+          .warmUpPeriodMs(WARM_UP_MS)
+          .operationsPerInvocation(operationsPerInvocation)
+          .build();
+        Thread worker = threadFactory.newThread(task);
+        workers.add(worker);
+        worker.start();
+      }
+      MILLISECONDS.sleep(WARM_UP_MS + MEASUREMENT_MS);
+    } finally {
+      measurementEndNs = nanoTime();
+      stopSignal.set(true);
+      for (Thread worker : workers) {
+        worker.join(MEASUREMENT_MS);
+      }
+    }
+    long measuredNs = measurementEndNs - measurementStartNs;
+    long iterations = stats.getEvaluationCount();
+    HarnessOverhead overhead = null;
+    if (iterations > 0) {
+      overhead = new HarnessOverhead(
+        stats.getLatencyPercentile(50, NANOSECONDS),
+        stats.getMeanLatency(NANOSECONDS),
+        stats.getLatencyPercentile(99, NANOSECONDS),
+        (float) measuredNs * threads / iterations
+      );
+    } else {
+      log.warn("Harness overhead could not be measured, no iterations completed");
+    }
+    stats.reset();
+    return overhead;
+  }
+
+}
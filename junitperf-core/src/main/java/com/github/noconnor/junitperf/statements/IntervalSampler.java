@@ -0,0 +1,129 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.IntervalSample;
+import com.github.noconnor.junitperf.statements.IntervalStatisticsCalculator.IntervalMeasurements;
+import com.github.noconnor.junitperf.statements.IntervalStatisticsCalculator.Reader;
+import com.github.noconnor.junitperf.statistics.GcStatistics;
+import com.github.noconnor.junitperf.statistics.GcStatistics.GcPause;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+
+// Periodically reads the interval recorders of an IntervalStatisticsCalculator on a background thread.
+// Sampling starts once the warm up period has elapsed, a final (partial) interval is sampled when the sampler is stopped.
+// Only the most recent MAX_RETAINED_INTERVALS intervals are kept, so memory use of long (soak) runs is bounded
+@Slf4j
+final class IntervalSampler {
+
+  // i.e. the last 2 hours of a run at the default interval of 1s
+  static final int MAX_RETAINED_INTERVALS = 7_200;
+
+  private static final ThreadFactory FACTORY = new ThreadFactoryBuilder()
+    .setNameFormat("perf-interval-sampler-%d")
+    .setDaemon(true)
+    .build();
+
+  private final Reader reader;
+  private final int intervalMs;
+  private final GcStatistics gcStatistics;
+  private final LongSupplier clock;
+  private final Deque<IntervalSample> samples = new ArrayDeque<>();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(FACTORY);
+
+  private int intervalCount;
+  private long measurementStartNs;
+  private long intervalStartNs;
+  private boolean isStarted;
+
+  IntervalSampler(IntervalStatisticsCalculator statistics, int intervalMs) {
+    this(statistics, intervalMs, null);
+  }
+
+  // GC pauses (if monitored) are attributed to the interval they started in
+  IntervalSampler(IntervalStatisticsCalculator statistics, int intervalMs, GcStatistics gcStatistics) {
+    this(statistics, intervalMs, gcStatistics, System::nanoTime);
+  }
+
+  // Interval start times & durations are read from the clock (nanoseconds)
+  IntervalSampler(IntervalStatisticsCalculator statistics, int intervalMs, GcStatistics gcStatistics, LongSupplier clock) {
+    this.reader = statistics.newReader();
+    this.intervalMs = intervalMs;
+    this.gcStatistics = gcStatistics;
+    this.clock = clock;
+  }
+
+  void start(int warmUpMs) {
+    scheduler.schedule(this::startMeasurements, Math.max(warmUpMs, 0), MILLISECONDS);
+    scheduler.scheduleAtFixedRate(this::sample, Math.max(warmUpMs, 0) + intervalMs, intervalMs, MILLISECONDS);
+  }
+
+  // Stops sampling, returns the (retained) samples captured during the measurement period
+  synchronized List<IntervalSample> stop() {
+    scheduler.shutdownNow();
+    if (isStarted && NANOSECONDS.toMillis(clock.getAsLong() - intervalStartNs) > 0) {
+      sample();
+    }
+    isStarted = false;
+    return samples.stream().map(this::attributeGcPauses).collect(toList());
+  }
+
+  synchronized void startMeasurements() {
+    // Discard anything recorded during the warm up period
+    reader.read();
+    measurementStartNs = clock.getAsLong();
+    intervalStartNs = measurementStartNs;
+    isStarted = true;
+  }
+
+  // GC notifications are delivered asynchronously, so pauses are attributed once sampling has stopped
+  private IntervalSample attributeGcPauses(IntervalSample sample) {
+    if (isNull(gcStatistics)) {
+      return sample;
+    }
+    long intervalStartNs = measurementStartNs + MILLISECONDS.toNanos(sample.getStartOffsetMs());
+    List<GcPause> pauses = gcStatistics.getPausesBetween(intervalStartNs, intervalStartNs + MILLISECONDS.toNanos(sample.getDurationMs()));
+    return sample.toBuilder()
+      .gcPauseCount(pauses.size())
+      .gcPauseMs(pauses.stream().mapToLong(GcPause::getDurationMs).sum())
+      .build();
+  }
+
+  synchronized void sample() {
+    if (!isStarted) {
+      return;
+    }
+    long nowNs = clock.getAsLong();
+    long startOffsetMs = NANOSECONDS.toMillis(intervalStartNs - measurementStartNs);
+    long durationMs = NANOSECONDS.toMillis(nowNs - intervalStartNs);
+    IntervalMeasurements measurements = reader.read();
+    samples.addLast(IntervalSample.builder()
+      .index(intervalCount++)
+      .startOffsetMs(startOffsetMs)
+      .durationMs(durationMs)
+      .evaluationCount(measurements.getEvaluationCount())
+      .errorCount(measurements.getErrorCount())
+      .latencies(measurements.getLatencies())
+      .build());
+    if (samples.size() > MAX_RETAINED_INTERVALS) {
+      samples.removeFirst();
+      if (intervalCount == MAX_RETAINED_INTERVALS + 1) {
+        log.info("More than {} intervals recorded, only the most recent intervals are retained", MAX_RETAINED_INTERVALS);
+      }
+    }
+    intervalStartNs = nowNs;
+    log.trace("Sampled interval {}", intervalCount);
+  }
+
+}
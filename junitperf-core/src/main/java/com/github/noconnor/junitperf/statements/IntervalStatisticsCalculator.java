@@ -0,0 +1,222 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.HdrHistogram.WriterReaderPhaser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.collect.Lists.newArrayList;
+
+// Records measurements into the overall test statistics & into swap-on-read interval recorders.
+// Writers never block, each interval read swaps in fresh recorders & waits for in flight writes to the previous ones
+// to complete (see HdrHistogram WriterReaderPhaser). The interval recorders are read by any number of readers (interval
+// sampler, fail fast & convergence monitors), all other reads are served from the overall test statistics
+final class IntervalStatisticsCalculator implements StatisticsCalculator {
+
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final StatisticsCalculator statistics;
+  private final Recorder latencyRecorder = new Recorder(SIGNIFICANT_DIGITS);
+  private final WriterReaderPhaser countsPhaser = new WriterReaderPhaser();
+  private final List<Reader> readers = newArrayList();
+
+  private volatile IntervalCounts activeCounts = new IntervalCounts();
+  // Recycled by each swap, swapped out latencies are added to the pending latencies of each reader
+  private Histogram swappedLatencies;
+
+  IntervalStatisticsCalculator(StatisticsCalculator statistics) {
+    this.statistics = statistics;
+  }
+
+  // A reader is handed the measurements recorded since its own previous read (or since it was created)
+  synchronized Reader newReader() {
+    Reader reader = new Reader();
+    readers.add(reader);
+    return reader;
+  }
+
+  // Swaps in fresh recorders, the measurements recorded since the previous swap are pending for every reader
+  private synchronized void swap() {
+    IntervalCounts counts;
+    countsPhaser.readerLock();
+    try {
+      counts = activeCounts;
+      activeCounts = new IntervalCounts();
+      countsPhaser.flipPhase();
+    } finally {
+      countsPhaser.readerUnlock();
+    }
+    swappedLatencies = latencyRecorder.getIntervalHistogram(swappedLatencies);
+    long evaluations = counts.evaluations.sum();
+    long errors = counts.errors.sum();
+    readers.forEach(reader -> reader.addPending(swappedLatencies, evaluations, errors));
+  }
+
+  @Override
+  public void addLatencyMeasurement(long executionTimeNs) {
+    statistics.addLatencyMeasurement(executionTimeNs);
+    latencyRecorder.recordValue(Math.max(executionTimeNs, 0));
+  }
+
+  @Override
+  public void addMeasurementTime(long startTimeNs, long endTimeNs) {
+    statistics.addMeasurementTime(startTimeNs, endTimeNs);
+  }
+
+  @Override
+  public long getMeasurementWindowNs() {
+    return statistics.getMeasurementWindowNs();
+  }
+
+  @Override
+  public void incrementErrorCount() {
+    statistics.incrementErrorCount();
+    long stamp = countsPhaser.writerCriticalSectionEnter();
+    try {
+      activeCounts.errors.increment();
+    } finally {
+      countsPhaser.writerCriticalSectionExit(stamp);
+    }
+  }
+
+  @Override
+  public void incrementErrorCount(long count) {
+    statistics.incrementErrorCount(count);
+    long stamp = countsPhaser.writerCriticalSectionEnter();
+    try {
+      activeCounts.errors.add(count);
+    } finally {
+      countsPhaser.writerCriticalSectionExit(stamp);
+    }
+  }
+
+  @Override
+  public void incrementEvaluationCount() {
+    statistics.incrementEvaluationCount();
+    long stamp = countsPhaser.writerCriticalSectionEnter();
+    try {
+      activeCounts.evaluations.increment();
+    } finally {
+      countsPhaser.writerCriticalSectionExit(stamp);
+    }
+  }
+
+  @Override
+  public void incrementEvaluationCount(long count) {
+    statistics.incrementEvaluationCount(count);
+    long stamp = countsPhaser.writerCriticalSectionEnter();
+    try {
+      activeCounts.evaluations.add(count);
+    } finally {
+      countsPhaser.writerCriticalSectionExit(stamp);
+    }
+  }
+
+  @Override
+  public long getErrorCount() {
+    return statistics.getErrorCount();
+  }
+
+  @Override
+  public long getEvaluationCount() {
+    return statistics.getEvaluationCount();
+  }
+
+  @Override
+  public float getLatencyPercentile(int percentile, TimeUnit unit) {
+    return statistics.getLatencyPercentile(percentile, unit);
+  }
+
+  @Override
+  public float getLatencyPercentile(double percentile, TimeUnit unit) {
+    return statistics.getLatencyPercentile(percentile, unit);
+  }
+
+  @Override
+  public float[] getLatencyPercentiles(double[] percentiles, TimeUnit unit) {
+    return statistics.getLatencyPercentiles(percentiles, unit);
+  }
+
+  @Override
+  public float getMaxLatency(TimeUnit unit) {
+    return statistics.getMaxLatency(unit);
+  }
+
+  @Override
+  public float getMinLatency(TimeUnit unit) {
+    return statistics.getMinLatency(unit);
+  }
+
+  @Override
+  public float getMeanLatency(TimeUnit unit) {
+    return statistics.getMeanLatency(unit);
+  }
+
+  @Override
+  public float getErrorPercentage() {
+    return statistics.getErrorPercentage();
+  }
+
+  @Override
+  public synchronized void reset() {
+    statistics.reset();
+    swap();
+    readers.forEach(Reader::clearPending);
+  }
+
+  private static final class IntervalCounts {
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+  }
+
+  // Measurements recorded between two reads of a reader
+  @Value
+  static class IntervalMeasurements {
+    // Recycled by the next read of the reader
+    Histogram latencies;
+    long evaluationCount;
+    long errorCount;
+  }
+
+  final class Reader {
+
+    private Histogram pendingLatencies = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram readLatencies = new Histogram(SIGNIFICANT_DIGITS);
+    private long pendingEvaluations;
+    private long pendingErrors;
+
+    private Reader() {
+    }
+
+    // Returns the measurements recorded since the previous read
+    IntervalMeasurements read() {
+      synchronized (IntervalStatisticsCalculator.this) {
+        swap();
+        Histogram latencies = pendingLatencies;
+        pendingLatencies = readLatencies;
+        readLatencies = latencies;
+        IntervalMeasurements measurements = new IntervalMeasurements(latencies, pendingEvaluations, pendingErrors);
+        clearPending();
+        return measurements;
+      }
+    }
+
+    private void addPending(Histogram latencies, long evaluations, long errors) {
+      pendingLatencies.add(latencies);
+      pendingEvaluations += evaluations;
+      pendingErrors += errors;
+    }
+
+    private void clearPending() {
+      pendingLatencies.reset();
+      pendingEvaluations = 0;
+      pendingErrors = 0;
+    }
+  }
+
+}
@@ -0,0 +1,173 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.ProfileSummary;
+import com.github.noconnor.junitperf.data.ProfileSummary.ProfileEntry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static java.util.Map.Entry.comparingByValue;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+
+// Records a JFR profile (JDK "profile" settings) of the measurement period, i.e. recording starts once the warm up
+// period has elapsed. The recording is dumped to a temporary file & summarised when the profiler is stopped
+@Slf4j
+final class JfrProfiler {
+
+  static final int TOP_FRAMES = 10;
+
+  private static final String SETTINGS = "profile";
+  private static final ThreadFactory FACTORY = new ThreadFactoryBuilder()
+    .setNameFormat("perf-jfr-profiler-%d")
+    .setDaemon(true)
+    .build();
+
+  private final String name;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(FACTORY);
+
+  private Recording recording;
+  // shutdownNow does not cancel a start task that is already waiting for the lock, once stopped it must not record
+  private boolean isStopped;
+
+  JfrProfiler(String name) {
+    this.name = name;
+  }
+
+  static boolean isSupported() {
+    try {
+      Class.forName("jdk.jfr.Recording");
+      return FlightRecorder.isAvailable();
+    } catch (ClassNotFoundException | LinkageError e) {
+      log.trace("JFR is not available", e);
+      return false;
+    }
+  }
+
+  void start(int warmUpMs) {
+    scheduler.schedule(this::startRecording, Math.max(warmUpMs, 0), MILLISECONDS);
+  }
+
+  // Stops recording, returns null if the recording never started (i.e. test stopped during warm up) or failed
+  synchronized ProfileSummary stop() {
+    isStopped = true;
+    scheduler.shutdownNow();
+    if (isNull(recording)) {
+      return null;
+    }
+    try {
+      recording.stop();
+      Path recordingPath = Files.createTempFile("junitperf-", ".jfr");
+      recordingPath.toFile().deleteOnExit();
+      recording.dump(recordingPath);
+      return summarise(recordingPath, TOP_FRAMES);
+    } catch (Exception e) {
+      log.warn("Unable to capture JFR recording for {}", name, e);
+      return null;
+    } finally {
+      recording.close();
+      recording = null;
+    }
+  }
+
+  synchronized boolean isRecording() {
+    return nonNull(recording);
+  }
+
+  synchronized void startRecording() {
+    if (isStopped) {
+      return;
+    }
+    try {
+      recording = new Recording(Configuration.getConfiguration(SETTINGS));
+      recording.setName("junitperf-" + name);
+      recording.start();
+    } catch (Exception e) {
+      log.warn("Unable to start JFR recording for {}", name, e);
+      recording = null;
+    }
+  }
+
+  static ProfileSummary summarise(Path recordingPath, int topFrames) throws IOException {
+    Map<String, Long> hotMethods = new HashMap<>();
+    Map<String, Long> sampledAllocations = new HashMap<>();
+    Map<String, Long> tlabAllocations = new HashMap<>();
+    Map<String, Long> lockContention = new HashMap<>();
+    try (RecordingFile file = new RecordingFile(recordingPath)) {
+      while (file.hasMoreEvents()) {
+        RecordedEvent event = file.readEvent();
+        String frame = topFrame(event);
+        if (isNull(frame)) {
+          continue;
+        }
+        switch (event.getEventType().getName()) {
+          case "jdk.ExecutionSample":
+            hotMethods.merge(frame, 1L, Long::sum);
+            break;
+          case "jdk.ObjectAllocationSample":
+            sampledAllocations.merge(frame, event.getLong("weight"), Long::sum);
+            break;
+          case "jdk.ObjectAllocationInNewTLAB":
+            tlabAllocations.merge(frame, event.getLong("tlabSize"), Long::sum);
+            break;
+          case "jdk.ObjectAllocationOutsideTLAB":
+            tlabAllocations.merge(frame, event.getLong("allocationSize"), Long::sum);
+            break;
+          case "jdk.JavaMonitorEnter":
+            String monitor = nonNull(event.getClass("monitorClass")) ? event.getClass("monitorClass").getName() : "?";
+            lockContention.merge(frame + " (" + monitor + ")", event.getDuration().toNanos(), Long::sum);
+            break;
+          default:
+            break;
+        }
+      }
+    }
+    // Allocation sample events (JDK 16+) replace the TLAB events, only one of which is enabled by the profile settings
+    Map<String, Long> allocations = sampledAllocations.isEmpty() ? tlabAllocations : sampledAllocations;
+    return new ProfileSummary(
+      recordingPath.toString(),
+      top(hotMethods, topFrames),
+      top(allocations, topFrames),
+      top(lockContention, topFrames)
+    );
+  }
+
+  private static String topFrame(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    if (isNull(stackTrace) || stackTrace.getFrames().isEmpty()) {
+      return null;
+    }
+    RecordedFrame frame = stackTrace.getFrames().get(0);
+    RecordedMethod method = frame.getMethod();
+    return method.getType().getName() + "." + method.getName();
+  }
+
+  private static List<ProfileEntry> top(Map<String, Long> values, int count) {
+    long total = values.values().stream().mapToLong(Long::longValue).sum();
+    return values.entrySet().stream()
+      .sorted(comparingByValue((a, b) -> Long.compare(b, a)))
+      .limit(count)
+      .map(e -> new ProfileEntry(e.getKey(), e.getValue(), total > 0 ? e.getValue() * 100F / total : 0))
+      .collect(toList());
+  }
+
+}
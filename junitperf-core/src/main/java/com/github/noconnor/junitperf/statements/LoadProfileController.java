@@ -0,0 +1,124 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.LoadStage;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static java.lang.System.nanoTime;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+
+// Steps through the stages of a load profile, adjusting the number of active evaluation threads & the rate limit
+// as each stage starts (or continuously for ramp stages)
+@Slf4j
+final class LoadProfileController {
+
+  static final long RAMP_UPDATE_INTERVAL_MS = 100;
+
+  private final List<LoadStage> stages;
+  private final RateLimiter rateLimiter;
+  private final StagedStatisticsCalculator statistics;
+  private final List<StatisticsCalculator> stageStatistics;
+
+  private volatile int activeThreads;
+
+  LoadProfileController(List<LoadStage> stages,
+                        RateLimiter rateLimiter,
+                        StatisticsCalculator statistics,
+                        Supplier<StatisticsCalculator> stageStatisticsSupplier) {
+    this.stages = stages;
+    this.rateLimiter = rateLimiter;
+    this.statistics = new StagedStatisticsCalculator(statistics);
+    this.stageStatistics = stages.stream().map(stage -> stageStatisticsSupplier.get()).collect(toList());
+    // Warm up will run with the initial load of the first stage
+    LoadStage first = stages.get(0);
+    applyLoad(first.isRamp() ? 1 : first.getThreads(), initialRate(null, first));
+  }
+
+  StatisticsCalculator getStatistics() {
+    return statistics;
+  }
+
+  List<StatisticsCalculator> getStageStatistics() {
+    return stageStatistics;
+  }
+
+  boolean isSuspended(int threadIndex) {
+    return threadIndex >= activeThreads;
+  }
+
+  // Blocks until all stages have completed or until all evaluation tasks have completed (latch has counted down)
+  void run(CountDownLatch latch, int warmUpMs) throws InterruptedException {
+    if (latch.await(warmUpMs, MILLISECONDS)) {
+      return;
+    }
+    LoadStage previous = null;
+    for (int i = 0; i < stages.size(); i++) {
+      LoadStage stage = stages.get(i);
+      stageStatistics.get(i).reset();
+      statistics.setStageStatistics(stageStatistics.get(i));
+      log.debug("Starting load profile stage {}: {}", i + 1, stage);
+      boolean completed = stage.isRamp() ? runRamp(previous, stage, latch) : runStep(stage, latch);
+      if (completed) {
+        return;
+      }
+      previous = stage;
+    }
+  }
+
+  private boolean runStep(LoadStage stage, CountDownLatch latch) throws InterruptedException {
+    applyLoad(stage.getThreads(), stage.getMaxExecutionsPerSecond());
+    return latch.await(stage.getDurationMs(), MILLISECONDS);
+  }
+
+  private boolean runRamp(LoadStage previous, LoadStage stage, CountDownLatch latch) throws InterruptedException {
+    int fromThreads = isNull(previous) ? 1 : previous.getThreads();
+    int fromRate = initialRate(previous, stage);
+    long durationNs = MILLISECONDS.toNanos(stage.getDurationMs());
+    long startTimeNs = nanoTime();
+    long elapsedNs;
+    while ((elapsedNs = nanoTime() - startTimeNs) < durationNs) {
+      double progress = elapsedNs / (double) durationNs;
+      applyLoad(interpolate(fromThreads, stage.getThreads(), progress), interpolateRate(fromRate, stage.getMaxExecutionsPerSecond(), progress));
+      long waitMs = Math.min(RAMP_UPDATE_INTERVAL_MS, NANOSECONDS.toMillis(durationNs - elapsedNs));
+      if (latch.await(Math.max(waitMs, 1), MILLISECONDS)) {
+        return true;
+      }
+    }
+    applyLoad(stage.getThreads(), stage.getMaxExecutionsPerSecond());
+    return false;
+  }
+
+  private void applyLoad(int threads, int maxExecutionsPerSecond) {
+    activeThreads = threads;
+    if (nonNull(rateLimiter)) {
+      rateLimiter.setRate(maxExecutionsPerSecond > 0 ? maxExecutionsPerSecond : Double.POSITIVE_INFINITY);
+    }
+  }
+
+  private static int initialRate(LoadStage previous, LoadStage stage) {
+    if (nonNull(previous)) {
+      return previous.getMaxExecutionsPerSecond();
+    }
+    // Ramps in the first stage start from a single execution per second
+    return stage.isRamp() && stage.isRateLimited() ? 1 : stage.getMaxExecutionsPerSecond();
+  }
+
+  private static int interpolateRate(int from, int to, double progress) {
+    // Ramping from/to an unlimited rate is not possible, the stage rate is applied immediately
+    return from > 0 && to > 0 ? interpolate(from, to, progress) : to;
+  }
+
+  private static int interpolate(int from, int to, double progress) {
+    return Math.max((int) Math.round(from + (to - from) * progress), 1);
+  }
+
+}
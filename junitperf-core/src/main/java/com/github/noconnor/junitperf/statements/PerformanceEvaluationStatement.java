@@ -1,18 +1,32 @@
 package com.github.noconnor.junitperf.statements;
 
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.ForkResult;
+import com.github.noconnor.junitperf.data.HarnessOverhead;
+import com.github.noconnor.junitperf.data.LoadStage;
+import com.github.noconnor.junitperf.data.WorkerResult;
+import com.github.noconnor.junitperf.statistics.AllocationStatistics;
+import com.github.noconnor.junitperf.statistics.CpuTimeStatistics;
+import com.github.noconnor.junitperf.statistics.GcStatistics;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.HdrHistogramStatisticsCalculator;
 import com.github.noconnor.junitperf.statistics.providers.NoOpStatisticsCollector;
 import com.google.common.util.concurrent.RateLimiter;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import static com.github.noconnor.junitperf.reporting.utils.FormatterUtils.formatPercentile;
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.util.concurrent.RateLimiter.create;
 import static java.lang.String.format;
@@ -20,76 +34,286 @@ import static java.lang.System.nanoTime;
 import static java.util.Objects.nonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+@Slf4j
 public class PerformanceEvaluationStatement {
 
   private static final String THREAD_NAME_PATTERN = "perf-eval-thread-%d";
   private static final ThreadFactory FACTORY = new ThreadFactoryBuilder().setNameFormat(THREAD_NAME_PATTERN).build();
+  // Workers stop when the coordinator says so, unless the coordinator has gone away
+  private static final long WORKER_STOP_GRACE_MS = 60_000;
+  // Forks are given the test duration (including warm up), plus time to start the JVM & report their measurements
+  private static final long FORK_REPORT_GRACE_MS = 60_000;
 
   private final EvaluationContext context;
   private final ThreadFactory threadFactory;
   private final TestStatement baseStatement;
   private final StatisticsCalculator statistics;
+  private final StatisticsCalculator correctedStatistics;
+  private final StatisticsCalculator queueingStatistics;
+  private final AllocationStatistics allocationStatistics;
+  private final CpuTimeStatistics cpuTimeStatistics;
   private final Consumer<Void> listener;
+  private final Supplier<StatisticsCalculator> statisticsSupplier;
+  private final ForkedTest forkedTest;
+  private final boolean isForkedJvm;
+  private final boolean isWorkerJvm;
 
   private RateLimiter rateLimiter;
+  private RateSchedule rateSchedule;
+  private ArrivalRateScheduler arrivalRateScheduler;
+  private LoadProfileController loadProfileController;
+  private ThroughputSearchController throughputSearchController;
+  private IntervalStatisticsCalculator intervalStatistics;
+  private int operationsPerInvocation;
 
   @Builder
   private PerformanceEvaluationStatement(TestStatement baseStatement,
     StatisticsCalculator statistics,
+    Supplier<StatisticsCalculator> statisticsSupplier,
     EvaluationContext context,
     ThreadFactory threadFactory,
-    Consumer<Void> listener) {
+    Consumer<Void> listener,
+    ForkedTest forkedTest) {
     this.context = context;
     this.baseStatement = baseStatement;
-    this.statistics = statistics;
-    this.threadFactory = nonNull(threadFactory) ? threadFactory : FACTORY;
-    this.rateLimiter = context.getConfiguredRateLimit() > 0 ? createRateLimiter(context) : null;
+    this.isForkedJvm = ForkedEvaluation.isForkedJvm();
+    this.isWorkerJvm = WorkerConnection.isWorkerJvm();
+    // Forked & worker JVMs stream their latencies to the parent/coordinator JVM as a histogram, the parent/coordinator
+    // adds the histograms together
+    this.statistics = isForkedJvm || isWorkerJvm || isMerged(context) ? new HdrHistogramStatisticsCalculator() : statistics;
+    this.correctedStatistics = isCoordinatedOmissionCorrected(context) ? newStatistics(statisticsSupplier) : null;
+    this.queueingStatistics = context.isOpenModel() ? newStatistics(statisticsSupplier) : null;
+    this.allocationStatistics = isAllocationMeasured(context) ? new AllocationStatistics() : null;
+    this.cpuTimeStatistics = isCpuTimeMeasured(context) ? new CpuTimeStatistics() : null;
+    this.statisticsSupplier = statisticsSupplier;
+    this.threadFactory = nonNull(threadFactory) ? threadFactory : defaultThreadFactory(context);
+    this.rateLimiter = context.getConfiguredRateLimit() > 0 || isLoadProfileRateLimited(context) || context.isThroughputSearchEnabled() ? createRateLimiter(context) : null;
     this.listener = listener;
+    this.forkedTest = forkedTest;
   }
 
   public void runParallelEvaluation() throws Throwable {
+    if (context.isForkedExecutionEnabled()) {
+      runForkedEvaluation();
+      return;
+    }
+    if (context.isDistributedExecutionEnabled()) {
+      runDistributedEvaluation();
+      return;
+    }
+    operationsPerInvocation = calibrateOperationsPerInvocation();
+    context.setOperationsPerInvocation(operationsPerInvocation);
+    if (context.isHarnessOverheadMeasurementEnabled()) {
+      context.setHarnessOverhead(measureHarnessOverhead());
+    }
+    // Workers start together, once all workers are set up
+    WorkerConnection workerConnection = isWorkerJvm ? WorkerConnection.awaitStart() : null;
     statistics.reset();
+    if (nonNull(correctedStatistics)) {
+      correctedStatistics.reset();
+      rateSchedule = createRateSchedule(context);
+    }
+    if (nonNull(allocationStatistics)) {
+      allocationStatistics.reset();
+    }
+    if (nonNull(cpuTimeStatistics)) {
+      cpuTimeStatistics.reset();
+    }
     List<Thread> threads = newArrayList();
     AtomicBoolean stopSignal = new AtomicBoolean();
-    CountDownLatch latch = new CountDownLatch(context.getConfiguredThreads());
+    boolean isStoppedByCoordinator = false;
+    if (context.hasLoadProfile()) {
+      loadProfileController = new LoadProfileController(context.getLoadStages(), rateLimiter, statistics, () -> newStatistics(statisticsSupplier));
+    }
+    if (context.isThroughputSearchEnabled()) {
+      throughputSearchController = new ThroughputSearchController(context, rateLimiter, statistics, () -> newStatistics(statisticsSupplier));
+    }
+    GcMonitor gcMonitor = isGcMonitored(context) ? new GcMonitor() : null;
+    JfrProfiler profiler = isProfiled(context) ? new JfrProfiler(context.getTestName()) : null;
+    GcStatistics gcStatistics = null;
+    IntervalSampler intervalSampler = null;
+    // Interval recorders are read by the interval sampler, fail fast & convergence monitors while the test runs
+    if (context.isIntervalRecordingEnabled() || context.isFailFastEnabled() || context.isConvergenceEnabled()) {
+      intervalStatistics = new IntervalStatisticsCalculator(measuredStatistics());
+    }
+    if (context.isIntervalRecordingEnabled()) {
+      intervalSampler = new IntervalSampler(intervalStatistics, context.getConfiguredIntervalMs(), nonNull(gcMonitor) ? gcMonitor.getStatistics() : null);
+    }
+    boolean isOpenModel = nonNull(queueingStatistics);
+    if (isOpenModel) {
+      queueingStatistics.reset();
+      arrivalRateScheduler = createArrivalRateScheduler(stopSignal);
+    }
+    // Open model: a single dispatcher thread, configured threads are used as the (max) worker pool size
+    int taskCount = isOpenModel ? 1 : context.getConfiguredThreads();
+    CountDownLatch latch = new CountDownLatch(taskCount);
+    FailFastMonitor failFastMonitor = context.isFailFastEnabled() ? new FailFastMonitor(context, intervalStatistics, latch) : null;
+    ConvergenceMonitor convergenceMonitor = context.isConvergenceEnabled() ? new ConvergenceMonitor(context, intervalStatistics, latch) : null;
 
     try {
-      
-      for (int i = 0; i < context.getConfiguredThreads(); i++) {
-        Thread t = threadFactory.newThread(createTask(stopSignal, latch));
+
+      if (nonNull(gcMonitor)) {
+        gcMonitor.start(context.getConfiguredWarmUp());
+      }
+      if (nonNull(profiler)) {
+        profiler.start(context.getConfiguredWarmUp());
+      }
+      if (nonNull(intervalSampler)) {
+        intervalSampler.start(context.getConfiguredWarmUp());
+      }
+      if (nonNull(failFastMonitor)) {
+        failFastMonitor.start(context.getConfiguredWarmUp());
+      }
+      if (nonNull(convergenceMonitor)) {
+        convergenceMonitor.start(context.getConfiguredWarmUp());
+      }
+      for (int i = 0; i < taskCount; i++) {
+        Thread t = threadFactory.newThread(isOpenModel ? createDispatcher(latch) : createTask(i, stopSignal, latch));
         threads.add(t);
         t.start();
       }
 
-      //noinspection ResultOfMethodCallIgnored
-      latch.await(context.getConfiguredDuration(), MILLISECONDS);
+      if (nonNull(loadProfileController)) {
+        loadProfileController.run(latch, context.getConfiguredWarmUp());
+      } else if (nonNull(throughputSearchController)) {
+        throughputSearchController.run(latch, context.getConfiguredWarmUp());
+      } else if (nonNull(workerConnection)) {
+        isStoppedByCoordinator = workerConnection.awaitStop(latch, context.getConfiguredDuration() + WORKER_STOP_GRACE_MS);
+      } else {
+        //noinspection ResultOfMethodCallIgnored
+        latch.await(context.getConfiguredDuration(), MILLISECONDS);
+      }
       
     } finally {
       stopSignal.set(true);
       threads.forEach(Thread::interrupt);
+      if (nonNull(failFastMonitor)) {
+        failFastMonitor.stop();
+      }
+      if (nonNull(convergenceMonitor)) {
+        context.setConvergenceResult(convergenceMonitor.stop());
+      }
+      if (nonNull(gcMonitor)) {
+        gcStatistics = gcMonitor.stop();
+      }
+      if (nonNull(profiler)) {
+        context.setProfileSummary(profiler.stop());
+      }
+      if (nonNull(intervalSampler)) {
+        context.setIntervalSamples(intervalSampler.stop());
+      }
     }
     if (context.isAborted()) {
       listener.accept(null);
       throw context.getAbortedException();
     }
+    if (isForkedJvm) {
+      // The parent JVM reports & validates the merged measurements of all forks
+      HdrHistogramStatisticsCalculator forkStatistics = (HdrHistogramStatisticsCalculator) statistics;
+      ForkedEvaluation.sendMeasurements(forkStatistics.getEvaluationCount(), forkStatistics.getErrorCount(), forkStatistics.getMeasurementWindowNs(), forkStatistics.getHistogram());
+      return;
+    }
+    if (nonNull(workerConnection)) {
+      // The coordinator reports & validates the merged measurements of all workers
+      HdrHistogramStatisticsCalculator workerStatistics = (HdrHistogramStatisticsCalculator) statistics;
+      try (WorkerConnection connection = workerConnection) {
+        connection.sendMeasurements(workerStatistics.getEvaluationCount(), workerStatistics.getErrorCount(), workerStatistics.getMeasurementWindowNs(), workerStatistics.getHistogram());
+        if (!isStoppedByCoordinator) {
+          // Finished early, the coordinator stops all workers once every worker has reported (or the duration is up)
+          connection.awaitStop(context.getConfiguredDuration() + WORKER_STOP_GRACE_MS);
+        }
+      }
+      return;
+    }
+    context.setFinishTimeNs(nanoTime());
+    context.setStatistics(nonNull(throughputSearchController) ? throughputSearchController.getResultStatistics() : statistics);
+    context.setCorrectedStatistics(correctedStatistics);
+    context.setQueueingStatistics(queueingStatistics);
+    context.setAllocationStatistics(allocationStatistics);
+    context.setCpuTimeStatistics(cpuTimeStatistics);
+    context.setGcStatistics(gcStatistics);
+    context.setStageStatistics(nonNull(loadProfileController) ? loadProfileController.getStageStatistics() : null);
+    if (nonNull(throughputSearchController)) {
+      context.setSearchProbeResults(throughputSearchController.getProbeResults());
+      context.setThroughputKnee(throughputSearchController.getKnee());
+    }
+    if (isOpenModel) {
+      context.setDroppedDispatchCount(arrivalRateScheduler.getDroppedDispatchCount());
+      context.setLateDispatchCount(arrivalRateScheduler.getLateDispatchCount());
+    }
+    context.runValidation();
+    listener.accept(null);
+    assertThresholdsMet();
+  }
+
+  // The test is measured by the forked JVMs, their measurements are merged into the test's statistics
+  private void runForkedEvaluation() throws Throwable {
+    checkState(nonNull(forkedTest), "Forks are not supported by this test runner");
+    List<ForkResult> forkResults;
+    try {
+      long timeoutMs = context.getConfiguredDuration() + FORK_REPORT_GRACE_MS;
+      forkResults = new ForkedEvaluation(forkedTest, context.getConfiguredForks(), context.getConfiguredJvmArgs(), timeoutMs).run();
+    } catch (Throwable t) {
+      context.setAbortedException(t);
+      listener.accept(null);
+      throw t;
+    }
+    statistics.reset();
+    forkResults.forEach(fork -> merge(fork.getLatencies(), fork.getEvaluationCount(), fork.getErrorCount()));
     context.setFinishTimeNs(nanoTime());
     context.setStatistics(statistics);
+    context.setForkResults(forkResults);
     context.runValidation();
     listener.accept(null);
     assertThresholdsMet();
   }
 
-  private Runnable createTask(AtomicBoolean stopSignal, CountDownLatch latch) {
-    StatisticsCalculator stats = context.isAsyncEvaluation() ? NoOpStatisticsCollector.INSTANCE : statistics;
+  // Load is generated by the worker JVMs, their measurements are merged into the test's statistics
+  private void runDistributedEvaluation() throws Throwable {
+    checkState(nonNull(forkedTest), "Workers are not supported by this test runner");
+    List<WorkerResult> workerResults;
+    try {
+      workerResults = new DistributedEvaluation(forkedTest, context).run();
+    } catch (Throwable t) {
+      context.setAbortedException(t);
+      listener.accept(null);
+      throw t;
+    }
+    statistics.reset();
+    workerResults.forEach(worker -> merge(worker.getLatencies(), worker.getEvaluationCount(), worker.getErrorCount()));
+    context.setFinishTimeNs(nanoTime());
+    context.setStatistics(statistics);
+    context.setWorkerResults(workerResults);
+    context.runValidation();
+    listener.accept(null);
+    assertThresholdsMet();
+  }
+
+  private void merge(Histogram latencies, long evaluationCount, long errorCount) {
+    // See constructor, statistics of a parent/coordinator JVM are always histogram based
+    ((HdrHistogramStatisticsCalculator) statistics).add(latencies);
+    statistics.incrementEvaluationCount(evaluationCount);
+    statistics.incrementErrorCount(errorCount);
+  }
+
+  private Runnable createTask(int threadIndex, AtomicBoolean stopSignal, CountDownLatch latch) {
+    StatisticsCalculator stats = context.isAsyncEvaluation() ? NoOpStatisticsCollector.INSTANCE : taskStatistics();
+    Supplier<Boolean> suspender = nonNull(loadProfileController) ? () -> loadProfileController.isSuspended(threadIndex) : null;
     return () -> {
       try {
         EvaluationTask.builder()
                 .statement(baseStatement)
                 .rateLimiter(rateLimiter)
                 .stats(stats)
+                .correctedStats(correctedStatistics)
+                .allocationStats(allocationStatistics)
+                .cpuTimeStats(cpuTimeStatistics)
+                .rateSchedule(rateSchedule)
                 .terminator(stopSignal::get)
+                .suspender(suspender)
                 .warmUpPeriodMs(context.getConfiguredWarmUp())
                 .executionTarget(context.getConfiguredExecutionTarget())
+                .operationsPerInvocation(operationsPerInvocation)
                 .build()
                 .run();
       } catch (Throwable t) {
@@ -100,23 +324,168 @@ public class PerformanceEvaluationStatement {
     };
   }
 
+  private Runnable createDispatcher(CountDownLatch latch) {
+    return () -> {
+      try {
+        arrivalRateScheduler.run();
+      } catch (Throwable t) {
+        context.setAbortedException(t);
+      } finally {
+        latch.countDown();
+      }
+    };
+  }
+
+  private ArrivalRateScheduler createArrivalRateScheduler(AtomicBoolean stopSignal) {
+    return ArrivalRateScheduler.builder()
+      .statement(baseStatement)
+      .stats(context.isAsyncEvaluation() ? NoOpStatisticsCollector.INSTANCE : taskStatistics())
+      .queueingStats(queueingStatistics)
+      .allocationStats(allocationStatistics)
+      .cpuTimeStats(cpuTimeStatistics)
+      .threadFactory(threadFactory)
+      .terminator(stopSignal::get)
+      .arrivalRatePerSecond(context.getConfiguredArrivalRate())
+      .maxWorkers(context.getConfiguredThreads())
+      .warmUpPeriodMs(context.getConfiguredWarmUp())
+      .executionTarget(context.getConfiguredExecutionTarget())
+      .build();
+  }
+
   private void assertThresholdsMet() {
+    if (context.isThroughputSearchEnabled()) {
+      assertThat("No probed rate achieved the required thresholds", nonNull(context.getThroughputKnee()), true);
+    }
     assertThat("Error threshold not achieved", context.isErrorThresholdAchieved(), true);
     assertThat("Test throughput threshold not achieved", context.isThroughputAchieved(), true);
     assertThat("Test min latency threshold not achieved", context.isMinLatencyAchieved(), true);
-    assertThat("Test max latency threshold not achieved", context.isMaxLatencyAchieved(), true);
+    assertThat("Test max latency threshold not achieved" + gcPauseSummary(), context.isMaxLatencyAchieved(), true);
     assertThat("Test mean latency threshold not achieved", context.isMeanLatencyAchieved(), true);
+    assertThat("Test mean allocation threshold not achieved", context.isMeanAllocationAchieved(), true);
+    assertThat("Test zero allocation requirement not achieved", context.isZeroAllocationAchieved(), true);
+    assertThat("Test mean CPU time threshold not achieved", context.isMeanCpuTimeAchieved(), true);
+    assertThat("Test GC overhead threshold not achieved", context.isGcOverheadAchieved(), true);
     context.getPercentileResults().forEach((percentile, isAchieved) -> {
-      assertThat(format("%dth Percentile has not achieved required threshold", percentile), isAchieved, true);
+      assertThat(format("%sth Percentile has not achieved required threshold", formatPercentile(percentile)), isAchieved, true);
+    });
+    context.getStageResults().forEach(stage -> {
+      assertThat(format("%s has not achieved required thresholds", stage.getName()), stage.isSuccessful(), true);
     });
+    assertThat(format("Test stopped early (fail fast): %s", context.getFailFastReason()), context.isTerminatedEarly(), false);
+  }
+
+  private int calibrateOperationsPerInvocation() throws Throwable {
+    if (context.isBatchSizeCalibrationEnabled()) {
+      return new BatchSizeCalibrator(baseStatement, context.getConfiguredMaxTimerOverhead()).calibrate();
+    }
+    return Math.max(context.getConfiguredOperationsPerInvocation(), 1);
+  }
+
+  // Recorded into the test's own statistics calculator, so recording costs (i.e. contention) match the test
+  private HarnessOverhead measureHarnessOverhead() throws InterruptedException {
+    return HarnessOverheadCalibrator.builder()
+      .threadFactory(threadFactory)
+      .stats(statistics)
+      .threads(context.getConfiguredThreads())
+      .isRateLimited(nonNull(rateLimiter))
+      .isAllocationMeasured(nonNull(allocationStatistics))
+      .isCpuTimeMeasured(nonNull(cpuTimeStatistics))
+      .operationsPerInvocation(operationsPerInvocation)
+      .build()
+      .calibrate();
+  }
+
+  private StatisticsCalculator taskStatistics() {
+    // Interval recorders wrap (and record into) all other statistics
+    return nonNull(intervalStatistics) ? intervalStatistics : measuredStatistics();
+  }
+
+  private StatisticsCalculator measuredStatistics() {
+    // Load profile stages & search probes also capture statistics per stage/probe
+    if (nonNull(loadProfileController)) {
+      return loadProfileController.getStatistics();
+    }
+    return nonNull(throughputSearchController) ? throughputSearchController.getStatistics() : statistics;
+  }
+
+  private static boolean isLoadProfileRateLimited(EvaluationContext context) {
+    return context.hasLoadProfile() && context.getLoadStages().stream().anyMatch(LoadStage::isRateLimited);
   }
 
   private RateLimiter createRateLimiter(final EvaluationContext context) {
+    if (context.hasLoadProfile() || context.isThroughputSearchEnabled()) {
+      // Rate is set by the LoadProfileController/ThroughputSearchController as each stage/probe starts
+      return create(Double.POSITIVE_INFINITY);
+    }
     int rampUp = context.getConfiguredRampUpPeriodMs();
     int rateLimit = context.getConfiguredRateLimit();
     return rampUp > 0 ? create(rateLimit, rampUp, MILLISECONDS) : create(rateLimit);
   }
 
+  private RateSchedule createRateSchedule(final EvaluationContext context) {
+    // Schedule starts once warm up & ramp up periods have elapsed, i.e. when executions are issued at the stable rate
+    int scheduleOffsetMs = Math.max(context.getConfiguredWarmUp(), context.getConfiguredRampUpPeriodMs());
+    return new RateSchedule(nanoTime() + MILLISECONDS.toNanos(scheduleOffsetMs), context.getConfiguredRateLimit());
+  }
+
+  private static ThreadFactory defaultThreadFactory(EvaluationContext context) {
+    return context.isVirtualThreadsEnabled() ? VirtualThreads.factoryOrElse(FACTORY) : FACTORY;
+  }
+
+  // The test is measured by forked or worker JVMs, their measurements are merged in this JVM
+  private static boolean isMerged(EvaluationContext context) {
+    return context.isForkedExecutionEnabled() || context.isDistributedExecutionEnabled();
+  }
+
+  private static boolean isCoordinatedOmissionCorrected(EvaluationContext context) {
+    // Async tests measure their own latencies, so there is no intended start time to correct from
+    return context.isCoordinatedOmissionCorrectionEnabled() && !context.isAsyncEvaluation();
+  }
+
+  private static boolean isAllocationMeasured(EvaluationContext context) {
+    if (context.isAllocationMeasurementEnabled() && !AllocationCounter.isSupported()) {
+      log.warn("Thread allocation counters are not supported by this JVM, allocations will not be measured");
+      return false;
+    }
+    return context.isAllocationMeasurementEnabled();
+  }
+
+  // Helps attribute latency failures to collector pauses rather than the code under test
+  private String gcPauseSummary() {
+    if (!context.hasGcMeasurements()) {
+      return "";
+    }
+    return format(" (%d GC pauses, max GC pause %dms)", context.getGcPauseCount(), context.getGcMaxPauseMs());
+  }
+
+  private static boolean isProfiled(EvaluationContext context) {
+    if (context.isProfilingEnabled() && !JfrProfiler.isSupported()) {
+      log.warn("JFR is not supported by this JVM, test will not be profiled");
+      return false;
+    }
+    return context.isProfilingEnabled();
+  }
+
+  private static boolean isGcMonitored(EvaluationContext context) {
+    if (context.isGcMonitoringEnabled() && !GcMonitor.isSupported()) {
+      log.warn("GC notifications are not supported by this JVM, GC pauses will not be monitored");
+      return false;
+    }
+    return context.isGcMonitoringEnabled();
+  }
+
+  private static boolean isCpuTimeMeasured(EvaluationContext context) {
+    if (context.isCpuTimeMeasurementEnabled() && !CpuTimeCounter.isSupported()) {
+      log.warn("Thread CPU time is not supported by this JVM, CPU time will not be measured");
+      return false;
+    }
+    return context.isCpuTimeMeasurementEnabled();
+  }
+
+  private static StatisticsCalculator newStatistics(Supplier<StatisticsCalculator> statisticsSupplier) {
+    return nonNull(statisticsSupplier) ? statisticsSupplier.get() : new DescriptiveStatisticsCalculator();
+  }
+
   private void assertThat(String message, boolean actual, boolean expected){
     if (actual != expected){
       throw new AssertionError(message);
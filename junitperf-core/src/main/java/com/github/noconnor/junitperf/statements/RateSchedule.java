@@ -0,0 +1,30 @@
+package com.github.noconnor.junitperf.statements;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// Tracks the intended start time of each rate limited execution.
+// When the system under test stalls, evaluation threads stop issuing requests (coordinated omission).
+// Measuring latency from the intended start time, rather than from when the request was actually issued,
+// includes the delay that stalled requests would have experienced.
+final class RateSchedule {
+
+    private final long startTimeNs;
+    private final double intervalNs;
+    private final AtomicLong sequence = new AtomicLong();
+
+    RateSchedule(long startTimeNs, double executionsPerSecond) {
+        this.startTimeNs = startTimeNs;
+        this.intervalNs = SECONDS.toNanos(1) / executionsPerSecond;
+    }
+
+    boolean hasStarted(long nowNs) {
+        return nowNs >= startTimeNs;
+    }
+
+    long nextIntendedStartTimeNs() {
+        return startTimeNs + (long) (sequence.getAndIncrement() * intervalNs);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.NoOpStatisticsCollector;
+
+import java.util.concurrent.TimeUnit;
+
+// Records measurements into the overall test statistics & the statistics of the currently active load profile stage.
+// All reads are served from the overall test statistics
+final class StagedStatisticsCalculator implements StatisticsCalculator {
+
+  private final StatisticsCalculator statistics;
+  private volatile StatisticsCalculator stageStatistics = NoOpStatisticsCollector.INSTANCE;
+
+  StagedStatisticsCalculator(StatisticsCalculator statistics) {
+    this.statistics = statistics;
+  }
+
+  void setStageStatistics(StatisticsCalculator stageStatistics) {
+    this.stageStatistics = stageStatistics;
+  }
+
+  @Override
+  public void addLatencyMeasurement(long executionTimeNs) {
+    statistics.addLatencyMeasurement(executionTimeNs);
+    stageStatistics.addLatencyMeasurement(executionTimeNs);
+  }
+
+  @Override
+  public void addMeasurementTime(long startTimeNs, long endTimeNs) {
+    statistics.addMeasurementTime(startTimeNs, endTimeNs);
+    stageStatistics.addMeasurementTime(startTimeNs, endTimeNs);
+  }
+
+  @Override
+  public long getMeasurementWindowNs() {
+    return statistics.getMeasurementWindowNs();
+  }
+
+  @Override
+  public void incrementErrorCount() {
+    statistics.incrementErrorCount();
+    stageStatistics.incrementErrorCount();
+  }
+
+  @Override
+  public void incrementErrorCount(long count) {
+    statistics.incrementErrorCount(count);
+    stageStatistics.incrementErrorCount(count);
+  }
+
+  @Override
+  public void incrementEvaluationCount() {
+    statistics.incrementEvaluationCount();
+    stageStatistics.incrementEvaluationCount();
+  }
+
+  @Override
+  public void incrementEvaluationCount(long count) {
+    statistics.incrementEvaluationCount(count);
+    stageStatistics.incrementEvaluationCount(count);
+  }
+
+  @Override
+  public long getErrorCount() {
+    return statistics.getErrorCount();
+  }
+
+  @Override
+  public long getEvaluationCount() {
+    return statistics.getEvaluationCount();
+  }
+
+  @Override
+  public float getLatencyPercentile(int percentile, TimeUnit unit) {
+    return statistics.getLatencyPercentile(percentile, unit);
+  }
+
+  @Override
+  public float getLatencyPercentile(double percentile, TimeUnit unit) {
+    return statistics.getLatencyPercentile(percentile, unit);
+  }
+
+  @Override
+  public float[] getLatencyPercentiles(double[] percentiles, TimeUnit unit) {
+    return statistics.getLatencyPercentiles(percentiles, unit);
+  }
+
+  @Override
+  public float getMaxLatency(TimeUnit unit) {
+    return statistics.getMaxLatency(unit);
+  }
+
+  @Override
+  public float getMinLatency(TimeUnit unit) {
+    return statistics.getMinLatency(unit);
+  }
+
+  @Override
+  public float getMeanLatency(TimeUnit unit) {
+    return statistics.getMeanLatency(unit);
+  }
+
+  @Override
+  public float getErrorPercentage() {
+    return statistics.getErrorPercentage();
+  }
+
+  @Override
+  public void reset() {
+    statistics.reset();
+  }
+
+}
@@ -0,0 +1,129 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.LoadStage;
+import com.github.noconnor.junitperf.data.StageResult;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.NoOpStatisticsCollector;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// Searches for the maximum sustainable throughput, i.e. the highest rate at which the test requirements are still met.
+// Each round runs a short probe at a fixed rate & evaluates the requirements against the probe measurements.
+// The first probe runs at maxExecutionsPerSecond (or unlimited) to find the upper bound, the rate is then halved until
+// a probe passes & finally bisected between the highest passing & lowest failing rates until the interval is within
+// SEARCH_RESOLUTION of the failing rate (or the test duration has been used up)
+@Slf4j
+final class ThroughputSearchController {
+
+  static final float SEARCH_RESOLUTION = 0.05F;
+
+  private final EvaluationContext context;
+  private final RateLimiter rateLimiter;
+  private final StagedStatisticsCalculator statistics;
+  private final Supplier<StatisticsCalculator> probeStatisticsSupplier;
+  private final List<StageResult> probeResults = newArrayList();
+
+  private StageResult knee;
+  private StatisticsCalculator kneeStatistics;
+
+  ThroughputSearchController(EvaluationContext context,
+                             RateLimiter rateLimiter,
+                             StatisticsCalculator statistics,
+                             Supplier<StatisticsCalculator> probeStatisticsSupplier) {
+    this.context = context;
+    this.rateLimiter = rateLimiter;
+    this.statistics = new StagedStatisticsCalculator(statistics);
+    this.probeStatisticsSupplier = probeStatisticsSupplier;
+    // Warm up will run at the rate of the first probe
+    applyRate(context.getConfiguredRateLimit());
+  }
+
+  StatisticsCalculator getStatistics() {
+    return statistics;
+  }
+
+  List<StageResult> getProbeResults() {
+    return probeResults;
+  }
+
+  StageResult getKnee() {
+    return knee;
+  }
+
+  // Measurements of the highest passing probe, or all measurements if no probe passed
+  StatisticsCalculator getResultStatistics() {
+    return nonNull(kneeStatistics) ? kneeStatistics : statistics;
+  }
+
+  // Blocks until the search has converged, the test duration has elapsed or all evaluation tasks have completed
+  void run(CountDownLatch latch, int warmUpMs) throws InterruptedException {
+    if (latch.await(warmUpMs, MILLISECONDS)) {
+      return;
+    }
+    int maxProbes = Math.max((context.getConfiguredDuration() - warmUpMs) / context.getConfiguredSearchProbeDurationMs(), 1);
+    StageResult first = probe(context.getConfiguredRateLimit(), latch);
+    if (isNull(first) || first.isSuccessful()) {
+      return;
+    }
+    int passingRate = 0;
+    int failingRate = first.getStage().isRateLimited() ? first.getStage().getMaxExecutionsPerSecond() : (int) first.getThroughputQps();
+    while (probeResults.size() < maxProbes && failingRate - passingRate > Math.max(failingRate * SEARCH_RESOLUTION, 1)) {
+      // Exponential back off until a passing rate is found, then bisect
+      int rate = passingRate == 0 ? failingRate / 2 : passingRate + (failingRate - passingRate) / 2;
+      StageResult result = probe(rate, latch);
+      if (isNull(result)) {
+        return;
+      }
+      if (result.isSuccessful()) {
+        passingRate = rate;
+      } else {
+        failingRate = rate;
+      }
+    }
+    log.debug("Max throughput search completed after {} probes, knee: {}/s", probeResults.size(), passingRate);
+  }
+
+  // Returns null if all evaluation tasks completed before the probe finished
+  private StageResult probe(int rate, CountDownLatch latch) throws InterruptedException {
+    int index = probeResults.size();
+    StatisticsCalculator probeStatistics = probeStatisticsSupplier.get();
+    probeStatistics.reset();
+    applyRate(rate);
+    statistics.setStageStatistics(probeStatistics);
+    boolean completed = latch.await(context.getConfiguredSearchProbeDurationMs(), MILLISECONDS);
+    statistics.setStageStatistics(NoOpStatisticsCollector.INSTANCE);
+    if (completed) {
+      return null;
+    }
+    LoadStage probe = LoadStage.builder()
+      .name(format("Probe %d", index + 1))
+      .durationMs(context.getConfiguredSearchProbeDurationMs())
+      .threads(context.getConfiguredThreads())
+      .maxExecutionsPerSecond(rate > 0 ? rate : LoadStage.UNLIMITED)
+      .build();
+    StageResult result = context.evaluateSearchProbe(index, probe, probeStatistics);
+    log.debug("{} ({}/s): throughput {}/s - {}", probe.getName(), rate, result.getThroughputQps(), result.isSuccessful());
+    probeResults.add(result);
+    if (result.isSuccessful() && (isNull(knee) || result.getThroughputQps() > knee.getThroughputQps())) {
+      knee = result;
+      kneeStatistics = probeStatistics;
+    }
+    return result;
+  }
+
+  private void applyRate(int rate) {
+    rateLimiter.setRate(rate > 0 ? rate : Double.POSITIVE_INFINITY);
+  }
+
+}
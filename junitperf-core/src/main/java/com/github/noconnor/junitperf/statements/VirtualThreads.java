@@ -0,0 +1,50 @@
+package com.github.noconnor.junitperf.statements;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import static java.util.Objects.nonNull;
+
+@Slf4j
+final class VirtualThreads {
+
+  static final String THREAD_NAME_PREFIX = "perf-eval-vthread-";
+
+  // Resolved once, null when the running JVM does not support virtual threads (i.e. JDK < 21)
+  private static final ThreadFactory FACTORY = createFactory();
+
+  private VirtualThreads() {
+  }
+
+  static boolean isSupported() {
+    return nonNull(FACTORY);
+  }
+
+  static ThreadFactory factoryOrElse(ThreadFactory fallback) {
+    if (isSupported()) {
+      return FACTORY;
+    }
+    log.warn("Virtual threads are not supported by this JVM ({}), falling back to platform threads", System.getProperty("java.version"));
+    return fallback;
+  }
+
+  private static ThreadFactory createFactory() {
+    // Project targets java 8, virtual thread builder API (java 21+) must be accessed reflectively
+    // i.e. Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory()
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      Method name = builderClass.getMethod("name", String.class, long.class);
+      Method factory = builderClass.getMethod("factory");
+      Object builder = name.invoke(ofVirtual.invoke(null), THREAD_NAME_PREFIX, 0L);
+      return (ThreadFactory) factory.invoke(builder);
+    } catch (Exception | LinkageError e) {
+      // Class/methods missing on older JDKs, UnsupportedOperationException on JDKs where virtual threads are a preview feature
+      log.debug("Virtual threads unavailable", e);
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,147 @@
+package com.github.noconnor.junitperf.statements;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.JUNITPERF_WORKER_INDEX;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.JUNITPERF_FORKS;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.JUNITPERF_JVM_ARGS;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.javaCommand;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.relayOutput;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Objects.nonNull;
+
+// Starts worker JVMs on behalf of a coordinator (see JUnitPerfTest workerHosts). Run one agent per load generating host,
+// using the classpath of the tests:
+//   java -cp <test classpath> com.github.noconnor.junitperf.statements.WorkerAgent <port> [worker JVM args...]
+// Requests are not authenticated, anyone that can connect to the agent can run any test on the classpath of the agent.
+// The agent only listens on the loopback address unless -Djunitperf.agentBindAddress is set, only bind it to trusted networks
+@Slf4j
+public final class WorkerAgent {
+
+  static final String JUNITPERF_AGENT_BIND_ADDRESS = "junitperf.agentBindAddress";
+  // Workers can only run tests through the JUnitPerf test runners (see JUnitPerfRule & JUnitPerfInterceptor)
+  static final Set<String> WORKER_MAIN_CLASSES = newHashSet(
+    "com.github.noconnor.junitperf.JUnit4ForkedTestRunner",
+    "com.github.noconnor.junitperf.JUnit5ForkedTestRunner"
+  );
+
+  private static final String JUNITPERF_PROPERTY_PREFIX = "junitperf.";
+  private static final int BACKLOG = 50;
+
+  private final ServerSocket server;
+  private final List<String> jvmArgs;
+  private final Set<String> mainClasses;
+
+  WorkerAgent(ServerSocket server, List<String> jvmArgs) {
+    this(server, jvmArgs, WORKER_MAIN_CLASSES);
+  }
+
+  WorkerAgent(ServerSocket server, List<String> jvmArgs, Set<String> mainClasses) {
+    this.server = server;
+    this.jvmArgs = jvmArgs;
+    this.mainClasses = mainClasses;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: WorkerAgent <port> [worker JVM args...]");
+      System.exit(1);
+    }
+    try (ServerSocket server = new ServerSocket(Integer.parseInt(args[0]), BACKLOG, bindAddress())) {
+      log.info("Worker agent listening on {}:{}", server.getInetAddress().getHostAddress(), server.getLocalPort());
+      new WorkerAgent(server, asList(args).subList(1, args.length)).serve();
+    }
+  }
+
+  // Handles launch requests until the server socket is closed
+  void serve() {
+    while (!server.isClosed()) {
+      try (Socket socket = server.accept();
+           DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+           DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+        out.writeUTF(launch(in));
+        out.flush();
+      } catch (IOException e) {
+        if (!server.isClosed()) {
+          log.warn("Failed to handle worker launch request", e);
+        }
+      }
+    }
+  }
+
+  private static InetAddress bindAddress() throws IOException {
+    String address = System.getProperty(JUNITPERF_AGENT_BIND_ADDRESS);
+    return nonNull(address) ? InetAddress.getByName(address) : InetAddress.getLoopbackAddress();
+  }
+
+  static void writeLaunchRequest(DataOutputStream out, ForkedTest test, Map<String, String> properties) throws IOException {
+    out.writeUTF(test.getMainClass());
+    out.writeInt(test.getArguments().size());
+    for (String argument : test.getArguments()) {
+      out.writeUTF(argument);
+    }
+    out.writeInt(properties.size());
+    for (Map.Entry<String, String> property : properties.entrySet()) {
+      out.writeUTF(property.getKey());
+      out.writeUTF(property.getValue());
+    }
+    out.flush();
+  }
+
+  // Starts the requested worker, returns an error message or an empty string if the worker was started
+  private String launch(DataInputStream in) throws IOException {
+    String mainClass = in.readUTF();
+    if (!mainClasses.contains(mainClass)) {
+      return format("Main class %s is not a JUnitPerf test runner", mainClass);
+    }
+    List<String> arguments = newArrayList();
+    for (int i = in.readInt(); i > 0; i--) {
+      arguments.add(in.readUTF());
+    }
+    Map<String, String> properties = new TreeMap<>();
+    for (int i = in.readInt(); i > 0; i--) {
+      properties.put(in.readUTF(), in.readUTF());
+    }
+    // Only test settings are accepted, JVM arguments of workers are set by the agent
+    String invalid = properties.keySet().stream().filter(name -> !name.startsWith(JUNITPERF_PROPERTY_PREFIX)).findFirst().orElse(null);
+    if (nonNull(invalid)) {
+      return format("Property %s is not a test setting", invalid);
+    }
+    String index = properties.get(JUNITPERF_WORKER_INDEX);
+    try {
+      List<String> command = javaCommand(new ForkedTest(mainClass, arguments), jvmArgs, workerProperties(properties), System.getProperty("java.class.path"));
+      Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+      relayOutput(process, "junitperf-worker-" + index + "-output");
+      log.info("Started worker {} ({})", index, mainClass);
+      return "";
+    } catch (IOException e) {
+      log.warn("Failed to start worker {}", index, e);
+      return e.toString();
+    }
+  }
+
+  // Workers must not start further JVMs, forks (& their JVM arguments) are never accepted from the coordinator
+  static Map<String, String> workerProperties(Map<String, String> requested) {
+    Map<String, String> properties = new TreeMap<>(requested);
+    properties.remove(JUNITPERF_JVM_ARGS);
+    properties.put(JUNITPERF_FORKS, "0");
+    return properties;
+  }
+
+}
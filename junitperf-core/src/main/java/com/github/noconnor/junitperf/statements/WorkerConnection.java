@@ -0,0 +1,105 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.google.common.net.HostAndPort;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CountDownLatch;
+
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.JUNITPERF_WORKER_COORDINATOR;
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.JUNITPERF_WORKER_INDEX;
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.START;
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.STOP;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.writeMeasurements;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Objects.nonNull;
+
+// Worker JVM side of a distributed test (see DistributedEvaluation), the coordinator signals when all workers start
+// & stop, measurements are streamed back to the coordinator on the same connection
+@Slf4j
+final class WorkerConnection implements Closeable {
+
+  private static final int STOP_POLL_INTERVAL_MS = 100;
+
+  private final Socket socket;
+  private final DataInputStream in;
+  private final DataOutputStream out;
+
+  private WorkerConnection(Socket socket) throws IOException {
+    this.socket = socket;
+    this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+  }
+
+  static boolean isWorkerJvm() {
+    return nonNull(System.getProperty(JUNITPERF_WORKER_COORDINATOR));
+  }
+
+  // Registers with the coordinator & blocks until all workers are ready to start
+  static WorkerConnection awaitStart() throws IOException {
+    HostAndPort coordinator = HostAndPort.fromString(System.getProperty(JUNITPERF_WORKER_COORDINATOR));
+    WorkerConnection connection = new WorkerConnection(new Socket(coordinator.getHost(), coordinator.getPort()));
+    try {
+      connection.out.writeInt(Integer.getInteger(JUNITPERF_WORKER_INDEX));
+      connection.out.flush();
+      log.info("Worker ready, waiting for coordinator {} to start the test", coordinator);
+      connection.expect(START);
+      return connection;
+    } catch (IOException e) {
+      connection.close();
+      throw e;
+    }
+  }
+
+  // Blocks until the coordinator stops the test, timeoutMs guards against a coordinator that has gone away
+  void awaitStop(long timeoutMs) throws IOException {
+    socket.setSoTimeout((int) Math.min(timeoutMs, Integer.MAX_VALUE));
+    expect(STOP);
+  }
+
+  // Blocks until the coordinator stops the test or all evaluation tasks have finished (i.e. the worker's totalExecutions
+  // share has been reached), whichever comes first. Returns true if the coordinator stopped the test
+  boolean awaitStop(CountDownLatch finished, long timeoutMs) throws IOException {
+    long deadlineMs = currentTimeMillis() + timeoutMs;
+    socket.setSoTimeout(STOP_POLL_INTERVAL_MS);
+    while (true) {
+      try {
+        expect(STOP);
+        return true;
+      } catch (SocketTimeoutException e) {
+        if (finished.getCount() == 0) {
+          return false;
+        }
+        if (currentTimeMillis() > deadlineMs) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  void sendMeasurements(long evaluationCount, long errorCount, long measurementWindowNs, Histogram latencies) throws IOException {
+    writeMeasurements(out, evaluationCount, errorCount, measurementWindowNs, latencies);
+  }
+
+  @Override
+  public void close() throws IOException {
+    socket.close();
+  }
+
+  private void expect(byte signal) throws IOException {
+    byte received = in.readByte();
+    if (received != signal) {
+      throw new IOException(format("Unexpected coordinator signal %d (expected %d)", received, signal));
+    }
+  }
+
+}
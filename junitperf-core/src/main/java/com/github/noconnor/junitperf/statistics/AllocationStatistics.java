@@ -0,0 +1,55 @@
+package com.github.noconnor.junitperf.statistics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Heap allocation (bytes) per test invocation, recorded concurrently by all evaluation threads
+public class AllocationStatistics {
+
+  private final LongAdder measurementCount = new LongAdder();
+  private final LongAdder totalBytes = new LongAdder();
+  private final LongAccumulator maxBytes = new LongAccumulator(Long::max, 0);
+  private final LongAccumulator minBytes = new LongAccumulator(Long::min, Long.MAX_VALUE);
+
+  public void addAllocationMeasurement(long allocatedBytes) {
+    addAllocationMeasurement(allocatedBytes, 1);
+  }
+
+  // Allocations of a batch of back to back invocations, amortised over the batch. Any allocation within the batch
+  // counts towards the max (rounded up), so zero allocation batches are still told apart from allocating ones
+  public void addAllocationMeasurement(long allocatedBytes, int operations) {
+    measurementCount.add(operations);
+    totalBytes.add(allocatedBytes);
+    maxBytes.accumulate((allocatedBytes + operations - 1) / operations);
+    minBytes.accumulate(allocatedBytes / operations);
+  }
+
+  public long getMeasurementCount() {
+    return measurementCount.sum();
+  }
+
+  public long getTotalBytes() {
+    return totalBytes.sum();
+  }
+
+  public float getMeanBytes() {
+    long count = measurementCount.sum();
+    return count > 0 ? totalBytes.sum() / (float) count : 0;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes.get();
+  }
+
+  public long getMinBytes() {
+    return measurementCount.sum() > 0 ? minBytes.get() : 0;
+  }
+
+  public void reset() {
+    measurementCount.reset();
+    totalBytes.reset();
+    maxBytes.reset();
+    minBytes.reset();
+  }
+
+}
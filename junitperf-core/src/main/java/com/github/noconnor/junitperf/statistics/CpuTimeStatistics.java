@@ -0,0 +1,61 @@
+package com.github.noconnor.junitperf.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Thread CPU time (user + system) per test invocation, recorded concurrently by all evaluation threads
+public class CpuTimeStatistics {
+
+  private final LongAdder measurementCount = new LongAdder();
+  private final LongAdder totalCpuTimeNs = new LongAdder();
+  private final LongAccumulator maxCpuTimeNs = new LongAccumulator(Long::max, 0);
+  // User mode portion of the CPU time, the remainder was spent in the kernel (system time)
+  private final LongAdder totalUserTimeNs = new LongAdder();
+
+  public void addCpuTimeMeasurement(long cpuTimeNs, long userTimeNs) {
+    addCpuTimeMeasurement(cpuTimeNs, userTimeNs, 1);
+  }
+
+  // CPU time of a batch of back to back invocations, amortised over the batch
+  public void addCpuTimeMeasurement(long cpuTimeNs, long userTimeNs, int operations) {
+    measurementCount.add(operations);
+    totalCpuTimeNs.add(cpuTimeNs);
+    totalUserTimeNs.add(Math.min(userTimeNs, cpuTimeNs));
+    maxCpuTimeNs.accumulate(cpuTimeNs / operations);
+  }
+
+  public long getMeasurementCount() {
+    return measurementCount.sum();
+  }
+
+  public float getTotalCpuTime(TimeUnit unit) {
+    return (float) totalCpuTimeNs.sum() / unit.toNanos(1);
+  }
+
+  public float getMeanCpuTime(TimeUnit unit) {
+    long count = measurementCount.sum();
+    return count > 0 ? totalCpuTimeNs.sum() / (float) count / unit.toNanos(1) : 0;
+  }
+
+  public float getMeanUserTime(TimeUnit unit) {
+    long count = measurementCount.sum();
+    return count > 0 ? totalUserTimeNs.sum() / (float) count / unit.toNanos(1) : 0;
+  }
+
+  public float getMeanSystemTime(TimeUnit unit) {
+    return Math.max(getMeanCpuTime(unit) - getMeanUserTime(unit), 0);
+  }
+
+  public float getMaxCpuTime(TimeUnit unit) {
+    return (float) maxCpuTimeNs.get() / unit.toNanos(1);
+  }
+
+  public void reset() {
+    measurementCount.reset();
+    totalCpuTimeNs.reset();
+    maxCpuTimeNs.reset();
+    totalUserTimeNs.reset();
+  }
+
+}
@@ -0,0 +1,77 @@
+package com.github.noconnor.junitperf.statistics;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.stream.Collectors.toList;
+
+// Stop the world garbage collector pauses observed during a test run. Pauses are JVM wide, so also include pauses
+// triggered by anything else running in the same JVM (i.e. other tests running in parallel)
+public class GcStatistics {
+
+  private final List<GcPause> pauses = new CopyOnWriteArrayList<>();
+  private final LongAdder promotedBytes = new LongAdder();
+  private volatile long measuredDurationNs;
+
+  public void addPause(GcPause pause) {
+    pauses.add(pause);
+    promotedBytes.add(pause.getPromotedBytes());
+  }
+
+  public List<GcPause> getPauses() {
+    return pauses;
+  }
+
+  // Pauses that started within [startTimeNs, endTimeNs)
+  public List<GcPause> getPausesBetween(long startTimeNs, long endTimeNs) {
+    return pauses.stream()
+      .filter(pause -> pause.getStartTimeNs() >= startTimeNs && pause.getStartTimeNs() < endTimeNs)
+      .collect(toList());
+  }
+
+  public long getPauseCount() {
+    return pauses.size();
+  }
+
+  public long getTotalPauseMs() {
+    return pauses.stream().mapToLong(GcPause::getDurationMs).sum();
+  }
+
+  public long getMaxPauseMs() {
+    return pauses.stream().mapToLong(GcPause::getDurationMs).max().orElse(0);
+  }
+
+  public long getPromotedBytes() {
+    return promotedBytes.sum();
+  }
+
+  // Duration of the measurement period the pauses were observed in
+  public void setMeasuredDurationNs(long measuredDurationNs) {
+    this.measuredDurationNs = measuredDurationNs;
+  }
+
+  // % of the measurement period spent in GC pauses
+  public float getOverheadPercentage() {
+    return measuredDurationNs > 0 ? Math.min(getTotalPauseMs() * 1_000_000F / measuredDurationNs * 100, 100) : 0;
+  }
+
+  public void reset() {
+    pauses.clear();
+    promotedBytes.reset();
+    measuredDurationNs = 0;
+  }
+
+  @Value
+  public static class GcPause {
+    String collector;
+    // Pause start time (System.nanoTime() based)
+    long startTimeNs;
+    long durationMs;
+    // Bytes moved into the old generation by this (young) collection
+    long promotedBytes;
+  }
+
+}
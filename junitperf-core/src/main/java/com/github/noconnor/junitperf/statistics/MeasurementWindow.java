@@ -0,0 +1,36 @@
+package com.github.noconnor.junitperf.statistics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Time (System.nanoTime) spanned by the measured samples of a test, from the start of the first to the end of the last
+// sample, recorded concurrently by all evaluation threads
+public class MeasurementWindow {
+
+  private final LongAccumulator firstStartNs = new LongAccumulator(Long::min, Long.MAX_VALUE);
+  private final LongAccumulator lastEndNs = new LongAccumulator(Long::max, Long.MIN_VALUE);
+
+  public void addMeasurementTime(long startTimeNs, long endTimeNs) {
+    firstStartNs.accumulate(startTimeNs);
+    lastEndNs.accumulate(endTimeNs);
+  }
+
+  public boolean hasMeasurements() {
+    return firstStartNs.get() != Long.MAX_VALUE;
+  }
+
+  public long getDurationNs() {
+    return hasMeasurements() ? Math.max(lastEndNs.get() - firstStartNs.get(), 0) : 0;
+  }
+
+  public long getDurationMs() {
+    return NANOSECONDS.toMillis(getDurationNs());
+  }
+
+  public void reset() {
+    firstStartNs.reset();
+    lastEndNs.reset();
+  }
+
+}
@@ -10,12 +10,64 @@ public interface StatisticsCalculator {
 
   void incrementEvaluationCount();
 
+  // Batched invocations (see JUnitPerfTest operationsPerInvocation) record several evaluations at once.
+  // Implementations should override this to add the count in a single operation
+  default void incrementEvaluationCount(long count) {
+    for (long i = 0; i < count; i++) {
+      incrementEvaluationCount();
+    }
+  }
+
+  // Merged measurements (i.e. of forked or worker JVMs) add their errors at once.
+  // Implementations should override this to add the count in a single operation
+  default void incrementErrorCount(long count) {
+    for (long i = 0; i < count; i++) {
+      incrementErrorCount();
+    }
+  }
+
+  // Start & end (System.nanoTime) of a measured sample, the span of all samples is the measurement window used to
+  // calculate throughput. Implementations should override this (and getMeasurementWindowNs) to track the window
+  default void addMeasurementTime(long startTimeNs, long endTimeNs) {
+  }
+
+  // Time from the start of the first to the end of the last measured sample, 0 if the window is not tracked (throughput
+  // is then calculated over the configured test duration)
+  default long getMeasurementWindowNs() {
+    return 0;
+  }
+
   long getErrorCount();
 
   long getEvaluationCount();
 
   float getLatencyPercentile(int percentile, TimeUnit unit);
 
+  // Sub-integer percentiles (i.e. 99.9), implementations should override this to calculate the percentile directly.
+  // By default, the value is linearly interpolated between the neighbouring whole percentiles
+  default float getLatencyPercentile(double percentile, TimeUnit unit) {
+    int lower = (int) Math.floor(percentile);
+    int upper = (int) Math.ceil(percentile);
+    float lowerValue = getLatencyPercentile(lower, unit);
+    if (lower == upper) {
+      return lowerValue;
+    }
+    float upperValue = getLatencyPercentile(upper, unit);
+    return lowerValue + (float) ((percentile - lower) * (upperValue - lowerValue));
+  }
+
+  // Bulk percentile calculation, values are returned in the same order as the requested percentiles.
+  // Implementations should override this to calculate all percentiles from a single pass over the recorded latencies.
+  // By default, each percentile is calculated separately
+  default float[] getLatencyPercentiles(double[] percentiles, TimeUnit unit) {
+    float[] values = new float[percentiles.length];
+    for (int i = 0; i < percentiles.length; i++) {
+      double percentile = percentiles[i];
+      values[i] = percentile == Math.rint(percentile) ? getLatencyPercentile((int) percentile, unit) : getLatencyPercentile(percentile, unit);
+    }
+    return values;
+  }
+
   float getMaxLatency(TimeUnit unit);
 
   float getMinLatency(TimeUnit unit);
@@ -1,8 +1,11 @@
 package com.github.noconnor.junitperf.statistics.providers;
 
+import com.github.noconnor.junitperf.statistics.MeasurementWindow;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -12,6 +15,7 @@ public class DescriptiveStatisticsCalculator implements StatisticsCalculator {
   private final DescriptiveStatistics statistics;
   private final AtomicLong errorCount = new AtomicLong();
   private final AtomicLong evaluationCount = new AtomicLong();
+  private final MeasurementWindow measurementWindow = new MeasurementWindow();
 
   // http://commons.apache.org/proper/commons-math/userguide/stat.html#a1.2_Descriptive_statistics
   public DescriptiveStatisticsCalculator() {
@@ -31,16 +35,36 @@ public class DescriptiveStatisticsCalculator implements StatisticsCalculator {
     statistics.addValue(executionTimeNs);
   }
 
+  @Override
+  public void addMeasurementTime(long startTimeNs, long endTimeNs) {
+    measurementWindow.addMeasurementTime(startTimeNs, endTimeNs);
+  }
+
+  @Override
+  public long getMeasurementWindowNs() {
+    return measurementWindow.getDurationNs();
+  }
+
   @Override
   public void incrementErrorCount() {
     errorCount.incrementAndGet();
   }
 
+  @Override
+  public void incrementErrorCount(long count) {
+    errorCount.addAndGet(count);
+  }
+
   @Override
   public void incrementEvaluationCount() {
     evaluationCount.incrementAndGet();
   }
 
+  @Override
+  public void incrementEvaluationCount(long count) {
+    evaluationCount.addAndGet(count);
+  }
+
   @Override
   public long getErrorCount() {
     return errorCount.get();
@@ -53,10 +77,32 @@ public class DescriptiveStatisticsCalculator implements StatisticsCalculator {
 
   @Override
   public float getLatencyPercentile(int percentile, TimeUnit unit) {
-    float value = (float) statistics.getPercentile((double) (percentile));
+    return getLatencyPercentile((double) percentile, unit);
+  }
+
+  @Override
+  public float getLatencyPercentile(double percentile, TimeUnit unit) {
+    float value = (float) statistics.getPercentile(percentile);
     return value > 0 ? value / unit.toNanos(1) : 0;
   }
 
+  @Override
+  public float[] getLatencyPercentiles(double[] percentiles, TimeUnit unit) {
+    UnivariateStatistic percentileImpl = statistics.getPercentileImpl();
+    if (!(percentileImpl instanceof Percentile)) {
+      return StatisticsCalculator.super.getLatencyPercentiles(percentiles, unit);
+    }
+    // Recorded values are copied once, the estimator caches pivots between evaluations of the same data set
+    Percentile estimator = ((Percentile) percentileImpl).copy();
+    estimator.setData(statistics.getValues());
+    float[] values = new float[percentiles.length];
+    for (int i = 0; i < percentiles.length; i++) {
+      float value = (float) estimator.evaluate(percentiles[i]);
+      values[i] = value > 0 ? value / unit.toNanos(1) : 0;
+    }
+    return values;
+  }
+
   @Override
   public float getMaxLatency(TimeUnit unit) {
     float max = (float) statistics.getMax();
@@ -87,5 +133,6 @@ public class DescriptiveStatisticsCalculator implements StatisticsCalculator {
     statistics.clear();
     evaluationCount.set(0);
     errorCount.set(0);
+    measurementWindow.reset();
   }
 }
@@ -0,0 +1,203 @@
+package com.github.noconnor.junitperf.statistics.providers;
+
+import com.github.noconnor.junitperf.statistics.MeasurementWindow;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkState;
+
+public class HdrHistogramStatisticsCalculator implements StatisticsCalculator {
+
+  static final int DEFAULT_SIGNIFICANT_DIGITS = 3;
+  static final long AUTO_RESIZE = 0;
+
+  private final long highestTrackableValueNs;
+  private final int numberOfSignificantValueDigits;
+  private final LongAdder errorCount = new LongAdder();
+  private final LongAdder evaluationCount = new LongAdder();
+  private final MeasurementWindow measurementWindow = new MeasurementWindow();
+  private final Histogram accumulated;
+  private final Histogram interval;
+  // Evaluation threads record into a fixed number of (wait free, multi writer) recorders, recorders are drained & merged
+  // when statistics are read
+  private final StripedRecorders<Recorder> recorders;
+
+  // https://github.com/HdrHistogram/HdrHistogram
+  public HdrHistogramStatisticsCalculator() {
+    this(DEFAULT_SIGNIFICANT_DIGITS);
+  }
+
+  public HdrHistogramStatisticsCalculator(int numberOfSignificantValueDigits) {
+    this(AUTO_RESIZE, numberOfSignificantValueDigits);
+  }
+
+  // Latencies above highestTrackableValueNs will be recorded as highestTrackableValueNs
+  public HdrHistogramStatisticsCalculator(long highestTrackableValueNs, int numberOfSignificantValueDigits) {
+    checkState(highestTrackableValueNs == AUTO_RESIZE || highestTrackableValueNs >= 2, "HighestTrackableValueNs must be >= 2");
+    checkState(numberOfSignificantValueDigits >= 0 && numberOfSignificantValueDigits <= 5, "NumberOfSignificantValueDigits must be between 0 and 5");
+    this.highestTrackableValueNs = highestTrackableValueNs;
+    this.numberOfSignificantValueDigits = numberOfSignificantValueDigits;
+    this.accumulated = newHistogram();
+    this.interval = newHistogram();
+    this.recorders = new StripedRecorders<>(this::newRecorder);
+  }
+
+  @Override
+  public void addLatencyMeasurement(long executionTimeNs) {
+    recorders.get().recordValue(clamp(executionTimeNs));
+  }
+
+  @Override
+  public void addMeasurementTime(long startTimeNs, long endTimeNs) {
+    measurementWindow.addMeasurementTime(startTimeNs, endTimeNs);
+  }
+
+  @Override
+  public long getMeasurementWindowNs() {
+    return measurementWindow.getDurationNs();
+  }
+
+  @Override
+  public void incrementErrorCount() {
+    errorCount.increment();
+  }
+
+  @Override
+  public void incrementErrorCount(long count) {
+    errorCount.add(count);
+  }
+
+  @Override
+  public void incrementEvaluationCount() {
+    evaluationCount.increment();
+  }
+
+  @Override
+  public void incrementEvaluationCount(long count) {
+    evaluationCount.add(count);
+  }
+
+  @Override
+  public long getErrorCount() {
+    return errorCount.sum();
+  }
+
+  @Override
+  public long getEvaluationCount() {
+    return evaluationCount.sum();
+  }
+
+  @Override
+  public float getLatencyPercentile(int percentile, TimeUnit unit) {
+    return getLatencyPercentile((double) percentile, unit);
+  }
+
+  @Override
+  public synchronized float getLatencyPercentile(double percentile, TimeUnit unit) {
+    float value = snapshot().getValueAtPercentile(percentile);
+    return value > 0 ? value / unit.toNanos(1) : 0;
+  }
+
+  @Override
+  public synchronized float[] getLatencyPercentiles(double[] percentiles, TimeUnit unit) {
+    // Recorders are drained once, all percentiles are then read from the same histogram
+    Histogram histogram = snapshot();
+    float[] values = new float[percentiles.length];
+    for (int i = 0; i < percentiles.length; i++) {
+      float value = histogram.getValueAtPercentile(percentiles[i]);
+      values[i] = value > 0 ? value / unit.toNanos(1) : 0;
+    }
+    return values;
+  }
+
+  @Override
+  public synchronized float getMaxLatency(TimeUnit unit) {
+    float max = snapshot().getMaxValue();
+    return max > 0 ? max / unit.toNanos(1) : 0;
+  }
+
+  @Override
+  public synchronized float getMinLatency(TimeUnit unit) {
+    float min = snapshot().getMinValue();
+    return min > 0 ? min / unit.toNanos(1) : 0;
+  }
+
+  @Override
+  public synchronized float getMeanLatency(TimeUnit unit) {
+    float mean = (float) snapshot().getMean();
+    return mean > 0 ? mean / unit.toNanos(1) : 0;
+  }
+
+  @Override
+  public float getErrorPercentage() {
+    float evalCount = evaluationCount.sum();
+    float errCount = errorCount.sum();
+    return evalCount > 0 ? (errCount / evalCount) * 100 : 0;
+  }
+
+  // Adds all latencies (nanoseconds) of a histogram recorded elsewhere (i.e. by a forked or worker JVM), bucket counts
+  // are added as is so latencies keep the resolution they were recorded with
+  public synchronized void add(Histogram latencies) {
+    if (highestTrackableValueNs == AUTO_RESIZE || latencies.getMaxValue() <= highestTrackableValueNs) {
+      accumulated.add(latencies);
+      return;
+    }
+    // Latencies above highestTrackableValueNs are recorded as highestTrackableValueNs
+    for (HistogramIterationValue value : latencies.recordedValues()) {
+      accumulated.recordValueWithCount(clamp(value.getValueIteratedTo()), value.getCountAtValueIteratedTo());
+    }
+  }
+
+  // Copy of all latencies (nanoseconds) recorded so far
+  public synchronized Histogram getHistogram() {
+    return snapshot().copy();
+  }
+
+  // Number of recorders allocated so far, bounded by the number of stripes rather than the number of recording threads
+  int getRecorderCount() {
+    return recorders.size();
+  }
+
+  @Override
+  public synchronized void reset() {
+    // Threads recording after a reset will be allocated a fresh recorder
+    recorders.clear();
+    accumulated.reset();
+    evaluationCount.reset();
+    errorCount.reset();
+    measurementWindow.reset();
+  }
+
+  // The accumulated histogram is shared, it must only be read while holding the lock
+  private synchronized Histogram snapshot() {
+    recorders.forEach(recorder -> {
+      recorder.getIntervalHistogramInto(interval);
+      accumulated.add(interval);
+    });
+    return accumulated;
+  }
+
+  private long clamp(long executionTimeNs) {
+    long value = Math.max(executionTimeNs, 0);
+    return highestTrackableValueNs == AUTO_RESIZE ? value : Math.min(value, highestTrackableValueNs);
+  }
+
+  private Recorder newRecorder() {
+    if (highestTrackableValueNs == AUTO_RESIZE) {
+      return new Recorder(numberOfSignificantValueDigits);
+    }
+    return new Recorder(1, highestTrackableValueNs, numberOfSignificantValueDigits);
+  }
+
+  private Histogram newHistogram() {
+    if (highestTrackableValueNs == AUTO_RESIZE) {
+      return new Histogram(numberOfSignificantValueDigits);
+    }
+    return new Histogram(1, highestTrackableValueNs, numberOfSignificantValueDigits);
+  }
+}
@@ -15,10 +15,18 @@ public class NoOpStatisticsCollector implements StatisticsCalculator {
   public void incrementErrorCount() {
   }
 
+  @Override
+  public void incrementErrorCount(long count) {
+  }
+
   @Override
   public void incrementEvaluationCount() {
   }
 
+  @Override
+  public void incrementEvaluationCount(long count) {
+  }
+
   @Override
   public long getErrorCount() {
     return 0;
@@ -34,6 +42,16 @@ public class NoOpStatisticsCollector implements StatisticsCalculator {
     return 0;
   }
 
+  @Override
+  public float getLatencyPercentile(double percentile, TimeUnit unit) {
+    return 0;
+  }
+
+  @Override
+  public float[] getLatencyPercentiles(double[] percentiles, TimeUnit unit) {
+    return new float[percentiles.length];
+  }
+
   @Override
   public float getMaxLatency(TimeUnit unit) {
     return 0;
@@ -0,0 +1,217 @@
+package com.github.noconnor.junitperf.statistics.providers;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static com.google.common.base.Preconditions.checkState;
+
+// Bounded memory, mergeable streaming quantile sketch (see DDSketch, https://arxiv.org/abs/1908.10693).
+// Values are counted in logarithmically sized buckets, bucket i covers (gamma^(i-1), gamma^i] where
+// gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy). Any quantile estimate is therefore within relativeAccuracy
+// of the true value at that rank, independent of the number of recorded values.
+// Memory only depends on the range of recorded values, at 1% accuracy latencies from 1us to 1 minute span ~900 buckets.
+// Once maxBuckets is exceeded the lowest buckets are collapsed, so tail quantiles always keep the accuracy guarantee.
+// Not thread safe, callers must synchronize access
+public final class QuantileSketch {
+
+  private static final int INITIAL_BUCKETS = 128;
+
+  private final double relativeAccuracy;
+  private final int maxBuckets;
+  private final double gamma;
+  private final double logGamma;
+
+  // counts[i] holds the count for bucket (offset + i), non empty buckets are in the range [minIndex, maxIndex]
+  private long[] counts = new long[0];
+  private int offset;
+  private int minIndex;
+  private int maxIndex;
+  private long zeroCount;
+  private long count;
+  private long min;
+  private long max;
+  private double sum;
+
+  public QuantileSketch(double relativeAccuracy, int maxBuckets) {
+    checkState(relativeAccuracy > 0 && relativeAccuracy < 1, "RelativeAccuracy must be between 0 and 1 (exclusive)");
+    checkState(maxBuckets > 0, "MaxBuckets must be > 0");
+    this.relativeAccuracy = relativeAccuracy;
+    this.maxBuckets = maxBuckets;
+    this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+    this.logGamma = Math.log(gamma);
+    clear();
+  }
+
+  public void add(long value) {
+    if (value <= 0) {
+      zeroCount++;
+    } else {
+      addToBucket(bucketIndex(value), 1);
+    }
+    count++;
+    sum += Math.max(value, 0);
+    min = Math.min(min, Math.max(value, 0));
+    max = Math.max(max, value);
+  }
+
+  // Adds all values recorded in the other sketch, both sketches must have the same relative accuracy
+  public void merge(QuantileSketch other) {
+    checkState(other.relativeAccuracy == relativeAccuracy, "Cannot merge sketches with different relative accuracies");
+    if (other.count == 0) {
+      return;
+    }
+    for (int index = other.minIndex; index <= other.maxIndex; index++) {
+      long bucketCount = other.counts[index - other.offset];
+      if (bucketCount > 0) {
+        addToBucket(index, bucketCount);
+      }
+    }
+    zeroCount += other.zeroCount;
+    count += other.count;
+    sum += other.sum;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  // quantile between 0 and 1, returns 0 if the sketch is empty
+  public double getValueAtQuantile(double quantile) {
+    if (count == 0) {
+      return 0;
+    }
+    double rank = Math.max(0, Math.min(quantile, 1)) * (count - 1);
+    long cumulative = zeroCount;
+    if (cumulative > rank) {
+      return 0;
+    }
+    for (int index = minIndex; index <= maxIndex; index++) {
+      cumulative += counts[index - offset];
+      if (cumulative > rank) {
+        // Min & max are exact, keep estimates within the observed range
+        return Math.max(min, Math.min(max, bucketValue(index)));
+      }
+    }
+    return max;
+  }
+
+  // Equivalent to calling getValueAtQuantile for each quantile, but calculated from a single walk over the buckets.
+  // Values are returned in the same order as the requested quantiles
+  public double[] getValuesAtQuantiles(double[] quantiles) {
+    double[] values = new double[quantiles.length];
+    if (count == 0) {
+      return values;
+    }
+    Integer[] order = new Integer[quantiles.length];
+    for (int i = 0; i < quantiles.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparingDouble(i -> quantiles[i]));
+    long cumulative = zeroCount;
+    int index = minIndex;
+    for (int i : order) {
+      double rank = Math.max(0, Math.min(quantiles[i], 1)) * (count - 1);
+      if (zeroCount > rank) {
+        values[i] = 0;
+        continue;
+      }
+      while (cumulative <= rank && index <= maxIndex) {
+        cumulative += counts[index - offset];
+        index++;
+      }
+      // Min & max are exact, keep estimates within the observed range
+      values[i] = cumulative > rank ? Math.max(min, Math.min(max, bucketValue(index - 1))) : max;
+    }
+    return values;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getMin() {
+    return count > 0 ? min : 0;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  public double getMean() {
+    return count > 0 ? sum / count : 0;
+  }
+
+  public double getRelativeAccuracy() {
+    return relativeAccuracy;
+  }
+
+  // Number of buckets currently allocated
+  public int getBucketCount() {
+    return counts.length;
+  }
+
+  public QuantileSketch copy() {
+    QuantileSketch copy = new QuantileSketch(relativeAccuracy, maxBuckets);
+    copy.merge(this);
+    return copy;
+  }
+
+  // Buckets are retained (zeroed) so a cleared sketch can be reused without reallocating
+  public void clear() {
+    Arrays.fill(counts, 0);
+    minIndex = Integer.MAX_VALUE;
+    maxIndex = Integer.MIN_VALUE;
+    zeroCount = 0;
+    count = 0;
+    min = Long.MAX_VALUE;
+    max = 0;
+    sum = 0;
+  }
+
+  private int bucketIndex(long value) {
+    return (int) Math.ceil(Math.log(value) / logGamma);
+  }
+
+  // Midpoint (relative to the bucket bounds) of the bucket, within relativeAccuracy of any value in the bucket
+  private double bucketValue(int index) {
+    return 2 * Math.pow(gamma, index) / (gamma + 1);
+  }
+
+  private void addToBucket(int index, long bucketCount) {
+    if (minIndex > maxIndex) {
+      // Empty, (re)centre the buckets on the first value
+      if (counts.length == 0) {
+        counts = new long[Math.min(INITIAL_BUCKETS, maxBuckets)];
+      }
+      offset = index - counts.length / 2;
+      minIndex = index;
+      maxIndex = index;
+    }
+    if (maxIndex - index + 1 > maxBuckets) {
+      // Lowest buckets have been collapsed
+      index = maxIndex - maxBuckets + 1;
+    }
+    if (index < offset || index >= offset + counts.length) {
+      resize(index);
+    }
+    counts[index - offset] += bucketCount;
+    minIndex = Math.min(minIndex, index);
+    maxIndex = Math.max(maxIndex, index);
+  }
+
+  private void resize(int index) {
+    int low = Math.min(minIndex, index);
+    int high = Math.max(maxIndex, index);
+    if (high - low + 1 > maxBuckets) {
+      low = high - maxBuckets + 1;
+    }
+    int length = Math.min(maxBuckets, Math.max(high - low + 1, counts.length * 2));
+    int newOffset = index < offset ? high - length + 1 : low;
+    long[] resized = new long[length];
+    for (int i = minIndex; i <= maxIndex; i++) {
+      resized[Math.max(i, low) - newOffset] += counts[i - offset];
+    }
+    counts = resized;
+    offset = newOffset;
+    minIndex = Math.max(minIndex, low);
+  }
+
+}
@@ -0,0 +1,184 @@
+package com.github.noconnor.junitperf.statistics.providers;
+
+import com.github.noconnor.junitperf.statistics.MeasurementWindow;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkState;
+
+public class QuantileSketchStatisticsCalculator implements StatisticsCalculator {
+
+  static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+  static final int DEFAULT_MAX_BUCKETS = 2048;
+
+  private final double relativeAccuracy;
+  private final int maxBuckets;
+  private final LongAdder errorCount = new LongAdder();
+  private final LongAdder evaluationCount = new LongAdder();
+  private final MeasurementWindow measurementWindow = new MeasurementWindow();
+  private final QuantileSketch accumulated;
+  // Evaluation threads record into a fixed number of sketches, sketches are drained & merged when statistics are read
+  private final StripedRecorders<QuantileSketch> sketches;
+
+  // Percentiles are accurate to within 1% of the true latency, using at most 16KB per stripe (see StripedRecorders)
+  public QuantileSketchStatisticsCalculator() {
+    this(DEFAULT_RELATIVE_ACCURACY);
+  }
+
+  public QuantileSketchStatisticsCalculator(double relativeAccuracy) {
+    this(relativeAccuracy, DEFAULT_MAX_BUCKETS);
+  }
+
+  // Once the recorded latencies span more than maxBuckets buckets, the lowest latencies lose accuracy (see QuantileSketch)
+  public QuantileSketchStatisticsCalculator(double relativeAccuracy, int maxBuckets) {
+    checkState(relativeAccuracy > 0 && relativeAccuracy < 1, "RelativeAccuracy must be between 0 and 1 (exclusive)");
+    checkState(maxBuckets > 0, "MaxBuckets must be > 0");
+    this.relativeAccuracy = relativeAccuracy;
+    this.maxBuckets = maxBuckets;
+    this.accumulated = newSketch();
+    this.sketches = new StripedRecorders<>(this::newSketch);
+  }
+
+  @Override
+  public void addLatencyMeasurement(long executionTimeNs) {
+    QuantileSketch sketch = sketches.get();
+    // Sketches are shared by the threads of a stripe & drained when statistics are read
+    synchronized (sketch) {
+      sketch.add(executionTimeNs);
+    }
+  }
+
+  @Override
+  public void addMeasurementTime(long startTimeNs, long endTimeNs) {
+    measurementWindow.addMeasurementTime(startTimeNs, endTimeNs);
+  }
+
+  @Override
+  public long getMeasurementWindowNs() {
+    return measurementWindow.getDurationNs();
+  }
+
+  @Override
+  public void incrementErrorCount() {
+    errorCount.increment();
+  }
+
+  @Override
+  public void incrementErrorCount(long count) {
+    errorCount.add(count);
+  }
+
+  @Override
+  public void incrementEvaluationCount() {
+    evaluationCount.increment();
+  }
+
+  @Override
+  public void incrementEvaluationCount(long count) {
+    evaluationCount.add(count);
+  }
+
+  @Override
+  public long getErrorCount() {
+    return errorCount.sum();
+  }
+
+  @Override
+  public long getEvaluationCount() {
+    return evaluationCount.sum();
+  }
+
+  @Override
+  public float getLatencyPercentile(int percentile, TimeUnit unit) {
+    return getLatencyPercentile((double) percentile, unit);
+  }
+
+  @Override
+  public synchronized float getLatencyPercentile(double percentile, TimeUnit unit) {
+    float value = (float) snapshot().getValueAtQuantile(percentile / 100);
+    return value > 0 ? value / unit.toNanos(1) : 0;
+  }
+
+  @Override
+  public synchronized float[] getLatencyPercentiles(double[] percentiles, TimeUnit unit) {
+    double[] quantiles = new double[percentiles.length];
+    for (int i = 0; i < percentiles.length; i++) {
+      quantiles[i] = percentiles[i] / 100;
+    }
+    double[] estimates = snapshot().getValuesAtQuantiles(quantiles);
+    float[] values = new float[percentiles.length];
+    for (int i = 0; i < percentiles.length; i++) {
+      float value = (float) estimates[i];
+      values[i] = value > 0 ? value / unit.toNanos(1) : 0;
+    }
+    return values;
+  }
+
+  @Override
+  public synchronized float getMaxLatency(TimeUnit unit) {
+    float max = snapshot().getMax();
+    return max > 0 ? max / unit.toNanos(1) : 0;
+  }
+
+  @Override
+  public synchronized float getMinLatency(TimeUnit unit) {
+    float min = snapshot().getMin();
+    return min > 0 ? min / unit.toNanos(1) : 0;
+  }
+
+  @Override
+  public synchronized float getMeanLatency(TimeUnit unit) {
+    float mean = (float) snapshot().getMean();
+    return mean > 0 ? mean / unit.toNanos(1) : 0;
+  }
+
+  @Override
+  public float getErrorPercentage() {
+    float evalCount = evaluationCount.sum();
+    float errCount = errorCount.sum();
+    return evalCount > 0 ? (errCount / evalCount) * 100 : 0;
+  }
+
+  // Number of sketches allocated so far, bounded by the number of stripes rather than the number of recording threads
+  int getSketchCount() {
+    return sketches.size();
+  }
+
+  @Override
+  public synchronized void reset() {
+    // Threads recording after a reset will be allocated a fresh sketch
+    sketches.clear();
+    accumulated.clear();
+    evaluationCount.reset();
+    errorCount.reset();
+    measurementWindow.reset();
+  }
+
+  // Merges latencies recorded elsewhere (i.e. by another calculator) into this calculator
+  public synchronized void merge(QuantileSketch sketch) {
+    accumulated.merge(sketch);
+  }
+
+  // Copy of all latencies recorded so far
+  public synchronized QuantileSketch getSketch() {
+    return snapshot().copy();
+  }
+
+  // The accumulated sketch is shared, it must only be read while holding the lock
+  private synchronized QuantileSketch snapshot() {
+    sketches.forEach(sketch -> {
+      synchronized (sketch) {
+        accumulated.merge(sketch);
+        sketch.clear();
+      }
+    });
+    return accumulated;
+  }
+
+  private QuantileSketch newSketch() {
+    return new QuantileSketch(relativeAccuracy, maxBuckets);
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.github.noconnor.junitperf.statistics.providers;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// A fixed number of recorders (stripes) shared by all recording threads, a thread always records into the stripe of its
+// thread id. Memory is bounded by the number of stripes rather than the number of recording threads (i.e. thousands of
+// virtual threads), recorders must therefore support concurrent writers. Recorders are created on first use
+final class StripedRecorders<T> {
+
+  // Enough stripes to keep contention between recording threads low without tying memory to the thread count
+  static final int DEFAULT_STRIPES = Runtime.getRuntime().availableProcessors() * 2;
+
+  private final Supplier<T> factory;
+  private final int stripes;
+
+  private volatile AtomicReferenceArray<T> recorders;
+
+  StripedRecorders(Supplier<T> factory) {
+    this(factory, DEFAULT_STRIPES);
+  }
+
+  StripedRecorders(Supplier<T> factory, int stripes) {
+    checkState(stripes > 0, "Stripes must be > 0");
+    this.factory = factory;
+    this.stripes = stripes;
+    this.recorders = new AtomicReferenceArray<>(stripes);
+  }
+
+  // Recorder of the calling thread's stripe
+  T get() {
+    AtomicReferenceArray<T> current = recorders;
+    // Thread ids are allocated sequentially, consecutive threads are spread over all stripes
+    int stripe = (int) (Thread.currentThread().getId() % stripes);
+    T recorder = current.get(stripe);
+    if (isNull(recorder)) {
+      current.compareAndSet(stripe, null, factory.get());
+      recorder = current.get(stripe);
+    }
+    return recorder;
+  }
+
+  void forEach(Consumer<T> action) {
+    AtomicReferenceArray<T> current = recorders;
+    for (int i = 0; i < current.length(); i++) {
+      T recorder = current.get(i);
+      if (nonNull(recorder)) {
+        action.accept(recorder);
+      }
+    }
+  }
+
+  int size() {
+    int[] size = {0};
+    forEach(recorder -> size[0]++);
+    return size[0];
+  }
+
+  // Threads recording after a clear will be allocated a fresh recorder
+  void clear() {
+    recorders = new AtomicReferenceArray<>(stripes);
+  }
+
+}
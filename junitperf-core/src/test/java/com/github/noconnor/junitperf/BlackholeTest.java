@@ -0,0 +1,55 @@
+package com.github.noconnor.junitperf;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlackholeTest extends BaseTest {
+
+  private Blackhole blackhole;
+
+  @Before
+  public void setup() {
+    blackhole = new Blackhole();
+  }
+
+  @Test
+  public void whenConsumingPrimitives_thenValuesMatchingTheBaitFieldsShouldNotBeStored() {
+    // Stores would throw a NullPointerException
+    for (int value = -1; value <= 3; value++) {
+      blackhole.consume(value == 1);
+      blackhole.consume((byte) value);
+      blackhole.consume((short) value);
+      blackhole.consume((char) ('A' + value));
+      blackhole.consume(value);
+      blackhole.consume((long) value);
+      blackhole.consume((float) value);
+      blackhole.consume((double) value);
+    }
+  }
+
+  @Test
+  public void whenConsumingObjects_thenNoExceptionShouldBeThrown() {
+    for (int i = 0; i < 1_000_000; i++) {
+      blackhole.consume(new Object());
+    }
+    blackhole.consume(null);
+  }
+
+  @Test
+  public void whenConsumingFromMultipleThreads_thenNoExceptionShouldBeThrown() throws InterruptedException {
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 100_000; i++) {
+          blackhole.consume(i);
+          blackhole.consume(String.valueOf(i));
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+}
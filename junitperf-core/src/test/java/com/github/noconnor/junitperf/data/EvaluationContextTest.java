@@ -1,27 +1,61 @@
 package com.github.noconnor.junitperf.data;
 
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_ARRIVAL_RATE_PER_SECOND;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_CORRECT_COORDINATED_OMISSION;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_CONVERGENCE_MIN_DURATION_MS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_CONVERGENCE_TOLERANCE;
 import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_DURATION_MS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_FAIL_FAST;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_FORKS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_INTERVAL_MS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_JVM_ARGS;
 import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_MAX_EXECUTIONS_PER_SECOND;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_MEASURE_ALLOCATIONS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_MEASURE_CPU_TIME;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_MONITOR_GC;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_MEASURE_HARNESS_OVERHEAD;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_OPERATIONS_PER_INVOCATION;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_PROFILE;
 import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_RAMP_UP_PERIOD_MS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_SEARCH_MAX_THROUGHPUT;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_SEARCH_PROBE_DURATION_MS;
 import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_THREADS;
 import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_TOTAL_EXECUTIONS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_VIRTUAL_THREADS;
 import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_WARM_UP_MS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_WORKERS;
+import static com.github.noconnor.junitperf.data.EvaluationContext.JUNITPERF_WORKER_HOSTS;
 import static java.lang.System.nanoTime;
 import static java.util.Collections.emptyMap;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static com.google.common.collect.Lists.newArrayList;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.github.noconnor.junitperf.BaseTest;
 import com.github.noconnor.junitperf.JUnitPerfTest;
 import com.github.noconnor.junitperf.JUnitPerfTestRequirement;
+import com.github.noconnor.junitperf.JUnitPerfTestStage;
 import com.github.noconnor.junitperf.datetime.DatetimeUtils;
+import com.github.noconnor.junitperf.statistics.AllocationStatistics;
+import com.github.noconnor.junitperf.statistics.CpuTimeStatistics;
+import com.github.noconnor.junitperf.statistics.GcStatistics;
+import com.github.noconnor.junitperf.statistics.GcStatistics.GcPause;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.HdrHistogramStatisticsCalculator;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
 import org.junit.After;
 import org.junit.AssumptionViolatedException;
 import org.junit.Before;
@@ -38,6 +72,9 @@ public class EvaluationContextTest extends BaseTest {
   @Mock
   private StatisticsCalculator statisticsMock;
 
+  @Mock
+  private StatisticsCalculator correctedStatisticsMock;
+
   @Mock
   private JUnitPerfTest perfTestAnnotation;
 
@@ -51,6 +88,8 @@ public class EvaluationContextTest extends BaseTest {
     startTimeNs = nanoTime();
     initialisePerfTestAnnotation();
     initialisePerfTestRequirementAnnotation();
+    stubBulkPercentiles(statisticsMock);
+    stubBulkPercentiles(correctedStatisticsMock);
     initialiseStatisticsMockToPassValidation();
     DatetimeUtils.setOverride(DATE_OVERRIDE);
     context = new EvaluationContext(TEST_NAME, startTimeNs);
@@ -64,6 +103,25 @@ public class EvaluationContextTest extends BaseTest {
     System.clearProperty(JUNITPERF_MAX_EXECUTIONS_PER_SECOND);
     System.clearProperty(JUNITPERF_RAMP_UP_PERIOD_MS);
     System.clearProperty(JUNITPERF_TOTAL_EXECUTIONS);
+    System.clearProperty(JUNITPERF_CORRECT_COORDINATED_OMISSION);
+    System.clearProperty(JUNITPERF_VIRTUAL_THREADS);
+    System.clearProperty(JUNITPERF_ARRIVAL_RATE_PER_SECOND);
+    System.clearProperty(JUNITPERF_SEARCH_MAX_THROUGHPUT);
+    System.clearProperty(JUNITPERF_SEARCH_PROBE_DURATION_MS);
+    System.clearProperty(JUNITPERF_INTERVAL_MS);
+    System.clearProperty(JUNITPERF_MEASURE_ALLOCATIONS);
+    System.clearProperty(JUNITPERF_MEASURE_CPU_TIME);
+    System.clearProperty(JUNITPERF_MONITOR_GC);
+    System.clearProperty(JUNITPERF_PROFILE);
+    System.clearProperty(JUNITPERF_OPERATIONS_PER_INVOCATION);
+    System.clearProperty(JUNITPERF_MEASURE_HARNESS_OVERHEAD);
+    System.clearProperty(JUNITPERF_FORKS);
+    System.clearProperty(JUNITPERF_JVM_ARGS);
+    System.clearProperty(JUNITPERF_WORKERS);
+    System.clearProperty(JUNITPERF_WORKER_HOSTS);
+    System.clearProperty(JUNITPERF_FAIL_FAST);
+    System.clearProperty(JUNITPERF_CONVERGENCE_TOLERANCE);
+    System.clearProperty(JUNITPERF_CONVERGENCE_MIN_DURATION_MS);
   }
 
   @Test
@@ -208,7 +266,7 @@ public class EvaluationContextTest extends BaseTest {
     context.loadRequirements(perfTestRequirement);
     assertEquals(perfTestRequirement.allowedErrorPercentage(), context.getRequiredAllowedErrorsRate(),0);
     assertEquals(perfTestRequirement.executionsPerSec(), context.getRequiredThroughput());
-    assertEquals(ImmutableMap.of(90, 0.5F, 95, 9F), context.getRequiredPercentiles());
+    assertEquals(ImmutableMap.of(90D, 0.5F, 95D, 9F), context.getRequiredPercentiles());
   }
 
   @Test
@@ -274,7 +332,7 @@ public class EvaluationContextTest extends BaseTest {
 
   @Test
   public void whenRunningEvaluation_thenPercentileRequirementsShouldBeChecked() {
-    Map<Integer, Boolean> validationResults = ImmutableMap.of(90, true, 95, true);
+    Map<Double, Boolean> validationResults = ImmutableMap.of(90D, true, 95D, true);
     initialiseContext();
     context.runValidation();
     assertEquals(validationResults, context.getPercentileResults());
@@ -283,7 +341,7 @@ public class EvaluationContextTest extends BaseTest {
   @Test
   public void whenRunningEvaluation_andAPercentileThresholdIsNotMet_thenIsSuccessfulShouldReturnFalse() {
     when(statisticsMock.getLatencyPercentile(90, MILLISECONDS)).thenReturn(100F);
-    Map<Integer, Boolean> validationResults = ImmutableMap.of(90, false, 95, true);
+    Map<Double, Boolean> validationResults = ImmutableMap.of(90D, false, 95D, true);
     initialiseContext();
     context.runValidation();
     assertEquals(validationResults, context.getPercentileResults());
@@ -311,7 +369,7 @@ public class EvaluationContextTest extends BaseTest {
   @Test
   public void whenParsingPercentileLimits_thenValidLimitsShouldBeParsedCorrectly() {
     context.loadConfiguration(perfTestAnnotation);
-    loadPercentilesAndAssertParsedCorrectly("90:2,95:5,99:6.7", ImmutableMap.of(90, 2F, 95, 5F, 99, 6.7F));
+    loadPercentilesAndAssertParsedCorrectly("90:2,95:5,99:6.7", ImmutableMap.of(90D, 2F, 95D, 5F, 99D, 6.7F));
   }
 
   @Test
@@ -326,13 +384,54 @@ public class EvaluationContextTest extends BaseTest {
   public void whenParsingPercentileLimits_andEntriesAreInvalid_thenInvalidEntriesShouldBeFiltered() {
     context.loadConfiguration(perfTestAnnotation);
     loadPercentiles("");
-    loadPercentilesAndAssertParsedCorrectly("90:,95:5", ImmutableMap.of(95, 5F));
-    loadPercentilesAndAssertParsedCorrectly("90:part,94:5", ImmutableMap.of(94, 5F));
-    loadPercentilesAndAssertParsedCorrectly("90:1.2,ss:5", ImmutableMap.of(90, 1.2F));
+    loadPercentilesAndAssertParsedCorrectly("90:,95:5", ImmutableMap.of(95D, 5F));
+    loadPercentilesAndAssertParsedCorrectly("90:part,94:5", ImmutableMap.of(94D, 5F));
+    loadPercentilesAndAssertParsedCorrectly("90:1.2,ss:5", ImmutableMap.of(90D, 1.2F));
     loadPercentilesAndAssertParsedCorrectly("90:dd,ss:5", emptyMap());
-    loadPercentilesAndAssertParsedCorrectly("90.444:1.2,ss:5", emptyMap());
-    loadPercentilesAndAssertParsedCorrectly("90.666:1.2,ss653:5", emptyMap());
-    loadPercentilesAndAssertParsedCorrectly("90,,,,ss653:5,7:9", ImmutableMap.of(7, 9F));
+    loadPercentilesAndAssertParsedCorrectly("90.444:1.2,ss:5", ImmutableMap.of(90.444, 1.2F));
+    loadPercentilesAndAssertParsedCorrectly("90.666:1.2,ss653:5", ImmutableMap.of(90.666, 1.2F));
+    loadPercentilesAndAssertParsedCorrectly("90,,,,ss653:5,7:9", ImmutableMap.of(7D, 9F));
+  }
+
+  @Test
+  public void whenParsingPercentileLimits_andPercentilesAreFractional_thenLimitsShouldBeParsedCorrectly() {
+    context.loadConfiguration(perfTestAnnotation);
+    loadPercentilesAndAssertParsedCorrectly("99:2, 99.9:5,99.999:10", ImmutableMap.of(99D, 2F, 99.9D, 5F, 99.999D, 10F));
+  }
+
+  @Test
+  public void whenPercentileRequirementIsOutOfRange_thenExceptionShouldBeThrown() {
+    when(perfTestRequirement.percentiles()).thenReturn("100.1:5");
+    expectRequirementsValidationError("Percentiles must be > 0 and <= 100");
+    when(perfTestRequirement.percentiles()).thenReturn("0:5");
+    expectRequirementsValidationError("Percentiles must be > 0 and <= 100");
+  }
+
+  @Test
+  public void whenRunningEvaluation_andFractionalPercentilesAreRequired_thenFractionalPercentilesShouldBeCalculatedAndChecked() {
+    when(perfTestRequirement.percentiles()).thenReturn("90:0.5,99.95:9");
+    when(statisticsMock.getLatencyPercentile(99.95, MILLISECONDS)).thenReturn(10F);
+    when(statisticsMock.getLatencyPercentile(99.9, MILLISECONDS)).thenReturn(8F);
+    initialiseContext();
+    context.runValidation();
+    assertEquals(ImmutableMap.of(90D, true, 99.95D, false), context.getPercentileResults());
+    assertEquals(10F, context.getLatencyPercentileMs(99.95), 0);
+    assertEquals(0.2F, context.getLatencyPercentileMs(90D), 0);
+    // Tail percentiles are always calculated
+    assertEquals(8F, context.getLatencyPercentileMs(99.9), 0);
+    assertFalse(context.isSuccessful());
+  }
+
+  @Test
+  public void whenMeasurementWindowIsRecorded_thenThroughputShouldBeCalculatedOverTheMeasuredWindow() {
+    when(statisticsMock.getEvaluationCount()).thenReturn(10_000L);
+    when(statisticsMock.getMeasurementWindowNs()).thenReturn(SECONDS.toNanos(2));
+    when(perfTestAnnotation.durationMs()).thenReturn(5_000);
+    when(perfTestAnnotation.warmUpMs()).thenReturn(0);
+    initialiseContext();
+    context.runValidation();
+    assertEquals(SECONDS.toNanos(2), context.getMeasurementWindowNs());
+    assertEquals(5_000L, context.getThroughputQps());
   }
 
   @Test
@@ -438,12 +537,1097 @@ public class EvaluationContextTest extends BaseTest {
     assertEquals(abort, context.getAbortedException());
   }
 
+  @Test
+  public void whenCoordinatedOmissionCorrectionIsRequested_andRateLimitIsSet_thenCorrectionShouldBeEnabled() {
+    when(perfTestAnnotation.correctCoordinatedOmission()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isCoordinatedOmissionCorrectionEnabled());
+  }
+
+  @Test
+  public void whenCoordinatedOmissionCorrectionIsRequested_andRateLimitIsNotSet_thenCorrectionShouldBeDisabled() {
+    when(perfTestAnnotation.correctCoordinatedOmission()).thenReturn(true);
+    when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(-1);
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isCoordinatedOmissionCorrectionEnabled());
+  }
+
+  @Test
+  public void whenCoordinatedOmissionCorrectionEnvOverrideIsSet_thenCorrectionShouldBeEnabled() {
+    System.setProperty(JUNITPERF_CORRECT_COORDINATED_OMISSION, "true");
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isCoordinatedOmissionCorrectionEnabled());
+  }
+
+  @Test
+  public void whenVirtualThreadsAreRequested_thenVirtualThreadsShouldBeEnabled() {
+    when(perfTestAnnotation.virtualThreads()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isVirtualThreadsEnabled());
+  }
+
+  @Test
+  public void whenVirtualThreadsEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    when(perfTestAnnotation.virtualThreads()).thenReturn(true);
+    System.setProperty(JUNITPERF_VIRTUAL_THREADS, "false");
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isVirtualThreadsEnabled());
+  }
+
+  @Test
+  public void whenArrivalRateIsSet_thenOpenModelShouldBeEnabled() {
+    when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(-1);
+    when(perfTestAnnotation.arrivalRatePerSecond()).thenReturn(500);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isOpenModel());
+    assertEquals(500, context.getConfiguredArrivalRate());
+  }
+
+  @Test
+  public void whenArrivalRateEnvOverrideIsSet_thenOpenModelShouldBeEnabled() {
+    when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(-1);
+    System.setProperty(JUNITPERF_ARRIVAL_RATE_PER_SECOND, "250");
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isOpenModel());
+    assertEquals(250, context.getConfiguredArrivalRate());
+  }
+
+  @Test
+  public void whenArrivalRateIsNotSet_thenOpenModelShouldBeDisabled() {
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isOpenModel());
+  }
+
+  @Test
+  public void whenArrivalRateAndMaxExecutionsPerSecondAreSet_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.arrivalRatePerSecond()).thenReturn(500);
+    when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(1_000);
+    expectValidationError("ArrivalRatePerSecond cannot be combined with MaxExecutionsPerSecond");
+  }
+
+  @Test
+  public void whenQueueingStatisticsAreAvailable_thenQueueingDelaysShouldBeCached() {
+    StatisticsCalculator queueingStatisticsMock = mockStatistics();
+    when(queueingStatisticsMock.getMaxLatency(MILLISECONDS)).thenReturn(20F);
+    when(queueingStatisticsMock.getMeanLatency(MILLISECONDS)).thenReturn(2F);
+    when(queueingStatisticsMock.getLatencyPercentile(99, MILLISECONDS)).thenReturn(15F);
+    initialiseContext();
+    context.setQueueingStatistics(queueingStatisticsMock);
+    context.runValidation();
+    assertTrue(context.hasQueueingDelays());
+    assertEquals(20F, context.getQueueingMaxDelayMs(), 0);
+    assertEquals(2F, context.getQueueingMeanDelayMs(), 0);
+    assertEquals(15F, context.getQueueingDelayPercentileMs(99), 0);
+  }
+
+  @Test
+  public void whenCorrectedStatisticsAreAvailable_thenCorrectedLatenciesShouldBeCached() {
+    initialiseContext();
+    context.setCorrectedStatistics(correctedStatisticsMock);
+    context.runValidation();
+    assertTrue(context.hasCorrectedLatencies());
+    assertEquals(1.5F, context.getCorrectedMinLatencyMs(), 0);
+    assertEquals(95.0F, context.getCorrectedMaxLatencyMs(), 0);
+    assertEquals(4.1F, context.getCorrectedMeanLatencyMs(), 0);
+    assertEquals(0.3F, context.getCorrectedLatencyPercentileMs(90), 0);
+    assertEquals(0.2F, context.getLatencyPercentileMs(90), 0);
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenCorrectedStatisticsAreAvailable_thenLatencyRequirementsShouldBeCheckedAgainstCorrectedLatencies() {
+    when(correctedStatisticsMock.getLatencyPercentile(95, MILLISECONDS)).thenReturn(12F);
+    when(correctedStatisticsMock.getMaxLatency(MILLISECONDS)).thenReturn(250F);
+    when(correctedStatisticsMock.getMeanLatency(MILLISECONDS)).thenReturn(50F);
+    initialiseContext();
+    context.setCorrectedStatistics(correctedStatisticsMock);
+    context.runValidation();
+    assertFalse(context.getPercentileResults().get(95D));
+    assertTrue(context.getPercentileResults().get(90D));
+    assertFalse(context.isMaxLatencyAchieved());
+    assertFalse(context.isMeanLatencyAchieved());
+    assertTrue(context.isMinLatencyAchieved());
+    assertFalse(context.isSuccessful());
+  }
+
+  @Test
+  public void whenStagesAreDefined_thenLoadProfileShouldReplaceTestSettings() {
+    JUnitPerfTestStage step = mockStage(1_000, 10, 100);
+    JUnitPerfTestStage spike = mockStage(500, -1, 1_000);
+    when(perfTestAnnotation.stages()).thenReturn(new JUnitPerfTestStage[]{step, spike});
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.hasLoadProfile());
+    assertEquals(2, context.getLoadStages().size());
+    assertEquals(10, context.getLoadStages().get(0).getThreads());
+    assertEquals(50, context.getLoadStages().get(1).getThreads());
+    assertEquals(1_000, context.getLoadStages().get(1).getMaxExecutionsPerSecond());
+    assertEquals(50, context.getConfiguredThreads());
+    assertEquals(1_505, context.getConfiguredDuration());
+    assertEquals(-1, context.getConfiguredRateLimit());
+    assertEquals(0, context.getConfiguredRampUpPeriodMs());
+  }
+
+  @Test
+  public void whenStagesAreNotDefined_thenNoLoadProfileShouldBeApplied() {
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.hasLoadProfile());
+    assertTrue(context.getLoadStages().isEmpty());
+  }
+
+  @Test
+  public void whenLoadProfileIsLoadedProgrammatically_thenLoadProfileShouldReplaceTestSettings() {
+    context.loadConfiguration(perfTestAnnotation);
+    context.loadProfile(LoadProfile.builder()
+      .stage(LoadStage.builder().durationMs(200).build())
+      .stage(LoadStage.builder().durationMs(300).threads(80).ramp(true).build())
+      .build());
+    assertEquals(2, context.getLoadStages().size());
+    assertEquals(50, context.getLoadStages().get(0).getThreads());
+    assertEquals(80, context.getConfiguredThreads());
+    assertEquals(505, context.getConfiguredDuration());
+  }
+
+  @Test
+  public void whenLoadProfileHasNoStages_thenExceptionShouldBeThrown() {
+    context.loadConfiguration(perfTestAnnotation);
+    try {
+      context.loadProfile(LoadProfile.builder().build());
+      fail("Expected validation Exception");
+    } catch (IllegalStateException e) {
+      assertEquals("Load profile must contain at least 1 stage", e.getMessage());
+    }
+  }
+
+  @Test
+  public void whenStageDurationIsInvalid_thenExceptionShouldBeThrown() {
+    JUnitPerfTestStage stage = mockStage(0, 1, -1);
+    when(perfTestAnnotation.stages()).thenReturn(new JUnitPerfTestStage[]{stage});
+    expectValidationError("Stage DurationMs must be greater than 0ms");
+  }
+
+  @Test
+  public void whenStageRateIsInvalid_thenExceptionShouldBeThrown() {
+    JUnitPerfTestStage stage = mockStage(100, 1, 0);
+    when(perfTestAnnotation.stages()).thenReturn(new JUnitPerfTestStage[]{stage});
+    expectValidationError("Stage MaxExecutionsPerSecond must be > 0 or -1 (to disable)");
+  }
+
+  @Test
+  public void whenStagesAndArrivalRateAreSet_thenExceptionShouldBeThrown() {
+    JUnitPerfTestStage stage = mockStage(100, 1, -1);
+    when(perfTestAnnotation.stages()).thenReturn(new JUnitPerfTestStage[]{stage});
+    when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(-1);
+    when(perfTestAnnotation.arrivalRatePerSecond()).thenReturn(100);
+    expectValidationError("Load profile stages cannot be combined with ArrivalRatePerSecond");
+  }
+
+  @Test
+  public void whenStageStatisticsAreAvailable_thenStagesShouldBeEvaluatedAgainstRequirements() {
+    StatisticsCalculator passingStageMock = mockStatistics();
+    StatisticsCalculator failingStageMock = mockStatistics();
+    when(passingStageMock.getEvaluationCount()).thenReturn(200L);
+    when(passingStageMock.getMeanLatency(MILLISECONDS)).thenReturn(2F);
+    when(failingStageMock.getMeanLatency(MILLISECONDS)).thenReturn(20F);
+    initialiseLoadProfileContext(true);
+    context.setStageStatistics(newArrayList(passingStageMock, failingStageMock));
+    context.runValidation();
+    assertEquals(2, context.getStageResults().size());
+    StageResult first = context.getStageResults().get(0);
+    StageResult second = context.getStageResults().get(1);
+    assertEquals("step", first.getName());
+    assertEquals("Stage 2", second.getName());
+    assertTrue(first.isSuccessful());
+    assertEquals(200, first.getThroughputQps());
+    assertFalse(second.isMeanLatencyAchieved());
+    assertFalse(second.isSuccessful());
+    assertFalse(context.isSuccessful());
+  }
+
+  @Test
+  public void whenStageMeasurementWindowIsShorterThanTheStageDuration_thenStageThroughputShouldUseTheMeasuredWindow() {
+    StatisticsCalculator earlyEndingStageMock = mockStatistics();
+    StatisticsCalculator untrackedStageMock = mockStatistics();
+    when(earlyEndingStageMock.getEvaluationCount()).thenReturn(200L);
+    when(earlyEndingStageMock.getMeasurementWindowNs()).thenReturn(MILLISECONDS.toNanos(500));
+    when(untrackedStageMock.getEvaluationCount()).thenReturn(300L);
+    initialiseLoadProfileContext(false);
+    context.setStageStatistics(newArrayList(earlyEndingStageMock, untrackedStageMock));
+    context.runValidation();
+    // Stage durations are 1000ms each, the first stage was only measured for 500ms
+    assertEquals(400, context.getStageResults().get(0).getThroughputQps());
+    assertEquals(MILLISECONDS.toNanos(500), context.getStageResults().get(0).getMeasurementWindowNs());
+    assertEquals(300, context.getStageResults().get(1).getThroughputQps());
+  }
+
+  @Test
+  public void whenSearchProbeWindowIsShorterThanTheProbeDuration_thenProbeThroughputShouldUseTheMeasuredWindow() {
+    initialiseThroughputSearchContext();
+    LoadStage probe = LoadStage.builder().durationMs(1_000).threads(1).maxExecutionsPerSecond(1_000).build();
+    StatisticsCalculator probeStatisticsMock = mockStatistics();
+    // 900 evaluations over the configured 1000ms would not sustain the target, over the measured 900ms they do
+    when(probeStatisticsMock.getEvaluationCount()).thenReturn(900L);
+    when(probeStatisticsMock.getMeasurementWindowNs()).thenReturn(MILLISECONDS.toNanos(900));
+    StageResult result = context.evaluateSearchProbe(0, probe, probeStatisticsMock);
+    assertEquals(1_000, result.getThroughputQps());
+    assertTrue(result.isSuccessful());
+  }
+
+  @Test
+  public void whenStageRequirementsAreNotAsserted_thenStageShouldNotFailTheTest() {
+    StatisticsCalculator passingStageMock = mockStatistics();
+    StatisticsCalculator failingStageMock = mockStatistics();
+    when(failingStageMock.getMeanLatency(MILLISECONDS)).thenReturn(20F);
+    initialiseLoadProfileContext(false);
+    context.setStageStatistics(newArrayList(passingStageMock, failingStageMock));
+    context.runValidation();
+    assertTrue(context.getStageResults().get(1).isSuccessful());
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenSearchMaxThroughputIsSet_thenThroughputSearchShouldBeEnabled() {
+    when(perfTestAnnotation.correctCoordinatedOmission()).thenReturn(true);
+    initialiseThroughputSearchContext();
+    assertTrue(context.isThroughputSearchEnabled());
+    assertEquals(5, context.getConfiguredSearchProbeDurationMs());
+    assertFalse(context.isCoordinatedOmissionCorrectionEnabled());
+  }
+
+  @Test
+  public void whenSearchMaxThroughputEnvOverridesAreSet_thenOverridesShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_SEARCH_MAX_THROUGHPUT, "true");
+    System.setProperty(JUNITPERF_SEARCH_PROBE_DURATION_MS, "2");
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isThroughputSearchEnabled());
+    assertEquals(2, context.getConfiguredSearchProbeDurationMs());
+  }
+
+  @Test
+  public void whenSearchProbeDurationIsInvalid_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.searchMaxThroughput()).thenReturn(true);
+    when(perfTestAnnotation.searchProbeDurationMs()).thenReturn(0);
+    expectValidationError("SearchProbeDurationMs must be greater than 0ms");
+    when(perfTestAnnotation.searchProbeDurationMs()).thenReturn(6);
+    expectValidationError("SearchProbeDurationMs must be <= DurationMs - WarmUpMs");
+  }
+
+  @Test
+  public void whenSearchMaxThroughputAndArrivalRateAreSet_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.searchMaxThroughput()).thenReturn(true);
+    when(perfTestAnnotation.searchProbeDurationMs()).thenReturn(5);
+    when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(-1);
+    when(perfTestAnnotation.arrivalRatePerSecond()).thenReturn(100);
+    expectValidationError("SearchMaxThroughput cannot be combined with ArrivalRatePerSecond");
+  }
+
+  @Test
+  public void whenSearchMaxThroughputIsSetOnAnAsyncTest_thenExceptionShouldBeThrown() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.searchMaxThroughput()).thenReturn(true);
+    when(perfTestAnnotation.searchProbeDurationMs()).thenReturn(5);
+    expectValidationError("SearchMaxThroughput is not supported for async tests");
+  }
+
+  @Test
+  public void whenSearchProbeDoesNotSustainItsTargetRate_thenProbeShouldFail() {
+    initialiseThroughputSearchContext();
+    LoadStage probe = LoadStage.builder().durationMs(1_000).threads(1).maxExecutionsPerSecond(1_000).build();
+    StatisticsCalculator probeStatisticsMock = mockStatistics();
+    when(probeStatisticsMock.getEvaluationCount()).thenReturn(900L);
+    assertFalse(context.evaluateSearchProbe(0, probe, probeStatisticsMock).isSuccessful());
+    when(probeStatisticsMock.getEvaluationCount()).thenReturn(990L);
+    assertTrue(context.evaluateSearchProbe(0, probe, probeStatisticsMock).isSuccessful());
+  }
+
+  @Test
+  public void whenSearchProbeIsUnlimited_thenProbeThroughputShouldNotBeEvaluated() {
+    initialiseThroughputSearchContext();
+    LoadStage probe = LoadStage.builder().durationMs(1_000).threads(1).build();
+    StatisticsCalculator probeStatisticsMock = mockStatistics();
+    assertTrue(context.evaluateSearchProbe(0, probe, probeStatisticsMock).isSuccessful());
+  }
+
+  @Test
+  public void whenThroughputKneeIsFound_thenThroughputShouldBeReportedFromTheKnee() {
+    initialiseThroughputSearchContext();
+    StatisticsCalculator probeStatisticsMock = mockStatistics();
+    when(probeStatisticsMock.getEvaluationCount()).thenReturn(12_000L);
+    LoadStage probe = LoadStage.builder().durationMs(1_000).threads(1).maxExecutionsPerSecond(12_000).build();
+    StageResult knee = context.evaluateSearchProbe(0, probe, probeStatisticsMock);
+    context.setSearchProbeResults(newArrayList(knee));
+    context.setThroughputKnee(knee);
+    context.runValidation();
+    assertEquals(12_000, context.getThroughputQps());
+    assertTrue(context.isThroughputAchieved());
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenThroughputKneeIsNotFound_thenTestShouldFail() {
+    initialiseThroughputSearchContext();
+    context.runValidation();
+    assertEquals(0, context.getThroughputQps());
+    assertFalse(context.isSuccessful());
+  }
+
+  @Test
+  public void whenIntervalMsIsSet_thenIntervalRecordingShouldBeEnabled() {
+    when(perfTestAnnotation.intervalMs()).thenReturn(500);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isIntervalRecordingEnabled());
+    assertEquals(500, context.getConfiguredIntervalMs());
+  }
+
+  @Test
+  public void whenIntervalMsEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    when(perfTestAnnotation.intervalMs()).thenReturn(500);
+    System.setProperty(JUNITPERF_INTERVAL_MS, "-1");
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isIntervalRecordingEnabled());
+  }
+
+  @Test
+  public void whenTestIsAsync_thenIntervalRecordingShouldBeDisabled() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.intervalMs()).thenReturn(500);
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isIntervalRecordingEnabled());
+  }
+
+  @Test
+  public void whenMeasureAllocationsIsSet_thenAllocationMeasurementShouldBeEnabled() {
+    when(perfTestAnnotation.measureAllocations()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isAllocationMeasurementEnabled());
+  }
+
+  @Test
+  public void whenMeasureAllocationsEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_MEASURE_ALLOCATIONS, "true");
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isAllocationMeasurementEnabled());
+  }
+
+  @Test
+  public void whenMeasureAllocationsIsSetWithVirtualThreads_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.measureAllocations()).thenReturn(true);
+    when(perfTestAnnotation.virtualThreads()).thenReturn(true);
+    expectValidationError("MeasureAllocations cannot be combined with VirtualThreads");
+  }
+
+  @Test
+  public void whenTestIsAsync_thenAllocationMeasurementShouldBeDisabled() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.measureAllocations()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isAllocationMeasurementEnabled());
+  }
+
+  @Test
+  public void whenAllocationsAreMeasured_andAllocationRequirementsAreNotMet_thenIsSuccessfulShouldBeFalse() {
+    when(perfTestRequirement.meanBytesPerOp()).thenReturn(100F);
+    when(perfTestRequirement.zeroAllocation()).thenReturn(true);
+    initialiseContext();
+    context.setAllocationStatistics(allocationStatistics(50, 250));
+    context.runValidation();
+    assertEquals(150F, context.getMeanBytesPerOp(), 0);
+    assertEquals(250L, context.getMaxBytesPerOp());
+    assertEquals(300L, context.getTotalAllocatedBytes());
+    assertFalse(context.isMeanAllocationAchieved());
+    assertFalse(context.isZeroAllocationAchieved());
+    assertFalse(context.isSuccessful());
+  }
+
+  @Test
+  public void whenAllocationsAreMeasured_andAllocationRequirementsAreMet_thenIsSuccessfulShouldBeTrue() {
+    when(perfTestRequirement.meanBytesPerOp()).thenReturn(0F);
+    when(perfTestRequirement.zeroAllocation()).thenReturn(true);
+    initialiseContext();
+    context.setAllocationStatistics(allocationStatistics(0, 0));
+    context.runValidation();
+    assertTrue(context.hasAllocationMeasurements());
+    assertTrue(context.isMeanAllocationAchieved());
+    assertTrue(context.isZeroAllocationAchieved());
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenAllocationsAreNotMeasured_thenAllocationRequirementsShouldBeIgnored() {
+    when(perfTestRequirement.meanBytesPerOp()).thenReturn(0F);
+    when(perfTestRequirement.zeroAllocation()).thenReturn(true);
+    initialiseContext();
+    context.runValidation();
+    assertFalse(context.hasAllocationMeasurements());
+    assertTrue(context.isMeanAllocationAchieved());
+    assertTrue(context.isZeroAllocationAchieved());
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenMeasureCpuTimeIsSet_thenCpuTimeMeasurementShouldBeEnabled() {
+    when(perfTestAnnotation.measureCpuTime()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isCpuTimeMeasurementEnabled());
+  }
+
+  @Test
+  public void whenMeasureCpuTimeEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_MEASURE_CPU_TIME, "true");
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isCpuTimeMeasurementEnabled());
+  }
+
+  @Test
+  public void whenMeasureCpuTimeIsSetWithVirtualThreads_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.measureCpuTime()).thenReturn(true);
+    when(perfTestAnnotation.virtualThreads()).thenReturn(true);
+    expectValidationError("MeasureCpuTime cannot be combined with VirtualThreads");
+  }
+
+  @Test
+  public void whenTestIsAsync_thenCpuTimeMeasurementShouldBeDisabled() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.measureCpuTime()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isCpuTimeMeasurementEnabled());
+  }
+
+  @Test
+  public void whenCpuTimeIsMeasured_andMeanCpuTimeRequirementIsNotMet_thenIsSuccessfulShouldBeFalse() {
+    when(perfTestRequirement.meanCpuTime()).thenReturn(0.5F);
+    initialiseContext();
+    context.setCpuTimeStatistics(cpuTimeStatistics(500_000, 1_500_000));
+    context.runValidation();
+    assertEquals(1F, context.getMeanCpuTimeMs(), 0);
+    assertEquals(1.5F, context.getMaxCpuTimeMs(), 0);
+    assertEquals(2F, context.getTotalCpuTimeMs(), 0);
+    assertEquals(1F, context.getCpuCoresPerThousandOps(), 0);
+    assertEquals(1F, context.getMeanUserCpuTimeMs(), 0);
+    assertEquals(0F, context.getMeanSystemCpuTimeMs(), 0);
+    assertFalse(context.isMeanCpuTimeAchieved());
+    assertFalse(context.isSuccessful());
+  }
+
+  @Test
+  public void whenCpuTimeIsMeasured_andMeanCpuTimeRequirementIsMet_thenIsSuccessfulShouldBeTrue() {
+    when(perfTestRequirement.meanCpuTime()).thenReturn(0.5F);
+    when(statisticsMock.getMeanLatency(MILLISECONDS)).thenReturn(0.4F);
+    initialiseContext();
+    context.setCpuTimeStatistics(cpuTimeStatistics(100_000, 300_000));
+    context.runValidation();
+    assertTrue(context.hasCpuTimeMeasurements());
+    assertEquals(50F, context.getCpuTimePercentage(), 0.0001);
+    assertTrue(context.isMeanCpuTimeAchieved());
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenCpuTimeIsNotMeasured_thenCpuTimeRequirementsShouldBeIgnored() {
+    when(perfTestRequirement.meanCpuTime()).thenReturn(0F);
+    initialiseContext();
+    context.runValidation();
+    assertFalse(context.hasCpuTimeMeasurements());
+    assertTrue(context.isMeanCpuTimeAchieved());
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenMonitorGcIsSet_thenGcMonitoringShouldBeEnabled() {
+    when(perfTestAnnotation.monitorGc()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isGcMonitoringEnabled());
+  }
+
+  @Test
+  public void whenMonitorGcEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    when(perfTestAnnotation.monitorGc()).thenReturn(true);
+    System.setProperty(JUNITPERF_MONITOR_GC, "false");
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isGcMonitoringEnabled());
+  }
+
+  @Test
+  public void whenProfileIsSet_thenProfilingShouldBeEnabled() {
+    when(perfTestAnnotation.profile()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isProfilingEnabled());
+  }
+
+  @Test
+  public void whenProfileEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_PROFILE, "true");
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isProfilingEnabled());
+  }
+
+  @Test
+  public void whenMeasureHarnessOverheadIsSet_thenHarnessOverheadShouldBeMeasuredButNotSubtracted() {
+    when(perfTestAnnotation.measureHarnessOverhead()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isHarnessOverheadMeasurementEnabled());
+    assertFalse(context.isHarnessOverheadSubtracted());
+  }
+
+  @Test
+  public void whenSubtractHarnessOverheadIsSet_thenHarnessOverheadShouldAlsoBeMeasured() {
+    when(perfTestAnnotation.subtractHarnessOverhead()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isHarnessOverheadMeasurementEnabled());
+    assertTrue(context.isHarnessOverheadSubtracted());
+  }
+
+  @Test
+  public void whenMeasureHarnessOverheadEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_MEASURE_HARNESS_OVERHEAD, "true");
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isHarnessOverheadMeasurementEnabled());
+  }
+
+  @Test
+  public void whenTestIsAsync_thenHarnessOverheadShouldNotBeMeasured() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.subtractHarnessOverhead()).thenReturn(true);
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isHarnessOverheadMeasurementEnabled());
+    assertFalse(context.isHarnessOverheadSubtracted());
+  }
+
+  @Test
+  public void whenHarnessOverheadIsSubtracted_thenOverheadShouldBeRemovedFromLatencies() {
+    initialiseStatisticsMockToPassValidation();
+    when(perfTestAnnotation.subtractHarnessOverhead()).thenReturn(true);
+    initialiseContext();
+    // 1ms median overhead
+    context.setHarnessOverhead(new HarnessOverhead(1_000_000, 1_200_000, 3_000_000, 2_000_000));
+    context.runValidation();
+    assertEquals(0.1F, context.getMinLatencyMs(), 0.0001);
+    assertEquals(98F, context.getMaxLatencyMs(), 0.0001);
+    assertEquals(2.9F, context.getMeanLatencyMs(), 0.0001);
+    assertEquals(3F, context.getLatencyPercentileMs(95), 0.0001);
+    // Latencies below the overhead are reported as 0
+    assertEquals(0F, context.getLatencyPercentileMs(90), 0);
+  }
+
+  @Test
+  public void whenHarnessOverheadIsOnlyMeasured_thenLatenciesShouldNotBeAdjusted() {
+    initialiseStatisticsMockToPassValidation();
+    when(perfTestAnnotation.measureHarnessOverhead()).thenReturn(true);
+    initialiseContext();
+    context.setHarnessOverhead(new HarnessOverhead(1_000_000, 1_200_000, 3_000_000, 2_000_000));
+    context.runValidation();
+    assertTrue(context.hasHarnessOverhead());
+    assertEquals(1.1F, context.getMinLatencyMs(), 0);
+    assertEquals(99F, context.getMaxLatencyMs(), 0);
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsSet_thenInvocationsShouldBeBatched() {
+    when(perfTestAnnotation.operationsPerInvocation()).thenReturn(50);
+    context.loadConfiguration(perfTestAnnotation);
+    assertEquals(50, context.getOperationsPerInvocation());
+    assertFalse(context.isBatchSizeCalibrationEnabled());
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsZero_thenBatchSizeCalibrationShouldBeEnabled() {
+    when(perfTestAnnotation.operationsPerInvocation()).thenReturn(0);
+    when(perfTestAnnotation.maxTimerOverhead()).thenReturn(0.5F);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isBatchSizeCalibrationEnabled());
+    assertEquals(0.5F, context.getConfiguredMaxTimerOverhead(), 0);
+    // Until the batch size is calibrated
+    assertEquals(1, context.getOperationsPerInvocation());
+  }
+
+  @Test
+  public void whenOperationsPerInvocationEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_OPERATIONS_PER_INVOCATION, "20");
+    context.loadConfiguration(perfTestAnnotation);
+    assertEquals(20, context.getConfiguredOperationsPerInvocation());
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsNegative_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.operationsPerInvocation()).thenReturn(-1);
+    expectValidationError("OperationsPerInvocation must be >= 0 (0 to calibrate)");
+  }
+
+  @Test
+  public void whenBatchSizeIsCalibrated_andMaxTimerOverheadIsInvalid_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.operationsPerInvocation()).thenReturn(0);
+    when(perfTestAnnotation.maxTimerOverhead()).thenReturn(0F);
+    expectValidationError("MaxTimerOverhead must be between 0 and 100 (exclusive)");
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsCombinedWithArrivalRate_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.operationsPerInvocation()).thenReturn(10);
+    when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(-1);
+    when(perfTestAnnotation.arrivalRatePerSecond()).thenReturn(500);
+    expectValidationError("OperationsPerInvocation cannot be combined with ArrivalRatePerSecond");
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsSetForAnAsyncTest_thenExceptionShouldBeThrown() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.operationsPerInvocation()).thenReturn(10);
+    expectValidationError("OperationsPerInvocation is not supported for async tests");
+  }
+
+  @Test
+  public void whenForksAreSet_thenForkedExecutionShouldBeEnabled() {
+    when(perfTestAnnotation.forks()).thenReturn(3);
+    when(perfTestAnnotation.jvmArgs()).thenReturn(new String[]{"-Xmx1g", "-XX:+UseG1GC"});
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isForkedExecutionEnabled());
+    assertEquals(3, context.getConfiguredForks());
+    assertEquals(newArrayList("-Xmx1g", "-XX:+UseG1GC"), context.getConfiguredJvmArgs());
+    assertFalse(context.hasForkResults());
+  }
+
+  @Test
+  public void whenForkEnvOverridesAreSet_thenOverridesShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_FORKS, "2");
+    System.setProperty(JUNITPERF_JVM_ARGS, " -Xms512m   -Xmx512m ");
+    context.loadConfiguration(perfTestAnnotation);
+    assertEquals(2, context.getConfiguredForks());
+    assertEquals(newArrayList("-Xms512m", "-Xmx512m"), context.getConfiguredJvmArgs());
+  }
+
+  @Test
+  public void whenForksAreNegative_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.forks()).thenReturn(-1);
+    expectValidationError("Forks must be >= 0");
+  }
+
+  @Test
+  public void whenForksAreSetForAnAsyncTest_thenExceptionShouldBeThrown() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.forks()).thenReturn(2);
+    expectValidationError("Forks are not supported for async tests");
+  }
+
+  @Test
+  public void whenForksAreCombinedWithSearchMaxThroughput_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.forks()).thenReturn(2);
+    when(perfTestAnnotation.searchMaxThroughput()).thenReturn(true);
+    when(perfTestAnnotation.searchProbeDurationMs()).thenReturn(5);
+    expectValidationError("Forks cannot be combined with SearchMaxThroughput");
+  }
+
+  @Test
+  public void whenForkResultsAreSet_thenThroughputShouldBeTheMeanThroughputPerFork() {
+    initialiseContext();
+    context.setForkResults(newArrayList(
+      new ForkResult(1, 1_000_000_000L, 1_000, 0, new Histogram(3)),
+      new ForkResult(2, 500_000_000L, 1_000, 0, new Histogram(3))
+    ));
+    context.runValidation();
+    // Measured over each fork's own measurement window, 1000/s & 2000/s
+    assertEquals(1_500, context.getThroughputQps());
+  }
+
+  @Test
+  public void whenForkResultsAreSet_thenRunToRunVariationShouldBeCalculated() {
+    context.setForkResults(newArrayList(forkResult(1_000, 1_000), forkResult(3_000, 3_000)));
+    assertTrue(context.hasForkResults());
+    // Mean 2000, standard deviation 1000
+    assertEquals(50F, context.getForkThroughputVariation(), 0.0001);
+    assertEquals(50F, context.getForkMeanLatencyVariation(), 0.5);
+    assertEquals(50F, context.getForkLatencyPercentileVariation(99), 0.5);
+  }
+
+  @Test
+  public void whenASingleForkResultIsSet_thenRunToRunVariationShouldBeZero() {
+    context.setForkResults(newArrayList(forkResult(1_000, 1_000)));
+    assertEquals(0F, context.getForkThroughputVariation(), 0);
+    assertEquals(0F, context.getForkMeanLatencyVariation(), 0);
+  }
+
+  @Test
+  public void whenWorkersAreSet_thenDistributedExecutionShouldBeEnabled() {
+    when(perfTestAnnotation.workers()).thenReturn(2);
+    when(perfTestAnnotation.workerHosts()).thenReturn(new String[]{"host1:7000"});
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isDistributedExecutionEnabled());
+    assertEquals(2, context.getConfiguredWorkers());
+    assertEquals(newArrayList("host1:7000"), context.getConfiguredWorkerHosts());
+    assertEquals(3, context.getWorkerCount());
+    assertFalse(context.hasWorkerResults());
+  }
+
+  @Test
+  public void whenWorkerEnvOverridesAreSet_thenOverridesShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_WORKERS, "0");
+    System.setProperty(JUNITPERF_WORKER_HOSTS, "host1:7000 host2:7000");
+    when(perfTestAnnotation.workers()).thenReturn(4);
+    context.loadConfiguration(perfTestAnnotation);
+    assertEquals(0, context.getConfiguredWorkers());
+    assertEquals(newArrayList("host1:7000", "host2:7000"), context.getConfiguredWorkerHosts());
+    assertEquals(2, context.getWorkerCount());
+  }
+
+  @Test
+  public void whenWorkersAreNegative_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.workers()).thenReturn(-1);
+    expectValidationError("Workers must be >= 0");
+  }
+
+  @Test
+  public void whenWorkersAreSetForAnAsyncTest_thenExceptionShouldBeThrown() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.workers()).thenReturn(2);
+    expectValidationError("Workers are not supported for async tests");
+  }
+
+  @Test
+  public void whenWorkersAreCombinedWithForks_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.workers()).thenReturn(2);
+    when(perfTestAnnotation.forks()).thenReturn(2);
+    expectValidationError("Workers cannot be combined with forks");
+  }
+
+  @Test
+  public void whenRateLimitIsLowerThanTheNumberOfWorkers_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.workers()).thenReturn(3);
+    when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(2);
+    expectValidationError("MaxExecutionsPerSecond must be >= the number of workers");
+  }
+
+  @Test
+  public void whenWorkerResultsAreSet_thenThroughputPerWorkerShouldBeAvailable() {
+    context.setWorkerResults(newArrayList(
+      new WorkerResult(1, "local", 1_000_000_000L, 2_000, 0, new Histogram(3)),
+      new WorkerResult(2, "host1:7000", 1_000_000_000L, 500, 0, new Histogram(3))
+    ));
+    assertTrue(context.hasWorkerResults());
+    assertEquals(500, context.getMinWorkerThroughputQps());
+    assertEquals(2_000, context.getMaxWorkerThroughputQps());
+  }
+
+  @Test
+  public void whenWorkerResultsAreSet_thenThroughputShouldBeTheSumOfTheThroughputOfEachWorker() {
+    initialiseContext();
+    context.setWorkerResults(newArrayList(
+      new WorkerResult(1, "local", 1_000_000_000L, 2_000, 0, new Histogram(3)),
+      new WorkerResult(2, "host1:7000", 500_000_000L, 500, 0, new Histogram(3))
+    ));
+    context.runValidation();
+    assertEquals(3_000, context.getThroughputQps());
+  }
+
+  @Test
+  public void whenFailFastIsSet_thenFailFastShouldBeEnabled() {
+    when(perfTestAnnotation.failFast()).thenReturn(true);
+    when(perfTestAnnotation.failFastConfidence()).thenReturn(95F);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isFailFastEnabled());
+    assertEquals(95F, context.getConfiguredFailFastConfidence(), 0);
+    assertFalse(context.isTerminatedEarly());
+  }
+
+  @Test
+  public void whenFailFastEnvOverrideIsSet_thenOverrideShouldTakePrecedence() {
+    System.setProperty(JUNITPERF_FAIL_FAST, "true");
+    when(perfTestAnnotation.failFastConfidence()).thenReturn(99F);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isFailFastEnabled());
+  }
+
+  @Test
+  public void whenFailFastConfidenceIsInvalid_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.failFast()).thenReturn(true);
+    when(perfTestAnnotation.failFastConfidence()).thenReturn(100F);
+    expectValidationError("FailFastConfidence must be between 50 and 100 (exclusive)");
+  }
+
+  @Test
+  public void whenFailFastIsSetForAnAsyncTest_thenExceptionShouldBeThrown() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    when(perfTestAnnotation.failFast()).thenReturn(true);
+    when(perfTestAnnotation.failFastConfidence()).thenReturn(99F);
+    expectValidationError("FailFast is not supported for async tests");
+  }
+
+  @Test
+  public void whenFailFastIsCombinedWithWorkers_thenExceptionShouldBeThrown() {
+    when(perfTestAnnotation.failFast()).thenReturn(true);
+    when(perfTestAnnotation.failFastConfidence()).thenReturn(99F);
+    when(perfTestAnnotation.workers()).thenReturn(2);
+    expectValidationError("FailFast cannot be combined with workers");
+  }
+
+  @Test
+  public void whenTooFewSamplesHaveBeenTaken_thenFailFastShouldNotStopTheTest() {
+    initialiseFailFastContext();
+    HdrHistogramStatisticsCalculator live = liveStatistics(50, 50, 200);
+    assertNull(context.evaluateFailFast(live));
+  }
+
+  @Test
+  public void whenMaxLatencyIsExceeded_thenFailFastShouldStopTheTest() {
+    initialiseFailFastContext();
+    HdrHistogramStatisticsCalculator live = liveStatistics(200, 0, 0.1);
+    live.addLatencyMeasurement(MILLISECONDS.toNanos(150));
+    assertThat(context.evaluateFailFast(live), startsWith("Max latency 150."));
+  }
+
+  @Test
+  public void whenErrorRateIsCertainlyAboveTheAllowedRate_thenFailFastShouldStopTheTest() {
+    initialiseFailFastContext();
+    // 80% errors, 50% allowed
+    HdrHistogramStatisticsCalculator live = liveStatistics(200, 160, 0.1);
+    assertThat(context.evaluateFailFast(live), startsWith("Error rate is above the allowed 50.00%"));
+  }
+
+  @Test
+  public void whenErrorRateIsNotSignificantlyAboveTheAllowedRate_thenFailFastShouldNotStopTheTest() {
+    initialiseFailFastContext();
+    // 55% errors, could still be a fluke
+    HdrHistogramStatisticsCalculator live = liveStatistics(200, 110, 0.1);
+    assertNull(context.evaluateFailFast(live));
+  }
+
+  @Test
+  public void whenPercentileIsSignificantlyAboveTheRequirement_thenFailFastShouldStopTheTest() {
+    initialiseFailFastContext();
+    // All latencies are 5ms, 90th percentile must be <= 0.5ms
+    HdrHistogramStatisticsCalculator live = liveStatistics(200, 0, 5);
+    assertThat(context.evaluateFailFast(live), startsWith("90th percentile latency is above the required 0.500ms"));
+  }
+
+  @Test
+  public void whenPercentileIsOnlyMarginallyAboveTheRequirement_thenFailFastShouldNotStopTheTest() {
+    initialiseFailFastContext();
+    // 88% of latencies are within the 0.5ms 90th percentile requirement
+    HdrHistogramStatisticsCalculator live = liveStatistics(176, 0, 0.1);
+    for (int i = 0; i < 24; i++) {
+      live.addLatencyMeasurement(MILLISECONDS.toNanos(5));
+      live.incrementEvaluationCount();
+    }
+    assertNull(context.evaluateFailFast(live));
+  }
+
+  @Test
+  public void whenTestIsTerminatedEarly_thenThroughputShouldBeCalculatedOverTheMeasuredPeriod() {
+    when(statisticsMock.getEvaluationCount()).thenReturn(15_000L);
+    initialiseContext();
+    context.setFailFastTermination("Error rate is above the allowed 50.00%", 3_000);
+    context.runValidation();
+    assertTrue(context.isTerminatedEarly());
+    assertEquals("Error rate is above the allowed 50.00%", context.getFailFastReason());
+    assertEquals(5_000, context.getThroughputQps());
+  }
+
+  @Test
+  public void whenConvergenceToleranceIsSet_thenConvergenceShouldBeEnabled() {
+    initialiseConvergenceSettings(2F, 95F, 3);
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isConvergenceEnabled());
+    assertEquals(2F, context.getConfiguredConvergenceTolerance(), 0);
+    assertEquals(95F, context.getConfiguredConvergenceConfidence(), 0);
+    assertEquals(3, context.getConfiguredConvergenceMinDurationMs());
+    assertFalse(context.hasConvergenceResult());
+  }
+
+  @Test
+  public void whenConvergenceToleranceIsNotSet_thenConvergenceShouldBeDisabled() {
+    initialiseConvergenceSettings(-1F, 95F, 0);
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.isConvergenceEnabled());
+  }
+
+  @Test
+  public void whenConvergenceEnvOverridesAreSet_thenOverridesShouldTakePrecedence() {
+    initialiseConvergenceSettings(-1F, 95F, 0);
+    System.setProperty(JUNITPERF_CONVERGENCE_TOLERANCE, "1.5");
+    System.setProperty(JUNITPERF_CONVERGENCE_MIN_DURATION_MS, "2");
+    context.loadConfiguration(perfTestAnnotation);
+    assertTrue(context.isConvergenceEnabled());
+    assertEquals(1.5F, context.getConfiguredConvergenceTolerance(), 0);
+    assertEquals(2, context.getConfiguredConvergenceMinDurationMs());
+  }
+
+  @Test
+  public void whenConvergenceConfidenceIsInvalid_thenExceptionShouldBeThrown() {
+    initialiseConvergenceSettings(2F, 50F, 0);
+    expectValidationError("ConvergenceConfidence must be between 50 and 100 (exclusive)");
+  }
+
+  @Test
+  public void whenConvergenceMinDurationIsNegative_thenExceptionShouldBeThrown() {
+    initialiseConvergenceSettings(2F, 95F, -1);
+    expectValidationError("ConvergenceMinDurationMs must be >= 0");
+  }
+
+  @Test
+  public void whenConvergenceMinDurationIsNotLessThanTheMeasurementPeriod_thenExceptionShouldBeThrown() {
+    // durationMs 10 - warmUpMs 5
+    initialiseConvergenceSettings(2F, 95F, 5);
+    expectValidationError("ConvergenceMinDurationMs must be less than the measurement period (DurationMs - WarmUpMs)");
+  }
+
+  @Test
+  public void whenConvergenceIsSetForAnAsyncTest_thenExceptionShouldBeThrown() {
+    context = new EvaluationContext(TEST_NAME, startTimeNs, true);
+    initialiseConvergenceSettings(2F, 95F, 0);
+    expectValidationError("ConvergenceTolerance is not supported for async tests");
+  }
+
+  @Test
+  public void whenConvergenceIsCombinedWithForks_thenExceptionShouldBeThrown() {
+    initialiseConvergenceSettings(2F, 95F, 0);
+    when(perfTestAnnotation.forks()).thenReturn(2);
+    expectValidationError("ConvergenceTolerance cannot be combined with forks");
+  }
+
+  @Test
+  public void whenTestHasConverged_thenThroughputShouldBeCalculatedOverTheMeasuredPeriod() {
+    when(statisticsMock.getEvaluationCount()).thenReturn(15_000L);
+    initialiseContext();
+    context.setConvergenceResult(new ConvergenceResult(true, 3_000, 1.2F, 0.8F, emptyMap()));
+    context.runValidation();
+    assertTrue(context.isConverged());
+    assertEquals(5_000, context.getThroughputQps());
+  }
+
+  @Test
+  public void whenTestHasNotConverged_thenThroughputShouldBeCalculatedOverTheTestDuration() {
+    when(statisticsMock.getEvaluationCount()).thenReturn(15_000L);
+    initialiseContext();
+    context.setConvergenceResult(new ConvergenceResult(false, 3_000, 3.2F, 0.8F, emptyMap()));
+    context.runValidation();
+    assertFalse(context.isConverged());
+    assertEquals(3_000_000, context.getThroughputQps());
+  }
+
+  @Test
+  public void whenGcIsMonitored_andGcOverheadRequirementIsNotMet_thenIsSuccessfulShouldBeFalse() {
+    when(perfTestRequirement.maxGcOverhead()).thenReturn(1F);
+    initialiseContext();
+    context.setGcStatistics(gcStatistics(1_000, 20, 30));
+    context.runValidation();
+    assertEquals(2, context.getGcPauseCount());
+    assertEquals(50, context.getGcTotalPauseMs());
+    assertEquals(30, context.getGcMaxPauseMs());
+    assertEquals(5F, context.getGcOverheadPercentage(), 0.0001);
+    assertFalse(context.isGcOverheadAchieved());
+    assertFalse(context.isSuccessful());
+  }
+
+  @Test
+  public void whenGcIsMonitored_andGcOverheadRequirementIsMet_thenIsSuccessfulShouldBeTrue() {
+    when(perfTestRequirement.maxGcOverhead()).thenReturn(10F);
+    initialiseContext();
+    context.setGcStatistics(gcStatistics(1_000, 20, 30));
+    context.runValidation();
+    assertTrue(context.hasGcMeasurements());
+    assertTrue(context.isGcOverheadAchieved());
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenGcIsNotMonitored_thenGcOverheadRequirementShouldBeIgnored() {
+    when(perfTestRequirement.maxGcOverhead()).thenReturn(0F);
+    initialiseContext();
+    context.runValidation();
+    assertFalse(context.hasGcMeasurements());
+    assertTrue(context.isGcOverheadAchieved());
+    assertTrue(context.isSuccessful());
+  }
+
+  @Test
+  public void whenIntervalSamplesAreAvailable_thenIntervalExtremesShouldBeCalculated() {
+    when(perfTestAnnotation.intervalMs()).thenReturn(1_000);
+    context.loadConfiguration(perfTestAnnotation);
+    assertFalse(context.hasIntervalSamples());
+    context.setIntervalSamples(newArrayList(
+      intervalSample(0, 1_000, 900, 2),
+      intervalSample(1, 1_000, 300, 40),
+      intervalSample(2, 100, 10, 3)
+    ));
+    assertTrue(context.hasIntervalSamples());
+    // Final partial interval is excluded from the min throughput
+    assertEquals(300, context.getMinIntervalThroughputQps());
+    assertEquals(40, context.getMaxIntervalP99LatencyMs(), 0.1);
+  }
+
+  @Test
+  public void whenCorrectedStatisticsAreNotAvailable_thenHasCorrectedLatenciesShouldBeFalse() {
+    initialiseContext();
+    context.runValidation();
+    assertFalse(context.hasCorrectedLatencies());
+  }
+
   private void initialiseContext() {
     context.loadConfiguration(perfTestAnnotation);
     context.loadRequirements(perfTestRequirement);
     context.setStatistics(statisticsMock);
   }
 
+  private void initialiseConvergenceSettings(float tolerance, float confidence, int minDurationMs) {
+    when(perfTestAnnotation.convergenceTolerance()).thenReturn(tolerance);
+    when(perfTestAnnotation.convergenceConfidence()).thenReturn(confidence);
+    when(perfTestAnnotation.convergenceMinDurationMs()).thenReturn(minDurationMs);
+  }
+
+  private void initialiseFailFastContext() {
+    when(perfTestAnnotation.failFast()).thenReturn(true);
+    when(perfTestAnnotation.failFastConfidence()).thenReturn(99F);
+    initialiseContext();
+  }
+
+  private static HdrHistogramStatisticsCalculator liveStatistics(int evaluations, int errors, double latencyMs) {
+    HdrHistogramStatisticsCalculator statistics = new HdrHistogramStatisticsCalculator();
+    for (int i = 0; i < evaluations; i++) {
+      statistics.incrementEvaluationCount();
+      statistics.addLatencyMeasurement((long) (latencyMs * MILLISECONDS.toNanos(1)));
+    }
+    for (int i = 0; i < errors; i++) {
+      statistics.incrementErrorCount();
+    }
+    return statistics;
+  }
+
+  private void initialiseLoadProfileContext(boolean assertSecondStage) {
+    initialiseStatisticsMockToPassValidation();
+    // Test duration is extended to the total load profile duration (2s)
+    when(statisticsMock.getEvaluationCount()).thenReturn(30_000L);
+    initialiseContext();
+    context.loadProfile(LoadProfile.builder()
+      .stage(LoadStage.builder().name("step").durationMs(1_000).build())
+      .stage(LoadStage.builder().durationMs(1_000).assertRequirements(assertSecondStage).build())
+      .build());
+  }
+
+  private void initialiseThroughputSearchContext() {
+    when(perfTestAnnotation.searchMaxThroughput()).thenReturn(true);
+    when(perfTestAnnotation.searchProbeDurationMs()).thenReturn(5);
+    initialiseContext();
+  }
+
+  private static IntervalSample intervalSample(int index, long durationMs, long evaluationCount, long latencyMs) {
+    Histogram latencies = new Histogram(3);
+    latencies.recordValue(MILLISECONDS.toNanos(latencyMs));
+    return IntervalSample.builder()
+      .index(index)
+      .startOffsetMs(index * 1_000L)
+      .durationMs(durationMs)
+      .evaluationCount(evaluationCount)
+      .latencies(latencies)
+      .build();
+  }
+
+  private JUnitPerfTestStage mockStage(int durationMs, int threads, int maxExecutionsPerSecond) {
+    JUnitPerfTestStage stage = mock(JUnitPerfTestStage.class);
+    when(stage.name()).thenReturn("");
+    when(stage.durationMs()).thenReturn(durationMs);
+    when(stage.threads()).thenReturn(threads);
+    when(stage.maxExecutionsPerSecond()).thenReturn(maxExecutionsPerSecond);
+    when(stage.assertRequirements()).thenReturn(true);
+    return stage;
+  }
+
   private void initialisePerfTestAnnotation() {
     when(perfTestAnnotation.durationMs()).thenReturn(10);
     when(perfTestAnnotation.maxExecutionsPerSecond()).thenReturn(1_000);
@@ -451,6 +1635,7 @@ public class EvaluationContextTest extends BaseTest {
     when(perfTestAnnotation.warmUpMs()).thenReturn(5);
     when(perfTestAnnotation.rampUpPeriodMs()).thenReturn(4);
     when(perfTestAnnotation.totalExecutions()).thenReturn(345);
+    when(perfTestAnnotation.operationsPerInvocation()).thenReturn(1);
   }
 
   private void initialisePerfTestRequirementAnnotation() {
@@ -460,6 +1645,9 @@ public class EvaluationContextTest extends BaseTest {
     when(perfTestRequirement.meanLatency()).thenReturn(4.8F);
     when(perfTestRequirement.minLatency()).thenReturn(1.6F);
     when(perfTestRequirement.maxLatency()).thenReturn(100.6F);
+    when(perfTestRequirement.meanBytesPerOp()).thenReturn(-1F);
+    when(perfTestRequirement.meanCpuTime()).thenReturn(-1F);
+    when(perfTestRequirement.maxGcOverhead()).thenReturn(-1F);
   }
 
   private void initialiseStatisticsMockToPassValidation() {
@@ -471,9 +1659,14 @@ public class EvaluationContextTest extends BaseTest {
     when(statisticsMock.getErrorPercentage()).thenReturn(0.0F);
     when(statisticsMock.getLatencyPercentile(90, MILLISECONDS)).thenReturn(0.2F);
     when(statisticsMock.getLatencyPercentile(95, MILLISECONDS)).thenReturn(4F);
+    when(correctedStatisticsMock.getMaxLatency(MILLISECONDS)).thenReturn(95.0F);
+    when(correctedStatisticsMock.getMinLatency(MILLISECONDS)).thenReturn(1.5F);
+    when(correctedStatisticsMock.getMeanLatency(MILLISECONDS)).thenReturn(4.1F);
+    when(correctedStatisticsMock.getLatencyPercentile(90, MILLISECONDS)).thenReturn(0.3F);
+    when(correctedStatisticsMock.getLatencyPercentile(95, MILLISECONDS)).thenReturn(5F);
   }
 
-  private void loadPercentilesAndAssertParsedCorrectly(String percentiles, Map<Integer, Float> expected) {
+  private void loadPercentilesAndAssertParsedCorrectly(String percentiles, Map<Double, Float> expected) {
     loadPercentiles(percentiles);
     assertEquals(expected, context.getRequiredPercentiles());
   }
@@ -501,4 +1694,47 @@ public class EvaluationContextTest extends BaseTest {
     }
   }
 
+  private static AllocationStatistics allocationStatistics(long... allocatedBytes) {
+    AllocationStatistics statistics = new AllocationStatistics();
+    for (long bytes : allocatedBytes) {
+      statistics.addAllocationMeasurement(bytes);
+    }
+    return statistics;
+  }
+
+  private static CpuTimeStatistics cpuTimeStatistics(long... cpuTimesNs) {
+    CpuTimeStatistics statistics = new CpuTimeStatistics();
+    for (long cpuTimeNs : cpuTimesNs) {
+      // All user time, system time is covered by CpuTimeStatisticsTest
+      statistics.addCpuTimeMeasurement(cpuTimeNs, cpuTimeNs);
+    }
+    return statistics;
+  }
+
+  private static GcStatistics gcStatistics(long measuredDurationMs, long... pauseDurationsMs) {
+    GcStatistics statistics = new GcStatistics();
+    for (long pauseMs : pauseDurationsMs) {
+      statistics.addPause(new GcPause("young", 0, pauseMs, 0));
+    }
+    statistics.setMeasuredDurationNs(MILLISECONDS.toNanos(measuredDurationMs));
+    return statistics;
+  }
+
+  private static ForkResult forkResult(long evaluationCount, long latencyUs) {
+    Histogram latencies = new Histogram(3);
+    latencies.recordValue(latencyUs * 1_000);
+    return new ForkResult(1, 1_000_000_000L, evaluationCount, 0, latencies);
+  }
+
+  // Bulk percentile calculations fall through to the (stubbed) single percentile methods
+  private static StatisticsCalculator mockStatistics() {
+    StatisticsCalculator statisticsMock = mock(StatisticsCalculator.class);
+    stubBulkPercentiles(statisticsMock);
+    return statisticsMock;
+  }
+
+  private static void stubBulkPercentiles(StatisticsCalculator statisticsMock) {
+    when(statisticsMock.getLatencyPercentiles(any(double[].class), any(TimeUnit.class))).thenCallRealMethod();
+  }
+
 }
@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static java.lang.Thread.sleep;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -42,6 +43,16 @@ public class TestContextTest {
     assertThat(captor.getValue(), is(greaterThanOrEqualTo(10L)));
   }
 
+  @Test
+  public void whenSuccessIsCalled_thenStatsMeasurementTimeShouldSpanTheTest() throws InterruptedException {
+    sleep(10);
+    context.success();
+    ArgumentCaptor<Long> start = ArgumentCaptor.forClass(Long.class);
+    ArgumentCaptor<Long> end = ArgumentCaptor.forClass(Long.class);
+    verify(calculatorMock).addMeasurementTime(start.capture(), end.capture());
+    assertThat(end.getValue() - start.getValue(), is(greaterThanOrEqualTo(MILLISECONDS.toNanos(10))));
+  }
+
   @Test
   public void whenFailIsCalled_thenStatsEvaluationCountShouldBeUpdated(){
     context.fail();
@@ -10,6 +10,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.AssumptionViolatedException;
 import org.junit.Rule;
@@ -30,6 +31,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -44,7 +46,7 @@ public class BaseReportGeneratorTest extends BaseTest {
   private JUnitPerfTest perfTestAnnotationMock;
 
   @Mock
-  private JUnitPerfTestRequirement perfTestRequirementAnnotationMock;
+  protected JUnitPerfTestRequirement perfTestRequirementAnnotationMock;
 
   @SuppressWarnings("ConstantConditions")
   protected File getResourceFile(String fileName) {
@@ -110,7 +112,7 @@ public class BaseReportGeneratorTest extends BaseTest {
   }
 
   private StatisticsCalculator createAllSuccessMock() {
-    StatisticsCalculator statisticsMock = mock(StatisticsCalculator.class);
+    StatisticsCalculator statisticsMock = mockStatistics();
     when(statisticsMock.getErrorPercentage()).thenReturn(20.0F);
     when(statisticsMock.getLatencyPercentile(98, MILLISECONDS)).thenReturn(1636367F / 1_000_000);
     when(statisticsMock.getLatencyPercentile(99, MILLISECONDS)).thenReturn(28343467F / 1_000_000);
@@ -124,7 +126,7 @@ public class BaseReportGeneratorTest extends BaseTest {
   }
 
   private StatisticsCalculator createSomeFailuresMock() {
-    StatisticsCalculator statisticsMock = mock(StatisticsCalculator.class);
+    StatisticsCalculator statisticsMock = mockStatistics();
     when(statisticsMock.getErrorPercentage()).thenReturn(60.0F);
     when(statisticsMock.getLatencyPercentile(98, MILLISECONDS)).thenReturn(1636367F / 1_000_000);
     when(statisticsMock.getLatencyPercentile(99, MILLISECONDS)).thenReturn(28343467F / 1_000_000);
@@ -138,7 +140,7 @@ public class BaseReportGeneratorTest extends BaseTest {
   }
 
   private StatisticsCalculator createAllFailureMock() {
-    StatisticsCalculator statisticsMock = mock(StatisticsCalculator.class);
+    StatisticsCalculator statisticsMock = mockStatistics();
     when(statisticsMock.getErrorPercentage()).thenReturn(40.0F);
     when(statisticsMock.getLatencyPercentile(98, MILLISECONDS)).thenReturn(4636367F / 1_000_000);
     when(statisticsMock.getLatencyPercentile(99, MILLISECONDS)).thenReturn(48343467F / 1_000_000);
@@ -152,7 +154,7 @@ public class BaseReportGeneratorTest extends BaseTest {
   }
 
   private StatisticsCalculator createAbortedMock() {
-    StatisticsCalculator statisticsMock = mock(StatisticsCalculator.class);
+    StatisticsCalculator statisticsMock = mockStatistics();
     when(statisticsMock.getErrorPercentage()).thenReturn(0.0F);
     when(statisticsMock.getLatencyPercentile(anyInt(), eq(MILLISECONDS))).thenReturn(0F);
     when(statisticsMock.getEvaluationCount()).thenReturn(0L);
@@ -169,6 +171,7 @@ public class BaseReportGeneratorTest extends BaseTest {
     when(perfTestAnnotationMock.rampUpPeriodMs()).thenReturn(50);
     when(perfTestAnnotationMock.threads()).thenReturn(50);
     when(perfTestAnnotationMock.maxExecutionsPerSecond()).thenReturn(11_000);
+    when(perfTestAnnotationMock.operationsPerInvocation()).thenReturn(1);
   }
 
   protected void initialisePerfTestRequirementAnnotationMock() {
@@ -178,6 +181,9 @@ public class BaseReportGeneratorTest extends BaseTest {
     when(perfTestRequirementAnnotationMock.minLatency()).thenReturn(10.0F);
     when(perfTestRequirementAnnotationMock.maxLatency()).thenReturn(200.66F);
     when(perfTestRequirementAnnotationMock.meanLatency()).thenReturn(55.1F);
+    when(perfTestRequirementAnnotationMock.meanBytesPerOp()).thenReturn(-1F);
+    when(perfTestRequirementAnnotationMock.meanCpuTime()).thenReturn(-1F);
+    when(perfTestRequirementAnnotationMock.maxGcOverhead()).thenReturn(-1F);
   }
 
   @SuppressWarnings("unused")
@@ -225,4 +231,16 @@ public class BaseReportGeneratorTest extends BaseTest {
     EvaluationContext context = createdSomeFailuresEvaluationContext("unittest1");
     return newLinkedHashSet(newArrayList(context));
   }
+
+  // Bulk percentile calculations fall through to the (stubbed) single percentile methods
+  private static StatisticsCalculator mockStatistics() {
+    StatisticsCalculator statisticsMock = mock(StatisticsCalculator.class);
+    stubBulkPercentiles(statisticsMock);
+    return statisticsMock;
+  }
+
+  private static void stubBulkPercentiles(StatisticsCalculator statisticsMock) {
+    when(statisticsMock.getLatencyPercentiles(any(double[].class), any(TimeUnit.class))).thenCallRealMethod();
+  }
+
 }
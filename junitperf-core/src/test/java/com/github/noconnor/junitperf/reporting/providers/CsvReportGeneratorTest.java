@@ -2,17 +2,25 @@ package com.github.noconnor.junitperf.reporting.providers;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import com.github.noconnor.junitperf.data.EvaluationContext;
 import com.github.noconnor.junitperf.reporting.BaseReportGeneratorTest;
 
+import static java.lang.String.format;
 import static java.lang.System.getProperty;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
 
 public class CsvReportGeneratorTest extends BaseReportGeneratorTest {
 
@@ -94,6 +102,22 @@ public class CsvReportGeneratorTest extends BaseReportGeneratorTest {
     assertEquals(readFileContents(expectedContents), readFileContents(reportFile));
   }
 
+  @Test
+  public void whenGeneratingAReport_andTestsRequireSubIntegerPercentiles_thenPercentileColumnsShouldBeAppended() throws IOException {
+    when(perfTestRequirementAnnotationMock.percentiles()).thenReturn("98:3.3,99.95:46.9999");
+    EvaluationContext context1 = createdSuccessfulEvaluationContext("unittest1");
+    initialisePerfTestRequirementAnnotationMock();
+    EvaluationContext context2 = createdSuccessfulEvaluationContext("unittest2");
+    reportGenerator.generateReport(new LinkedHashSet<>(asList(context1, context2)));
+    List<String> lines = Files.readAllLines(reportFile.toPath());
+    assertThat(lines.get(0), endsWith(",harnessIterationCostNs,99.95th"));
+    assertThat(lines.get(1), endsWith(format(",%.4f", context1.getLatencyPercentileMs(99.95))));
+    // Tests that did not require the percentile leave the column empty
+    assertThat(lines.get(2), endsWith(","));
+    assertEquals(lines.get(0).split(",", -1).length, lines.get(1).split(",", -1).length);
+    assertEquals(lines.get(0).split(",", -1).length, lines.get(2).split(",", -1).length);
+  }
+
   @Test
   public void whenCallingGetReportPath_andCustomPathHasBeenSpecified_thenCorrectPathShouldBeReturned() {
     assertThat(reportGenerator.getReportPath(), is(reportFile.getPath()));
@@ -117,15 +117,19 @@ public class HtmlReportGeneratorTest extends BaseReportGeneratorTest {
     @Test
     public void whenHtmlProcessorProcessBlocksIsCalled_thenTheCorrectBlocksShouldBeProcessed() {
         Map<String, String> blocks = HtmlReportGenerator.HtmlTemplateProcessor.parseTemplateBlocks();
-        assertEquals(4, blocks.size());
+        assertEquals(6, blocks.size());
         assertTrue(blocks.containsKey("root"));
         assertTrue(blocks.containsKey("{% OVERVIEW_BLOCK %}"));
         assertTrue(blocks.containsKey("{% DETAILED_BLOCK %}"));
         assertTrue(blocks.containsKey("{% PERCENTILES_BLOCK %}"));
+        assertTrue(blocks.containsKey("{% INTERVALS_BLOCK %}"));
+        assertTrue(blocks.containsKey("{% PROFILE_BLOCK %}"));
 
         assertEquals(918, blocks.get("root").length());
         assertEquals(296, blocks.get("{% OVERVIEW_BLOCK %}").length());
-        assertEquals(7884, blocks.get("{% DETAILED_BLOCK %}").length());
-        assertEquals(704, blocks.get("{% PERCENTILES_BLOCK %}").length());
+        assertEquals(19317, blocks.get("{% DETAILED_BLOCK %}").length());
+        assertEquals(919, blocks.get("{% PERCENTILES_BLOCK %}").length());
+        assertEquals(939, blocks.get("{% INTERVALS_BLOCK %}").length());
+        assertEquals(408, blocks.get("{% PROFILE_BLOCK %}").length());
     }
 }
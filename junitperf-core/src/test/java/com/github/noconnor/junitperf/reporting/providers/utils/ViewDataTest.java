@@ -1,14 +1,25 @@
 package com.github.noconnor.junitperf.reporting.providers.utils;
 
 import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.ConvergenceResult;
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.ForkResult;
+import com.github.noconnor.junitperf.data.HarnessOverhead;
+import com.github.noconnor.junitperf.data.IntervalSample;
+import com.github.noconnor.junitperf.data.ProfileSummary;
+import com.github.noconnor.junitperf.data.ProfileSummary.ProfileEntry;
+import com.github.noconnor.junitperf.data.WorkerResult;
 import com.github.noconnor.junitperf.reporting.providers.HtmlReportGenerator;
+import com.github.noconnor.junitperf.reporting.utils.FormatterUtils;
+import com.google.common.collect.ImmutableMap;
+import org.HdrHistogram.Histogram;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -18,8 +29,13 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
 
 import static com.github.noconnor.junitperf.reporting.providers.utils.ViewData.FAILED_COLOUR;
+import static com.github.noconnor.junitperf.reporting.providers.utils.ViewData.HIDDEN;
 import static com.github.noconnor.junitperf.reporting.providers.utils.ViewData.SUCCESS_COLOUR;
+import static com.github.noconnor.junitperf.reporting.providers.utils.ViewData.VISIBLE;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -171,6 +187,300 @@ public class ViewDataTest extends BaseTest {
         assertEquals("ClassName : Unittest", viewData.getTestName());
     }
 
+    @Test
+    public void whenAllocationsAreMeasured_thenAllocationDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        when(context.hasAllocationMeasurements()).thenReturn(true);
+        when(context.getMeanBytesPerOp()).thenReturn(1234.5F);
+        when(context.getMaxBytesPerOp()).thenReturn(40_960L);
+        when(context.getRequiredMeanBytesPerOp()).thenReturn(-1F);
+        when(context.isMeanAllocationAchieved()).thenReturn(true);
+        when(context.isZeroAllocationRequired()).thenReturn(true);
+        when(context.isZeroAllocationAchieved()).thenReturn(false);
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getAllocationDisplay());
+        assertEquals("1,234.50", viewData.getMeanBytesPerOp());
+        assertEquals("N/A", viewData.getRequiredMeanBytesPerOp());
+        assertEquals(SUCCESS_COLOUR, viewData.getMeanAllocationAchievedColour());
+        assertEquals("40,960", viewData.getMaxBytesPerOp());
+        assertEquals("0", viewData.getRequiredMaxBytesPerOp());
+        assertEquals(FAILED_COLOUR, viewData.getZeroAllocationAchievedColour());
+    }
+
+    @Test
+    public void whenAllocationsAreNotMeasured_thenAllocationDataShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getAllocationDisplay());
+    }
+
+    @Test
+    public void whenCpuTimeIsMeasured_thenCpuTimeDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        when(context.hasCpuTimeMeasurements()).thenReturn(true);
+        when(context.getMeanCpuTimeMs()).thenReturn(0.25F);
+        when(context.getRequiredMeanCpuTime()).thenReturn(0.2F);
+        when(context.getCpuTimePercentage()).thenReturn(12.5F);
+        when(context.isMeanCpuTimeAchieved()).thenReturn(false);
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getCpuTimeDisplay());
+        assertEquals("0.25", viewData.getMeanCpuTime());
+        assertEquals("0.20", viewData.getRequiredMeanCpuTime());
+        assertEquals("12.50", viewData.getCpuTimePercentage());
+        assertEquals(FAILED_COLOUR, viewData.getMeanCpuTimeAchievedColour());
+    }
+
+    @Test
+    public void whenCpuTimeIsNotMeasured_thenCpuTimeDataShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getCpuTimeDisplay());
+    }
+
+    @Test
+    public void whenGcPausesAreMonitored_thenGcDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        when(context.hasGcMeasurements()).thenReturn(true);
+        when(context.getGcPauseCount()).thenReturn(12L);
+        when(context.getGcTotalPauseMs()).thenReturn(1_250L);
+        when(context.getGcMaxPauseMs()).thenReturn(300L);
+        when(context.getGcPromotedBytes()).thenReturn(2_048L);
+        when(context.getGcOverheadPercentage()).thenReturn(2.5F);
+        when(context.getRequiredMaxGcOverhead()).thenReturn(-1F);
+        when(context.isGcOverheadAchieved()).thenReturn(true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getGcDisplay());
+        assertEquals("12", viewData.getGcPauseCount());
+        assertEquals("1,250", viewData.getGcTotalPauseMs());
+        assertEquals("300", viewData.getGcMaxPauseMs());
+        assertEquals("2,048", viewData.getGcPromotedBytes());
+        assertEquals("2.50", viewData.getGcOverheadPercentage());
+        assertEquals("N/A", viewData.getRequiredMaxGcOverhead());
+        assertEquals(SUCCESS_COLOUR, viewData.getGcOverheadAchievedColour());
+    }
+
+    @Test
+    public void whenGcPausesAreNotMonitored_thenGcDataShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getGcDisplay());
+    }
+
+    @Test
+    public void whenHarnessOverheadIsMeasured_thenHarnessOverheadShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        when(context.hasHarnessOverhead()).thenReturn(true);
+        when(context.isHarnessOverheadSubtracted()).thenReturn(true);
+        when(context.getHarnessOverhead()).thenReturn(new HarnessOverhead(41.26F, 45F, 1_250.5F, 98.04F));
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getHarnessOverheadDisplay());
+        assertEquals("41.3", viewData.getHarnessOverheadLatency());
+        assertEquals("1,250.5", viewData.getHarnessOverheadP99Latency());
+        assertEquals(" (subtracted)", viewData.getHarnessOverheadSubtracted());
+        assertEquals("98.0", viewData.getHarnessIterationCost());
+    }
+
+    @Test
+    public void whenHarnessOverheadIsNotMeasured_thenHarnessOverheadShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getHarnessOverheadDisplay());
+        assertEquals("", viewData.getHarnessOverheadSubtracted());
+    }
+
+    @Test
+    public void whenTestIsForked_thenForkDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        when(context.hasForkResults()).thenReturn(true);
+        ForkResult fork = new ForkResult(1, 1_000_000_000L, 100, 0, new Histogram(3));
+        when(context.getForkResults()).thenReturn(Arrays.asList(fork, fork));
+        when(context.getForkThroughputVariation()).thenReturn(1.234F);
+        when(context.getForkMeanLatencyVariation()).thenReturn(12.5F);
+        when(context.getForkLatencyPercentileVariation(99)).thenReturn(0.5F);
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getForkDisplay());
+        assertEquals("2", viewData.getForkCount());
+        assertEquals("1.23", viewData.getForkThroughputVariation());
+        assertEquals("12.50", viewData.getForkMeanLatencyVariation());
+        assertEquals("0.50", viewData.getForkP99LatencyVariation());
+    }
+
+    @Test
+    public void whenTestIsNotForked_thenForkDataShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getForkDisplay());
+    }
+
+    @Test
+    public void whenLoadIsGeneratedByWorkers_thenWorkerDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        WorkerResult worker = new WorkerResult(1, "local", 1_000_000_000L, 100, 0, new Histogram(3));
+        when(context.hasWorkerResults()).thenReturn(true);
+        when(context.getWorkerResults()).thenReturn(Arrays.asList(worker, worker, worker));
+        when(context.getMinWorkerThroughputQps()).thenReturn(950L);
+        when(context.getMaxWorkerThroughputQps()).thenReturn(1_050L);
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getWorkerDisplay());
+        assertEquals("3", viewData.getWorkerCount());
+        assertEquals("950", viewData.getWorkerMinThroughput());
+        assertEquals("1,050", viewData.getWorkerMaxThroughput());
+    }
+
+    @Test
+    public void whenLoadIsNotGeneratedByWorkers_thenWorkerDataShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getWorkerDisplay());
+    }
+
+    @Test
+    public void whenTestIsStoppedEarly_thenFailFastDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        when(context.isTerminatedEarly()).thenReturn(true);
+        when(context.getFailFastMeasuredMs()).thenReturn(2_500L);
+        when(context.getFailFastReason()).thenReturn("Error rate is above the allowed 1.00%");
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getFailFastDisplay());
+        assertEquals("2,500", viewData.getFailFastMeasuredMs());
+        assertEquals("Error rate is above the allowed 1.00%", viewData.getFailFastReason());
+    }
+
+    @Test
+    public void whenTestIsNotStoppedEarly_thenFailFastDataShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getFailFastDisplay());
+        assertEquals("", viewData.getFailFastReason());
+    }
+
+    @Test
+    public void whenTestHasConverged_thenConvergenceDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ConvergenceResult convergence = new ConvergenceResult(true, 4_500, 1.234F, 0.5F, ImmutableMap.of(90D, 1.75F));
+        when(context.hasConvergenceResult()).thenReturn(true);
+        when(context.getConvergenceResult()).thenReturn(convergence);
+        when(context.getConfiguredConvergenceTolerance()).thenReturn(2F);
+        when(context.getConfiguredConvergenceConfidence()).thenReturn(95F);
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getConvergenceDisplay());
+        assertEquals("converged after 4,500 ms", viewData.getConvergenceStatus());
+        assertEquals("2.00", viewData.getConvergenceTolerance());
+        assertEquals("95.00", viewData.getConvergenceConfidence());
+        assertEquals(" (±1.23%)", viewData.getThroughputMargin());
+        assertEquals(" (±0.50%)", viewData.getMeanLatencyMargin());
+        viewData.getRequiredPercentiles().forEach(percentile -> {
+            assertEquals(percentile.getPercentile().equals("90") ? " (±1.75%)" : " (N/A)", percentile.getPercentileMargin());
+        });
+    }
+
+    @Test
+    public void whenTestHasNotConverged_thenConvergenceStatusShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ConvergenceResult convergence = new ConvergenceResult(false, 10_000, Float.NaN, 0.5F, emptyMap());
+        when(context.hasConvergenceResult()).thenReturn(true);
+        when(context.getConvergenceResult()).thenReturn(convergence);
+        ViewData viewData = new ViewData(context);
+        assertEquals("not converged within 10,000 ms", viewData.getConvergenceStatus());
+        assertEquals(" (N/A)", viewData.getThroughputMargin());
+    }
+
+    @Test
+    public void whenConvergenceIsDisabled_thenConvergenceDataShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getConvergenceDisplay());
+        assertEquals("", viewData.getThroughputMargin());
+        assertEquals("", viewData.getMeanLatencyMargin());
+    }
+
+    @Test
+    public void whenTestIsProfiled_thenProfileDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        when(context.getUniqueId()).thenReturn("unittest_1234 (a:b)");
+        when(context.hasProfile()).thenReturn(true);
+        when(context.getProfileSummary()).thenReturn(new ProfileSummary(
+                "/tmp/junitperf-1.jfr",
+                Collections.singletonList(new ProfileEntry("com.example.Service.<init>", 1_200, 60F)),
+                Collections.singletonList(new ProfileEntry("java.util.Arrays.copyOf", 4_096, 100F)),
+                Arrays.asList(new ProfileEntry("com.example.Cache.get (java.lang.Object)", 25_000_000, 80F), new ProfileEntry("com.example.Cache.put (java.lang.Object)", 6_250_000, 20F))
+        ));
+        ViewData viewData = new ViewData(context);
+        assertEquals(VISIBLE, viewData.getProfileDisplay());
+        assertEquals("unittest_1234__a_b_.jfr", viewData.getProfileFile());
+        assertEquals(4, viewData.getProfile().size());
+        ViewData.ProfileData hotMethod = viewData.getProfile().get(0);
+        assertEquals("Hot method", hotMethod.getProfileCategory());
+        assertEquals("com.example.Service.&lt;init&gt;", hotMethod.getProfileFrame());
+        assertEquals("1,200 samples", hotMethod.getProfileValue());
+        assertEquals("60.00", hotMethod.getProfilePercentage());
+        assertEquals("4,096 B", viewData.getProfile().get(1).getProfileValue());
+        assertEquals("Lock contention", viewData.getProfile().get(2).getProfileCategory());
+        assertEquals("25.00 ms", viewData.getProfile().get(2).getProfileValue());
+    }
+
+    @Test
+    public void whenTestIsNotProfiled_thenProfileDataShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getProfileDisplay());
+        assertEquals("", viewData.getProfileFile());
+        assertEquals(Collections.emptyList(), viewData.getProfile());
+    }
+
+    @Test
+    public void whenIntervalSamplesAreNotAvailable_thenIntervalSectionShouldBeHidden() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        ViewData viewData = new ViewData(context);
+        assertEquals(HIDDEN, viewData.getIntervalDisplay());
+        assertEquals("", viewData.getIntervalChartData());
+        assertEquals(Collections.emptyList(), viewData.getIntervals());
+    }
+
+    @Test
+    public void whenIntervalSamplesAreAvailable_thenIntervalChartAndTableDataShouldBeMappedCorrectly() {
+        EvaluationContext context = buildMockContext(1234F, true);
+        List<IntervalSample> samples = new ArrayList<>();
+        samples.add(buildIntervalSample(0, 0, 2, 1));
+        samples.add(buildIntervalSample(1, 1_000, 8, 0));
+        when(context.hasIntervalSamples()).thenReturn(true);
+        when(context.getIntervalSamples()).thenReturn(samples);
+        ViewData viewData = new ViewData(context);
+
+        assertEquals(VISIBLE, viewData.getIntervalDisplay());
+        float first = samples.get(0).getMaxLatencyMs();
+        float second = samples.get(1).getMaxLatencyMs();
+        assertEquals(
+                "[ 0.0, 4, " + first + ", " + first + ", " + first + ", 25.0 ],\n" +
+                "[ 1.0, 4, " + second + ", " + second + ", " + second + ", 0.0 ],",
+                viewData.getIntervalChartData()
+        );
+        assertEquals(2, viewData.getIntervals().size());
+        ViewData.IntervalData interval = viewData.getIntervals().get(1);
+        assertEquals("1.0", interval.getIntervalStart());
+        assertEquals("1,000", interval.getIntervalDuration());
+        assertEquals("4", interval.getIntervalInvocations());
+        assertEquals("4", interval.getIntervalThroughput());
+        assertEquals("8.00", interval.getIntervalP50());
+        assertEquals("8.00", interval.getIntervalP99());
+        assertEquals("8.00", interval.getIntervalMax());
+        assertEquals("0.00", interval.getIntervalErrorPercentage());
+        assertEquals("25.00", viewData.getIntervals().get(0).getIntervalErrorPercentage());
+    }
+
+    private IntervalSample buildIntervalSample(int index, long startOffsetMs, long latencyMs, long errors) {
+        Histogram latencies = new Histogram(3);
+        latencies.recordValue(MILLISECONDS.toNanos(latencyMs));
+        return IntervalSample.builder()
+                .index(index)
+                .startOffsetMs(startOffsetMs)
+                .durationMs(1_000)
+                .evaluationCount(4)
+                .errorCount(errors)
+                .latencies(latencies)
+                .build();
+    }
+
     private EvaluationContext buildMockContext(float dummyLatency, boolean isSuccessful) {
         EvaluationContext context = mock(EvaluationContext.class);
         when(context.getTestName()).thenReturn("Unittest");
@@ -179,6 +489,7 @@ public class ViewDataTest extends BaseTest {
         when(context.getEvaluationCount()).thenReturn(12034L);
         when(context.getErrorCount()).thenReturn(345L);
         when(context.getLatencyPercentileMs(anyInt())).thenReturn(dummyLatency);
+        when(context.getLatencyPercentileMs(anyDouble())).thenReturn(dummyLatency);
         when(context.isErrorThresholdAchieved()).thenReturn(isSuccessful);
         when(context.getErrorPercentage()).thenReturn(0.02F);
         when(context.getConfiguredThreads()).thenReturn(10);
@@ -203,17 +514,20 @@ public class ViewDataTest extends BaseTest {
     }
 
     private List<ViewData.RequiredPercentilesData> buildExpectedRequiredPercentiles(EvaluationContext context) {
-        Map<Integer, Boolean> percentileResults = context.getPercentileResults();
-        Map<Integer, Float> requiredPercentiles = context.getRequiredPercentiles();
+        Map<Double, Boolean> percentileResults = context.getPercentileResults();
+        Map<Double, Float> requiredPercentiles = context.getRequiredPercentiles();
         
         List<ViewData.RequiredPercentilesData> result = new ArrayList<>();
         requiredPercentiles.forEach((key, value) -> {
             Boolean percentileResult = percentileResults.get(key);
             ViewData.RequiredPercentilesData data = new ViewData.RequiredPercentilesData();
-            data.setPercentile(String.valueOf(key));
+            data.setPercentile(FormatterUtils.formatPercentile(key));
             data.setPercentileTarget(String.format("%.2f", value));
             data.setPercentileLatency(String.format("%.2f", context.getLatencyPercentileMs(key)));
             data.setPercentileResultColour(percentileResult ? SUCCESS_COLOUR : FAILED_COLOUR);
+            data.setPercentileCorrectedLatency(String.format("%.2f", context.getCorrectedLatencyPercentileMs(key)));
+            data.setCorrectedLatencyDisplay(HIDDEN);
+            data.setPercentileMargin("");
             result.add(data);
         });
         return result;
@@ -235,13 +549,18 @@ public class ViewDataTest extends BaseTest {
     private String buildExpectedChartData(float latency) {
         StringBuilder expected = new StringBuilder();
         String latencyFormatted = String.format("%.2f", latency); 
-        IntStream.range(1,100).forEach( i-> {
+        List<String> percentiles = new ArrayList<>();
+        IntStream.range(1,100).forEach(i -> percentiles.add(String.valueOf(i)));
+        percentiles.add("99.9");
+        percentiles.add("99.99");
+        percentiles.add("99.999");
+        percentiles.forEach( p-> {
             expected.append("[ ")
-                    .append(i)
+                    .append(p)
                     .append(", ")
                     .append(latency)
                     .append(", \"")
-                    .append(i)
+                    .append(p)
                     .append("% of executions ≤ ")
                     .append(latencyFormatted)
                     .append("ms\"],")
@@ -250,19 +569,21 @@ public class ViewDataTest extends BaseTest {
         return expected.toString().trim();
     }
 
-    private Map<Integer, Boolean> buildPercentileResults() {
-        Map<Integer, Boolean> results = new HashMap<>();
+    private Map<Double, Boolean> buildPercentileResults() {
+        Map<Double, Boolean> results = new HashMap<>();
         IntStream.range(1, 101).forEach(i -> {
-            results.put(i, ThreadLocalRandom.current().nextBoolean());
+            results.put((double) i, ThreadLocalRandom.current().nextBoolean());
         });
+        results.put(99.9, ThreadLocalRandom.current().nextBoolean());
         return results;
     }
 
-    private Map<Integer, Float> buildRequiredPercentiles() {
-        Map<Integer, Float> requiredPercentiles = new HashMap<>();
-        requiredPercentiles.put(98, 7.45F);
-        requiredPercentiles.put(95, 5.1F);
-        requiredPercentiles.put(90, 3.6F);
+    private Map<Double, Float> buildRequiredPercentiles() {
+        Map<Double, Float> requiredPercentiles = new HashMap<>();
+        requiredPercentiles.put(98D, 7.45F);
+        requiredPercentiles.put(95D, 5.1F);
+        requiredPercentiles.put(90D, 3.6F);
+        requiredPercentiles.put(99.9, 9.2F);
         return requiredPercentiles;
     }
 
@@ -44,6 +44,15 @@ public class ViewProcessorTest {
         assertEquals( expected , result);
     }
 
+    @Test
+    public void templateShouldBePopulatedWithValuesContainingRegexReplacementCharacters() throws IllegalAccessException {
+        Data data = new Data();
+        data.name = "Outer$Inner.lambda$run$0";
+
+        String result = ViewProcessor.populateTemplate(data, "d", "Name: {{ d.name }}");
+        assertEquals("Name: Outer$Inner.lambda$run$0", result);
+    }
+
 
     static class Data {
         int id;
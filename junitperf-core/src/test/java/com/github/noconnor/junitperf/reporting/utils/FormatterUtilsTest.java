@@ -19,4 +19,12 @@ public class FormatterUtilsTest {
     assertThat(FormatterUtils.format(0.98799f), is("0.98799"));
   }
 
+  @Test
+  public void givenAPercentile_thenPercentileShouldBeFormattedWithoutTrailingZeros() {
+    assertThat(FormatterUtils.formatPercentile(99), is("99"));
+    assertThat(FormatterUtils.formatPercentile(99.9), is("99.9"));
+    assertThat(FormatterUtils.formatPercentile(99.999), is("99.999"));
+    assertThat(FormatterUtils.formatPercentile(100), is("100"));
+  }
+
 }
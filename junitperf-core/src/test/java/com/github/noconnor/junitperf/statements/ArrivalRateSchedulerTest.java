@@ -0,0 +1,150 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+public class ArrivalRateSchedulerTest extends BaseTest {
+
+  private static final ThreadFactory FACTORY = new ThreadFactoryBuilder().setNameFormat("arrival-test-%d").build();
+
+  @Mock
+  private TestStatement statementMock;
+
+  private StatisticsCalculator stats;
+  private StatisticsCalculator queueingStats;
+  private DescriptiveStatistics queueingDelays;
+
+  @Before
+  public void setup() {
+    ExceptionsRegistry.registerIgnorable(InterruptedException.class);
+    stats = new DescriptiveStatisticsCalculator();
+    queueingDelays = new SynchronizedDescriptiveStatistics();
+    queueingStats = new DescriptiveStatisticsCalculator(queueingDelays);
+  }
+
+  @After
+  public void teardown() {
+    ExceptionsRegistry.clearRegistry();
+    Thread.interrupted();
+  }
+
+  @Test
+  public void whenRunning_andStatementIsSlow_thenInvocationsShouldStillBeDispatchedAtTheArrivalRate() throws Throwable {
+    setStatementLatencyMs(50);
+    ArrivalRateScheduler scheduler = createScheduler(100, 20, 0, -1);
+    scheduler.run();
+    // 500ms @ 100/s, slow invocations must not throttle the offered load
+    assertThat(stats.getEvaluationCount(), is(greaterThan(35L)));
+    assertThat(stats.getEvaluationCount(), is(lessThan(55L)));
+    assertEquals(0, scheduler.getDroppedDispatchCount());
+  }
+
+  @Test
+  public void whenRunning_andWorkersAreSaturated_thenDispatchesShouldBeQueuedAndDropped() throws Throwable {
+    setStatementLatencyMs(100);
+    ArrivalRateScheduler scheduler = createScheduler(200, 2, 0, -1);
+    scheduler.run();
+    assertThat(scheduler.getDroppedDispatchCount(), is(greaterThan(0L)));
+    assertThat(queueingStats.getMaxLatency(MILLISECONDS), is(greaterThanOrEqualTo(50F)));
+  }
+
+  @Test
+  public void whenRunning_thenQueueingDelayShouldBeRecordedForEachMeasuredInvocation() throws Throwable {
+    ArrivalRateScheduler scheduler = ArrivalRateScheduler.builder()
+      .statement(statementMock)
+      .stats(stats)
+      .queueingStats(queueingStats)
+      .threadFactory(FACTORY)
+      .terminator(() -> false)
+      .arrivalRatePerSecond(1_000)
+      .maxWorkers(2)
+      .executionTarget(20)
+      .build();
+    scheduler.run();
+    assertThat(queueingDelays.getN(), is(stats.getEvaluationCount()));
+  }
+
+  @Test
+  public void whenRunning_andWarmUpPeriodIsSet_thenWarmUpDispatchesShouldNotBeMeasured() throws Throwable {
+    ArrivalRateScheduler scheduler = createScheduler(100, 2, 1_000, -1);
+    scheduler.run();
+    assertEquals(0, stats.getEvaluationCount());
+    assertEquals(0, queueingStats.getMaxLatency(MILLISECONDS), 0);
+  }
+
+  @Test
+  public void whenRunning_andExecutionTargetIsMet_thenDispatchingShouldStop() throws Throwable {
+    ArrivalRateScheduler scheduler = ArrivalRateScheduler.builder()
+      .statement(statementMock)
+      .stats(stats)
+      .queueingStats(queueingStats)
+      .threadFactory(FACTORY)
+      .terminator(() -> false)
+      .arrivalRatePerSecond(1_000)
+      .maxWorkers(1)
+      .executionTarget(10)
+      .build();
+    scheduler.run();
+    assertThat(stats.getEvaluationCount(), is(greaterThanOrEqualTo(10L)));
+    assertThat(stats.getEvaluationCount(), is(lessThan(15L)));
+  }
+
+  @Test
+  public void whenRunning_andRunBeforesThrowsAnException_thenExceptionShouldBeRethrown() throws Throwable {
+    doThrow(new IllegalArgumentException("before failed")).when(statementMock).runBefores();
+    ArrivalRateScheduler scheduler = createScheduler(100, 2, 0, -1);
+    try {
+      scheduler.run();
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertEquals("Before method failed", e.getMessage());
+    }
+  }
+
+  private ArrivalRateScheduler createScheduler(int arrivalRate, int maxWorkers, int warmUpMs, int executionTarget) {
+    long deadline = nanoTime() + MILLISECONDS.toNanos(500);
+    Supplier<Boolean> terminator = () -> nanoTime() > deadline;
+    return ArrivalRateScheduler.builder()
+      .statement(statementMock)
+      .stats(stats)
+      .queueingStats(queueingStats)
+      .threadFactory(FACTORY)
+      .terminator(terminator)
+      .arrivalRatePerSecond(arrivalRate)
+      .maxWorkers(maxWorkers)
+      .warmUpPeriodMs(warmUpMs)
+      .executionTarget(executionTarget)
+      .build();
+  }
+
+  private void setStatementLatencyMs(long latencyMs) throws Throwable {
+    doAnswer(invocation -> {
+      Thread.sleep(latencyMs);
+      return null;
+    }).when(statementMock).evaluate();
+  }
+
+}
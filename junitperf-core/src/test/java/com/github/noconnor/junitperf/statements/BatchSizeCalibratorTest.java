@@ -0,0 +1,64 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+public class BatchSizeCalibratorTest extends BaseTest {
+
+  @Mock
+  private TestStatement statementMock;
+
+  // Keeps the test statement from being optimised away
+  private long sink;
+
+  @Test
+  public void whenStatementCompletesInNanoseconds_thenInvocationsShouldBeBatched() throws Throwable {
+    SimpleTestStatement statement = () -> sink++;
+    int operations = new BatchSizeCalibrator(statement, 1).calibrate();
+    assertThat(operations, is(greaterThan(1)));
+  }
+
+  @Test
+  public void whenStatementIsSlowerThanTheTargetSampleDuration_thenInvocationsShouldNotBeBatched() throws Throwable {
+    doAnswer(invocation -> {
+      Thread.sleep(1);
+      return null;
+    }).when(statementMock).evaluate();
+    assertEquals(1, new BatchSizeCalibrator(statementMock, 1).calibrate());
+    verify(statementMock).runBefores();
+    verify(statementMock).runAfters();
+  }
+
+  @Test
+  public void whenStatementFails_thenInvocationsShouldNotBeBatched() throws Throwable {
+    doThrow(new IllegalStateException("failed")).when(statementMock).evaluate();
+    assertEquals(1, new BatchSizeCalibrator(statementMock, 1).calibrate());
+    verify(statementMock).runAfters();
+  }
+
+  @Test
+  public void whenMaxTimerOverheadIsInvalid_thenExceptionShouldBeThrown() {
+    try {
+      new BatchSizeCalibrator(statementMock, 100);
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertEquals("MaxTimerOverhead must be between 0 and 100 (exclusive)", e.getMessage());
+    }
+  }
+
+  @Test
+  public void whenCalculatingTimerCost_thenCostShouldBePositive() {
+    assertThat(BatchSizeCalibrator.timerCostNs(), is(greaterThan(0L)));
+  }
+
+}
@@ -0,0 +1,138 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.ConvergenceResult;
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConvergenceMonitorTest extends BaseTest {
+
+  private static final int BATCH_INTERVAL_MS = 20;
+
+  @Mock
+  private EvaluationContext contextMock;
+
+  @Mock
+  private StatisticsCalculator statisticsMock;
+
+  private IntervalStatisticsCalculator statistics;
+
+  private CountDownLatch latch;
+
+  private ConvergenceMonitor monitor;
+
+  private final AtomicBoolean stopped = new AtomicBoolean();
+
+  @Before
+  public void setup() {
+    when(contextMock.getConfiguredConvergenceConfidence()).thenReturn(95F);
+    when(contextMock.getRequiredPercentiles()).thenReturn(ImmutableMap.of(99D, 10F));
+    statistics = new IntervalStatisticsCalculator(statisticsMock);
+    latch = new CountDownLatch(2);
+    monitor = new ConvergenceMonitor(contextMock, statistics, latch, BATCH_INTERVAL_MS);
+  }
+
+  @After
+  public void tearDown() {
+    stopped.set(true);
+  }
+
+  @Test
+  public void whenMeasurementsAreStable_thenTheTestShouldBeStoppedOnceConverged() throws InterruptedException {
+    when(contextMock.getConfiguredConvergenceTolerance()).thenReturn(50F);
+    startLoad();
+    monitor.start(0);
+    assertTrue(latch.await(5_000, MILLISECONDS));
+    ConvergenceResult result = monitor.stop();
+    assertTrue(result.isConverged());
+    assertThat(result.getMeasuredMs(), greaterThanOrEqualTo((long) ConvergenceMonitor.MIN_BATCHES * BATCH_INTERVAL_MS));
+    assertThat(result.getThroughputMargin(), lessThanOrEqualTo(50F));
+    // All latencies are identical
+    assertEquals(0, result.getMeanLatencyMargin(), 0.01);
+    assertEquals(0, result.getPercentileMargin(99), 0.01);
+    verify(statisticsMock, never()).getEvaluationCount();
+    verify(statisticsMock, never()).getMeanLatency(any());
+    verify(statisticsMock, never()).getLatencyPercentile(anyDouble(), any());
+  }
+
+  @Test
+  public void whenBatchMeanLatenciesDiffer_thenMeanLatencyMarginShouldBeEstimatedFromTheBatchMeans() throws InterruptedException {
+    when(contextMock.getConfiguredConvergenceTolerance()).thenReturn(0.001F);
+    startLoad(1, 3);
+    monitor.start(0);
+    MILLISECONDS.sleep(BATCH_INTERVAL_MS * (ConvergenceMonitor.MIN_BATCHES + 5));
+    ConvergenceResult result = monitor.stop();
+    assertFalse(result.isConverged());
+    // Batches alternate (roughly) between 1ms & 3ms latencies, the margin of a cumulative mean would shrink to ~0
+    assertThat(result.getMeanLatencyMargin(), greaterThan(1F));
+  }
+
+  @Test
+  public void whenMinDurationHasNotElapsed_thenTheTestShouldNotBeStopped() throws InterruptedException {
+    when(contextMock.getConfiguredConvergenceTolerance()).thenReturn(50F);
+    when(contextMock.getConfiguredConvergenceMinDurationMs()).thenReturn(60_000);
+    startLoad();
+    monitor.start(0);
+    assertFalse(latch.await(500, MILLISECONDS));
+    ConvergenceResult result = monitor.stop();
+    assertFalse(result.isConverged());
+    assertEquals(0, result.getPercentileMargin(99), 0.01);
+  }
+
+  @Test
+  public void whenTestIsStoppedBeforeAnyBatchCompletes_thenMarginsShouldNotBeAvailable() throws InterruptedException {
+    when(contextMock.getConfiguredConvergenceTolerance()).thenReturn(50F);
+    monitor.start(10_000);
+    ConvergenceResult result = monitor.stop();
+    assertFalse(result.isConverged());
+    assertTrue(Float.isNaN(result.getThroughputMargin()));
+    assertTrue(Float.isNaN(result.getMeanLatencyMargin()));
+    assertTrue(Float.isNaN(result.getPercentileMargin(99)));
+    assertEquals(2, latch.getCount());
+  }
+
+  // Invocations with a fixed latency at a roughly steady rate
+  private void startLoad() {
+    startLoad(1, 1);
+  }
+
+  // Invocation latency switches between the given latencies (ms) every batch interval
+  private void startLoad(long firstLatencyMs, long secondLatencyMs) {
+    Thread load = new Thread(() -> {
+      long startMs = System.currentTimeMillis();
+      while (!stopped.get()) {
+        boolean isFirst = (System.currentTimeMillis() - startMs) / BATCH_INTERVAL_MS % 2 == 0;
+        statistics.addLatencyMeasurement(MILLISECONDS.toNanos(isFirst ? firstLatencyMs : secondLatencyMs));
+        statistics.incrementEvaluationCount();
+        LockSupport.parkNanos(MICROSECONDS.toNanos(100));
+      }
+    });
+    load.setDaemon(true);
+    load.start();
+  }
+
+}
@@ -0,0 +1,181 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.WorkerResult;
+import org.HdrHistogram.Histogram;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.JUNITPERF_WORKERS;
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.JUNITPERF_WORKER_COORDINATOR;
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.JUNITPERF_WORKER_HOSTS;
+import static com.github.noconnor.junitperf.statements.DistributedEvaluation.JUNITPERF_WORKER_INDEX;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.when;
+
+public class DistributedEvaluationTest extends BaseTest {
+
+  private static final String THREADS_OVERRIDE = "junitperf.threads";
+
+  @Mock
+  private EvaluationContext contextMock;
+
+  @Before
+  public void setup() {
+    when(contextMock.getConfiguredJvmArgs()).thenReturn(emptyList());
+    when(contextMock.getConfiguredWorkerHosts()).thenReturn(emptyList());
+    when(contextMock.getConfiguredDuration()).thenReturn(300);
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(THREADS_OVERRIDE);
+    System.clearProperty(ForkedEvaluation.JUNITPERF_JVM_ARGS);
+  }
+
+  @Test
+  public void whenRatesAreDividedBetweenWorkers_thenRemainderShouldBeSpreadOverTheFirstWorkers() {
+    assertEquals(4, DistributedEvaluation.share(10, 3, 1));
+    assertEquals(3, DistributedEvaluation.share(10, 3, 2));
+    assertEquals(3, DistributedEvaluation.share(10, 3, 3));
+    assertEquals(5, DistributedEvaluation.share(10, 2, 2));
+  }
+
+  @Test
+  public void whenBuildingWorkerProperties_thenWorkerShouldGetItsShareOfTheLoad() {
+    System.setProperty(THREADS_OVERRIDE, "4");
+    System.setProperty(ForkedEvaluation.JUNITPERF_JVM_ARGS, "-Xmx1g");
+    when(contextMock.getWorkerCount()).thenReturn(3);
+    when(contextMock.getConfiguredRateLimit()).thenReturn(1_000);
+    when(contextMock.getConfiguredArrivalRate()).thenReturn(-1);
+    when(contextMock.getConfiguredExecutionTarget()).thenReturn(20);
+    Map<String, String> properties = new DistributedEvaluation(test(10), contextMock).workerProperties(1, "10.0.0.1:7000");
+    assertEquals("4", properties.get(THREADS_OVERRIDE));
+    assertEquals("0", properties.get(JUNITPERF_WORKERS));
+    assertEquals("", properties.get(JUNITPERF_WORKER_HOSTS));
+    assertEquals("10.0.0.1:7000", properties.get(JUNITPERF_WORKER_COORDINATOR));
+    assertEquals("1", properties.get(JUNITPERF_WORKER_INDEX));
+    assertEquals("0", properties.get(ForkedEvaluation.JUNITPERF_FORKS));
+    assertFalse(properties.containsKey(ForkedEvaluation.JUNITPERF_JVM_ARGS));
+    assertEquals("334", properties.get("junitperf.maxExecutionsPerSecond"));
+    assertEquals("7", properties.get("junitperf.totalExecutions"));
+    assertFalse(properties.containsKey("junitperf.arrivalRatePerSecond"));
+  }
+
+  @Test
+  public void whenWorkersReportMeasurements_thenEachWorkerResultShouldBeReturned() throws Exception {
+    when(contextMock.getConfiguredWorkers()).thenReturn(2);
+    when(contextMock.getWorkerCount()).thenReturn(2);
+    List<WorkerResult> results = new DistributedEvaluation(test(100), contextMock).run();
+    assertEquals(2, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      WorkerResult result = results.get(i);
+      assertEquals(i + 1, result.getIndex());
+      assertEquals("local", result.getLocation());
+      assertEquals(100, result.getEvaluationCount());
+      assertEquals(2, result.getErrorCount());
+      assertEquals(100, result.getLatencies().getTotalCount());
+      assertEquals(500, result.getThroughputQps());
+    }
+  }
+
+  @Test
+  public void whenRemoteWorkersAreConfigured_thenWorkersShouldBeStartedByTheAgent() throws Exception {
+    try (ServerSocket agentSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      Thread agent = new Thread(new WorkerAgent(agentSocket, emptyList(), singleton(ReportingWorker.class.getName()))::serve);
+      agent.setDaemon(true);
+      agent.start();
+      String agentAddress = "127.0.0.1:" + agentSocket.getLocalPort();
+      System.setProperty(DistributedEvaluation.JUNITPERF_COORDINATOR_HOST, "127.0.0.1");
+      when(contextMock.getConfiguredWorkers()).thenReturn(1);
+      when(contextMock.getConfiguredWorkerHosts()).thenReturn(singletonList(agentAddress));
+      when(contextMock.getWorkerCount()).thenReturn(2);
+      List<WorkerResult> results = new DistributedEvaluation(test(50), contextMock).run();
+      assertEquals(2, results.size());
+      assertEquals("local", results.get(0).getLocation());
+      assertEquals(agentAddress, results.get(1).getLocation());
+      assertEquals(50, results.get(1).getEvaluationCount());
+    } finally {
+      System.clearProperty(DistributedEvaluation.JUNITPERF_COORDINATOR_HOST);
+    }
+  }
+
+  @Test
+  public void whenWorkersFinishEarly_thenTestShouldNotWaitForTheFullDuration() throws Exception {
+    when(contextMock.getConfiguredDuration()).thenReturn(30_000);
+    when(contextMock.getConfiguredWorkers()).thenReturn(2);
+    when(contextMock.getWorkerCount()).thenReturn(2);
+    ForkedTest test = new ForkedTest(EarlyFinishingWorker.class.getName(), singletonList("100"));
+    long startMs = currentTimeMillis();
+    List<WorkerResult> results = new DistributedEvaluation(test, contextMock).run();
+    assertThat(currentTimeMillis() - startMs, lessThan(30_000L));
+    assertEquals(2, results.size());
+    assertEquals(100, results.get(0).getEvaluationCount());
+    assertEquals(100, results.get(1).getEvaluationCount());
+  }
+
+  @Test
+  public void whenWorkerExitsBeforeTheTestStarts_thenExceptionShouldBeThrown() throws Exception {
+    when(contextMock.getConfiguredWorkers()).thenReturn(1);
+    when(contextMock.getWorkerCount()).thenReturn(1);
+    ForkedTest test = new ForkedTest(ForkedEvaluationTest.SilentFork.class.getName(), emptyList());
+    try {
+      new DistributedEvaluation(test, contextMock).run();
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage(), startsWith("Worker 1 exited (exit code 0) before the test started"));
+    }
+  }
+
+  private static ForkedTest test(int evaluations) {
+    return new ForkedTest(ReportingWorker.class.getName(), singletonList(String.valueOf(evaluations)));
+  }
+
+  public static class ReportingWorker {
+    public static void main(String[] args) throws Exception {
+      int evaluations = Integer.parseInt(args[0]);
+      try (WorkerConnection connection = WorkerConnection.awaitStart()) {
+        Histogram latencies = new Histogram(3);
+        for (int i = 1; i <= evaluations; i++) {
+          latencies.recordValue(i * 1_000L);
+        }
+        connection.awaitStop(10_000);
+        connection.sendMeasurements(evaluations, evaluations / 50, 200_000_000L, latencies);
+      }
+    }
+  }
+
+  public static class EarlyFinishingWorker {
+    public static void main(String[] args) throws Exception {
+      int evaluations = Integer.parseInt(args[0]);
+      try (WorkerConnection connection = WorkerConnection.awaitStart()) {
+        Histogram latencies = new Histogram(3);
+        latencies.recordValue(1_000L);
+        // All evaluation tasks have finished, nothing left to wait for
+        if (!connection.awaitStop(new CountDownLatch(0), 10_000)) {
+          connection.sendMeasurements(evaluations, 0, 200_000_000L, latencies);
+          connection.awaitStop(10_000);
+        }
+      }
+    }
+  }
+
+}
@@ -1,6 +1,8 @@
 package com.github.noconnor.junitperf.statements;
 
 import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.statistics.AllocationStatistics;
+import com.github.noconnor.junitperf.statistics.CpuTimeStatistics;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
 import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
 import com.google.common.util.concurrent.RateLimiter;
@@ -13,7 +15,16 @@ import org.mockito.stubbing.OngoingStubbing;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
@@ -27,6 +38,8 @@ import static org.mockito.Mockito.when;
 public class EvaluationTaskTest extends BaseTest {
 
   private EvaluationTask task;
+  // Keeps test allocations reachable
+  private Object allocationSink;
 
   @Mock
   private TestStatement statementMock;
@@ -40,6 +53,9 @@ public class EvaluationTaskTest extends BaseTest {
   @Mock
   private StatisticsCalculator statsMock;
 
+  @Mock
+  private StatisticsCalculator correctedStatsMock;
+
   @Before
   public void setup() {
     ExceptionsRegistry.registerIgnorable(InterruptedException.class);
@@ -103,6 +119,14 @@ public class EvaluationTaskTest extends BaseTest {
     verify(statsMock, times(10)).addLatencyMeasurement(anyLong());
   }
 
+  @Test
+  public void whenRunning_thenMeasurementTimesShouldBeRecorded() throws Throwable {
+    setExecutionCount(10);
+    mockEvaluationFailures(5);
+    task.run();
+    verify(statsMock, times(10)).addMeasurementTime(anyLong(), longThat(end -> end <= nanoTime()));
+  }
+
   @Test
   public void whenRunning_andStatementEvaluationThrowsAnInterruptException_thenNoMeasurementsShouldBeTakenTaken() throws Throwable {
     setExecutionCount(10);
@@ -117,7 +141,7 @@ public class EvaluationTaskTest extends BaseTest {
   public void whenRunning_thenAnAttemptShouldBeMadeToRetrieveAPermit() {
     setExecutionCount(10);
     task.run();
-    verify(rateLimiterMock, times(10)).acquire();
+    verify(rateLimiterMock, times(10)).acquire(1);
   }
 
   @Test
@@ -176,6 +200,162 @@ public class EvaluationTaskTest extends BaseTest {
     verify(statsMock, never()).incrementErrorCount();
   }
 
+  @Test
+  public void whenRateScheduleIsSet_thenCorrectedLatencyShouldIncludeDelayFromIntendedStartTime() throws Throwable {
+    setExecutionCount(1);
+    RateSchedule schedule = new RateSchedule(nanoTime() - SECONDS.toNanos(5), 1);
+    task = createCorrectedTask(schedule);
+    task.run();
+    verify(statsMock).addLatencyMeasurement(longThat(latency -> latency < SECONDS.toNanos(5)));
+    verify(correctedStatsMock).addLatencyMeasurement(longThat(latency -> latency >= SECONDS.toNanos(5)));
+  }
+
+  @Test
+  public void whenRateScheduleHasNotStarted_thenCorrectedLatencyShouldMatchMeasuredLatency() throws Throwable {
+    setExecutionCount(1);
+    RateSchedule schedule = new RateSchedule(nanoTime() + SECONDS.toNanos(60), 1);
+    task = createCorrectedTask(schedule);
+    task.run();
+    verify(correctedStatsMock).addLatencyMeasurement(longThat(latency -> latency < SECONDS.toNanos(1)));
+  }
+
+  @Test
+  public void whenRunning_andStatementEvaluationThrowsAnException_thenCorrectedLatencyMeasurementShouldBeTaken() throws Throwable {
+    setExecutionCount(10);
+    mockEvaluationFailures(5);
+    RateSchedule schedule = new RateSchedule(nanoTime(), 1_000_000);
+    task = createCorrectedTask(schedule);
+    task.run();
+    verify(statsMock, times(10)).addLatencyMeasurement(anyLong());
+    verify(correctedStatsMock, times(10)).addLatencyMeasurement(anyLong());
+  }
+
+  @Test
+  public void whenAllocationsAreMeasured_thenOnlySuccessfulInvocationsShouldBeMeasured() throws Throwable {
+    assumeTrue(AllocationCounter.isSupported());
+    setExecutionCount(10);
+    mockEvaluationFailures(4);
+    AllocationStatistics allocationStats = new AllocationStatistics();
+    task = createAllocationMeasuringTask(allocationStats);
+    task.run();
+    assertThat(allocationStats.getMeasurementCount(), is(6L));
+  }
+
+  @Test
+  public void whenAllocationsAreMeasured_andStatementAllocates_thenAllocatedBytesShouldBeRecorded() throws Throwable {
+    assumeTrue(AllocationCounter.isSupported());
+    setExecutionCount(5);
+    doAnswer(invocation -> allocationSink = new byte[10_000]).when(statementMock).evaluate();
+    AllocationStatistics allocationStats = new AllocationStatistics();
+    task = createAllocationMeasuringTask(allocationStats);
+    task.run();
+    assertThat(allocationStats.getMinBytes(), is(greaterThanOrEqualTo(10_000L)));
+  }
+
+  @Test
+  public void whenCpuTimeIsMeasured_thenOnlySuccessfulInvocationsShouldBeMeasured() throws Throwable {
+    assumeTrue(CpuTimeCounter.isSupported());
+    setExecutionCount(10);
+    mockEvaluationFailures(4);
+    CpuTimeStatistics cpuTimeStats = new CpuTimeStatistics();
+    task = createCpuTimeMeasuringTask(cpuTimeStats);
+    task.run();
+    assertThat(cpuTimeStats.getMeasurementCount(), is(6L));
+  }
+
+  @Test
+  public void whenCpuTimeIsMeasured_andStatementSleeps_thenSleepShouldNotBeMeasuredAsCpuTime() throws Throwable {
+    assumeTrue(CpuTimeCounter.isSupported());
+    setExecutionCount(3);
+    doAnswer(invocation -> {
+      Thread.sleep(20);
+      return null;
+    }).when(statementMock).evaluate();
+    CpuTimeStatistics cpuTimeStats = new CpuTimeStatistics();
+    task = createCpuTimeMeasuringTask(cpuTimeStats);
+    task.run();
+    assertThat(cpuTimeStats.getMeasurementCount(), is(3L));
+    assertThat(cpuTimeStats.getMaxCpuTime(MILLISECONDS), is(lessThan(10F)));
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsSet_thenEachSampleShouldTimeABatchOfInvocations() throws Throwable {
+    setExecutionCount(3);
+    task = createBatchingTask(10, null);
+    task.run();
+    verify(statementMock, times(30)).evaluate();
+    verify(statementMock, times(3)).runBefores();
+    verify(statementMock, times(3)).runAfters();
+    verify(statsMock, times(3)).addLatencyMeasurement(anyLong());
+    verify(statsMock, times(3)).incrementEvaluationCount(10);
+    verify(statsMock, never()).incrementEvaluationCount();
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsSet_andAnInvocationFails_thenCompletedInvocationsShouldStillBeCounted() throws Throwable {
+    setExecutionCount(1);
+    AtomicInteger invocations = new AtomicInteger();
+    doAnswer(invocation -> {
+      if (invocations.incrementAndGet() == 4) {
+        throw new IllegalStateException("failed");
+      }
+      return null;
+    }).when(statementMock).evaluate();
+    task = createBatchingTask(10, null);
+    task.run();
+    verify(statsMock).incrementEvaluationCount(3);
+    verify(statsMock).incrementEvaluationCount();
+    verify(statsMock).incrementErrorCount();
+    verify(statsMock).addLatencyMeasurement(anyLong());
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsSet_thenRateLimitPermitsShouldBeAcquiredPerInvocation() {
+    setExecutionCount(2);
+    task = createBatchingTask(10, null);
+    task.run();
+    verify(rateLimiterMock, times(2)).acquire(10);
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsSet_thenAllocationsShouldBeMeasuredPerInvocation() throws Throwable {
+    assumeTrue(AllocationCounter.isSupported());
+    setExecutionCount(2);
+    doAnswer(invocation -> allocationSink = new byte[1_000]).when(statementMock).evaluate();
+    AllocationStatistics allocationStats = new AllocationStatistics();
+    task = createBatchingTask(10, allocationStats);
+    task.run();
+    assertThat(allocationStats.getMeasurementCount(), is(20L));
+    assertThat(allocationStats.getMinBytes(), is(greaterThanOrEqualTo(1_000L)));
+  }
+
+  @Test
+  public void whenTaskIsSuspended_thenTheTestStatementShouldNotBeEvaluated() throws Throwable {
+    setExecutionCount(10);
+    task = EvaluationTask.builder()
+      .statement(statementMock)
+      .stats(statsMock)
+      .terminator(terminatorMock)
+      .suspender(() -> true)
+      .build();
+    task.run();
+    verify(statementMock, never()).evaluate();
+    verifyZeroInteractions(statsMock);
+  }
+
+  @Test
+  public void whenTaskIsNotSuspended_thenTheTestStatementShouldBeEvaluated() throws Throwable {
+    setExecutionCount(3);
+    task = EvaluationTask.builder()
+      .statement(statementMock)
+      .stats(statsMock)
+      .terminator(terminatorMock)
+      .suspender(() -> false)
+      .build();
+    task.run();
+    verify(statementMock, times(3)).evaluate();
+  }
+
   @Test
   public void whenRunning_andRunBeforesThrowsAnException_thenExceptionShouldBeThrown() throws Throwable {
     setExecutionCount(1);
@@ -313,6 +493,45 @@ public class EvaluationTaskTest extends BaseTest {
     stub.thenReturn(true);
   }
 
+  private EvaluationTask createAllocationMeasuringTask(AllocationStatistics allocationStats) {
+    return EvaluationTask.builder()
+      .statement(statementMock)
+      .stats(statsMock)
+      .allocationStats(allocationStats)
+      .terminator(terminatorMock)
+      .build();
+  }
+
+  private EvaluationTask createCpuTimeMeasuringTask(CpuTimeStatistics cpuTimeStats) {
+    return EvaluationTask.builder()
+      .statement(statementMock)
+      .stats(statsMock)
+      .cpuTimeStats(cpuTimeStats)
+      .terminator(terminatorMock)
+      .build();
+  }
+
+  private EvaluationTask createBatchingTask(int operationsPerInvocation, AllocationStatistics allocationStats) {
+    return EvaluationTask.builder()
+      .statement(statementMock)
+      .rateLimiter(rateLimiterMock)
+      .stats(statsMock)
+      .allocationStats(allocationStats)
+      .terminator(terminatorMock)
+      .operationsPerInvocation(operationsPerInvocation)
+      .build();
+  }
+
+  private EvaluationTask createCorrectedTask(RateSchedule schedule) {
+    return EvaluationTask.builder()
+      .statement(statementMock)
+      .stats(statsMock)
+      .correctedStats(correctedStatsMock)
+      .rateSchedule(schedule)
+      .terminator(terminatorMock)
+      .build();
+  }
+
   private static class AbortTestException extends RuntimeException {
     
   }
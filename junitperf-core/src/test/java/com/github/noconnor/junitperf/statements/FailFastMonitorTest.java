@@ -0,0 +1,102 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FailFastMonitorTest extends BaseTest {
+
+  @Mock
+  private EvaluationContext contextMock;
+
+  @Mock
+  private StatisticsCalculator statisticsMock;
+
+  private IntervalStatisticsCalculator intervalStatistics;
+
+  private CountDownLatch latch;
+
+  private FailFastMonitor monitor;
+
+  @Before
+  public void setup() {
+    intervalStatistics = new IntervalStatisticsCalculator(statisticsMock);
+    latch = new CountDownLatch(3);
+    monitor = new FailFastMonitor(contextMock, intervalStatistics, latch, 10);
+  }
+
+  @Test
+  public void whenARequirementFails_thenTheLatchShouldBeReleased() throws InterruptedException {
+    when(contextMock.evaluateFailFast(any())).thenReturn("Max latency 12.000ms exceeds the required 10.000ms");
+    monitor.start(0);
+    assertTrue(latch.await(5_000, MILLISECONDS));
+    monitor.stop();
+    verify(contextMock).setFailFastTermination(eq("Max latency 12.000ms exceeds the required 10.000ms"), anyLong());
+  }
+
+  @Test
+  public void whenChecking_thenAllMeasurementsSoFarShouldBeReadFromTheIntervalRecorders() throws InterruptedException {
+    intervalStatistics.addLatencyMeasurement(MILLISECONDS.toNanos(12));
+    intervalStatistics.incrementEvaluationCount(150);
+    intervalStatistics.incrementErrorCount(3);
+    monitor.start(0);
+    MILLISECONDS.sleep(100);
+    monitor.stop();
+    ArgumentCaptor<StatisticsCalculator> captor = ArgumentCaptor.forClass(StatisticsCalculator.class);
+    verify(contextMock, atLeastOnce()).evaluateFailFast(captor.capture());
+    StatisticsCalculator measured = captor.getValue();
+    assertEquals(150, measured.getEvaluationCount());
+    assertEquals(3, measured.getErrorCount());
+    assertEquals(12F, measured.getMaxLatency(MILLISECONDS), 0.1);
+    verify(statisticsMock, never()).getEvaluationCount();
+    verify(statisticsMock, never()).getMaxLatency(any());
+  }
+
+  @Test
+  public void whenNoRequirementFails_thenTheLatchShouldNotBeReleased() throws InterruptedException {
+    monitor.start(0);
+    assertFalse(latch.await(100, MILLISECONDS));
+    monitor.stop();
+    assertEquals(3, latch.getCount());
+    verify(contextMock, never()).setFailFastTermination(anyString(), anyLong());
+  }
+
+  @Test
+  public void whenTheWarmUpPeriodHasNotElapsed_thenRequirementsShouldNotBeChecked() throws InterruptedException {
+    monitor.start(10_000);
+    MILLISECONDS.sleep(100);
+    monitor.stop();
+    verify(contextMock, never()).evaluateFailFast(any());
+  }
+
+  @Test
+  public void whenACheckThrowsAnException_thenFurtherChecksShouldStillRun() throws InterruptedException {
+    when(contextMock.evaluateFailFast(any()))
+      .thenThrow(new IllegalStateException("test"))
+      .thenReturn("Error rate is above the allowed 1.00%");
+    monitor.start(0);
+    assertTrue(latch.await(5_000, MILLISECONDS));
+    monitor.stop();
+    verify(contextMock).setFailFastTermination(eq("Error rate is above the allowed 1.00%"), anyLong());
+  }
+
+}
@@ -0,0 +1,119 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.ForkResult;
+import org.HdrHistogram.Histogram;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.JUNITPERF_FORKS;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.JUNITPERF_FORK_PORT;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ForkedEvaluationTest extends BaseTest {
+
+  private static final String THREADS_OVERRIDE = "junitperf.threads";
+
+  @After
+  public void tearDown() {
+    System.clearProperty(THREADS_OVERRIDE);
+    System.clearProperty(JUNITPERF_FORKS);
+    System.clearProperty(JUNITPERF_FORK_PORT);
+  }
+
+  @Test
+  public void whenBuildingForkCommand_thenJvmArgsOverridesAndTestShouldBePassedToTheFork() {
+    System.setProperty(THREADS_OVERRIDE, "4");
+    System.setProperty(JUNITPERF_FORKS, "3");
+    ForkedTest test = new ForkedTest("com.example.Runner", asList("com.example.Test", "method"));
+    ForkedEvaluation evaluation = new ForkedEvaluation(test, 2, singletonList("-Xmx64m"), 60_000);
+    List<String> command = evaluation.command(1234);
+    assertEquals("-Xmx64m", command.get(1));
+    assertThat(command, hasItems("-Djunitperf.threads=4", "-Djunitperf.forks=0", "-Djunitperf.fork.port=1234"));
+    assertThat(command, not(hasItem("-Djunitperf.forks=3")));
+    assertEquals(asList("com.example.Runner", "com.example.Test", "method"), command.subList(command.size() - 3, command.size()));
+  }
+
+  @Test
+  public void whenForksReportMeasurements_thenEachForkResultShouldBeReturned() throws Exception {
+    ForkedTest test = new ForkedTest(ReportingFork.class.getName(), singletonList("250"));
+    List<ForkResult> results = new ForkedEvaluation(test, 2, emptyList(), 60_000).run();
+    assertEquals(2, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      ForkResult result = results.get(i);
+      assertEquals(i + 1, result.getIndex());
+      assertEquals(250, result.getEvaluationCount());
+      assertEquals(5, result.getErrorCount());
+      assertEquals(250, result.getLatencies().getTotalCount());
+      assertEquals(500, result.getThroughputQps());
+      assertEquals(2F, result.getErrorPercentage(), 0);
+    }
+  }
+
+  @Test
+  public void whenForkExitsWithoutReportingMeasurements_thenExceptionShouldBeThrown() throws Exception {
+    ForkedTest test = new ForkedTest(SilentFork.class.getName(), emptyList());
+    try {
+      new ForkedEvaluation(test, 2, emptyList(), 60_000).run();
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage(), startsWith("Fork 1 exited (exit code 0) without reporting any measurements"));
+    }
+  }
+
+  @Test
+  public void whenForkDoesNotReportWithinTheTimeout_thenForkShouldBeKilledAndExceptionShouldBeThrown() throws Exception {
+    ForkedTest test = new ForkedTest(HangingFork.class.getName(), emptyList());
+    long startMs = System.currentTimeMillis();
+    try {
+      new ForkedEvaluation(test, 2, emptyList(), 2_000).run();
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertEquals("Fork 1 did not report any measurements within 2000ms", e.getMessage());
+    }
+    assertTrue(System.currentTimeMillis() - startMs < 30_000);
+  }
+
+  @Test
+  public void whenForkPortIsSet_thenJvmShouldBeDetectedAsAFork() {
+    assertFalse(ForkedEvaluation.isForkedJvm());
+    System.setProperty(JUNITPERF_FORK_PORT, "1234");
+    assertTrue(ForkedEvaluation.isForkedJvm());
+  }
+
+  public static class ReportingFork {
+    public static void main(String[] args) throws Exception {
+      int evaluations = Integer.parseInt(args[0]);
+      Histogram latencies = new Histogram(3);
+      for (int i = 1; i <= evaluations; i++) {
+        latencies.recordValue(i * 1_000L);
+      }
+      ForkedEvaluation.sendMeasurements(evaluations, evaluations / 50, 500_000_000L, latencies);
+    }
+  }
+
+  public static class HangingFork {
+    public static void main(String[] args) throws Exception {
+      Thread.sleep(Long.MAX_VALUE);
+    }
+  }
+
+  public static class SilentFork {
+    public static void main(String[] args) {
+    }
+  }
+
+}
@@ -0,0 +1,77 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.statistics.GcStatistics;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.lang.management.MemoryUsage;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class GcMonitorTest extends BaseTest {
+
+  @Test
+  public void whenCollectionIsConcurrent_thenItShouldNotBeTreatedAsAPause() {
+    assertTrue(GcMonitor.isConcurrent("G1 Concurrent GC", "end of concurrent GC pause"));
+    assertTrue(GcMonitor.isConcurrent("ZGC Cycles", "end of GC cycle"));
+    assertFalse(GcMonitor.isConcurrent("G1 Young Generation", "end of minor GC"));
+    assertFalse(GcMonitor.isConcurrent("ZGC Pauses", "end of GC pause"));
+  }
+
+  @Test
+  public void whenOldGenerationGrows_thenGrowthShouldBeCountedAsPromoted() {
+    long promoted = GcMonitor.promotedBytes(
+      ImmutableMap.of("G1 Eden Space", usage(1_000), "G1 Old Gen", usage(5_000)),
+      ImmutableMap.of("G1 Eden Space", usage(0), "G1 Old Gen", usage(5_600))
+    );
+    assertEquals(600, promoted);
+  }
+
+  @Test
+  public void whenOldGenerationShrinks_thenNothingShouldBeCountedAsPromoted() {
+    long promoted = GcMonitor.promotedBytes(
+      ImmutableMap.of("Tenured Gen", usage(5_000)),
+      ImmutableMap.of("Tenured Gen", usage(1_000))
+    );
+    assertEquals(0, promoted);
+  }
+
+  @Test
+  public void whenGcIsTriggeredAfterWarmUp_thenPauseShouldBeRecorded() throws InterruptedException {
+    assumeTrue(GcMonitor.isSupported());
+    GcMonitor monitor = new GcMonitor();
+    monitor.start(0);
+    System.gc();
+    // Notifications are delivered asynchronously
+    long deadlineNs = nanoTime() + SECONDS.toNanos(5);
+    while (monitor.getStatistics().getPauseCount() == 0 && nanoTime() < deadlineNs) {
+      Thread.sleep(10);
+    }
+    GcStatistics statistics = monitor.stop();
+    assertThat(statistics.getPauseCount(), is(greaterThanOrEqualTo(1L)));
+  }
+
+  @Test
+  public void whenGcIsTriggeredDuringWarmUp_thenPauseShouldBeIgnored() throws InterruptedException {
+    assumeTrue(GcMonitor.isSupported());
+    GcMonitor monitor = new GcMonitor();
+    monitor.start(60_000);
+    System.gc();
+    Thread.sleep(100);
+    assertEquals(0, monitor.stop().getPauseCount());
+  }
+
+  private static MemoryUsage usage(long used) {
+    return new MemoryUsage(0, used, used, -1);
+  }
+
+}
@@ -0,0 +1,51 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.HarnessOverhead;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import org.junit.Test;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public class HarnessOverheadCalibratorTest extends BaseTest {
+
+  private final StatisticsCalculator stats = new DescriptiveStatisticsCalculator();
+
+  @Test
+  public void whenCalibrating_thenHarnessOverheadShouldBeMeasuredAndStatisticsReset() throws InterruptedException {
+    HarnessOverhead overhead = HarnessOverheadCalibrator.builder()
+      .threadFactory(Thread::new)
+      .stats(stats)
+      .threads(2)
+      .isRateLimited(true)
+      .operationsPerInvocation(1)
+      .build()
+      .calibrate();
+    assertNotNull(overhead);
+    assertThat(overhead.getIterationCostNs(), is(greaterThan(0F)));
+    assertEquals(0, stats.getEvaluationCount());
+  }
+
+  @Test
+  public void whenNoIterationsComplete_thenNullShouldBeReturned() throws InterruptedException {
+    // Threads never run the evaluation task
+    ThreadFactory idleThreadFactory = task -> new Thread(() -> {});
+    HarnessOverhead overhead = HarnessOverheadCalibrator.builder()
+      .threadFactory(idleThreadFactory)
+      .stats(stats)
+      .threads(1)
+      .operationsPerInvocation(1)
+      .build()
+      .calibrate();
+    assertNull(overhead);
+  }
+
+}
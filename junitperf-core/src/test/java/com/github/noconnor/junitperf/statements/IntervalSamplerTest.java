@@ -0,0 +1,123 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.IntervalSample;
+import com.github.noconnor.junitperf.statistics.GcStatistics;
+import com.github.noconnor.junitperf.statistics.GcStatistics.GcPause;
+import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IntervalSamplerTest extends BaseTest {
+
+  private final AtomicLong clock = new AtomicLong(SECONDS.toNanos(1));
+  private IntervalStatisticsCalculator statistics;
+
+  @Before
+  public void setup() {
+    statistics = new IntervalStatisticsCalculator(new DescriptiveStatisticsCalculator());
+  }
+
+  @Test
+  public void whenSampling_thenEachIntervalShouldBeMeasuredFromTheEndOfThePreviousInterval() {
+    IntervalSampler sampler = new IntervalSampler(statistics, 50, null, clock::get);
+    sampler.startMeasurements();
+    for (int i = 0; i < 5; i++) {
+      clock.addAndGet(MILLISECONDS.toNanos(50));
+      sampler.sample();
+    }
+    clock.addAndGet(MILLISECONDS.toNanos(25));
+    List<IntervalSample> samples = sampler.stop();
+    // 5 full intervals & a final partial interval
+    assertEquals(6, samples.size());
+    for (int i = 0; i < samples.size(); i++) {
+      assertEquals(i, samples.get(i).getIndex());
+      assertEquals(i * 50L, samples.get(i).getStartOffsetMs());
+    }
+    assertEquals(50, samples.get(4).getDurationMs());
+    assertEquals(25, samples.get(5).getDurationMs());
+  }
+
+  @Test
+  public void whenSampling_thenMeasurementsShouldBeAttributedToTheIntervalTheyWereRecordedIn() {
+    IntervalSampler sampler = new IntervalSampler(statistics, 100, null, clock::get);
+    sampler.startMeasurements();
+    statistics.incrementEvaluationCount();
+    statistics.addLatencyMeasurement(MILLISECONDS.toNanos(3));
+    clock.addAndGet(MILLISECONDS.toNanos(100));
+    sampler.sample();
+    statistics.incrementEvaluationCount();
+    statistics.incrementEvaluationCount();
+    clock.addAndGet(MILLISECONDS.toNanos(10));
+    List<IntervalSample> samples = sampler.stop();
+    assertEquals(2, samples.size());
+    assertEquals(1, samples.get(0).getEvaluationCount());
+    assertEquals(3F, samples.get(0).getMaxLatencyMs(), 0.01);
+    assertEquals(2, samples.get(1).getEvaluationCount());
+    assertEquals(0, samples.get(1).getLatencyCount());
+  }
+
+  @Test
+  public void whenGcPausesAreMonitored_thenPausesShouldBeAttributedToTheIntervalTheyStartedIn() {
+    GcStatistics gcStatistics = new GcStatistics();
+    IntervalSampler sampler = new IntervalSampler(statistics, 100, gcStatistics, clock::get);
+    sampler.startMeasurements();
+    clock.addAndGet(MILLISECONDS.toNanos(20));
+    gcStatistics.addPause(new GcPause("young", clock.get(), 5, 0));
+    gcStatistics.addPause(new GcPause("young", clock.get(), 10, 0));
+    clock.addAndGet(MILLISECONDS.toNanos(80));
+    sampler.sample();
+    clock.addAndGet(MILLISECONDS.toNanos(5));
+    gcStatistics.addPause(new GcPause("old", clock.get(), 40, 0));
+    clock.addAndGet(MILLISECONDS.toNanos(10));
+    List<IntervalSample> samples = sampler.stop();
+    assertEquals(2, samples.size());
+    assertEquals(2, samples.get(0).getGcPauseCount());
+    assertEquals(15, samples.get(0).getGcPauseMs());
+    assertEquals(1, samples.get(1).getGcPauseCount());
+    assertEquals(40, samples.get(1).getGcPauseMs());
+  }
+
+  @Test
+  public void whenMoreThanTheMaxRetainedIntervalsAreSampled_thenOnlyTheMostRecentIntervalsShouldBeReturned() {
+    IntervalSampler sampler = new IntervalSampler(statistics, 1, null, clock::get);
+    sampler.startMeasurements();
+    for (int i = 0; i < IntervalSampler.MAX_RETAINED_INTERVALS + 10; i++) {
+      clock.addAndGet(MILLISECONDS.toNanos(1));
+      sampler.sample();
+    }
+    List<IntervalSample> samples = sampler.stop();
+    assertEquals(IntervalSampler.MAX_RETAINED_INTERVALS, samples.size());
+    assertEquals(10, samples.get(0).getIndex());
+    assertEquals(10, samples.get(0).getStartOffsetMs());
+    assertEquals(IntervalSampler.MAX_RETAINED_INTERVALS + 9, samples.get(samples.size() - 1).getIndex());
+  }
+
+  @Test
+  public void whenWarmUpPeriodIsSet_thenMeasurementsDuringWarmUpShouldBeDiscarded() throws InterruptedException {
+    IntervalSampler sampler = new IntervalSampler(statistics, 1_000);
+    sampler.start(50);
+    statistics.incrementEvaluationCount();
+    Thread.sleep(100);
+    statistics.incrementEvaluationCount();
+    List<IntervalSample> samples = sampler.stop();
+    assertEquals(1, samples.size());
+    assertEquals(1, samples.get(0).getEvaluationCount());
+  }
+
+  @Test
+  public void whenStoppedDuringWarmUp_thenNoIntervalsShouldBeSampled() {
+    IntervalSampler sampler = new IntervalSampler(statistics, 1_000);
+    sampler.start(10_000);
+    assertTrue(sampler.stop().isEmpty());
+  }
+
+}
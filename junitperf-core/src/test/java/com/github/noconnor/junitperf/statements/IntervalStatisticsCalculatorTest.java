@@ -0,0 +1,134 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.statements.IntervalStatisticsCalculator.IntervalMeasurements;
+import com.github.noconnor.junitperf.statements.IntervalStatisticsCalculator.Reader;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.NoOpStatisticsCollector;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IntervalStatisticsCalculatorTest extends BaseTest {
+
+  @Mock
+  private StatisticsCalculator statisticsMock;
+
+  private IntervalStatisticsCalculator intervalStatistics;
+
+  @Before
+  public void setup() {
+    intervalStatistics = new IntervalStatisticsCalculator(statisticsMock);
+  }
+
+  @Test
+  public void whenRecordingMeasurements_thenMeasurementsShouldAlsoBeRecordedInTheOverallStatistics() {
+    intervalStatistics.addLatencyMeasurement(1_000);
+    intervalStatistics.incrementEvaluationCount();
+    intervalStatistics.incrementErrorCount();
+    verify(statisticsMock).addLatencyMeasurement(1_000);
+    verify(statisticsMock).incrementEvaluationCount();
+    verify(statisticsMock).incrementErrorCount();
+  }
+
+  @Test
+  public void whenReadingStatistics_thenOverallStatisticsShouldBeReturned() {
+    when(statisticsMock.getEvaluationCount()).thenReturn(22L);
+    when(statisticsMock.getMaxLatency(MILLISECONDS)).thenReturn(3F);
+    assertEquals(22L, intervalStatistics.getEvaluationCount());
+    assertEquals(3F, intervalStatistics.getMaxLatency(MILLISECONDS), 0);
+  }
+
+  @Test
+  public void whenReadingAnInterval_thenMeasurementsSinceThePreviousReadShouldBeReturned() {
+    Reader reader = intervalStatistics.newReader();
+    intervalStatistics.addLatencyMeasurement(MILLISECONDS.toNanos(2));
+    intervalStatistics.addLatencyMeasurement(MILLISECONDS.toNanos(4));
+    intervalStatistics.incrementEvaluationCount();
+    intervalStatistics.incrementEvaluationCount();
+    intervalStatistics.incrementErrorCount();
+    IntervalMeasurements first = reader.read();
+    assertEquals(2, first.getEvaluationCount());
+    assertEquals(1, first.getErrorCount());
+    assertEquals(2, first.getLatencies().getTotalCount());
+    assertEquals(MILLISECONDS.toNanos(4), first.getLatencies().getMaxValue(), MILLISECONDS.toNanos(4) / 1_000D);
+    assertEquals(MILLISECONDS.toNanos(2), first.getLatencies().getMinValue(), MILLISECONDS.toNanos(2) / 1_000D);
+    intervalStatistics.incrementEvaluationCount(3);
+    intervalStatistics.incrementErrorCount(2);
+    IntervalMeasurements second = reader.read();
+    assertEquals(3, second.getEvaluationCount());
+    assertEquals(2, second.getErrorCount());
+    assertEquals(0, second.getLatencies().getTotalCount());
+  }
+
+  @Test
+  public void whenSeveralReadersReadIntervals_thenEachReaderShouldReceiveAllMeasurementsSinceItsPreviousRead() {
+    Reader first = intervalStatistics.newReader();
+    Reader second = intervalStatistics.newReader();
+    intervalStatistics.addLatencyMeasurement(1_000);
+    intervalStatistics.incrementEvaluationCount();
+    assertEquals(1, first.read().getEvaluationCount());
+    intervalStatistics.addLatencyMeasurement(2_000);
+    intervalStatistics.incrementEvaluationCount();
+    IntervalMeasurements measurements = second.read();
+    assertEquals(2, measurements.getEvaluationCount());
+    assertEquals(2, measurements.getLatencies().getTotalCount());
+    assertEquals(1, first.read().getEvaluationCount());
+    assertEquals(0, second.read().getEvaluationCount());
+  }
+
+  @Test
+  public void whenReset_thenOverallStatisticsAndPendingMeasurementsShouldBeReset() {
+    Reader reader = intervalStatistics.newReader();
+    intervalStatistics.incrementEvaluationCount();
+    intervalStatistics.reset();
+    verify(statisticsMock, times(1)).reset();
+    assertEquals(0, reader.read().getEvaluationCount());
+  }
+
+  @Test
+  public void whenSamplingConcurrentlyWithWriters_thenNoMeasurementsShouldBeLost() throws InterruptedException {
+    intervalStatistics = new IntervalStatisticsCalculator(NoOpStatisticsCollector.INSTANCE);
+    int writers = 4;
+    int evaluationsPerWriter = 20_000;
+    ExecutorService executor = Executors.newFixedThreadPool(writers);
+    CountDownLatch latch = new CountDownLatch(writers);
+    AtomicBoolean running = new AtomicBoolean(true);
+    for (int i = 0; i < writers; i++) {
+      executor.submit(() -> {
+        for (int j = 0; j < evaluationsPerWriter; j++) {
+          intervalStatistics.addLatencyMeasurement(j);
+          intervalStatistics.incrementEvaluationCount();
+        }
+        latch.countDown();
+      });
+    }
+    Reader reader = intervalStatistics.newReader();
+    long evaluations = 0;
+    long latencies = 0;
+    while (running.get()) {
+      running.set(!latch.await(5, MILLISECONDS));
+      IntervalMeasurements measurements = reader.read();
+      evaluations += measurements.getEvaluationCount();
+      latencies += measurements.getLatencies().getTotalCount();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, SECONDS));
+    assertEquals(writers * evaluationsPerWriter, evaluations);
+    assertEquals(writers * evaluationsPerWriter, latencies);
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.ProfileSummary;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class JfrProfilerTest extends BaseTest {
+
+  // Keeps the busy loop from being optimised away
+  private double sink;
+
+  @Before
+  public void setup() {
+    assumeTrue(JfrProfiler.isSupported());
+  }
+
+  @Test
+  public void whenProfilerIsStoppedDuringWarmUp_thenNoProfileShouldBeCaptured() {
+    JfrProfiler profiler = new JfrProfiler("unittest");
+    profiler.start(60_000);
+    assertNull(profiler.stop());
+  }
+
+  @Test
+  public void whenRecordingStartsAfterTheProfilerWasStopped_thenNoRecordingShouldBeStarted() {
+    JfrProfiler profiler = new JfrProfiler("unittest");
+    profiler.start(60_000);
+    assertNull(profiler.stop());
+    // i.e. a start task that was already waiting for the lock when the profiler was stopped
+    profiler.startRecording();
+    assertFalse(profiler.isRecording());
+  }
+
+  @Test
+  public void whenProfilerIsStoppedAfterWarmUp_thenRecordingShouldBeSummarised() throws InterruptedException {
+    JfrProfiler profiler = new JfrProfiler("unittest");
+    profiler.start(0);
+    long deadlineNs = nanoTime() + SECONDS.toNanos(10);
+    while (!profiler.isRecording() && nanoTime() < deadlineNs) {
+      Thread.sleep(10);
+    }
+    long busyUntilNs = nanoTime() + MILLISECONDS.toNanos(500);
+    while (nanoTime() < busyUntilNs) {
+      sink += Math.sqrt(sink + nanoTime());
+    }
+    ProfileSummary summary = profiler.stop();
+    assertNotNull(summary);
+    assertTrue(Files.exists(Paths.get(summary.getRecordingPath())));
+    assertFalse(summary.getHotMethods().isEmpty());
+    assertThat(summary.getHotMethods().size(), is(lessThanOrEqualTo(JfrProfiler.TOP_FRAMES)));
+  }
+
+}
@@ -0,0 +1,118 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.LoadStage;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import com.google.common.util.concurrent.RateLimiter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.lang.System.currentTimeMillis;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LoadProfileControllerTest extends BaseTest {
+
+  private RateLimiter rateLimiter;
+  private StatisticsCalculator statistics;
+
+  @Before
+  public void setup() {
+    rateLimiter = RateLimiter.create(1);
+    statistics = new DescriptiveStatisticsCalculator();
+  }
+
+  @Test
+  public void whenCreated_thenFirstStageLoadShouldBeApplied() {
+    LoadProfileController controller = createController(stage(50, 2, 100), stage(50, 4, 200));
+    assertFalse(controller.isSuspended(0));
+    assertFalse(controller.isSuspended(1));
+    assertTrue(controller.isSuspended(2));
+    assertEquals(100, rateLimiter.getRate(), 0);
+  }
+
+  @Test
+  public void whenCreated_andFirstStageIsARamp_thenRampShouldStartFromMinimalLoad() {
+    LoadStage ramp = LoadStage.builder().durationMs(50).threads(10).maxExecutionsPerSecond(1_000).ramp(true).build();
+    LoadProfileController controller = createController(ramp);
+    assertFalse(controller.isSuspended(0));
+    assertTrue(controller.isSuspended(1));
+    assertEquals(1, rateLimiter.getRate(), 0);
+  }
+
+  @Test
+  public void whenRunning_thenEachStageLoadShouldBeApplied() throws InterruptedException {
+    LoadProfileController controller = createController(stage(20, 2, 100), stage(20, 4, -1));
+    controller.run(new CountDownLatch(1), 0);
+    assertEquals(Double.POSITIVE_INFINITY, rateLimiter.getRate(), 0);
+    assertFalse(controller.isSuspended(3));
+    assertTrue(controller.isSuspended(4));
+  }
+
+  @Test
+  public void whenRunning_thenMeasurementsShouldBeCapturedPerStage() throws InterruptedException {
+    LoadProfileController controller = createController(stage(20, 1, -1), stage(20, 1, -1));
+    StatisticsCalculator stagedStatistics = controller.getStatistics();
+    stagedStatistics.incrementEvaluationCount();
+    controller.run(new CountDownLatch(1), 0);
+    stagedStatistics.incrementEvaluationCount();
+    List<StatisticsCalculator> stageStatistics = controller.getStageStatistics();
+    assertEquals(2, statistics.getEvaluationCount());
+    assertEquals(2, stageStatistics.size());
+    // Measurements taken during warm up are not attributed to any stage
+    assertEquals(0, stageStatistics.get(0).getEvaluationCount());
+    // Last stage remains active until evaluation threads have stopped
+    assertEquals(1, stageStatistics.get(1).getEvaluationCount());
+  }
+
+  @Test
+  public void whenRunning_andStageIsARamp_thenLoadShouldBeIncreasedGradually() throws InterruptedException {
+    LoadStage ramp = LoadStage.builder().durationMs(500).threads(10).maxExecutionsPerSecond(1_000).ramp(true).build();
+    LoadProfileController controller = createController(stage(10, 1, 100), ramp);
+    Set<Double> observedRates = ConcurrentHashMap.newKeySet();
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread sampler = new Thread(() -> {
+      while (running.get()) {
+        observedRates.add(rateLimiter.getRate());
+      }
+    });
+    sampler.start();
+    controller.run(new CountDownLatch(1), 0);
+    running.set(false);
+    assertThat(observedRates.size(), is(greaterThan(3)));
+    assertEquals(1_000, rateLimiter.getRate(), 0);
+    assertFalse(controller.isSuspended(9));
+    assertTrue(controller.isSuspended(10));
+  }
+
+  @Test
+  public void whenRunning_andAllTasksComplete_thenRunShouldReturnImmediately() throws InterruptedException {
+    LoadProfileController controller = createController(stage(10_000, 1, -1));
+    long startTimeMs = currentTimeMillis();
+    controller.run(new CountDownLatch(0), 0);
+    assertThat(currentTimeMillis() - startTimeMs, is(lessThan(1_000L)));
+  }
+
+  private LoadProfileController createController(LoadStage... stages) {
+    List<LoadStage> loadStages = newArrayList(stages);
+    return new LoadProfileController(loadStages, rateLimiter, statistics, DescriptiveStatisticsCalculator::new);
+  }
+
+  private static LoadStage stage(int durationMs, int threads, int maxExecutionsPerSecond) {
+    return LoadStage.builder().durationMs(durationMs).threads(threads).maxExecutionsPerSecond(maxExecutionsPerSecond).build();
+  }
+
+}
@@ -2,7 +2,14 @@ package com.github.noconnor.junitperf.statements;
 
 import com.github.noconnor.junitperf.BaseTest;
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.ForkResult;
+import com.github.noconnor.junitperf.data.LoadStage;
+import com.github.noconnor.junitperf.data.StageResult;
+import com.github.noconnor.junitperf.statistics.AllocationStatistics;
+import com.github.noconnor.junitperf.statistics.CpuTimeStatistics;
+import com.github.noconnor.junitperf.statistics.GcStatistics;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.HdrHistogramStatisticsCalculator;
 import com.google.common.collect.ImmutableMap;
 import org.junit.AssumptionViolatedException;
 import org.junit.Before;
@@ -12,24 +19,36 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
+import java.util.List;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class PerformanceEvaluationStatementTest extends BaseTest {
@@ -57,6 +76,9 @@ public class PerformanceEvaluationStatementTest extends BaseTest {
   @Mock
   private StatisticsCalculator statisticsCalculatorMock;
 
+  @Mock
+  private Supplier<StatisticsCalculator> statisticsSupplierMock;
+
   @Before
   public void setup() {
     ExceptionsRegistry.clearRegistry();
@@ -169,6 +191,64 @@ public class PerformanceEvaluationStatementTest extends BaseTest {
     }
   }
 
+  @Test
+  public void whenEvaluationCompletes_andMeanAllocationValidationFails_thenAssertionShouldBeGenerated() throws Throwable {
+    when(contextMock.isMeanAllocationAchieved()).thenReturn(false);
+    try {
+      statement.runParallelEvaluation();
+      fail("Assertion expected during validation");
+    } catch (Error e) {
+      assertThat(e.getMessage(), startsWith("Test mean allocation threshold not achieved"));
+    }
+  }
+
+  @Test
+  public void whenEvaluationCompletes_andZeroAllocationValidationFails_thenAssertionShouldBeGenerated() throws Throwable {
+    when(contextMock.isZeroAllocationAchieved()).thenReturn(false);
+    try {
+      statement.runParallelEvaluation();
+      fail("Assertion expected during validation");
+    } catch (Error e) {
+      assertThat(e.getMessage(), startsWith("Test zero allocation requirement not achieved"));
+    }
+  }
+
+  @Test
+  public void whenEvaluationCompletes_andMeanCpuTimeValidationFails_thenAssertionShouldBeGenerated() throws Throwable {
+    when(contextMock.isMeanCpuTimeAchieved()).thenReturn(false);
+    try {
+      statement.runParallelEvaluation();
+      fail("Assertion expected during validation");
+    } catch (Error e) {
+      assertThat(e.getMessage(), startsWith("Test mean CPU time threshold not achieved"));
+    }
+  }
+
+  @Test
+  public void whenEvaluationCompletes_andGcOverheadValidationFails_thenAssertionShouldBeGenerated() throws Throwable {
+    when(contextMock.isGcOverheadAchieved()).thenReturn(false);
+    try {
+      statement.runParallelEvaluation();
+      fail("Assertion expected during validation");
+    } catch (Error e) {
+      assertThat(e.getMessage(), startsWith("Test GC overhead threshold not achieved"));
+    }
+  }
+
+  @Test
+  public void whenEvaluationCompletes_andMaxLatencyValidationFails_andGcIsMonitored_thenAssertionShouldIncludeGcPauses() throws Throwable {
+    when(contextMock.isMaxLatencyAchieved()).thenReturn(false);
+    when(contextMock.hasGcMeasurements()).thenReturn(true);
+    when(contextMock.getGcPauseCount()).thenReturn(3L);
+    when(contextMock.getGcMaxPauseMs()).thenReturn(120L);
+    try {
+      statement.runParallelEvaluation();
+      fail("Assertion expected during validation");
+    } catch (Error e) {
+      assertEquals("Test max latency threshold not achieved (3 GC pauses, max GC pause 120ms)", e.getMessage());
+    }
+  }
+
   @Test
   public void whenEvaluationCompletes_andErrorValidationFails_thenAssertionShouldBeGenerated() throws Throwable {
     when(contextMock.isErrorThresholdAchieved()).thenReturn(false);
@@ -182,7 +262,7 @@ public class PerformanceEvaluationStatementTest extends BaseTest {
 
   @Test
   public void whenEvaluationCompletes_andPercentileLatencyValidationFails_thenAssertionShouldBeGenerated() throws Throwable {
-    when(contextMock.getPercentileResults()).thenReturn(ImmutableMap.of(90, true, 95, false));
+    when(contextMock.getPercentileResults()).thenReturn(ImmutableMap.of(90D, true, 95D, false));
     try {
       statement.runParallelEvaluation();
       fail("Assertion expected during validation");
@@ -242,6 +322,376 @@ public class PerformanceEvaluationStatementTest extends BaseTest {
     }
   }
 
+  @Test
+  public void whenCoordinatedOmissionCorrectionIsEnabled_thenCorrectedStatisticsShouldBeAddedToTheContext() throws Throwable {
+    StatisticsCalculator correctedStatisticsMock = mock(StatisticsCalculator.class);
+    when(contextMock.isCoordinatedOmissionCorrectionEnabled()).thenReturn(true);
+    when(contextMock.getConfiguredRateLimit()).thenReturn(100);
+    when(statisticsSupplierMock.get()).thenReturn(correctedStatisticsMock);
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .statisticsSupplier(statisticsSupplierMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    verify(correctedStatisticsMock).reset();
+    verify(contextMock).setCorrectedStatistics(correctedStatisticsMock);
+  }
+
+  @Test
+  public void whenCoordinatedOmissionCorrectionIsEnabled_andTestIsAsync_thenNoCorrectedStatisticsShouldBeCaptured() throws Throwable {
+    when(contextMock.isCoordinatedOmissionCorrectionEnabled()).thenReturn(true);
+    when(contextMock.isAsyncEvaluation()).thenReturn(true);
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .statisticsSupplier(statisticsSupplierMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    verify(statisticsSupplierMock, never()).get();
+    verify(contextMock).setCorrectedStatistics(isNull());
+  }
+
+  @Test
+  public void whenCoordinatedOmissionCorrectionIsDisabled_thenNoCorrectedStatisticsShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock).setCorrectedStatistics(isNull());
+  }
+
+  @Test
+  public void whenArrivalRateIsSet_thenASingleDispatcherThreadShouldBeStarted() throws Throwable {
+    when(contextMock.getConfiguredThreads()).thenReturn(10);
+    when(contextMock.isOpenModel()).thenReturn(true);
+    when(contextMock.getConfiguredArrivalRate()).thenReturn(100);
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    verify(threadFactoryMock, times(1)).newThread(any(Runnable.class));
+    verify(threadMock, times(1)).start();
+  }
+
+  @Test
+  public void whenArrivalRateIsSet_thenQueueingStatisticsShouldBeAddedToTheContext() throws Throwable {
+    StatisticsCalculator queueingStatisticsMock = mock(StatisticsCalculator.class);
+    when(contextMock.isOpenModel()).thenReturn(true);
+    when(contextMock.getConfiguredArrivalRate()).thenReturn(100);
+    when(statisticsSupplierMock.get()).thenReturn(queueingStatisticsMock);
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .statisticsSupplier(statisticsSupplierMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    verify(queueingStatisticsMock).reset();
+    verify(contextMock).setQueueingStatistics(queueingStatisticsMock);
+    verify(contextMock).setDroppedDispatchCount(0L);
+    verify(contextMock).setLateDispatchCount(0L);
+  }
+
+  @Test
+  public void whenAllocationMeasurementIsEnabled_thenAllocationStatisticsShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.isAllocationMeasurementEnabled()).thenReturn(true);
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    verify(contextMock).setAllocationStatistics(any(AllocationStatistics.class));
+  }
+
+  @Test
+  public void whenAllocationMeasurementIsDisabled_thenNoAllocationStatisticsShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock).setAllocationStatistics(isNull());
+  }
+
+  @Test
+  public void whenCpuTimeMeasurementIsEnabled_thenCpuTimeStatisticsShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.isCpuTimeMeasurementEnabled()).thenReturn(true);
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    verify(contextMock).setCpuTimeStatistics(any(CpuTimeStatistics.class));
+  }
+
+  @Test
+  public void whenCpuTimeMeasurementIsDisabled_thenNoCpuTimeStatisticsShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock).setCpuTimeStatistics(isNull());
+  }
+
+  @Test
+  public void whenGcMonitoringIsEnabled_thenGcStatisticsShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.isGcMonitoringEnabled()).thenReturn(true);
+    statement.runParallelEvaluation();
+    verify(contextMock).setGcStatistics(any(GcStatistics.class));
+  }
+
+  @Test
+  public void whenGcMonitoringIsDisabled_thenNoGcStatisticsShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock).setGcStatistics(isNull());
+  }
+
+  @Test
+  public void whenOperationsPerInvocationIsConfigured_thenBatchSizeShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.getConfiguredOperationsPerInvocation()).thenReturn(25);
+    statement.runParallelEvaluation();
+    verify(contextMock).setOperationsPerInvocation(25);
+  }
+
+  @Test
+  public void whenBatchSizeCalibrationIsEnabled_thenCalibratedBatchSizeShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.isBatchSizeCalibrationEnabled()).thenReturn(true);
+    when(contextMock.getConfiguredMaxTimerOverhead()).thenReturn(1F);
+    SimpleTestStatement fastStatement = () -> {};
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(fastStatement)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    verify(contextMock).setOperationsPerInvocation(intThat(operations -> operations > 1));
+  }
+
+  @Test
+  public void whenForksAreEnabled_andRunnerDoesNotSupportForks_thenExceptionShouldBeThrown() throws Throwable {
+    when(contextMock.isForkedExecutionEnabled()).thenReturn(true);
+    exception.expect(IllegalStateException.class);
+    exception.expectMessage("Forks are not supported by this test runner");
+    statement.runParallelEvaluation();
+  }
+
+  @Test
+  public void whenWorkersAreEnabled_andRunnerDoesNotSupportWorkers_thenExceptionShouldBeThrown() throws Throwable {
+    when(contextMock.isDistributedExecutionEnabled()).thenReturn(true);
+    exception.expect(IllegalStateException.class);
+    exception.expectMessage("Workers are not supported by this test runner");
+    statement.runParallelEvaluation();
+  }
+
+  @Test
+  public void whenForksAreEnabled_thenForkResultsShouldBeMergedIntoTheContext() throws Throwable {
+    when(contextMock.isForkedExecutionEnabled()).thenReturn(true);
+    when(contextMock.getConfiguredForks()).thenReturn(2);
+    when(contextMock.getConfiguredJvmArgs()).thenReturn(emptyList());
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .forkedTest(new ForkedTest(ForkedEvaluationTest.ReportingFork.class.getName(), singletonList("100")))
+      .build();
+    statement.runParallelEvaluation();
+    ArgumentCaptor<List<ForkResult>> captor = ArgumentCaptor.forClass(List.class);
+    verify(contextMock).setForkResults(captor.capture());
+    assertThat(captor.getValue(), hasSize(2));
+    ArgumentCaptor<StatisticsCalculator> statisticsCaptor = ArgumentCaptor.forClass(StatisticsCalculator.class);
+    verify(contextMock).setStatistics(statisticsCaptor.capture());
+    HdrHistogramStatisticsCalculator merged = (HdrHistogramStatisticsCalculator) statisticsCaptor.getValue();
+    assertEquals(200, merged.getHistogram().getTotalCount());
+    assertEquals(200, merged.getEvaluationCount());
+    assertEquals(4, merged.getErrorCount());
+    verifyZeroInteractions(statisticsCalculatorMock);
+    verify(threadFactoryMock, never()).newThread(any(Runnable.class));
+    verify(contextMock).runValidation();
+    verify(listenerMock).accept(null);
+  }
+
+  @Test
+  public void whenAForkFails_thenContextShouldBeMarkedAsAborted() throws Throwable {
+    when(contextMock.isForkedExecutionEnabled()).thenReturn(true);
+    when(contextMock.getConfiguredForks()).thenReturn(1);
+    when(contextMock.getConfiguredJvmArgs()).thenReturn(emptyList());
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .forkedTest(new ForkedTest(ForkedEvaluationTest.SilentFork.class.getName(), emptyList()))
+      .build();
+    try {
+      statement.runParallelEvaluation();
+      fail("Exception expected");
+    } catch (IllegalStateException e) {
+      verify(contextMock).setAbortedException(e);
+      verify(listenerMock).accept(null);
+      verify(contextMock, never()).runValidation();
+    }
+  }
+
+  @Test
+  public void whenProfilingIsDisabled_thenNoProfileShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock, never()).setProfileSummary(any());
+  }
+
+  @Test
+  public void whenHarnessOverheadMeasurementIsDisabled_thenNoHarnessOverheadShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock, never()).setHarnessOverhead(any());
+  }
+
+  @Test
+  public void whenArrivalRateIsNotSet_thenNoQueueingStatisticsShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock).setQueueingStatistics(isNull());
+    verify(contextMock, never()).setDroppedDispatchCount(anyLong());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void whenLoadProfileIsSet_thenStageStatisticsShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.hasLoadProfile()).thenReturn(true);
+    when(contextMock.getLoadStages()).thenReturn(singletonList(LoadStage.builder().durationMs(50).threads(1).build()));
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    ArgumentCaptor<List<StatisticsCalculator>> captor = ArgumentCaptor.forClass(List.class);
+    verify(contextMock).setStageStatistics(captor.capture());
+    assertThat(captor.getValue(), hasSize(1));
+  }
+
+  @Test
+  public void whenEvaluationCompletes_andStageValidationFails_thenAssertionShouldBeGenerated() throws Throwable {
+    StageResult stageResultMock = mock(StageResult.class);
+    when(stageResultMock.isSuccessful()).thenReturn(false);
+    when(stageResultMock.getName()).thenReturn("Stage 1");
+    when(contextMock.getStageResults()).thenReturn(singletonList(stageResultMock));
+    try {
+      statement.runParallelEvaluation();
+      fail("Assertion expected during validation");
+    } catch (Error e) {
+      assertThat(e.getMessage(), startsWith("Stage 1 has not achieved required thresholds"));
+    }
+  }
+
+  @Test
+  public void whenThroughputSearchIsEnabled_thenProbeResultsShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.isThroughputSearchEnabled()).thenReturn(true);
+    when(contextMock.getConfiguredSearchProbeDurationMs()).thenReturn(50);
+    StageResult probeResultMock = mock(StageResult.class);
+    when(probeResultMock.isSuccessful()).thenReturn(true);
+    when(contextMock.evaluateSearchProbe(anyInt(), any(LoadStage.class), any(StatisticsCalculator.class))).thenReturn(probeResultMock);
+    when(contextMock.getThroughputKnee()).thenReturn(probeResultMock);
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    statement.runParallelEvaluation();
+    verify(contextMock).setSearchProbeResults(singletonList(probeResultMock));
+    verify(contextMock).setThroughputKnee(probeResultMock);
+  }
+
+  @Test
+  public void whenThroughputSearchIsEnabled_andNoKneeIsFound_thenAssertionShouldBeGenerated() throws Throwable {
+    when(contextMock.isThroughputSearchEnabled()).thenReturn(true);
+    when(contextMock.getConfiguredSearchProbeDurationMs()).thenReturn(50);
+    StageResult probeResultMock = mock(StageResult.class);
+    when(probeResultMock.getStage()).thenReturn(LoadStage.builder().durationMs(50).build());
+    when(contextMock.evaluateSearchProbe(anyInt(), any(LoadStage.class), any(StatisticsCalculator.class))).thenReturn(probeResultMock);
+    statement = PerformanceEvaluationStatement.builder()
+      .baseStatement(baseStatementMock)
+      .statistics(statisticsCalculatorMock)
+      .threadFactory(threadFactoryMock)
+      .context(contextMock)
+      .listener(listenerMock)
+      .build();
+    try {
+      statement.runParallelEvaluation();
+      fail("Assertion expected during validation");
+    } catch (Error e) {
+      assertThat(e.getMessage(), startsWith("No probed rate achieved the required thresholds"));
+    }
+    verify(listenerMock).accept(null);
+  }
+
+  @Test
+  public void whenIntervalRecordingIsEnabled_thenIntervalSamplesShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.isIntervalRecordingEnabled()).thenReturn(true);
+    when(contextMock.getConfiguredIntervalMs()).thenReturn(10);
+    statement.runParallelEvaluation();
+    verify(contextMock).setIntervalSamples(any());
+  }
+
+  @Test
+  public void whenIntervalRecordingIsDisabled_thenNoIntervalSamplesShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock, never()).setIntervalSamples(any());
+  }
+
+  @Test
+  public void whenFailFastIsEnabled_andARequirementFails_thenTheTestShouldBeStoppedEarly() throws Throwable {
+    when(contextMock.getConfiguredDuration()).thenReturn(10_000);
+    when(contextMock.isFailFastEnabled()).thenReturn(true);
+    when(contextMock.evaluateFailFast(any())).thenReturn("Error rate is above the allowed 1.00%");
+    long startTimeMs = currentTimeMillis();
+    statement.runParallelEvaluation();
+    assertThat(currentTimeMillis() - startTimeMs, is(lessThan(5_000L)));
+    verify(contextMock).setFailFastTermination(eq("Error rate is above the allowed 1.00%"), anyLong());
+  }
+
+  @Test
+  public void whenTestIsStoppedEarly_thenAssertionShouldBeGenerated() throws Throwable {
+    when(contextMock.isTerminatedEarly()).thenReturn(true);
+    when(contextMock.getFailFastReason()).thenReturn("Max latency 12.000ms exceeds the required 10.000ms");
+    try {
+      statement.runParallelEvaluation();
+      fail("Assertion expected during validation");
+    } catch (Error e) {
+      assertThat(e.getMessage(), startsWith("Test stopped early (fail fast): Max latency 12.000ms"));
+    }
+  }
+
+  @Test
+  public void whenConvergenceIsEnabled_thenConvergenceResultShouldBeAddedToTheContext() throws Throwable {
+    when(contextMock.isConvergenceEnabled()).thenReturn(true);
+    when(contextMock.getConfiguredConvergenceTolerance()).thenReturn(2F);
+    when(contextMock.getConfiguredConvergenceConfidence()).thenReturn(95F);
+    statement.runParallelEvaluation();
+    verify(contextMock).setConvergenceResult(any());
+  }
+
+  @Test
+  public void whenConvergenceIsDisabled_thenNoConvergenceResultShouldBeCaptured() throws Throwable {
+    statement.runParallelEvaluation();
+    verify(contextMock, never()).setConvergenceResult(any());
+  }
+
   private void initialiseThreadFactoryMock() {
     when(threadFactoryMock.newThread(any(Runnable.class))).thenReturn(threadMock);
   }
@@ -254,6 +704,10 @@ public class PerformanceEvaluationStatementTest extends BaseTest {
     when(contextMock.isMaxLatencyAchieved()).thenReturn(true);
     when(contextMock.isMinLatencyAchieved()).thenReturn(true);
     when(contextMock.isMeanLatencyAchieved()).thenReturn(true);
+    when(contextMock.isMeanAllocationAchieved()).thenReturn(true);
+    when(contextMock.isZeroAllocationAchieved()).thenReturn(true);
+    when(contextMock.isMeanCpuTimeAchieved()).thenReturn(true);
+    when(contextMock.isGcOverheadAchieved()).thenReturn(true);
     when(contextMock.getPercentileResults()).thenReturn(emptyMap());
   }
 
@@ -0,0 +1,36 @@
+package com.github.noconnor.junitperf.statements;
+
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RateScheduleTest {
+
+  @Test
+  public void whenRetrievingIntendedStartTimes_thenStartTimesShouldBeSpacedByTheRateInterval() {
+    RateSchedule schedule = new RateSchedule(1_000, 1_000);
+    assertEquals(1_000, schedule.nextIntendedStartTimeNs());
+    assertEquals(1_000 + MILLISECONDS.toNanos(1), schedule.nextIntendedStartTimeNs());
+    assertEquals(1_000 + MILLISECONDS.toNanos(2), schedule.nextIntendedStartTimeNs());
+  }
+
+  @Test
+  public void whenRateIsNotAWholeNumberOfNanoseconds_thenIntendedStartTimesShouldNotDrift() {
+    RateSchedule schedule = new RateSchedule(0, 3);
+    for (int i = 0; i < 3; i++) {
+      schedule.nextIntendedStartTimeNs();
+    }
+    assertEquals(1_000_000_000L, schedule.nextIntendedStartTimeNs());
+  }
+
+  @Test
+  public void whenCheckingIfScheduleHasStarted_thenScheduleStartTimeShouldBeConsidered() {
+    RateSchedule schedule = new RateSchedule(1_000, 10);
+    assertFalse(schedule.hasStarted(999));
+    assertTrue(schedule.hasStarted(1_000));
+    assertTrue(schedule.hasStarted(1_001));
+  }
+}
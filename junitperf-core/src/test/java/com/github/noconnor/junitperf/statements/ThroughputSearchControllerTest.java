@@ -0,0 +1,125 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.LoadStage;
+import com.github.noconnor.junitperf.data.StageResult;
+import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import com.google.common.util.concurrent.RateLimiter;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ThroughputSearchControllerTest extends BaseTest {
+
+  private static final int KNEE_RATE = 1_000;
+  private static final int CAPACITY = 8_000;
+
+  @Mock
+  private EvaluationContext contextMock;
+
+  private RateLimiter rateLimiter;
+  private StatisticsCalculator statistics;
+
+  @Before
+  public void setup() {
+    rateLimiter = RateLimiter.create(1);
+    statistics = new DescriptiveStatisticsCalculator();
+    when(contextMock.getConfiguredDuration()).thenReturn(1_000);
+    when(contextMock.getConfiguredSearchProbeDurationMs()).thenReturn(5);
+    when(contextMock.getConfiguredRateLimit()).thenReturn(-1);
+    when(contextMock.getConfiguredThreads()).thenReturn(1);
+    when(contextMock.evaluateSearchProbe(anyInt(), any(LoadStage.class), any(StatisticsCalculator.class))).thenAnswer(invocation -> {
+      LoadStage probe = invocation.getArgument(1);
+      return mockProbeResult(probe);
+    });
+  }
+
+  @Test
+  public void whenCreated_andMaxExecutionsPerSecondIsNotSet_thenFirstProbeShouldBeUnlimited() {
+    createController();
+    assertEquals(Double.POSITIVE_INFINITY, rateLimiter.getRate(), 0);
+  }
+
+  @Test
+  public void whenCreated_andMaxExecutionsPerSecondIsSet_thenFirstProbeShouldRunAtMaxExecutionsPerSecond() {
+    when(contextMock.getConfiguredRateLimit()).thenReturn(500);
+    createController();
+    assertEquals(500, rateLimiter.getRate(), 0);
+  }
+
+  @Test
+  public void whenRunning_thenSearchShouldConvergeOnTheKnee() throws InterruptedException {
+    ThroughputSearchController controller = createController();
+    controller.run(new CountDownLatch(1), 0);
+    assertEquals(KNEE_RATE, controller.getKnee().getThroughputQps());
+    List<Integer> probedRates = probedRates(controller);
+    // Unlimited probe, exponential back off from capacity & then bisection between 1000 (pass) & 2000 (fail)
+    assertEquals(-1, (int) probedRates.get(0));
+    assertEquals(4_000, (int) probedRates.get(1));
+    assertEquals(2_000, (int) probedRates.get(2));
+    assertEquals(1_000, (int) probedRates.get(3));
+    assertEquals(1_500, (int) probedRates.get(4));
+    int lowestFailingRate = probedRates.stream().filter(rate -> rate > KNEE_RATE).min(Integer::compare).orElse(0);
+    assertTrue(lowestFailingRate - KNEE_RATE <= lowestFailingRate * ThroughputSearchController.SEARCH_RESOLUTION);
+  }
+
+  @Test
+  public void whenRunning_andFirstProbePasses_thenSearchShouldStop() throws InterruptedException {
+    when(contextMock.getConfiguredRateLimit()).thenReturn(500);
+    ThroughputSearchController controller = createController();
+    controller.run(new CountDownLatch(1), 0);
+    assertEquals(1, controller.getProbeResults().size());
+    assertEquals(500, controller.getKnee().getThroughputQps());
+  }
+
+  @Test
+  public void whenRunning_andTestDurationIsUsedUp_thenSearchShouldStop() throws InterruptedException {
+    when(contextMock.getConfiguredDuration()).thenReturn(15);
+    ThroughputSearchController controller = createController();
+    controller.run(new CountDownLatch(1), 0);
+    assertEquals(3, controller.getProbeResults().size());
+    assertNull(controller.getKnee());
+    assertSame(controller.getStatistics(), controller.getResultStatistics());
+  }
+
+  @Test
+  public void whenRunning_andAllTasksComplete_thenNoProbesShouldBeEvaluated() throws InterruptedException {
+    ThroughputSearchController controller = createController();
+    controller.run(new CountDownLatch(0), 0);
+    assertEquals(0, controller.getProbeResults().size());
+    assertNull(controller.getKnee());
+  }
+
+  private ThroughputSearchController createController() {
+    return new ThroughputSearchController(contextMock, rateLimiter, statistics, DescriptiveStatisticsCalculator::new);
+  }
+
+  private static List<Integer> probedRates(ThroughputSearchController controller) {
+    return controller.getProbeResults().stream().map(result -> result.getStage().getMaxExecutionsPerSecond()).collect(toList());
+  }
+
+  private static StageResult mockProbeResult(LoadStage probe) {
+    int throughput = probe.isRateLimited() ? probe.getMaxExecutionsPerSecond() : CAPACITY;
+    StageResult result = mock(StageResult.class);
+    when(result.getStage()).thenReturn(probe);
+    when(result.getThroughputQps()).thenReturn((long) throughput);
+    when(result.isSuccessful()).thenReturn(throughput <= KNEE_RATE);
+    return result;
+  }
+
+}
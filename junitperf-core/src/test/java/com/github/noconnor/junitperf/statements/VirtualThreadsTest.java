@@ -0,0 +1,42 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+public class VirtualThreadsTest extends BaseTest {
+
+  @Mock
+  private ThreadFactory fallbackMock;
+
+  @Test
+  public void whenVirtualThreadsAreNotSupported_thenFallbackFactoryShouldBeReturned() {
+    assumeFalse(VirtualThreads.isSupported());
+    assertEquals(fallbackMock, VirtualThreads.factoryOrElse(fallbackMock));
+  }
+
+  @Test
+  public void whenVirtualThreadsAreSupported_thenVirtualThreadFactoryShouldBeReturned() {
+    assumeTrue(VirtualThreads.isSupported());
+    ThreadFactory factory = VirtualThreads.factoryOrElse(fallbackMock);
+    assertNotEquals(fallbackMock, factory);
+    Thread thread = factory.newThread(() -> {});
+    assertTrue(thread.getName().startsWith(VirtualThreads.THREAD_NAME_PREFIX));
+  }
+
+  @Test
+  public void whenRunningOnJava21OrLater_thenVirtualThreadsShouldBeSupported() {
+    // java.specification.version is "1.8" on java 8 & "<feature>" on java 9+
+    assumeTrue(Double.parseDouble(System.getProperty("java.specification.version")) >= 21);
+    assertTrue(VirtualThreads.isSupported());
+  }
+
+}
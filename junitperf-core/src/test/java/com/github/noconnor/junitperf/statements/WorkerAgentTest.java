@@ -0,0 +1,88 @@
+package com.github.noconnor.junitperf.statements;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.JUNITPERF_FORKS;
+import static com.github.noconnor.junitperf.statements.ForkedEvaluation.JUNITPERF_JVM_ARGS;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class WorkerAgentTest extends BaseTest {
+
+  private ServerSocket server;
+
+  @Before
+  public void setup() throws Exception {
+    server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    Thread agent = new Thread(new WorkerAgent(server, emptyList())::serve);
+    agent.setDaemon(true);
+    agent.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    server.close();
+  }
+
+  @Test
+  public void whenLaunchRequestContainsNonTestProperties_thenRequestShouldBeRejected() throws Exception {
+    Map<String, String> properties = new TreeMap<>();
+    properties.put("junitperf.threads", "1");
+    properties.put("java.security.manager", "allow");
+    assertEquals("Property java.security.manager is not a test setting", launch(properties));
+  }
+
+  @Test
+  public void whenLaunchRequestIsNotForATestRunner_thenRequestShouldBeRejected() throws Exception {
+    Map<String, String> properties = new TreeMap<>();
+    properties.put("junitperf.threads", "1");
+    ForkedTest test = new ForkedTest(ForkedEvaluationTest.SilentFork.class.getName(), emptyList());
+    assertEquals("Main class " + test.getMainClass() + " is not a JUnitPerf test runner", launch(test, properties));
+  }
+
+  @Test
+  public void whenLaunchRequestContainsForkSettings_thenWorkerShouldNotFork() {
+    Map<String, String> properties = new TreeMap<>();
+    properties.put("junitperf.threads", "1");
+    properties.put(JUNITPERF_FORKS, "4");
+    properties.put(JUNITPERF_JVM_ARGS, "-javaagent:/tmp/agent.jar");
+    Map<String, String> workerProperties = WorkerAgent.workerProperties(properties);
+    assertEquals("1", workerProperties.get("junitperf.threads"));
+    assertEquals("0", workerProperties.get(JUNITPERF_FORKS));
+    assertFalse(workerProperties.containsKey(JUNITPERF_JVM_ARGS));
+  }
+
+  @Test
+  public void whenLaunchRequestIsValid_thenWorkerShouldBeStarted() throws Exception {
+    Map<String, String> properties = new TreeMap<>();
+    properties.put("junitperf.threads", "1");
+    assertEquals("", launch(properties));
+  }
+
+  private String launch(Map<String, String> properties) throws Exception {
+    // Runner is not on the core test classpath, the worker JVM exits straight away
+    return launch(new ForkedTest("com.github.noconnor.junitperf.JUnit4ForkedTestRunner", emptyList()), properties);
+  }
+
+  private String launch(ForkedTest test, Map<String, String> properties) throws Exception {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+         DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+         DataInputStream in = new DataInputStream(socket.getInputStream())) {
+      WorkerAgent.writeLaunchRequest(out, test, properties);
+      return in.readUTF();
+    }
+  }
+
+}
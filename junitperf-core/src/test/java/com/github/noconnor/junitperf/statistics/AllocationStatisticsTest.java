@@ -0,0 +1,61 @@
+package com.github.noconnor.junitperf.statistics;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AllocationStatisticsTest extends BaseTest {
+
+  private AllocationStatistics statistics;
+
+  @Before
+  public void setup() {
+    statistics = new AllocationStatistics();
+  }
+
+  @Test
+  public void whenNoMeasurementsAreRecorded_thenZeroShouldBeReturned() {
+    assertEquals(0, statistics.getMeasurementCount());
+    assertEquals(0, statistics.getMeanBytes(), 0);
+    assertEquals(0, statistics.getMinBytes());
+    assertEquals(0, statistics.getMaxBytes());
+  }
+
+  @Test
+  public void whenMeasurementsAreRecorded_thenAllocationsShouldBeAggregated() {
+    statistics.addAllocationMeasurement(16);
+    statistics.addAllocationMeasurement(0);
+    statistics.addAllocationMeasurement(104);
+    assertEquals(3, statistics.getMeasurementCount());
+    assertEquals(120, statistics.getTotalBytes());
+    assertEquals(40, statistics.getMeanBytes(), 0);
+    assertEquals(0, statistics.getMinBytes());
+    assertEquals(104, statistics.getMaxBytes());
+  }
+
+  @Test
+  public void whenBatchMeasurementsAreRecorded_thenAllocationsShouldBeAmortisedOverTheBatch() {
+    statistics.addAllocationMeasurement(10, 4);
+    statistics.addAllocationMeasurement(0, 4);
+    assertEquals(8, statistics.getMeasurementCount());
+    assertEquals(10, statistics.getTotalBytes());
+    assertEquals(1.25, statistics.getMeanBytes(), 0);
+    assertEquals(0, statistics.getMinBytes());
+    // Rounded up, so any allocation within a batch is reported
+    assertEquals(3, statistics.getMaxBytes());
+  }
+
+  @Test
+  public void whenResetIsCalled_thenAllMeasurementsShouldBeCleared() {
+    statistics.addAllocationMeasurement(64);
+    statistics.reset();
+    assertEquals(0, statistics.getMeasurementCount());
+    assertEquals(0, statistics.getTotalBytes());
+    assertEquals(0, statistics.getMaxBytes());
+    statistics.addAllocationMeasurement(8);
+    assertEquals(8, statistics.getMinBytes());
+  }
+
+}
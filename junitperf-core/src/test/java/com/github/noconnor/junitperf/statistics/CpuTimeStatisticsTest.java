@@ -0,0 +1,79 @@
+package com.github.noconnor.junitperf.statistics;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.Assert.assertEquals;
+
+public class CpuTimeStatisticsTest extends BaseTest {
+
+  private CpuTimeStatistics statistics;
+
+  @Before
+  public void setup() {
+    statistics = new CpuTimeStatistics();
+  }
+
+  @Test
+  public void whenNoMeasurementsAreRecorded_thenZeroShouldBeReturned() {
+    assertEquals(0, statistics.getMeasurementCount());
+    assertEquals(0, statistics.getMeanCpuTime(NANOSECONDS), 0);
+    assertEquals(0, statistics.getMaxCpuTime(NANOSECONDS), 0);
+    assertEquals(0, statistics.getTotalCpuTime(NANOSECONDS), 0);
+    assertEquals(0, statistics.getMeanUserTime(NANOSECONDS), 0);
+    assertEquals(0, statistics.getMeanSystemTime(NANOSECONDS), 0);
+  }
+
+  @Test
+  public void whenMeasurementsAreRecorded_thenCpuTimeShouldBeAggregated() {
+    statistics.addCpuTimeMeasurement(1_000, 1_000);
+    statistics.addCpuTimeMeasurement(0, 0);
+    statistics.addCpuTimeMeasurement(5_000, 5_000);
+    assertEquals(3, statistics.getMeasurementCount());
+    assertEquals(2, statistics.getMeanCpuTime(MICROSECONDS), 0);
+    assertEquals(5, statistics.getMaxCpuTime(MICROSECONDS), 0);
+    assertEquals(0.006, statistics.getTotalCpuTime(MILLISECONDS), 0.000001);
+  }
+
+  @Test
+  public void whenBatchMeasurementsAreRecorded_thenCpuTimeShouldBeAmortisedOverTheBatch() {
+    statistics.addCpuTimeMeasurement(10_000, 10_000, 10);
+    statistics.addCpuTimeMeasurement(2_000, 2_000, 10);
+    assertEquals(20, statistics.getMeasurementCount());
+    assertEquals(0.6, statistics.getMeanCpuTime(MICROSECONDS), 0.000001);
+    assertEquals(1, statistics.getMaxCpuTime(MICROSECONDS), 0);
+  }
+
+  @Test
+  public void whenUserTimeIsRecorded_thenCpuTimeShouldBeSplitIntoUserAndSystemTime() {
+    statistics.addCpuTimeMeasurement(4_000, 3_000);
+    statistics.addCpuTimeMeasurement(2_000, 1_000);
+    assertEquals(3, statistics.getMeanCpuTime(MICROSECONDS), 0);
+    assertEquals(2, statistics.getMeanUserTime(MICROSECONDS), 0);
+    assertEquals(1, statistics.getMeanSystemTime(MICROSECONDS), 0);
+  }
+
+  @Test
+  public void whenUserTimeExceedsCpuTime_thenUserTimeShouldBeCappedAtCpuTime() {
+    // User time is tick based, a tick can land within a single short invocation
+    statistics.addCpuTimeMeasurement(1_000, 10_000_000);
+    assertEquals(1, statistics.getMeanUserTime(MICROSECONDS), 0);
+    assertEquals(0, statistics.getMeanSystemTime(MICROSECONDS), 0);
+  }
+
+  @Test
+  public void whenResetIsCalled_thenAllMeasurementsShouldBeCleared() {
+    statistics.addCpuTimeMeasurement(1_000, 1_000);
+    statistics.reset();
+    assertEquals(0, statistics.getMeasurementCount());
+    assertEquals(0, statistics.getMaxCpuTime(NANOSECONDS), 0);
+    assertEquals(0, statistics.getMeanUserTime(NANOSECONDS), 0);
+    statistics.addCpuTimeMeasurement(8, 8);
+    assertEquals(8, statistics.getMeanCpuTime(NANOSECONDS), 0);
+  }
+
+}
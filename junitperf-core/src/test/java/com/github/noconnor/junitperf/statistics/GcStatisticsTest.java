@@ -0,0 +1,61 @@
+package com.github.noconnor.junitperf.statistics;
+
+import com.github.noconnor.junitperf.BaseTest;
+import com.github.noconnor.junitperf.statistics.GcStatistics.GcPause;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+
+public class GcStatisticsTest extends BaseTest {
+
+  private GcStatistics statistics;
+
+  @Before
+  public void setup() {
+    statistics = new GcStatistics();
+  }
+
+  @Test
+  public void whenNoPausesAreRecorded_thenZeroShouldBeReturned() {
+    statistics.setMeasuredDurationNs(SECONDS.toNanos(1));
+    assertEquals(0, statistics.getPauseCount());
+    assertEquals(0, statistics.getTotalPauseMs());
+    assertEquals(0, statistics.getMaxPauseMs());
+    assertEquals(0, statistics.getPromotedBytes());
+    assertEquals(0, statistics.getOverheadPercentage(), 0);
+  }
+
+  @Test
+  public void whenPausesAreRecorded_thenPausesShouldBeAggregated() {
+    statistics.addPause(new GcPause("young", 100, 5, 1_024));
+    statistics.addPause(new GcPause("old", 200, 45, 0));
+    statistics.setMeasuredDurationNs(SECONDS.toNanos(1));
+    assertEquals(2, statistics.getPauseCount());
+    assertEquals(50, statistics.getTotalPauseMs());
+    assertEquals(45, statistics.getMaxPauseMs());
+    assertEquals(1_024, statistics.getPromotedBytes());
+    assertEquals(5F, statistics.getOverheadPercentage(), 0.0001);
+  }
+
+  @Test
+  public void whenCallingGetPausesBetween_thenOnlyPausesStartingInTheRangeShouldBeReturned() {
+    statistics.addPause(new GcPause("young", 100, 5, 0));
+    statistics.addPause(new GcPause("young", 200, 5, 0));
+    statistics.addPause(new GcPause("young", 300, 5, 0));
+    assertEquals(1, statistics.getPausesBetween(150, 300).size());
+    assertEquals(200, statistics.getPausesBetween(150, 300).get(0).getStartTimeNs());
+  }
+
+  @Test
+  public void whenResetIsCalled_thenAllPausesShouldBeCleared() {
+    statistics.addPause(new GcPause("young", 100, 5, 1_024));
+    statistics.setMeasuredDurationNs(SECONDS.toNanos(1));
+    statistics.reset();
+    assertEquals(0, statistics.getPauseCount());
+    assertEquals(0, statistics.getPromotedBytes());
+    assertEquals(0, statistics.getOverheadPercentage(), 0);
+  }
+
+}
@@ -0,0 +1,46 @@
+package com.github.noconnor.junitperf.statistics;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MeasurementWindowTest extends BaseTest {
+
+  private MeasurementWindow window;
+
+  @Before
+  public void setup() {
+    window = new MeasurementWindow();
+  }
+
+  @Test
+  public void whenNoMeasurementsAreRecorded_thenWindowShouldBeEmpty() {
+    assertFalse(window.hasMeasurements());
+    assertEquals(0, window.getDurationNs());
+  }
+
+  @Test
+  public void whenMeasurementsAreRecorded_thenWindowShouldSpanFirstStartToLastEnd() {
+    window.addMeasurementTime(MILLISECONDS.toNanos(20), MILLISECONDS.toNanos(30));
+    window.addMeasurementTime(MILLISECONDS.toNanos(10), MILLISECONDS.toNanos(15));
+    window.addMeasurementTime(MILLISECONDS.toNanos(25), MILLISECONDS.toNanos(60));
+    assertTrue(window.hasMeasurements());
+    assertEquals(MILLISECONDS.toNanos(50), window.getDurationNs());
+    assertEquals(50, window.getDurationMs());
+  }
+
+  @Test
+  public void whenWindowIsReset_thenPreviousMeasurementsShouldBeCleared() {
+    window.addMeasurementTime(MILLISECONDS.toNanos(10), MILLISECONDS.toNanos(100));
+    window.reset();
+    assertFalse(window.hasMeasurements());
+    window.addMeasurementTime(MILLISECONDS.toNanos(200), MILLISECONDS.toNanos(220));
+    assertEquals(MILLISECONDS.toNanos(20), window.getDurationNs());
+  }
+
+}
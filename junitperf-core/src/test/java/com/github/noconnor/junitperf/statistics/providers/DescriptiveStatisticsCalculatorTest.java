@@ -9,6 +9,7 @@ import org.mockito.Spy;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.verify;
@@ -45,6 +46,20 @@ public class DescriptiveStatisticsCalculatorTest extends BaseTest {
     assertThat(evaluator.getEvaluationCount(), is(2L));
   }
 
+  @Test
+  public void whenIncrementingEvaluationCountByABatch_thenBatchShouldBeAddedToEvaluationCount() {
+    evaluator.incrementEvaluationCount();
+    evaluator.incrementEvaluationCount(100);
+    assertThat(evaluator.getEvaluationCount(), is(101L));
+  }
+
+  @Test
+  public void whenIncrementingErrorCountByABatch_thenBatchShouldBeAddedToErrorCount() {
+    evaluator.incrementErrorCount();
+    evaluator.incrementErrorCount(100);
+    assertThat(evaluator.getErrorCount(), is(101L));
+  }
+
   @Test
   public void whenCallingGetMaxLatency_thenMaxLatencyShouldBeReturned() {
     evaluator.addLatencyMeasurement(10);
@@ -96,6 +111,32 @@ public class DescriptiveStatisticsCalculatorTest extends BaseTest {
     assertThat(evaluator.getLatencyPercentile(99, NANOSECONDS), is(20345F));
   }
 
+  @Test
+  public void whenCallingGetFractionalPercentile_thenFractionalPercentileShouldBeReturned() {
+    for (int i = 1; i <= 10_000; i++) {
+      evaluator.addLatencyMeasurement(i);
+    }
+    assertEquals(9_990, evaluator.getLatencyPercentile(99.9, NANOSECONDS), 1);
+    assertEquals(9_999, evaluator.getLatencyPercentile(99.99, NANOSECONDS), 1);
+  }
+
+  @Test
+  public void whenCallingGetPercentiles_thenPercentilesShouldMatchIndividuallyCalculatedPercentiles() {
+    for (int i = 10_000; i > 0; i--) {
+      evaluator.addLatencyMeasurement(i * 1_000L);
+    }
+    double[] percentiles = {1, 50, 90, 99, 99.9, 99.99, 100};
+    float[] values = evaluator.getLatencyPercentiles(percentiles, MILLISECONDS);
+    for (int i = 0; i < percentiles.length; i++) {
+      assertEquals(evaluator.getLatencyPercentile(percentiles[i], MILLISECONDS), values[i], 0);
+    }
+  }
+
+  @Test
+  public void whenCallingGetPercentiles_andNoLatenciesAreRecorded_thenZeroShouldBeReturned() {
+    assertArrayEquals(new float[]{0, 0}, evaluator.getLatencyPercentiles(new double[]{50, 99.9}, MILLISECONDS), 0);
+  }
+
   @Test
   public void whenCallingGetPercentile_thenValidPercentileShouldBeAdjustedToMatchSpecifiedUnits() {
     evaluator.addLatencyMeasurement(20345L);
@@ -0,0 +1,292 @@
+package com.github.noconnor.junitperf.statistics.providers;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.HdrHistogram.Histogram;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class HdrHistogramStatisticsCalculatorTest extends BaseTest {
+
+  private HdrHistogramStatisticsCalculator evaluator;
+
+  @Before
+  public void setup() {
+    evaluator = new HdrHistogramStatisticsCalculator();
+  }
+
+  @Test
+  public void whenCallingGetErrorCount_thenValidErrorCountShouldBeReturned() {
+    evaluator.incrementErrorCount();
+    evaluator.incrementErrorCount();
+    assertThat(evaluator.getErrorCount(), is(2L));
+  }
+
+  @Test
+  public void whenCallingGetEvaluationCount_thenValidEvaluationCountShouldBeReturned() {
+    evaluator.incrementEvaluationCount();
+    evaluator.incrementEvaluationCount();
+    assertThat(evaluator.getEvaluationCount(), is(2L));
+  }
+
+  @Test
+  public void whenIncrementingEvaluationCountByABatch_thenBatchShouldBeAddedToEvaluationCount() {
+    evaluator.incrementEvaluationCount();
+    evaluator.incrementEvaluationCount(100);
+    assertThat(evaluator.getEvaluationCount(), is(101L));
+  }
+
+  @Test
+  public void whenIncrementingErrorCountByABatch_thenBatchShouldBeAddedToErrorCount() {
+    evaluator.incrementErrorCount();
+    evaluator.incrementErrorCount(100);
+    assertThat(evaluator.getErrorCount(), is(101L));
+  }
+
+  @Test
+  public void whenCallingGetMaxLatency_thenMaxLatencyShouldBeReturned() {
+    evaluator.addLatencyMeasurement(10);
+    evaluator.addLatencyMeasurement(1000);
+    assertThat((double) evaluator.getMaxLatency(NANOSECONDS), is(closeTo(1000, 1)));
+  }
+
+  @Test
+  public void whenCallingGetMaxLatency_thenMaxLatencyShouldBeAdjustedToMatchSpecifiedUnits() {
+    evaluator.addLatencyMeasurement(10);
+    evaluator.addLatencyMeasurement(1000);
+    assertThat((double) evaluator.getMaxLatency(MILLISECONDS), is(closeTo(0.001, 0.000001)));
+  }
+
+  @Test
+  public void whenCallingGetMinLatency_thenMinLatencyShouldBeReturned() {
+    evaluator.addLatencyMeasurement(10);
+    evaluator.addLatencyMeasurement(1000);
+    assertThat(evaluator.getMinLatency(NANOSECONDS), is(10F));
+    assertThat(evaluator.getMinLatency(MILLISECONDS), is(0.00001F));
+  }
+
+  @Test
+  public void whenCallingGetMeanLatency_thenMeanLatencyShouldBeReturned() {
+    evaluator.addLatencyMeasurement(10);
+    evaluator.addLatencyMeasurement(1000);
+    assertThat((double) evaluator.getMeanLatency(NANOSECONDS), is(closeTo(505, 1)));
+    assertThat((double) evaluator.getMeanLatency(MILLISECONDS), is(closeTo(0.000505, 0.000001)));
+  }
+
+  @Test
+  public void whenCallingGetPercentile_thenPercentileShouldBeAccurateToConfiguredPrecision() {
+    for (int i = 1; i <= 100; i++) {
+      evaluator.addLatencyMeasurement(i * 1_000_000L);
+    }
+    assertThat((double) evaluator.getLatencyPercentile(50, MILLISECONDS), is(closeTo(50, 0.05)));
+    assertThat((double) evaluator.getLatencyPercentile(99, MILLISECONDS), is(closeTo(99, 0.1)));
+    assertThat((double) evaluator.getLatencyPercentile(99, MICROSECONDS), is(closeTo(99_000, 100)));
+  }
+
+  @Test
+  public void whenCallingGetFractionalPercentile_thenPercentileShouldBeAccurateToConfiguredPrecision() {
+    for (int i = 1; i <= 10_000; i++) {
+      evaluator.addLatencyMeasurement(i * 1_000L);
+    }
+    assertThat((double) evaluator.getLatencyPercentile(99.9, MICROSECONDS), is(closeTo(9_990, 10)));
+    assertThat((double) evaluator.getLatencyPercentile(99.99, MICROSECONDS), is(closeTo(9_999, 10)));
+  }
+
+  @Test
+  public void whenCallingGetPercentiles_thenPercentilesShouldMatchIndividuallyCalculatedPercentiles() {
+    for (int i = 1; i <= 10_000; i++) {
+      evaluator.addLatencyMeasurement(i * 1_000L);
+    }
+    double[] percentiles = {99.99, 1, 50, 99, 99.9, 100};
+    float[] values = evaluator.getLatencyPercentiles(percentiles, MICROSECONDS);
+    for (int i = 0; i < percentiles.length; i++) {
+      assertEquals(evaluator.getLatencyPercentile(percentiles[i], MICROSECONDS), values[i], 0);
+    }
+  }
+
+  @Test
+  public void whenLatencyIsAboveHighestTrackableValue_thenLatencyShouldBeClamped() {
+    evaluator = new HdrHistogramStatisticsCalculator(MILLISECONDS.toNanos(10), 2);
+    evaluator.addLatencyMeasurement(MILLISECONDS.toNanos(500));
+    assertThat((double) evaluator.getMaxLatency(MILLISECONDS), is(closeTo(10, 0.1)));
+  }
+
+  @Test
+  public void whenSignificantDigitsAreInvalid_thenExceptionShouldBeThrown() {
+    try {
+      new HdrHistogramStatisticsCalculator(6);
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertEquals("NumberOfSignificantValueDigits must be between 0 and 5", e.getMessage());
+    }
+  }
+
+  @Test
+  public void whenMeasurementsAreRecordedFromMultipleThreads_thenAllMeasurementsShouldBeMerged() throws InterruptedException {
+    int threadCount = 8;
+    int measurementsPerThread = 10_000;
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    List<Thread> threads = newArrayList();
+    for (int i = 0; i < threadCount; i++) {
+      long latency = (i + 1) * 1_000L;
+      threads.add(new Thread(() -> {
+        for (int j = 0; j < measurementsPerThread; j++) {
+          evaluator.addLatencyMeasurement(latency);
+          evaluator.incrementEvaluationCount();
+        }
+        latch.countDown();
+      }));
+    }
+    threads.forEach(Thread::start);
+    latch.await();
+    assertThat(evaluator.getEvaluationCount(), is((long) threadCount * measurementsPerThread));
+    assertThat(evaluator.getMinLatency(NANOSECONDS), is(1_000F));
+    assertThat((double) evaluator.getMaxLatency(NANOSECONDS), is(closeTo(8_000, 8)));
+    assertThat((double) evaluator.getMeanLatency(NANOSECONDS), is(closeTo(4_500, 5)));
+  }
+
+  @Test
+  public void whenThousandsOfThreadsRecordConcurrently_thenRecorderCountShouldBeBoundedByTheNumberOfStripes() throws InterruptedException {
+    // i.e. a test running on virtual threads, all threads are alive at the same time
+    int threadCount = 2_000;
+    CountDownLatch recorded = new CountDownLatch(threadCount);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Thread> threads = newArrayList();
+    for (int i = 0; i < threadCount; i++) {
+      threads.add(new Thread(() -> {
+        evaluator.addLatencyMeasurement(1_000);
+        evaluator.incrementEvaluationCount();
+        recorded.countDown();
+        awaitQuietly(release);
+      }));
+    }
+    threads.forEach(Thread::start);
+    recorded.await();
+    assertThat(evaluator.getRecorderCount(), is(lessThanOrEqualTo(StripedRecorders.DEFAULT_STRIPES)));
+    release.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(evaluator.getEvaluationCount(), is((long) threadCount));
+    assertThat(evaluator.getHistogram().getTotalCount(), is((long) threadCount));
+  }
+
+  @Test
+  public void whenStatisticsAreReadMultipleTimes_thenMeasurementsShouldNotBeDoubleCounted() {
+    evaluator.addLatencyMeasurement(1_000);
+    evaluator.getMaxLatency(NANOSECONDS);
+    evaluator.addLatencyMeasurement(3_000);
+    assertThat((double) evaluator.getMeanLatency(NANOSECONDS), is(closeTo(2_000, 2)));
+    assertThat((double) evaluator.getMeanLatency(NANOSECONDS), is(closeTo(2_000, 2)));
+  }
+
+  @Test
+  public void whenCallingGetPercentageError_thenPercentageErrorShouldBeCalculated() {
+    evaluator.incrementErrorCount();
+    evaluator.incrementEvaluationCount();
+    evaluator.incrementEvaluationCount();
+    assertThat(evaluator.getErrorPercentage(), is(50F));
+  }
+
+  @Test
+  public void whenNoMeasurementsHaveBeenTaken_thenZeroShouldBeReturned() {
+    assertThat(evaluator.getErrorPercentage(), is(0F));
+    assertThat(evaluator.getMeanLatency(MILLISECONDS), is(0F));
+    assertThat(evaluator.getMinLatency(MILLISECONDS), is(0F));
+    assertThat(evaluator.getMaxLatency(MILLISECONDS), is(0F));
+    assertThat(evaluator.getLatencyPercentile(90, MILLISECONDS), is(0F));
+  }
+
+  @Test
+  public void whenCallingGetHistogram_thenACopyOfRecordedLatenciesShouldBeReturned() {
+    evaluator.addLatencyMeasurement(1_000);
+    evaluator.addLatencyMeasurement(2_000);
+    Histogram histogram = evaluator.getHistogram();
+    assertEquals(2, histogram.getTotalCount());
+    evaluator.addLatencyMeasurement(3_000);
+    assertEquals(2, histogram.getTotalCount());
+  }
+
+  @Test
+  public void whenAddingAHistogram_thenItsLatenciesShouldBeMergedWithRecordedLatencies() {
+    Histogram latencies = new Histogram(3);
+    latencies.recordValueWithCount(MILLISECONDS.toNanos(2), 99);
+    latencies.recordValue(MILLISECONDS.toNanos(200));
+    evaluator.addLatencyMeasurement(MILLISECONDS.toNanos(1));
+    evaluator.add(latencies);
+    assertEquals(101, evaluator.getHistogram().getTotalCount());
+    assertThat((double) evaluator.getMinLatency(MILLISECONDS), is(closeTo(1, 0.01)));
+    assertThat((double) evaluator.getLatencyPercentile(50, MILLISECONDS), is(closeTo(2, 0.01)));
+    assertThat((double) evaluator.getMaxLatency(MILLISECONDS), is(closeTo(200, 0.5)));
+  }
+
+  @Test
+  public void whenAddingAHistogram_andLatencyIsAboveHighestTrackableValue_thenLatencyShouldBeClamped() {
+    evaluator = new HdrHistogramStatisticsCalculator(MILLISECONDS.toNanos(10), 2);
+    Histogram latencies = new Histogram(3);
+    latencies.recordValueWithCount(MILLISECONDS.toNanos(500), 5);
+    evaluator.add(latencies);
+    assertEquals(5, evaluator.getHistogram().getTotalCount());
+    assertThat((double) evaluator.getMaxLatency(MILLISECONDS), is(closeTo(10, 0.1)));
+  }
+
+  @Test
+  public void whenResettingStatsCollector_thenStatsShouldBeCleared() {
+    evaluator.incrementErrorCount();
+    evaluator.incrementEvaluationCount();
+    evaluator.addLatencyMeasurement(1_000);
+    evaluator.addLatencyMeasurement(2_000);
+    assertEquals(1, evaluator.getErrorCount());
+    assertEquals(1, evaluator.getEvaluationCount());
+    evaluator.reset();
+    assertEquals(0, evaluator.getErrorCount());
+    assertEquals(0, evaluator.getEvaluationCount());
+    assertThat(evaluator.getMaxLatency(NANOSECONDS), is(0F));
+    evaluator.addLatencyMeasurement(500);
+    assertThat((double) evaluator.getMaxLatency(NANOSECONDS), is(closeTo(500, 1)));
+  }
+
+  @Test
+  public void whenRecordingThreadsDie_thenMeasurementsOfAllThreadsShouldBeKept() throws InterruptedException {
+    for (int i = 1; i <= 3; i++) {
+      long latency = i * 1_000L;
+      Thread thread = new Thread(() -> evaluator.addLatencyMeasurement(latency));
+      thread.start();
+      thread.join();
+    }
+    assertEquals(3, evaluator.getHistogram().getTotalCount());
+    assertThat((double) evaluator.getMaxLatency(NANOSECONDS), is(closeTo(3_000, 5)));
+  }
+
+  @Test
+  public void whenMeasurementTimesAreAdded_thenMeasurementWindowShouldBeTracked() {
+    assertEquals(0, evaluator.getMeasurementWindowNs());
+    evaluator.addMeasurementTime(1_000, 3_000);
+    evaluator.addMeasurementTime(2_000, 9_000);
+    assertEquals(8_000, evaluator.getMeasurementWindowNs());
+    evaluator.reset();
+    assertEquals(0, evaluator.getMeasurementWindowNs());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,201 @@
+package com.github.noconnor.junitperf.statistics.providers;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class QuantileSketchStatisticsCalculatorTest extends BaseTest {
+
+  private QuantileSketchStatisticsCalculator evaluator;
+
+  @Before
+  public void setup() {
+    evaluator = new QuantileSketchStatisticsCalculator();
+  }
+
+  @Test
+  public void whenCallingGetErrorCount_thenValidErrorCountShouldBeReturned() {
+    evaluator.incrementErrorCount();
+    evaluator.incrementErrorCount();
+    assertThat(evaluator.getErrorCount(), is(2L));
+  }
+
+  @Test
+  public void whenCallingGetEvaluationCount_thenValidEvaluationCountShouldBeReturned() {
+    evaluator.incrementEvaluationCount();
+    evaluator.incrementEvaluationCount();
+    assertThat(evaluator.getEvaluationCount(), is(2L));
+  }
+
+  @Test
+  public void whenIncrementingEvaluationCountByABatch_thenBatchShouldBeAddedToEvaluationCount() {
+    evaluator.incrementEvaluationCount();
+    evaluator.incrementEvaluationCount(100);
+    assertThat(evaluator.getEvaluationCount(), is(101L));
+  }
+
+  @Test
+  public void whenIncrementingErrorCountByABatch_thenBatchShouldBeAddedToErrorCount() {
+    evaluator.incrementErrorCount();
+    evaluator.incrementErrorCount(100);
+    assertThat(evaluator.getErrorCount(), is(101L));
+  }
+
+  @Test
+  public void whenCallingGetMinAndMaxLatency_thenExactValuesShouldBeReturned() {
+    evaluator.addLatencyMeasurement(10);
+    evaluator.addLatencyMeasurement(1000);
+    assertThat(evaluator.getMinLatency(NANOSECONDS), is(10F));
+    assertThat(evaluator.getMaxLatency(NANOSECONDS), is(1000F));
+    assertThat((double) evaluator.getMaxLatency(MILLISECONDS), is(closeTo(0.001, 0.000001)));
+  }
+
+  @Test
+  public void whenCallingGetMeanLatency_thenMeanLatencyShouldBeReturned() {
+    evaluator.addLatencyMeasurement(10);
+    evaluator.addLatencyMeasurement(1000);
+    assertThat((double) evaluator.getMeanLatency(NANOSECONDS), is(closeTo(505, 0.001)));
+  }
+
+  @Test
+  public void whenCallingGetPercentile_thenPercentileShouldBeAccurateToConfiguredRelativeAccuracy() {
+    for (int i = 1; i <= 100; i++) {
+      evaluator.addLatencyMeasurement(i * 1_000_000L);
+    }
+    assertThat((double) evaluator.getLatencyPercentile(50, MILLISECONDS), is(closeTo(50, 0.5)));
+    assertThat((double) evaluator.getLatencyPercentile(99, MILLISECONDS), is(closeTo(99, 0.99)));
+    assertThat((double) evaluator.getLatencyPercentile(99, MICROSECONDS), is(closeTo(99_000, 990)));
+  }
+
+  @Test
+  public void whenCallingGetFractionalPercentile_thenPercentileShouldBeAccurateToConfiguredRelativeAccuracy() {
+    for (int i = 1; i <= 10_000; i++) {
+      evaluator.addLatencyMeasurement(i * 1_000L);
+    }
+    assertThat((double) evaluator.getLatencyPercentile(99.9, MICROSECONDS), is(closeTo(9_990, 100)));
+    assertThat((double) evaluator.getLatencyPercentile(99.99, MICROSECONDS), is(closeTo(9_999, 100)));
+  }
+
+  @Test
+  public void whenCallingGetPercentiles_thenPercentilesShouldMatchIndividuallyCalculatedPercentiles() {
+    for (int i = 1; i <= 10_000; i++) {
+      evaluator.addLatencyMeasurement(i * 1_000L);
+    }
+    double[] percentiles = {99.99, 1, 50, 99, 99.9, 100};
+    float[] values = evaluator.getLatencyPercentiles(percentiles, MICROSECONDS);
+    for (int i = 0; i < percentiles.length; i++) {
+      assertEquals(evaluator.getLatencyPercentile(percentiles[i], MICROSECONDS), values[i], 0);
+    }
+  }
+
+  @Test
+  public void whenResetIsCalled_thenAllStatisticsShouldBeCleared() {
+    evaluator.addLatencyMeasurement(1_000);
+    evaluator.incrementEvaluationCount();
+    evaluator.incrementErrorCount();
+    evaluator.reset();
+    assertThat(evaluator.getEvaluationCount(), is(0L));
+    assertThat(evaluator.getErrorCount(), is(0L));
+    assertThat(evaluator.getMaxLatency(NANOSECONDS), is(0F));
+    evaluator.addLatencyMeasurement(50);
+    assertThat(evaluator.getMaxLatency(NANOSECONDS), is(50F));
+  }
+
+  @Test
+  public void whenSketchIsMerged_thenMergedLatenciesShouldBeIncluded() {
+    QuantileSketchStatisticsCalculator other = new QuantileSketchStatisticsCalculator();
+    evaluator.addLatencyMeasurement(10);
+    other.addLatencyMeasurement(5_000);
+    evaluator.merge(other.getSketch());
+    assertThat(evaluator.getMaxLatency(NANOSECONDS), is(5_000F));
+    assertThat(evaluator.getSketch().getCount(), is(2L));
+  }
+
+  @Test
+  public void whenRelativeAccuracyIsInvalid_thenExceptionShouldBeThrown() {
+    try {
+      new QuantileSketchStatisticsCalculator(0);
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertEquals("RelativeAccuracy must be between 0 and 1 (exclusive)", e.getMessage());
+    }
+  }
+
+  @Test
+  public void whenMeasurementsAreRecordedFromMultipleThreads_thenAllMeasurementsShouldBeMerged() throws InterruptedException {
+    int threadCount = 8;
+    int measurementsPerThread = 10_000;
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    List<Thread> threads = newArrayList();
+    for (int i = 0; i < threadCount; i++) {
+      long latency = (i + 1) * 1_000L;
+      threads.add(new Thread(() -> {
+        for (int j = 0; j < measurementsPerThread; j++) {
+          evaluator.addLatencyMeasurement(latency);
+          evaluator.incrementEvaluationCount();
+          if (j % 1_000 == 0) {
+            // Concurrent reads drain the thread sketches
+            evaluator.getMaxLatency(NANOSECONDS);
+          }
+        }
+        latch.countDown();
+      }));
+    }
+    threads.forEach(Thread::start);
+    latch.await();
+    assertThat(evaluator.getEvaluationCount(), is((long) threadCount * measurementsPerThread));
+    assertThat(evaluator.getSketch().getCount(), is((long) threadCount * measurementsPerThread));
+    assertThat(evaluator.getMinLatency(NANOSECONDS), is(1_000F));
+    assertThat(evaluator.getMaxLatency(NANOSECONDS), is(8_000F));
+    assertThat((double) evaluator.getLatencyPercentile(50, NANOSECONDS), is(closeTo(4_000, 80)));
+  }
+
+  @Test
+  public void whenThousandsOfThreadsRecordConcurrently_thenSketchCountShouldBeBoundedByTheNumberOfStripes() throws InterruptedException {
+    // i.e. a test running on virtual threads, all threads are alive at the same time
+    int threadCount = 2_000;
+    CountDownLatch recorded = new CountDownLatch(threadCount);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Thread> threads = newArrayList();
+    for (int i = 0; i < threadCount; i++) {
+      threads.add(new Thread(() -> {
+        evaluator.addLatencyMeasurement(1_000);
+        evaluator.incrementEvaluationCount();
+        recorded.countDown();
+        awaitQuietly(release);
+      }));
+    }
+    threads.forEach(Thread::start);
+    recorded.await();
+    assertThat(evaluator.getSketchCount(), is(lessThanOrEqualTo(StripedRecorders.DEFAULT_STRIPES)));
+    release.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(evaluator.getEvaluationCount(), is((long) threadCount));
+    assertThat(evaluator.getSketch().getCount(), is((long) threadCount));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
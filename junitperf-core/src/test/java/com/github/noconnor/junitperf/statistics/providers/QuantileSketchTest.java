@@ -0,0 +1,149 @@
+package com.github.noconnor.junitperf.statistics.providers;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class QuantileSketchTest extends BaseTest {
+
+  private static final double ACCURACY = 0.01;
+
+  private QuantileSketch sketch;
+
+  @Before
+  public void setup() {
+    sketch = new QuantileSketch(ACCURACY, 2048);
+  }
+
+  @Test
+  public void whenSketchIsEmpty_thenZeroShouldBeReturned() {
+    assertEquals(0, sketch.getValueAtQuantile(0.5), 0);
+    assertEquals(0, sketch.getMin());
+    assertEquals(0, sketch.getMax());
+    assertEquals(0, sketch.getMean(), 0);
+  }
+
+  @Test
+  public void whenValuesAreAdded_thenQuantilesShouldBeWithinRelativeAccuracy() {
+    Random random = new Random(42);
+    long[] values = new long[100_000];
+    for (int i = 0; i < values.length; i++) {
+      // Log normal like latency distribution, ~100us median with a long tail
+      values[i] = (long) Math.exp(11.5 + random.nextGaussian() * 1.5);
+      sketch.add(values[i]);
+    }
+    Arrays.sort(values);
+    for (double quantile : new double[]{0, 0.1, 0.5, 0.9, 0.99, 0.999, 1}) {
+      long expected = values[(int) (quantile * (values.length - 1))];
+      assertThat(sketch.getValueAtQuantile(quantile), is(closeTo(expected, expected * ACCURACY)));
+    }
+    assertEquals(values[0], sketch.getMin());
+    assertEquals(values[values.length - 1], sketch.getMax());
+    assertEquals(values.length, sketch.getCount());
+  }
+
+  @Test
+  public void whenZeroOrNegativeValuesAreAdded_thenTheyShouldBeCountedAsZero() {
+    sketch.add(0);
+    sketch.add(-5);
+    sketch.add(1_000);
+    assertEquals(0, sketch.getValueAtQuantile(0.5), 0);
+    assertThat(sketch.getValueAtQuantile(1), is(closeTo(1_000, 10)));
+    assertEquals(0, sketch.getMin());
+  }
+
+  @Test
+  public void whenSketchesAreMerged_thenResultShouldMatchASingleSketch() {
+    QuantileSketch other = new QuantileSketch(ACCURACY, 2048);
+    QuantileSketch combined = new QuantileSketch(ACCURACY, 2048);
+    for (int i = 1; i <= 1_000; i++) {
+      sketch.add(i * 1_000L);
+      other.add(i * 1_000_000L);
+      combined.add(i * 1_000L);
+      combined.add(i * 1_000_000L);
+    }
+    sketch.merge(other);
+    assertEquals(combined.getCount(), sketch.getCount());
+    assertEquals(combined.getMin(), sketch.getMin());
+    assertEquals(combined.getMax(), sketch.getMax());
+    assertEquals(combined.getMean(), sketch.getMean(), 0.001);
+    for (double quantile = 0; quantile <= 1; quantile += 0.05) {
+      assertEquals(combined.getValueAtQuantile(quantile), sketch.getValueAtQuantile(quantile), 0);
+    }
+  }
+
+  @Test
+  public void whenValuesSpanMoreThanMaxBuckets_thenLowestValuesShouldBeCollapsed() {
+    sketch = new QuantileSketch(ACCURACY, 100);
+    for (long value = 1; value < 1_000_000_000L; value *= 2) {
+      sketch.add(value);
+    }
+    assertThat(sketch.getBucketCount(), is(lessThanOrEqualTo(100)));
+    // Highest values retain their accuracy
+    assertThat(sketch.getValueAtQuantile(1), is(closeTo(536_870_912L, 536_870_912L * ACCURACY)));
+    assertEquals(30, sketch.getCount());
+  }
+
+  @Test
+  public void whenCallingGetValuesAtQuantiles_thenValuesShouldMatchIndividuallyCalculatedQuantiles() {
+    sketch.add(0);
+    for (int i = 1; i <= 1_000; i++) {
+      sketch.add(i * 1_000L);
+    }
+    double[] quantiles = {0.999, 0, 0.0001, 0.5, 0.5, 0.9, 1, 0.01};
+    double[] values = sketch.getValuesAtQuantiles(quantiles);
+    for (int i = 0; i < quantiles.length; i++) {
+      assertEquals(sketch.getValueAtQuantile(quantiles[i]), values[i], 0);
+    }
+  }
+
+  @Test
+  public void whenValuesAreAddedInDescendingOrder_thenQuantilesShouldBeWithinRelativeAccuracy() {
+    for (int i = 10_000; i > 0; i--) {
+      sketch.add(i * 100L);
+    }
+    assertThat(sketch.getValueAtQuantile(0.5), is(closeTo(500_000, 5_000)));
+    assertThat(sketch.getValueAtQuantile(0.99), is(closeTo(990_000, 9_900)));
+  }
+
+  @Test
+  public void whenSketchIsCleared_thenAllValuesShouldBeRemoved() {
+    sketch.add(1_000);
+    sketch.clear();
+    assertEquals(0, sketch.getCount());
+    sketch.add(5);
+    assertEquals(5, sketch.getMin());
+    assertEquals(5, sketch.getValueAtQuantile(0.5), 0);
+  }
+
+  @Test
+  public void whenSketchesWithDifferentAccuraciesAreMerged_thenExceptionShouldBeThrown() {
+    try {
+      sketch.merge(new QuantileSketch(0.02, 2048));
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertEquals("Cannot merge sketches with different relative accuracies", e.getMessage());
+    }
+  }
+
+  @Test
+  public void whenRelativeAccuracyIsInvalid_thenExceptionShouldBeThrown() {
+    try {
+      new QuantileSketch(1, 2048);
+      fail("Expected exception");
+    } catch (IllegalStateException e) {
+      assertEquals("RelativeAccuracy must be between 0 and 1 (exclusive)", e.getMessage());
+    }
+  }
+
+}
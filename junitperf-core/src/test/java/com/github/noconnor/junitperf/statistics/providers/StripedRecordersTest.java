@@ -0,0 +1,83 @@
+package com.github.noconnor.junitperf.statistics.providers;
+
+import com.github.noconnor.junitperf.BaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class StripedRecordersTest extends BaseTest {
+
+  private static final int STRIPES = 4;
+
+  private StripedRecorders<AtomicLong> recorders;
+
+  @Before
+  public void setup() {
+    recorders = new StripedRecorders<>(AtomicLong::new, STRIPES);
+  }
+
+  @Test
+  public void whenCalledFromTheSameThread_thenTheSameRecorderShouldBeReturned() {
+    assertSame(recorders.get(), recorders.get());
+    assertEquals(1, recorders.size());
+  }
+
+  @Test
+  public void whenMoreThreadsThanStripesRecord_thenRecordersShouldBeShared() throws InterruptedException {
+    List<Thread> threads = newArrayList();
+    for (int i = 0; i < 100; i++) {
+      threads.add(new Thread(() -> recorders.get().incrementAndGet()));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(STRIPES, recorders.size());
+    AtomicLong total = new AtomicLong();
+    recorders.forEach(recorder -> total.addAndGet(recorder.get()));
+    assertEquals(100, total.get());
+  }
+
+  @Test
+  public void whenThreadsAreInTheSameStripe_thenTheSameRecorderShouldBeReturned() throws InterruptedException {
+    recorders = new StripedRecorders<>(AtomicLong::new, 1);
+    AtomicLong current = recorders.get();
+    assertSame(current, recordOnNewThread(1));
+    assertEquals(1, recorders.size());
+    assertEquals(1, current.get());
+  }
+
+  @Test
+  public void whenCleared_thenThreadsShouldBeAllocatedAFreshRecorder() {
+    AtomicLong before = recorders.get();
+    recorders.clear();
+    assertEquals(0, recorders.size());
+    assertNotSame(before, recorders.get());
+    assertEquals(1, recorders.size());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void whenStripesIsNotPositive_thenExceptionShouldBeThrown() {
+    new StripedRecorders<>(AtomicLong::new, 0);
+  }
+
+  private AtomicLong recordOnNewThread(long value) throws InterruptedException {
+    AtomicReference<AtomicLong> recorder = new AtomicReference<>();
+    Thread thread = new Thread(() -> {
+      recorder.set(recorders.get());
+      recorder.get().addAndGet(value);
+    });
+    thread.start();
+    thread.join();
+    return recorder.get();
+  }
+
+}
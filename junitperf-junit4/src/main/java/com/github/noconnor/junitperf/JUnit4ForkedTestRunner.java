@@ -0,0 +1,25 @@
+package com.github.noconnor.junitperf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+
+import static com.google.common.base.Preconditions.checkState;
+
+// Entry point of forked JVMs (see JUnitPerfTest forks), runs a single test method.
+// Usage: JUnit4ForkedTestRunner <test class> <test method>
+@Slf4j
+public final class JUnit4ForkedTestRunner {
+
+  private JUnit4ForkedTestRunner() {
+  }
+
+  public static void main(String[] args) throws ClassNotFoundException {
+    checkState(args.length == 2, "Usage: JUnit4ForkedTestRunner <test class> <test method>");
+    Result result = new JUnitCore().run(Request.method(Class.forName(args[0]), args[1]));
+    result.getFailures().forEach(failure -> log.error("Forked test failed: {}", failure.getTestHeader(), failure.getException()));
+    System.exit(result.wasSuccessful() ? 0 : 1);
+  }
+
+}
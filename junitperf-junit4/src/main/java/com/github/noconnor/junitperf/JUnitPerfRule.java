@@ -1,14 +1,17 @@
 package com.github.noconnor.junitperf;
 
 import static java.lang.System.nanoTime;
+import static java.util.Arrays.asList;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toSet;
 
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.LoadProfile;
 import com.github.noconnor.junitperf.reporting.ReportGenerator;
 import com.github.noconnor.junitperf.reporting.providers.HtmlReportGenerator;
 import com.github.noconnor.junitperf.statements.DefaultStatement;
 import com.github.noconnor.junitperf.statements.ExceptionsRegistry;
+import com.github.noconnor.junitperf.statements.ForkedTest;
 import com.github.noconnor.junitperf.statements.MeasurableStatement;
 import com.github.noconnor.junitperf.statements.PerformanceEvaluationStatement;
 import com.github.noconnor.junitperf.statements.PerformanceEvaluationStatement.PerformanceEvaluationStatementBuilder;
@@ -37,10 +40,13 @@ public class JUnitPerfRule implements TestRule {
   }
 
   private final Set<ReportGenerator> reporters;
+  // Shared by all evaluation threads, consumption state is kept per thread
+  private final Blackhole blackhole = new Blackhole();
 
   StatisticsCalculator statisticsCalculator;
   PerformanceEvaluationStatementBuilder perEvalBuilder;
   boolean excludeBeforeAndAfters;
+  LoadProfile loadProfile;
 
   public JUnitPerfRule() {
     this(false);
@@ -77,6 +83,18 @@ public class JUnitPerfRule implements TestRule {
     this.excludeBeforeAndAfters = excludeBeforeAndAfters;
   }
 
+  // Load profile applied to all tests that do not define JUnitPerfTest stages (or searchMaxThroughput)
+  public JUnitPerfRule withLoadProfile(LoadProfile loadProfile) {
+    this.loadProfile = loadProfile;
+    return this;
+  }
+
+  // Tests should consume their results (i.e. perfTestRule.getBlackhole().consume(result)) so they cannot be
+  // eliminated by the JIT
+  public Blackhole getBlackhole() {
+    return blackhole;
+  }
+
   @Override
   public Statement apply(Statement base, Description description) {
     Statement activeStatement = base;
@@ -87,6 +105,9 @@ public class JUnitPerfRule implements TestRule {
     if (nonNull(perfTestAnnotation)) {
       EvaluationContext context = createEvaluationContext(description);
       context.loadConfiguration(perfTestAnnotation);
+      if (nonNull(loadProfile) && !context.hasLoadProfile() && !context.isThroughputSearchEnabled()) {
+        context.loadProfile(loadProfile);
+      }
       context.loadRequirements(requirementsAnnotation);
 
       // Group test contexts by test class
@@ -99,6 +120,7 @@ public class JUnitPerfRule implements TestRule {
         .statistics(statisticsCalculator)
         .context(context)
         .listener(complete -> updateReport(description.getTestClass()))
+        .forkedTest(new ForkedTest(JUnit4ForkedTestRunner.class.getName(), asList(description.getClassName(), description.getMethodName())))
         .build();
 
       activeStatement = new Statement() {
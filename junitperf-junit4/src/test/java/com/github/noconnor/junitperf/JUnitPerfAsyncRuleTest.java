@@ -91,5 +91,6 @@ public class JUnitPerfAsyncRuleTest {
     when(perfTestAnnotationMock.durationMs()).thenReturn(10_000);
     when(perfTestAnnotationMock.threads()).thenReturn(1);
     when(perfTestAnnotationMock.maxExecutionsPerSecond()).thenReturn(-1);
+    when(perfTestAnnotationMock.operationsPerInvocation()).thenReturn(1);
   }
 }
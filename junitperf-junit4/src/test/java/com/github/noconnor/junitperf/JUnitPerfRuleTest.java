@@ -1,9 +1,12 @@
 package com.github.noconnor.junitperf;
 
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.LoadProfile;
+import com.github.noconnor.junitperf.data.LoadStage;
 import com.github.noconnor.junitperf.reporting.ReportGenerator;
 import com.github.noconnor.junitperf.statements.DefaultStatement;
 import com.github.noconnor.junitperf.statements.ExceptionsRegistry;
+import com.github.noconnor.junitperf.statements.ForkedTest;
 import com.github.noconnor.junitperf.statements.MeasurableStatement;
 import com.github.noconnor.junitperf.statements.PerformanceEvaluationStatement;
 import com.github.noconnor.junitperf.statements.PerformanceEvaluationStatement.PerformanceEvaluationStatementBuilder;
@@ -24,9 +27,12 @@ import java.util.LinkedHashSet;
 import java.util.function.Consumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Answers.RETURNS_SELF;
 import static org.mockito.ArgumentMatchers.any;
@@ -97,6 +103,12 @@ public class JUnitPerfRuleTest {
     JUnitPerfRule.ACTIVE_CONTEXTS.clear();
   }
 
+  @Test
+  public void whenGettingTheBlackhole_thenTheSameBlackholeShouldBeReturnedForAllTests() {
+    assertNotNull(perfRule.getBlackhole());
+    assertThat(perfRule.getBlackhole(), is(sameInstance(perfRule.getBlackhole())));
+  }
+
   @Test
   public void whenExecutingApply_andNoJunitPerfTestAnnotationIsPresent_thenTheBaseStatementShouldBeReturned() {
     mockJunitPerfTestAnnotationNotPresent();
@@ -127,10 +139,22 @@ public class JUnitPerfRuleTest {
     verify(perfEvalBuilderMock).statistics(statisticsCalculatorMock);
     verify(perfEvalBuilderMock).context(any(EvaluationContext.class));
     verify(perfEvalBuilderMock).listener(any(Consumer.class));
+    verify(perfEvalBuilderMock).forkedTest(any(ForkedTest.class));
     verify(perfEvalBuilderMock).build();
     verifyNoMoreInteractions(perfEvalBuilderMock);
   }
 
+  @Test
+  public void whenExecutingApply_thenForkedJvmsShouldRunTheTestMethodWithTheJUnit4Runner() {
+    when(descriptionMock.getClassName()).thenReturn("com.example.PerfTest");
+    when(descriptionMock.getMethodName()).thenReturn("whenRunning_thenItShouldBeFast");
+    perfRule.apply(statementMock, descriptionMock);
+    ArgumentCaptor<ForkedTest> captor = ArgumentCaptor.forClass(ForkedTest.class);
+    verify(perfEvalBuilderMock).forkedTest(captor.capture());
+    assertThat(captor.getValue().getMainClass(), is(JUnit4ForkedTestRunner.class.getName()));
+    assertThat(captor.getValue().getArguments(), contains("com.example.PerfTest", "whenRunning_thenItShouldBeFast"));
+  }
+
   @Test
   public void whenExecutingApply_andExcludeBeforeAfterIsFalse_thenDefaultTestStatementShouldBeUsed() {
     perfRule.apply(statementMock, descriptionMock);
@@ -178,6 +202,21 @@ public class JUnitPerfRuleTest {
     assertThat(context.isAsyncEvaluation(), is(false));
   }
 
+  @Test
+  public void whenExecutingApply_andLoadProfileIsConfigured_thenLoadProfileShouldBeAppliedToContext() throws Throwable {
+    LoadProfile profile = LoadProfile.builder()
+      .stage(LoadStage.builder().durationMs(1_000).threads(2).build())
+      .stage(LoadStage.builder().durationMs(2_000).threads(4).build())
+      .build();
+    perfRule.withLoadProfile(profile).apply(statementMock, descriptionMock).evaluate();
+    ArgumentCaptor<EvaluationContext> captor = ArgumentCaptor.forClass(EvaluationContext.class);
+    verify(perfEvalBuilderMock).context(captor.capture());
+    EvaluationContext context = captor.getValue();
+    assertTrue(context.hasLoadProfile());
+    assertEquals(4, context.getConfiguredThreads());
+    assertEquals(WARM_UP + 3_000, context.getConfiguredDuration());
+  }
+
   @Test
   public void verifyCorrectExceptionsAreRegistered() {
       assertEquals(1, ExceptionsRegistry.ignorables().size());
@@ -231,6 +270,7 @@ public class JUnitPerfRuleTest {
     when(perfTestAnnotationMock.maxExecutionsPerSecond()).thenReturn(RATE_LIMIT);
     when(perfTestAnnotationMock.threads()).thenReturn(THREADS);
     when(perfTestAnnotationMock.warmUpMs()).thenReturn(WARM_UP);
+    when(perfTestAnnotationMock.operationsPerInvocation()).thenReturn(1);
   }
 
   private void initialisePerfTestRequirementAnnotationMock() {
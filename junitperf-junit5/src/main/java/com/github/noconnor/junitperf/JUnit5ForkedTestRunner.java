@@ -0,0 +1,31 @@
+package com.github.noconnor.junitperf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import static com.google.common.base.Preconditions.checkState;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+// Entry point of forked JVMs (see JUnitPerfTest forks), runs a single test method.
+// Usage: JUnit5ForkedTestRunner <fully qualified method name>, i.e. com.example.PerfTest#test(java.lang.String)
+@Slf4j
+public final class JUnit5ForkedTestRunner {
+
+    private JUnit5ForkedTestRunner() {
+    }
+
+    public static void main(String[] args) {
+        checkState(args.length == 1, "Usage: JUnit5ForkedTestRunner <fully qualified method name>");
+        LauncherDiscoveryRequest request = request().selectors(selectMethod(args[0])).build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        LauncherFactory.create().execute(request, listener);
+        TestExecutionSummary summary = listener.getSummary();
+        summary.getFailures().forEach(failure -> log.error("Forked test failed: {}", failure.getTestIdentifier().getDisplayName(), failure.getException()));
+        System.exit(summary.getTotalFailureCount() == 0 ? 0 : 1);
+    }
+
+}
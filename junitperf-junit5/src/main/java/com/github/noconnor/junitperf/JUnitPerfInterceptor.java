@@ -1,10 +1,12 @@
 package com.github.noconnor.junitperf;
 
 import com.github.noconnor.junitperf.data.EvaluationContext;
+import com.github.noconnor.junitperf.data.LoadProfile;
 import com.github.noconnor.junitperf.reporting.ReportGenerator;
 import com.github.noconnor.junitperf.reporting.providers.ConsoleReportGenerator;
 import com.github.noconnor.junitperf.statements.FullStatement;
 import com.github.noconnor.junitperf.statements.ExceptionsRegistry;
+import com.github.noconnor.junitperf.statements.ForkedTest;
 import com.github.noconnor.junitperf.statements.PerformanceEvaluationStatement;
 import com.github.noconnor.junitperf.statements.PerformanceEvaluationStatement.PerformanceEvaluationStatementBuilder;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
@@ -26,6 +28,7 @@ import org.opentest4j.TestAbortedException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -36,6 +39,7 @@ import java.util.function.Supplier;
 import static java.lang.System.currentTimeMillis;
 import static java.lang.System.nanoTime;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.joining;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
@@ -61,6 +65,8 @@ public class JUnitPerfInterceptor implements InvocationInterceptor, TestInstance
         private long measurementsStartTimeMs;
         private EvaluationContext context;
         private StatisticsCalculator statsCalculator;
+        private Supplier<StatisticsCalculator> statsSupplier;
+        private LoadProfile loadProfile;
         private Collection<ReportGenerator> activeReporters;
         private PerformanceEvaluationStatementBuilder statementBuilder;
     }
@@ -69,6 +75,7 @@ public class JUnitPerfInterceptor implements InvocationInterceptor, TestInstance
     protected static class SharedConfig {
         private Collection<ReportGenerator> activeReporters = singletonList(DEFAULT_REPORTER);
         private Supplier<StatisticsCalculator> statsSupplier = DescriptiveStatisticsCalculator::new;
+        private LoadProfile loadProfile;
         private Supplier<PerformanceEvaluationStatementBuilder> statementBuilder = PerformanceEvaluationStatement::builder;
     }
 
@@ -85,6 +92,7 @@ public class JUnitPerfInterceptor implements InvocationInterceptor, TestInstance
         if (nonNull(reportingConfig)) {
             test.setActiveReporters(reportingConfig.getReportGenerators());
             test.setStatsSupplier(reportingConfig.getStatisticsCalculatorSupplier());
+            test.setLoadProfile(reportingConfig.getLoadProfile());
         }
         sharedContexts.put(context.getUniqueId(), test);
     }
@@ -120,6 +128,9 @@ public class JUnitPerfInterceptor implements InvocationInterceptor, TestInstance
             context.loadRequirements(requirementsAnnotation);
 
             TestDetails test = getTestDetails(extensionContext);
+            if (nonNull(test.getLoadProfile()) && !context.hasLoadProfile() && !context.isThroughputSearchEnabled()) {
+                context.loadProfile(test.getLoadProfile());
+            }
             test.setTestClass(method.getDeclaringClass());
             test.setTestMethod(method);
             test.setMeasurementsStartTimeMs(currentTimeMillis() + perfTestAnnotation.warmUpMs());
@@ -132,8 +143,10 @@ public class JUnitPerfInterceptor implements InvocationInterceptor, TestInstance
             PerformanceEvaluationStatement parallelExecution = test.getStatementBuilder()
                     .baseStatement(testStatement)
                     .statistics(test.getStatsCalculator())
+                    .statisticsSupplier(test.getStatsSupplier())
                     .context(context)
                     .listener(complete -> updateReport(test))
+                    .forkedTest(new ForkedTest(JUnit5ForkedTestRunner.class.getName(), singletonList(getFullyQualifiedMethodName(testInstance, method))))
                     .build();
 
             parallelExecution.runParallelEvaluation();
@@ -150,15 +163,26 @@ public class JUnitPerfInterceptor implements InvocationInterceptor, TestInstance
     
     @Override
     public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
-        return parameterContext.getParameter().getType() == TestContextSupplier.class;
+        Class<?> type = parameterContext.getParameter().getType();
+        return type == TestContextSupplier.class || type == Blackhole.class;
     }
 
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
+        if (parameterContext.getParameter().getType() == Blackhole.class) {
+            // Bound into the test invocation once, so shared by all evaluation threads (state is kept per thread)
+            return new Blackhole();
+        }
         TestDetails test = getTestDetails(extensionContext);
         return new TestContextSupplier(test.getMeasurementsStartTimeMs(), test.getStatsCalculator());
     }
 
+    // i.e. com.example.PerfTest#whenRunning_thenItShouldBeFast(com.github.noconnor.junitperf.Blackhole)
+    static String getFullyQualifiedMethodName(Object testInstance, Method method) {
+        String parameterTypes = Arrays.stream(method.getParameterTypes()).map(Class::getName).collect(joining(","));
+        return testInstance.getClass().getName() + "#" + method.getName() + "(" + parameterTypes + ")";
+    }
+
     protected JUnitPerfTestRequirement getJUnitPerfTestRequirementDetails(Method method, ExtensionContext ctxt) {
         JUnitPerfTestRequirement methodAnnotation = method.getAnnotation(JUnitPerfTestRequirement.class);
         JUnitPerfTestRequirement classAnnotation = method.getDeclaringClass().getAnnotation(JUnitPerfTestRequirement.class);
@@ -234,6 +258,8 @@ public class JUnitPerfInterceptor implements InvocationInterceptor, TestInstance
             testDetails.setStatementBuilder(sharedDetails.getStatementBuilder().get());
             testDetails.setActiveReporters(sharedDetails.getActiveReporters());
             testDetails.setStatsCalculator(sharedDetails.getStatsSupplier().get());
+            testDetails.setStatsSupplier(sharedDetails.getStatsSupplier());
+            testDetails.setLoadProfile(sharedDetails.getLoadProfile());
             return testDetails;
         });
         return testContexts.get(testId);
@@ -3,6 +3,7 @@ package com.github.noconnor.junitperf;
 import java.util.Collection;
 import java.util.function.Supplier;
 
+import com.github.noconnor.junitperf.data.LoadProfile;
 import com.github.noconnor.junitperf.reporting.ReportGenerator;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
 
@@ -18,4 +19,6 @@ public class JUnitPerfReportingConfig {
     Collection<ReportGenerator> reportGenerators;
     @Builder.Default
     Supplier<StatisticsCalculator> statisticsCalculatorSupplier = DescriptiveStatisticsCalculator::new;
+    // Applied to all tests that do not define JUnitPerfTest stages (or searchMaxThroughput)
+    LoadProfile loadProfile;
 }
@@ -1,47 +1,144 @@
 package com.github.noconnor.junitperf.statements;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
-@RequiredArgsConstructor
+@Slf4j
 public class FullStatement implements TestStatement {
 
+    private static final MethodType NO_ARGS_VOID = MethodType.methodType(void.class);
+    private static final Invocation[] NO_INVOCATIONS = new Invocation[0];
+    // Resolved once, null when the running JVM does not support private lookups (i.e. JDK 8)
+    private static final Method PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+    // Implemented by a class generated for each test & lifecycle method (see LambdaMetafactory)
+    @FunctionalInterface
+    public interface Invocation {
+        void invoke() throws Throwable;
+    }
+
     @Getter
-    @Setter
     private List<Method> beforeEach = emptyList();
     @Getter
-    @Setter
     private List<Method> afterEach = emptyList();
 
     private final Object testClass;
-    private final Method testMethod;
-    private final List<Object> args;
+    // Test & lifecycle methods are bound (to the test instance & arguments) once. Each evaluation is an interface call
+    // that calls the test method directly, so the JIT can inline the test method into the evaluation loop
+    // (a MethodHandle held in an instance field is not a constant, invokeExact calls through it are not inlined)
+    private final Invocation testInvocation;
+    private Invocation[] beforeEachInvocations = NO_INVOCATIONS;
+    private Invocation[] afterEachInvocations = NO_INVOCATIONS;
+
+    public FullStatement(Object testClass, Method testMethod, List<Object> args) {
+        this.testClass = testClass;
+        this.testInvocation = bind(testClass, testMethod, args.toArray());
+    }
+
+    public void setBeforeEach(List<Method> beforeEach) {
+        this.beforeEach = beforeEach;
+        this.beforeEachInvocations = bindAll(testClass, beforeEach);
+    }
+
+    public void setAfterEach(List<Method> afterEach) {
+        this.afterEach = afterEach;
+        this.afterEachInvocations = bindAll(testClass, afterEach);
+    }
 
     @Override
     public void runBefores() throws Throwable {
-        for (Method m : beforeEach) {
-            m.setAccessible(true);
-            m.invoke(testClass);
+        for (Invocation invocation : beforeEachInvocations) {
+            invocation.invoke();
         }
     }
 
     @Override
     public void evaluate() throws Throwable {
-        testMethod.setAccessible(true);
-        testMethod.invoke(testClass, args.toArray());
+        testInvocation.invoke();
     }
 
     @Override
     public void runAfters() throws Throwable {
-        for (Method m : afterEach) {
-            m.setAccessible(true);
-            m.invoke(testClass);
+        for (Invocation invocation : afterEachInvocations) {
+            invocation.invoke();
+        }
+    }
+
+    private static Invocation[] bindAll(Object testClass, List<Method> methods) {
+        return methods.stream().map(m -> bind(testClass, m)).toArray(Invocation[]::new);
+    }
+
+    // Return values of the bound method are discarded
+    private static Invocation bind(Object testClass, Method method, Object... args) {
+        Object[] captured = Modifier.isStatic(method.getModifiers()) ? args : prepend(testClass, args);
+        try {
+            Invocation invocation = spin(method, captured);
+            if (nonNull(invocation)) {
+                return invocation;
+            }
+        } catch (Throwable t) {
+            // i.e. test classes in named modules that are not open to junitperf
+            log.debug("Unable to generate an invocation for {}, falling back to a MethodHandle", method.getName(), t);
+        }
+        MethodHandle handle = bindHandle(testClass, method, args);
+        return () -> handle.invokeExact();
+    }
+
+    // The generated class is defined alongside the test class, so private test methods are called directly
+    private static Invocation spin(Method method, Object[] captured) throws Throwable {
+        if (isNull(PRIVATE_LOOKUP_IN)) {
+            return null;
+        }
+        MethodHandles.Lookup lookup = (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, method.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle implementation = lookup.unreflect(method);
+        // The captured test instance & arguments are the leading parameters of the implementation
+        MethodType factoryType = implementation.type().changeReturnType(Invocation.class);
+        CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", factoryType, NO_ARGS_VOID, implementation, NO_ARGS_VOID);
+        return (Invocation) site.getTarget().invokeWithArguments(captured);
+    }
+
+    private static MethodHandle bindHandle(Object testClass, Method method, Object... args) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(testClass);
+            }
+            if (args.length > 0) {
+                handle = MethodHandles.insertArguments(handle, 0, args);
+            }
+            return handle.asType(NO_ARGS_VOID);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to access test method " + method.getName(), e);
+        }
+    }
+
+    private static Object[] prepend(Object first, Object[] rest) {
+        Object[] values = new Object[rest.length + 1];
+        values[0] = first;
+        System.arraycopy(rest, 0, values, 1, rest.length);
+        return values;
+    }
+
+    private static Method findPrivateLookupIn() {
+        // Project targets java 8, MethodHandles.privateLookupIn (java 9+) must be accessed reflectively
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            return null;
         }
     }
 }
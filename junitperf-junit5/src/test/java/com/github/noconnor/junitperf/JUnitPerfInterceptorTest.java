@@ -7,6 +7,7 @@ import com.github.noconnor.junitperf.reporting.ReportGenerator;
 import com.github.noconnor.junitperf.reporting.providers.ConsoleReportGenerator;
 import com.github.noconnor.junitperf.reporting.providers.HtmlReportGenerator;
 import com.github.noconnor.junitperf.statements.ExceptionsRegistry;
+import com.github.noconnor.junitperf.statements.ForkedTest;
 import com.github.noconnor.junitperf.statements.FullStatement;
 import com.github.noconnor.junitperf.statements.PerformanceEvaluationStatement;
 import com.github.noconnor.junitperf.statements.PerformanceEvaluationStatement.PerformanceEvaluationStatementBuilder;
@@ -213,6 +214,45 @@ class JUnitPerfInterceptorTest {
         assertFalse(context.isAsyncEvaluation());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void whenTestHasBeenAnnotatedWithPerfAnnotations_thenForkedTestShouldSelectTheTestMethod() throws Throwable {
+        ExtensionContext extensionContextMock = mockTestContext();
+
+        SampleAnnotatedTest test = new SampleAnnotatedTest();
+
+        Method methodMock = test.getClass().getMethod("someTestMethod");
+        PerformanceEvaluationStatement statementMock = mock(PerformanceEvaluationStatement.class);
+        Invocation<Void> invocationMock = mock(Invocation.class);
+        ReflectiveInvocationContext<Method> invocationContextMock = mock(ReflectiveInvocationContext.class);
+        when(invocationContextMock.getExecutable()).thenReturn(methodMock);
+
+        when(extensionContextMock.getRequiredTestMethod()).thenReturn(methodMock);
+        when(extensionContextMock.getRequiredTestClass()).thenReturn((Class) test.getClass());
+        when(extensionContextMock.getRequiredTestInstance()).thenReturn(test);
+        when(statementBuilderMock.build()).thenReturn(statementMock);
+
+        interceptor.postProcessTestInstance(test, getParent(extensionContextMock));
+        // Override statement builder
+        getSharedContext(extensionContextMock).setStatementBuilder(() -> statementBuilderMock);
+        interceptor.interceptTestMethod(invocationMock, invocationContextMock, extensionContextMock);
+
+        ArgumentCaptor<ForkedTest> captor = ArgumentCaptor.forClass(ForkedTest.class);
+        verify(statementBuilderMock).forkedTest(captor.capture());
+        assertEquals(JUnit5ForkedTestRunner.class.getName(), captor.getValue().getMainClass());
+        assertEquals(singletonList(SampleAnnotatedTest.class.getName() + "#someTestMethod()"), captor.getValue().getArguments());
+    }
+
+    @Test
+    void whenTestMethodHasParameters_thenFullyQualifiedMethodNameShouldIncludeParameterTypes() throws Throwable {
+        SampleAsyncAnnotatedTest test = new SampleAsyncAnnotatedTest();
+        Method method = test.getClass().getMethod("someTestMethod", TestContextSupplier.class);
+        assertEquals(
+            SampleAsyncAnnotatedTest.class.getName() + "#someTestMethod(" + TestContextSupplier.class.getName() + ")",
+            JUnitPerfInterceptor.getFullyQualifiedMethodName(test, method)
+        );
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void whenTestHasBeenAnnotatedWithPerfAnnotations_thenMeasurementStartMsShouldBeCaptured() throws Throwable {
@@ -487,6 +527,7 @@ class JUnitPerfInterceptorTest {
     @Test
     void whenInterceptorSupportsParameterIsCalled_thenParameterTypeShouldBeChecked() throws NoSuchMethodException {
         assertTrue(interceptor.supportsParameter(mockTestContextSupplierParameterType(), null));
+        assertTrue(interceptor.supportsParameter(mockBlackholeParameterType(), null));
         assertFalse(interceptor.supportsParameter(mockStringParameterType(), null));
     }
 
@@ -494,7 +535,14 @@ class JUnitPerfInterceptorTest {
     void whenInterceptorResolveParameterIsCalled_thenTestContextSupplierShouldBeReturned() throws Exception {
         ExtensionContext extensionContextMock = mockTestContext();
         interceptor.postProcessTestInstance(this, getParent(extensionContextMock));
-        assertTrue(interceptor.resolveParameter(null, extensionContextMock) instanceof TestContextSupplier);
+        assertTrue(interceptor.resolveParameter(mockTestContextSupplierParameterType(), extensionContextMock) instanceof TestContextSupplier);
+    }
+
+    @Test
+    void whenInterceptorResolveParameterIsCalled_andParameterIsABlackhole_thenBlackholeShouldBeReturned() throws Exception {
+        ExtensionContext extensionContextMock = mockTestContext();
+        interceptor.postProcessTestInstance(this, getParent(extensionContextMock));
+        assertTrue(interceptor.resolveParameter(mockBlackholeParameterType(), extensionContextMock) instanceof Blackhole);
     }
 
     @Test
@@ -525,6 +573,14 @@ class JUnitPerfInterceptorTest {
         return parameterContextMock;
     }
 
+    private static ParameterContext mockBlackholeParameterType() throws NoSuchMethodException {
+        Method methodMock = SampleBlackholeTest.class.getMethod("someTestMethod", Blackhole.class);
+        Parameter param = methodMock.getParameters()[0];
+        ParameterContext parameterContextMock = mock(ParameterContext.class);
+        when(parameterContextMock.getParameter()).thenReturn(param);
+        return parameterContextMock;
+    }
+
     private static ParameterContext mockStringParameterType() throws NoSuchMethodException {
         Method methodMock = SampleAsyncAnnotatedTest.class.getMethod("someOtherTestMethod", String.class);
         Parameter param = methodMock.getParameters()[0];
@@ -633,6 +689,15 @@ class JUnitPerfInterceptorTest {
         }
     }
 
+    @Disabled
+    public static class SampleBlackholeTest {
+        @Test
+        @JUnitPerfTest(threads = 1, durationMs = 1_000, maxExecutionsPerSecond = 1_000, warmUpMs = 100)
+        public void someTestMethod(Blackhole blackhole) {
+            blackhole.consume(Integer.parseInt("42"));
+        }
+    }
+
     @Disabled
     public static class SampleAnnotatedWithBeforeAndAfterTest {
         
@@ -5,6 +5,7 @@ import com.github.noconnor.junitperf.reporting.providers.ConsoleReportGenerator;
 import com.github.noconnor.junitperf.reporting.providers.HtmlReportGenerator;
 import com.github.noconnor.junitperf.statistics.StatisticsCalculator;
 import com.github.noconnor.junitperf.statistics.providers.DescriptiveStatisticsCalculator;
+import com.github.noconnor.junitperf.statistics.providers.HdrHistogramStatisticsCalculator;
 import org.junit.jupiter.api.Test;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -64,4 +65,15 @@ class JUnitPerfReportingConfigTest {
         assertTrue(config.getStatisticsCalculatorSupplier().get() instanceof DescriptiveStatisticsCalculator);
     }
 
-}
\ No newline at end of file
+    @Test
+    void whenHdrHistogramStatisticsCalculatorSupplierIsSpecified_thenNewCalculatorShouldBeCreatedOnEachCall() {
+        JUnitPerfReportingConfig config = JUnitPerfReportingConfig.builder()
+                .statisticsCalculatorSupplier(HdrHistogramStatisticsCalculator::new)
+                .build();
+
+        StatisticsCalculator calculator = config.getStatisticsCalculatorSupplier().get();
+        assertTrue(calculator instanceof HdrHistogramStatisticsCalculator);
+        assertNotSame(calculator, config.getStatisticsCalculatorSupplier().get());
+    }
+
+}
@@ -6,12 +6,14 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class FullStatementTest {
     
@@ -72,6 +74,50 @@ class FullStatementTest {
     }
 
 
+    @Test
+    void whenEvaluateIsCalled_andMethodHasArguments_thenArgumentsShouldBePassed() throws Throwable {
+        Method testMethod = MockTestInstance.class.getDeclaredMethod("methodWithArgs", int.class, String.class);
+        statement = new FullStatement(testInstanceMock, testMethod, Arrays.asList(3, "abc"));
+        statement.evaluate();
+        statement.evaluate();
+        assertEquals(6, testInstanceMock.getInvocationCount().get());
+        assertEquals("abc", testInstanceMock.getLastArgument());
+    }
+
+    @Test
+    void whenEvaluateIsCalled_andMethodReturnsAValue_thenValueShouldBeDiscarded() throws Throwable {
+        Method testMethod = MockTestInstance.class.getDeclaredMethod("methodWithReturnValue");
+        statement = new FullStatement(testInstanceMock, testMethod, emptyList());
+        statement.evaluate();
+        assertEquals(1, testInstanceMock.getInvocationCount().get());
+    }
+
+    @Test
+    void whenEvaluateIsCalled_andMethodThrowsAnException_thenExceptionShouldNotBeWrapped() throws Throwable {
+        Method testMethod = MockTestInstance.class.getDeclaredMethod("failingMethod");
+        statement = new FullStatement(testInstanceMock, testMethod, emptyList());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> statement.evaluate());
+        assertEquals("failed", e.getMessage());
+    }
+
+    @Test
+    void whenEvaluateIsCalled_thenTestMethodShouldBeCalledDirectlyByAGeneratedInvocation() throws Throwable {
+        Method testMethod = MockTestInstance.class.getDeclaredMethod("failingMethod");
+        statement = new FullStatement(testInstanceMock, testMethod, emptyList());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> statement.evaluate());
+        // The generated invocation (a hidden frame) calls the test method, no reflection or MethodHandle frames in between
+        assertEquals("evaluate", e.getStackTrace()[1].getMethodName());
+    }
+
+    @Test
+    void whenEvaluateIsCalled_andMethodIsStatic_thenMethodShouldBeInvoked() throws Throwable {
+        Method testMethod = MockTestInstance.class.getDeclaredMethod("staticMethod", AtomicInteger.class);
+        AtomicInteger counter = new AtomicInteger();
+        statement = new FullStatement(testInstanceMock, testMethod, Arrays.asList(counter));
+        statement.evaluate();
+        assertEquals(1, counter.get());
+    }
+
     public static class MockTestInstance {
         @Getter
         private final AtomicInteger invocationCount = new AtomicInteger();
@@ -84,10 +130,30 @@ class FullStatementTest {
         @Getter
         private final AtomicInteger after2Count = new AtomicInteger();
         
+        @Getter
+        private String lastArgument;
+
         private void someMethod() {
             invocationCount.incrementAndGet();
         }
 
+        private void methodWithArgs(int count, String argument) {
+            invocationCount.addAndGet(count);
+            lastArgument = argument;
+        }
+
+        private long methodWithReturnValue() {
+            return invocationCount.incrementAndGet();
+        }
+
+        private static void staticMethod(AtomicInteger counter) {
+            counter.incrementAndGet();
+        }
+
+        private void failingMethod() {
+            throw new IllegalArgumentException("failed");
+        }
+
         private void before1() {
             before1Count.incrementAndGet();
         }